@@ -109,6 +109,40 @@ public interface JMultiCache {
      */
     <K, V> Map<K, ?> fetchMultiDataMap(String multiCacheName, Collection<K> ids, String businessKey, Function<K, String> keyBuilder, Function<Collection<K>, V> queryFunction);
 
+    // =================================================================
+    // ================= 合并单点查询 / Micro-batched Single Fetch =======
+    // =================================================================
+
+    /**
+     * 为一个缓存配置注册批量加载器，供 {@link #fetchDataBatched} 使用。每个配置只能注册一次，重复注册抛出 {@link IllegalStateException}。
+     * <p>
+     * Registers the batch loader of a cache configuration for {@link #fetchDataBatched}. Each configuration can be registered once; registering again throws {@link IllegalStateException}.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param batchLoader    按 ID 批量回源的函数，返回以 ID 本身为键 (按 equals 匹配) 的映射，不存在的 ID 不必出现在结果中。/ Loads a batch of IDs from the source and returns a map keyed by the IDs themselves (matched by equals); missing IDs may be left out.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            数据的类型。/ The type of the data.
+     */
+    <K, V> void registerBatchLoader(String multiCacheName, Function<Collection<K>, Map<K, V>> batchLoader);
+
+    /**
+     * 按 ID 获取单个数据；同一配置下短时间窗口内并发发生的未命中会合并为一次 L2 批量读取和一次批量回源。
+     * <p>
+     * Key 的构建方式与 {@code fetchData(multiCacheName, dbLoader, String.valueOf(id))} 相同，两者共享缓存数据。L1 命中时直接返回，不进入合并窗口。
+     * 合并后的批次由开启窗口的调用线程加载，不占用框架的异步线程池。调用前必须先通过 {@link #registerBatchLoader} 注册加载器。
+     * <p>
+     * Fetches a single data item by ID; concurrent misses of the same configuration within a short window are merged into one L2 batch read and one batch source load.
+     * Keys are built as in {@code fetchData(multiCacheName, dbLoader, String.valueOf(id))} and the two share cached data. L1 hits return directly without entering the window.
+     * A merged batch is loaded on the calling thread that opened its window, not on the framework's async executor. A loader must have been registered with {@link #registerBatchLoader} first.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param id             查询 ID。/ The ID to fetch.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            数据的类型。/ The type of the data.
+     * @return 缓存或数据库中的数据，不存在时为 null。/ The data from cache or database, or null if it does not exist.
+     */
+    <K, V> V fetchDataBatched(String multiCacheName, K id);
+
     // =================================================================
     // ======================== 高级数据结构 / Advanced Data Structures ==
     // =================================================================
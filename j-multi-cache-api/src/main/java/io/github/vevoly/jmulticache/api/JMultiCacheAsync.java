@@ -0,0 +1,109 @@
+package io.github.vevoly.jmulticache.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JMultiCache 非阻塞 API 接口。
+ * <p>
+ * 与 {@link JMultiCache} 提供相同的查询语义，但所有方法都立即返回 {@link CompletableFuture}：
+ * L1 查询、L2 (Redis) 异步读取、数据源加载和缓存回填以异步阶段串联执行，调用线程不会阻塞在 Redis I/O 上。
+ * 数据源加载器本身也返回 {@link CompletionStage}，因此可以直接对接异步驱动 (R2DBC、异步 HTTP 客户端等)。
+ * <p>
+ * The non-blocking API interface for JMultiCache.
+ * It offers the same lookup semantics as {@link JMultiCache}, but every method returns a {@link CompletableFuture} immediately:
+ * L1 lookup, asynchronous L2 (Redis) reads, source loading and cache population are chained as asynchronous stages,
+ * so the calling thread never parks on Redis I/O.
+ * Source loaders return a {@link CompletionStage} themselves, so asynchronous drivers (R2DBC, async HTTP clients, ...) plug in directly.
+ *
+ * @author vevoly
+ */
+public interface JMultiCacheAsync {
+
+    // =================================================================
+    // ======================== 单点查询 / Single Item Fetch ============
+    // =================================================================
+
+    /**
+     * 根据完整的缓存 Key 异步获取单个数据。
+     * 如果缓存未命中，则调用 dbLoader 异步加载数据并回填缓存。
+     * <p>
+     * Asynchronously fetches a single data item based on the full cache key.
+     * If the cache misses, it invokes the dbLoader to load the data asynchronously and repopulates the cache.
+     *
+     * @param fullKey  完整的缓存键 (包含命名空间)。/ The full cache key (including namespace).
+     * @param dbLoader 异步数据库加载器，当缓存未命中时执行。/ The asynchronous database loader to execute when cache misses.
+     * @param <T>      返回数据的类型。/ The type of the returned data.
+     * @return 完成时包含缓存或数据库中数据的 Future。/ A future completed with the data from cache or database.
+     */
+    <T> CompletableFuture<T> fetchDataAsync(String fullKey, Supplier<? extends CompletionStage<T>> dbLoader);
+
+    /**
+     * 根据配置名称和动态参数异步获取单个数据。
+     * <p>
+     * Asynchronously fetches a single data item based on the configuration name and dynamic parameters.
+     *
+     * @param multiCacheName 缓存配置名称 (YML 中的 Key)。/ The cache configuration name (Key in YML).
+     * @param dbLoader       异步数据库加载器。/ The asynchronous database loader.
+     * @param keyParams      用于拼接 Key 的动态参数。/ Dynamic parameters for constructing the key.
+     * @param <T>            返回数据的类型。/ The type of the returned data.
+     * @return 完成时包含缓存或数据库中数据的 Future。/ A future completed with the data from cache or database.
+     */
+    <T> CompletableFuture<T> fetchDataAsync(String multiCacheName, Supplier<? extends CompletionStage<T>> dbLoader, String... keyParams);
+
+    // =================================================================
+    // ======================== 批量查询 / Batch Fetch ==================
+    // =================================================================
+
+    /**
+     * 异步批量获取数据，并返回打平后的 List。
+     * <p>
+     * Asynchronously fetches data in a batch and returns a flattened List.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param ids            查询 ID 集合。/ The collection of IDs to query.
+     * @param businessKey    业务主键字段名。/ The business primary key field name.
+     * @param queryFunction  异步批量回源查询函数。/ The asynchronous batch source query function.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            结果列表中元素的类型。/ The type of elements in the result list.
+     * @return 完成时包含结果列表的 Future。/ A future completed with the result list.
+     */
+    <K, V> CompletableFuture<List<V>> fetchMultiDataListAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction);
+
+    /**
+     * 异步批量获取数据，并返回分组后的 Map。
+     * <p>
+     * Asynchronously fetches data in a batch and returns a grouped Map.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param ids            查询 ID 集合。/ The collection of IDs to query.
+     * @param businessKey    业务主键字段名。/ The business primary key field name.
+     * @param queryFunction  异步批量回源查询函数。/ The asynchronous batch source query function.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            回源结果的类型 (List 或 Map)。/ The type of the source result (List or Map).
+     * @return 完成时包含分组 Map 的 Future。/ A future completed with the grouped Map.
+     */
+    <K, V> CompletableFuture<Map<K, ?>> fetchMultiDataMapAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction);
+
+    // =================================================================
+    // ======================== 高级数据结构 / Advanced Data Structures ==
+    // =================================================================
+
+    /**
+     * 异步获取多个 Redis Set 的并集。
+     * <p>
+     * Asynchronously fetches the union of multiple Redis Sets.
+     *
+     * @param setKeysInRedis  参与并集计算的 Redis Key 列表。/ List of Redis keys participating in the union calculation.
+     * @param dbQueryFunction 异步数据库回源函数，输入为缺失的 Key 列表。/ Asynchronous database fallback function, input is a list of missing keys.
+     * @param <T>             Set 中元素的类型。/ The type of elements in the Set.
+     * @return 完成时包含并集的 Future。/ A future completed with the union set.
+     */
+    <T> CompletableFuture<Set<T>> fetchUnionDataAsync(List<String> setKeysInRedis, Function<List<String>, ? extends CompletionStage<Map<String, Set<T>>>> dbQueryFunction);
+}
@@ -1,5 +1,9 @@
 package io.github.vevoly.jmulticache.api;
 
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheL1WriterStats;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheStats;
+
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -66,6 +70,43 @@ public interface JMultiCacheOps {
      */
     void evictL1(String multiCacheName, Object... keyParams);
 
+    /**
+     * [集群广播] 清除一个缓存配置下的全部数据。
+     * 1. 按 {@code namespace:*} 删除 L2 Redis 中的 key (SCAN，不阻塞 Redis)。
+     * 2. 清空本机 L1。
+     * 3. 发送 Redis 广播，通知其他节点清空 L1。
+     * <p>
+     * [Cluster Broadcast] Evicts all data of a cache configuration.
+     * 1. Deletes the L2 Redis keys matching {@code namespace:*} (via SCAN, without blocking Redis).
+     * 2. Clears the local L1.
+     * 3. Sends a Redis broadcast to notify other nodes to clear their L1.
+     *
+     * @param multiCacheName 缓存配置的唯一名称。/ The unique name of the cache configuration.
+     * @return 从 L2 删除的 key 数量。/ The number of keys deleted from L2.
+     */
+    long evictAll(String multiCacheName);
+
+    /**
+     * 清空一个缓存配置在本机的 L1，通常用于响应 {@link #evictAll} 的广播。
+     * <p>
+     * Clears the local L1 of a cache configuration, usually in response to the broadcast of {@link #evictAll}.
+     *
+     * @param multiCacheName 缓存配置的唯一名称。/ The unique name of the cache configuration.
+     */
+    void evictAllL1(String multiCacheName);
+
+    /**
+     * 在运行时调整本机 L1 的最大容量，超出新容量的条目会被异步驱逐。调整只对当前节点生效，重启后恢复为配置值。
+     * <p>
+     * Resizes the local L1 at runtime; entries beyond the new size are evicted asynchronously.
+     * The change only affects the current node and reverts to the configured value on restart.
+     *
+     * @param multiCacheName 缓存配置的唯一名称。/ The unique name of the cache configuration.
+     * @param maximumSize    新的最大容量。/ The new maximum size.
+     * @return L1 未启用或没有容量上限时返回 {@code false}。/ {@code false} when L1 is disabled or has no size bound.
+     */
+    boolean resizeL1(String multiCacheName, long maximumSize);
+
     /**
      * 获取 L1 缓存的统计信息。
      * 包括命中率、驱逐数量等。
@@ -74,6 +115,36 @@ public interface JMultiCacheOps {
      * Includes hit rate, eviction count, etc.
      *
      * @param multiCacheName 缓存名称 / Cache name
+     * @deprecated 使用返回结构化结果的 {@link #getStats(String)}。/ Use {@link #getStats(String)}, which returns a structured result.
      */
+    @Deprecated
     String getL1Stats(String multiCacheName);
+
+    /**
+     * 获取一个缓存配置的运行时统计，包括生效的 TTL、L1 容量与命中率、L2 命中率与读取延迟分位值。
+     * <p>
+     * Get the runtime statistics of a cache configuration, including the effective TTLs, L1 capacity and hit rate, and L2 hit rate and read latency percentiles.
+     *
+     * @param multiCacheName 缓存名称 / Cache name
+     * @return 统计快照 / The statistics snapshot
+     */
+    JMultiCacheStats getStats(String multiCacheName);
+
+    /**
+     * 获取全部缓存配置的运行时统计。
+     * <p>
+     * Get the runtime statistics of all cache configurations.
+     *
+     * @return 统计快照列表 / The statistics snapshots
+     */
+    List<JMultiCacheStats> getAllStats();
+
+    /**
+     * 获取 L1 回填队列的统计信息，包括队列深度、丢弃数和合并数。
+     * <p>
+     * Get the statistics of the L1 population queue, including queue depth, dropped and coalesced writes.
+     *
+     * @return 统计快照 / The statistics snapshot
+     */
+    JMultiCacheL1WriterStats getL1WriterStats();
 }
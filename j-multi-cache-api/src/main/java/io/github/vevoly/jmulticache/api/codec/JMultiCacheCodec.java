@@ -0,0 +1,71 @@
+package io.github.vevoly.jmulticache.api.codec;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * L2 缓存值的编解码接口 (SPI)。
+ * <p>
+ * 存储策略在写入 Redis 前用它把值编码为字节，读取后再解码回目标类型。每个缓存配置通过 {@code codec} 属性按名称选择一个实现，
+ * 未配置时使用 {@code json}。实现必须是线程安全的。
+ * 空值标记不经过编解码器，始终以原始文本写入，以便不同编解码器之间都能识别。
+ * <p>
+ * Codec interface (SPI) for L2 cache values.
+ * Storage strategies use it to encode values into bytes before writing to Redis, and to decode them back into the target type after reading.
+ * Each cache configuration selects an implementation by name through its {@code codec} property, {@code json} when unset. Implementations must be thread-safe.
+ * Empty-value markers bypass the codec and are always written as plain text, so they are recognized whichever codec is in use.
+ *
+ * @author vevoly
+ */
+public interface JMultiCacheCodec {
+
+    /**
+     * 编解码器名称，即配置中 {@code codec} 属性引用的值，如 {@code json}、{@code smile}。
+     * <p>
+     * The codec name, i.e. the value referenced by the {@code codec} property, such as {@code json} or {@code smile}.
+     *
+     * @return 编解码器名称 / the codec name
+     */
+    String getName();
+
+    /**
+     * 将值编码为字节。
+     * <p>
+     * Encodes a value into bytes.
+     *
+     * @param value 非空的值 / the non-null value
+     * @return 编码后的字节 / the encoded bytes
+     * @throws IllegalArgumentException 如果值无法编码 / if the value cannot be encoded
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 将字节解码为指定类型的值。
+     * <p>
+     * Decodes bytes into a value of the given type.
+     *
+     * @param data 编码后的字节 / the encoded bytes
+     * @param type 目标类型，可以是 {@link Class}、参数化类型或 Jackson 的 {@code JavaType} / the target type: a {@link Class}, a parameterized type or a Jackson {@code JavaType}
+     * @param <T>  目标类型 / the target type
+     * @return 解码后的值 / the decoded value
+     * @throws IllegalStateException 如果数据无法解码 / if the data cannot be decoded
+     */
+    <T> T decode(byte[] data, Type type);
+
+    /**
+     * 返回绑定到某个类型的解码函数，供同一类型被反复解码时使用。
+     * <p>
+     * 默认实现每次调用 {@link #decode}；能够预先解析类型的实现 (如 Jackson 的 {@code ObjectReader}) 应覆盖此方法，把类型解析从每次解码中移除。
+     * <p>
+     * Returns a decoding function bound to one type, for when the same type is decoded over and over.
+     * The default delegates to {@link #decode} on every call; implementations that can resolve a type up front (such as a Jackson {@code ObjectReader})
+     * should override it to take type resolution out of each decode.
+     *
+     * @param type 目标类型 / the target type
+     * @param <T>  目标类型 / the target type
+     * @return 线程安全的解码函数 / a thread-safe decoding function
+     */
+    default <T> Function<byte[], T> decoderFor(Type type) {
+        return data -> decode(data, type);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.vevoly.jmulticache.api.codec;
+
+/**
+ * L2 值的压缩算法接口 (SPI)。
+ * <p>
+ * 压缩发生在 {@link JMultiCacheCodec} 编码之后：编码结果超过配置的阈值时才压缩，并在数据前写入一个小的头部，
+ * 记录算法 {@link #getId()} 和原始长度。读取时按头部自动识别，因此同一个 key 上压缩与未压缩的数据可以共存。
+ * 实现必须是线程安全的。
+ * <p>
+ * Compression algorithm interface (SPI) for L2 values.
+ * Compression runs after {@link JMultiCacheCodec} encoding: only results above the configured threshold are compressed,
+ * prefixed with a small header that records the algorithm {@link #getId()} and the original length.
+ * Readers recognize the header automatically, so compressed and uncompressed data can coexist under the same key. Implementations must be thread-safe.
+ *
+ * @author vevoly
+ */
+public interface JMultiCacheCompressor {
+
+    /**
+     * 算法名称，即配置中 {@code compression} 属性引用的值，如 {@code deflate}、{@code lz4}。
+     * <p>
+     * The algorithm name, i.e. the value referenced by the {@code compression} property, such as {@code deflate} or {@code lz4}.
+     *
+     * @return 算法名称 / the algorithm name
+     */
+    String getName();
+
+    /**
+     * 写入头部的算法标识，不同实现之间必须唯一。1-15 保留给框架内置算法。
+     * <p>
+     * The algorithm id written into the header; it must be unique across implementations. 1-15 are reserved for the built-in algorithms.
+     *
+     * @return 算法标识 / the algorithm id
+     */
+    byte getId();
+
+    /**
+     * 压缩数据。
+     * <p>
+     * Compresses data.
+     *
+     * @param data 原始数据 / the original data
+     * @return 压缩后的数据 / the compressed data
+     */
+    byte[] compress(byte[] data);
+
+    /**
+     * 解压数据。
+     * <p>
+     * Decompresses data.
+     *
+     * @param data           压缩后的数据 / the compressed data
+     * @param originalLength 原始数据长度 / the length of the original data
+     * @return 原始数据 / the original data
+     * @throws IllegalStateException 如果数据损坏 / if the data is corrupted
+     */
+    byte[] decompress(byte[] data, int originalLength);
+}
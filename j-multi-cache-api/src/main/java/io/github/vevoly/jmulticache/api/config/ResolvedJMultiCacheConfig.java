@@ -1,6 +1,8 @@
 package io.github.vevoly.jmulticache.api.config;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
 import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -140,6 +142,65 @@ public final class ResolvedJMultiCacheConfig {
     @Builder.Default
     private final String emptyValueMark = JMultiCacheConstants.EMPTY_CACHE_VALUE;
 
+    /**
+     * 回源加载锁的最长等待时间，超时后不再等待 leader，直接回源。
+     * <p>
+     * The maximum wait time for the loading lock; once exceeded, the caller stops waiting for the leader and loads from the source.
+     */
+    @Builder.Default
+    private final Duration lockWaitTime = Duration.ofMillis(JMultiCacheConstants.DEFAULT_LOCK_WAIT_TIME);
+
+    /**
+     * 回源加载锁的租约时间。
+     * <p>
+     * The lease time of the loading lock.
+     */
+    @Builder.Default
+    private final Duration lockLeaseTime = Duration.ofMillis(JMultiCacheConstants.DEFAULT_LOCK_LEASE_TIME);
+
+    /**
+     * 提前刷新窗口。L2 数据剩余存活时间小于该值时触发后台刷新；为 {@code null} 表示不开启。
+     * <p>
+     * The refresh-ahead window. A background reload is triggered when the remaining L2 time-to-live drops below it; {@code null} means disabled.
+     */
+    private final Duration refreshAhead;
+
+    /**
+     * 概率性提前过期 (XFetch) 的 beta 系数；为 {@code null} 或不大于 0 表示不开启。
+     * <p>
+     * The beta factor of probabilistic early expiration (XFetch); {@code null} or non-positive means disabled.
+     */
+    private final Double earlyExpirationBeta;
+
+    /**
+     * 写入 L2 时附加在 redisTtl 上的随机抖动上限；为 {@code null} 表示不抖动。
+     * <p>
+     * The upper bound of the random jitter added to redisTtl on L2 writes; {@code null} means no jitter.
+     */
+    private final Duration ttlJitter;
+
+    /**
+     * L2 值的编解码器；为 {@code null} 时存储策略使用 Jackson JSON。
+     * <p>
+     * The codec of L2 values; storage strategies fall back to Jackson JSON when it is {@code null}.
+     */
+    private final JMultiCacheCodec codec;
+
+    /**
+     * L2 值的压缩算法；为 {@code null} 表示不压缩。
+     * <p>
+     * The compression algorithm of L2 values; {@code null} means no compression.
+     */
+    private final JMultiCacheCompressor compressor;
+
+    /**
+     * 压缩阈值 (字节)，编码后的值超过该大小才压缩。
+     * <p>
+     * The compression threshold in bytes; only encoded values larger than this are compressed.
+     */
+    @Builder.Default
+    private final int compressionThreshold = JMultiCacheConstants.DEFAULT_COMPRESSION_THRESHOLD;
+
     // ===================================================================
     // ======================= 辅助方法 / Helper Methods ==================
     // ===================================================================
@@ -179,4 +240,26 @@ public final class ResolvedJMultiCacheConfig {
     public boolean isPopulateL1FromL2() {
         return isUseL1() && isUseL2();
     }
+
+    /**
+     * 是否开启了提前刷新 (stale-while-revalidate)。只有使用 L2 时才生效。
+     * <p>
+     * Whether refresh-ahead (stale-while-revalidate) is enabled. Only effective when L2 is used.
+     *
+     * @return {@code true} 如果配置了提前刷新窗口且使用 L2 / {@code true} if a refresh-ahead window is configured and L2 is used.
+     */
+    public boolean isRefreshAheadEnabled() {
+        return refreshAhead != null && isUseL2();
+    }
+
+    /**
+     * 是否开启了概率性提前过期 (XFetch)。只有使用 L2 时才生效。
+     * <p>
+     * Whether probabilistic early expiration (XFetch) is enabled. Only effective when L2 is used.
+     *
+     * @return {@code true} 如果 beta 大于 0 且使用 L2 / {@code true} if beta is greater than 0 and L2 is used.
+     */
+    public boolean isEarlyExpirationEnabled() {
+        return earlyExpirationBeta != null && earlyExpirationBeta > 0 && isUseL2();
+    }
 }
@@ -79,6 +79,27 @@ public interface JMultiCacheConstants {
      */
     String DEFAULT_STORAGE_TYPE = DefaultStorageTypes.STRING;
 
+    /**
+     * 默认的 L2 值编解码器名称。
+     * <p>
+     * The default codec name of L2 values.
+     */
+    String DEFAULT_CODEC = "json";
+
+    /**
+     * 表示不压缩的压缩算法名称 (默认)。
+     * <p>
+     * The compression name that means no compression (the default).
+     */
+    String COMPRESSION_NONE = "none";
+
+    /**
+     * 默认的压缩阈值 (字节)，编码后的值超过该大小才压缩。
+     * <p>
+     * The default compression threshold in bytes; only encoded values larger than this are compressed.
+     */
+    int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+
     /**
      * 默认的缓存实体类型。
      * <p>
@@ -93,6 +114,20 @@ public interface JMultiCacheConstants {
      */
     String DEFAULT_KEY_FIELD = "#id";
 
+    /**
+     * 回源加载锁的默认最长等待时间（毫秒）。
+     * <p>
+     * The default maximum wait time (in milliseconds) for the loading lock.
+     */
+    long DEFAULT_LOCK_WAIT_TIME = 5000L;
+
+    /**
+     * 回源加载锁的默认租约时间（毫秒）。
+     * <p>
+     * The default lease time (in milliseconds) of the loading lock.
+     */
+    long DEFAULT_LOCK_LEASE_TIME = 10000L;
+
     /**
      * 默认的缓存存储与回源策略。
      * <p>
@@ -24,7 +24,7 @@ public class JMultiCacheEvictMessage implements Serializable {
     private String cacheName;
 
     /**
-     * 需要失效的缓存key
+     * 需要失效的缓存key，为 null 时表示清空该缓存的整个命名空间
      */
     private String fullKey;
 }
@@ -0,0 +1,118 @@
+package io.github.vevoly.jmulticache.api.metrics;
+
+/**
+ * 缓存链路的指标记录接口 (SPI)。
+ * <p>
+ * 框架在 L1 / L2 / DB 各阶段调用此接口记录命中、耗时、锁和批量大小，所有方法默认什么都不做。
+ * 实现必须是线程安全且足够轻量的，因为它们在每次查询的热路径上被调用。
+ * Spring Boot Starter 在 classpath 中存在 Micrometer 时会提供基于 Micrometer 的实现。
+ * <p>
+ * Metrics recording interface (SPI) for the cache chain.
+ * The framework calls it at the L1 / L2 / DB stages to record hits, latencies, locks and batch sizes; every method is a no-op by default.
+ * Implementations must be thread-safe and cheap, since they are called on the hot path of every lookup.
+ * The Spring Boot Starter provides a Micrometer-based implementation when Micrometer is on the classpath.
+ *
+ * @author vevoly
+ */
+public interface JMultiCacheMetricsRecorder {
+
+    /**
+     * 不记录任何指标的实现。/ An implementation that records nothing.
+     */
+    JMultiCacheMetricsRecorder NOOP = new JMultiCacheMetricsRecorder() {
+    };
+
+    /**
+     * 缓存层级。/ Cache tier.
+     */
+    enum Tier {
+        L1, L2, DB
+    }
+
+    /**
+     * 查询结果。对于 DB 层，HIT 表示数据源返回了数据，MISS 表示数据源没有数据。
+     * <p>
+     * Lookup outcome. For the DB tier, HIT means the source returned data and MISS means it returned nothing.
+     */
+    enum Outcome {
+        /** 命中真实数据。/ Hit with real data. */
+        HIT,
+        /** 未命中。/ Miss. */
+        MISS,
+        /** 命中空值标记 (防穿透)。/ Hit on an empty marker (anti-penetration). */
+        EMPTY
+    }
+
+    /**
+     * 计时的阶段。/ Timed stage.
+     */
+    enum Stage {
+        /** 读取 L2。/ Reading L2. */
+        L2_READ,
+        /** 调用数据源加载器。/ Calling the source loader. */
+        DB_LOAD,
+        /** 回源后写入 L2。/ Writing L2 after a source load. */
+        L2_BACKFILL
+    }
+
+    /**
+     * 记录查询结果。
+     * <p>
+     * Records lookup outcomes.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param tier      缓存层级。/ The cache tier.
+     * @param outcome   查询结果。/ The outcome.
+     * @param count     次数 (批量查询时为条目数)。/ The count (number of entries for batch lookups).
+     */
+    default void recordLookup(String namespace, Tier tier, Outcome outcome, long count) {
+    }
+
+    /**
+     * 记录一个阶段的耗时。
+     * <p>
+     * Records the latency of a stage.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param stage     阶段。/ The stage.
+     * @param nanos     耗时 (纳秒)。/ The latency in nanoseconds.
+     */
+    default void recordLatency(String namespace, Stage stage, long nanos) {
+    }
+
+    /**
+     * 记录一次回源锁的获取。
+     * <p>
+     * Records one acquisition attempt of the loading lock.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param acquired  是否获取成功。/ Whether the lock was acquired.
+     * @param waitNanos 等待耗时 (纳秒)。/ The wait time in nanoseconds.
+     */
+    default void recordLock(String namespace, boolean acquired, long waitNanos) {
+    }
+
+    /**
+     * 记录批量回源时等待其他调用方回填所认领 ID 的耗时。与 {@link #recordLock} 分开统计，因为它等待的是回填完成而不是锁本身。
+     * <p>
+     * Records how long a batch load waited for other callers to populate the IDs they claimed.
+     * Kept apart from {@link #recordLock}, since it waits for population to finish rather than for a lock.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param filled    等待期间是否全部回填完成 (否则为超时)。/ Whether everything was populated while waiting (otherwise it timed out).
+     * @param waitNanos 等待耗时 (纳秒)。/ The wait time in nanoseconds.
+     */
+    default void recordClaimWait(String namespace, boolean filled, long waitNanos) {
+    }
+
+    /**
+     * 记录一次批量查询的 ID 数量。
+     * <p>
+     * Records the number of IDs of a batch lookup.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param size      ID 数量。/ The number of IDs.
+     */
+    default void recordBatchSize(String namespace, int size) {
+    }
+}
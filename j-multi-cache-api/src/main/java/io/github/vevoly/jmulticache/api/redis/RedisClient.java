@@ -1,14 +1,20 @@
 package io.github.vevoly.jmulticache.api.redis;
 
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchSettings;
 import io.github.vevoly.jmulticache.api.structure.JMultiCacheScoredEntry;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 多级缓存框架对 Redis 操作的统一客户端接口。
@@ -66,6 +72,37 @@ public interface RedisClient {
      */
     void expire(String key, Duration timeout);
 
+    /**
+     * 获取 key 的剩余存活时间（毫秒）。
+     * <p>
+     * Gets the remaining time-to-live of a key in milliseconds.
+     * <p>
+     * 默认实现返回 -1 (视为未设置过期时间)，此时提前刷新不会触发；能查询 TTL 的实现应覆盖此方法。
+     * <p>
+     * The default implementation returns -1 (treated as no expiration), so refresh-ahead never triggers; implementations able to report the TTL should override it.
+     *
+     * @param key 键 / the key
+     * @return 剩余毫秒数；key 不存在返回 -2，key 未设置过期时间返回 -1 / remaining milliseconds; -2 if the key does not exist, -1 if it has no expiration
+     */
+    default long remainTimeToLive(String key) {
+        return -1;
+    }
+
+    /**
+     * 以 SCAN 方式遍历匹配模式的 key，不会像 KEYS 命令那样阻塞 Redis。
+     * <p>
+     * Iterates the keys matching a pattern with SCAN, which does not block Redis the way the KEYS command does.
+     * <p>
+     * 默认实现不支持遍历，此时无法按命名空间清除 L2。/ The default implementation does not support scanning, so L2 cannot be evicted per namespace.
+     *
+     * @param pattern 匹配模式，如 {@code user:*} / the match pattern, e.g. {@code user:*}
+     * @return 惰性遍历的 key 序列 / a lazily iterated sequence of keys
+     * @throws UnsupportedOperationException 客户端不支持遍历时 / if the client does not support scanning
+     */
+    default Iterable<String> scan(String pattern) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support SCAN; override RedisClient#scan to enable namespace-wide L2 eviction.");
+    }
+
     /**
      * 获取 Key 的存储类型。
      * 对应 Redis 命令: TYPE key
@@ -252,6 +289,105 @@ public interface RedisClient {
      */
     void hmset(String key, Map<String, Object> map, Duration timeout);
 
+    // ===================================================================
+    // ===================== 二进制值 / Binary Values ======================
+    // ===================================================================
+    // 存储策略经 JMultiCacheCodec 编码后的值通过以下方法原样读写，不再经过客户端自身的序列化。
+    // Values encoded by a JMultiCacheCodec are read and written as-is through the methods below, bypassing the client's own serialization.
+    // 默认实现退回到对象方法 (get/set/getList/setList/hget/hgetAll/hmset)，要求客户端自身的序列化能原样往返 byte[]；能直接读写原始字节的实现应覆盖它们。
+    // The defaults fall back to the object methods (get/set/getList/setList/hget/hgetAll/hmset), which requires the client's own serialization
+    // to round-trip byte[]; implementations able to read and write raw bytes directly should override them.
+
+    /**
+     * 以原始字节读取 STRING 类型的值。
+     * <p>
+     * Reads the value of a STRING key as raw bytes.
+     *
+     * @param key 键 / the key
+     * @return 原始字节，key 不存在时返回 null / the raw bytes, or null if the key does not exist
+     */
+    default byte[] getBytes(String key) {
+        return get(key);
+    }
+
+    /**
+     * 以原始字节写入 STRING 类型的值。
+     * <p>
+     * Writes the value of a STRING key as raw bytes.
+     *
+     * @param key     键 / the key
+     * @param value   原始字节 / the raw bytes
+     * @param timeout 过期时间 / the expiration timeout
+     */
+    default void setBytes(String key, byte[] value, Duration timeout) {
+        set(key, value, timeout);
+    }
+
+    /**
+     * 以原始字节读取列表的所有元素。
+     * <p>
+     * Reads all elements of a list as raw bytes.
+     *
+     * @param key 键 / the key
+     * @return 元素列表，key 不存在时为空列表 / the elements, empty if the key does not exist
+     */
+    default List<byte[]> getListBytes(String key) {
+        List<byte[]> value = getList(key);
+        return value != null ? value : Collections.emptyList();
+    }
+
+    /**
+     * 用给定的原始字节元素覆盖列表。
+     * <p>
+     * Overwrites a list with the given raw byte elements.
+     *
+     * @param key     键 / the key
+     * @param value   元素列表 / the elements
+     * @param timeout 过期时间 / the expiration timeout
+     */
+    default void setListBytes(String key, List<byte[]> value, Duration timeout) {
+        setList(key, value, timeout);
+    }
+
+    /**
+     * 以原始字节读取哈希表的一个字段。
+     * <p>
+     * Reads one hash field as raw bytes.
+     *
+     * @param key   键 / the key
+     * @param field 字段 / the field
+     * @return 原始字节，key 或字段不存在时返回 null / the raw bytes, or null if the key or field does not exist
+     */
+    default byte[] hgetBytes(String key, String field) {
+        return hget(key, field);
+    }
+
+    /**
+     * 以原始字节读取哈希表的所有字段。
+     * <p>
+     * Reads all hash fields as raw bytes.
+     *
+     * @param key 键 / the key
+     * @return 字段到原始字节的映射，key 不存在时为空 Map / a map of field to raw bytes, empty if the key does not exist
+     */
+    default Map<String, byte[]> hgetAllBytes(String key) {
+        Map<String, byte[]> value = hgetAll(key);
+        return value != null ? value : Collections.emptyMap();
+    }
+
+    /**
+     * 以原始字节写入哈希表的多个字段。
+     * <p>
+     * Writes several hash fields as raw bytes.
+     *
+     * @param key     键 / the key
+     * @param map     字段到原始字节的映射 / a map of field to raw bytes
+     * @param timeout 整个哈希表的过期时间 / the expiration timeout for the entire hash
+     */
+    default void hmsetBytes(String key, Map<String, byte[]> map, Duration timeout) {
+        hmset(key, new HashMap<>(map), timeout);
+    }
+
     // ===================================================================
     // ===================== 分布式锁 / Distributed Lock ==================
     // ===================================================================
@@ -278,6 +414,98 @@ public interface RedisClient {
      */
     void unlock(String lockKey);
 
+    /**
+     * 异步尝试获取一个分布式锁。
+     * <p>
+     * 与 {@link #tryLock} 不同，锁的持有者不是当前线程，而是调用方提供的 {@code ownerId}，
+     * 因此获取和释放可以发生在不同的线程上 (异步回调链路)。
+     * <p>
+     * Asynchronously tries to acquire a distributed lock.
+     * Unlike {@link #tryLock}, the lock is owned by the caller-supplied {@code ownerId} instead of the current thread,
+     * so acquiring and releasing may happen on different threads (asynchronous callback chains).
+     * <p>
+     * 默认实现在公共线程池上调用同步的 {@link #tryLock}，忽略 {@code ownerId}；锁与线程绑定的实现应覆盖此方法及 {@link #unlockAsync}。
+     * <p>
+     * The default implementation calls the synchronous {@link #tryLock} on the common pool and ignores {@code ownerId};
+     * implementations whose locks are bound to threads should override this method and {@link #unlockAsync}.
+     *
+     * @param lockKey   锁的唯一键 / the unique key for the lock
+     * @param ownerId   锁持有者标识 / the lock owner id
+     * @param waitTime  最长等待时间 / the maximum time to wait for the lock
+     * @param leaseTime 锁的持有时间（自动释放时间） / the time to hold the lock (lease time)
+     * @param unit      时间单位 / the time unit
+     * @return 完成时表示是否成功获取锁的 Future / a future completed with whether the lock was acquired
+     */
+    default CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit) {
+        return CompletableFuture.supplyAsync(() -> tryLock(lockKey, waitTime, leaseTime, unit));
+    }
+
+    /**
+     * 异步释放由 {@code ownerId} 持有的分布式锁。
+     * <p>
+     * Asynchronously releases a distributed lock held by {@code ownerId}.
+     * <p>
+     * 默认实现在公共线程池上调用同步的 {@link #unlock}。/ The default implementation calls the synchronous {@link #unlock} on the common pool.
+     *
+     * @param lockKey 锁的唯一键 / the unique key for the lock
+     * @param ownerId 锁持有者标识 / the lock owner id
+     * @return 释放完成的 Future / a future completed once the lock is released
+     */
+    default CompletableFuture<Void> unlockAsync(String lockKey, long ownerId) {
+        return CompletableFuture.runAsync(() -> unlock(lockKey));
+    }
+
+    /**
+     * 在一次原子调用内认领一批 key：每个 key 只有在当前没有持有者时才被 {@code ownerId} 认领，并在 {@code leaseTime} 后自动失效。
+     * <p>
+     * 与锁不同，认领不等待、不可重入，也没有释放通知；部分 key 被其他持有者占用时，其余 key 照常认领。
+     * 一次调用中的 key 应落在同一个槽位上 (例如使用相同的 hash tag)，以便在集群模式下执行。
+     * <p>
+     * Claims a set of keys in one atomic call: each key is claimed by {@code ownerId} only if nobody holds it, and expires after {@code leaseTime}.
+     * Unlike a lock, a claim does not wait, is not reentrant and has no release notification; keys held by other owners do not prevent claiming the rest.
+     * The keys of one call should map to the same slot (e.g. share a hash tag) so the call can run in cluster mode.
+     * <p>
+     * 默认实现逐个 key 以不等待的 {@link #tryLock} 认领，尽力而为、不是原子的，并忽略 {@code ownerId} (认领由当前线程持有，须在同一线程释放)；
+     * 能以单次原子调用认领的实现应覆盖此方法及 {@link #releaseClaims}。
+     * <p>
+     * The default implementation claims each key with a non-waiting {@link #tryLock}; it is best-effort, not atomic, and ignores {@code ownerId}
+     * (claims are held by the current thread and must be released on it). Implementations able to claim in one atomic call should override this method and {@link #releaseClaims}.
+     *
+     * @param claimKeys 要认领的 key / the keys to claim
+     * @param ownerId   认领者标识 / the claiming owner
+     * @param leaseTime 认领的有效期 / how long a claim lasts
+     * @return 本次认领成功的 key / the keys claimed by this call
+     */
+    default List<String> tryClaim(List<String> claimKeys, String ownerId, Duration leaseTime) {
+        if (claimKeys == null || claimKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long leaseMillis = Math.max(1, leaseTime.toMillis());
+        List<String> claimed = new ArrayList<>(claimKeys.size());
+        for (String claimKey : claimKeys) {
+            if (tryLock(claimKey, 0, leaseMillis, TimeUnit.MILLISECONDS)) {
+                claimed.add(claimKey);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 释放 {@code ownerId} 持有的认领；已过期或属于其他持有者的 key 保持不变。
+     * <p>
+     * Releases the claims held by {@code ownerId}; keys that expired or belong to other owners are left untouched.
+     * <p>
+     * 默认实现逐个 key 调用 {@link #unlock}。/ The default implementation calls {@link #unlock} for each key.
+     *
+     * @param claimKeys 要释放的 key / the keys to release
+     * @param ownerId   认领者标识 / the claiming owner
+     */
+    default void releaseClaims(List<String> claimKeys, String ownerId) {
+        if (claimKeys != null) {
+            claimKeys.forEach(this::unlock);
+        }
+    }
+
     // ===================================================================
     // =================== 发布/订阅 / Publish/Subscribe ==================
     // ===================================================================
@@ -292,6 +520,24 @@ public interface RedisClient {
      */
     void publish(String channel, Object message);
 
+    /**
+     * 订阅一个频道，监听器收到的是 {@link #publish} 序列化后的消息体。
+     * <p>
+     * 默认实现不支持订阅。框架只用订阅来缩短等待 (例如唤醒等待批量回源的调用方)，不支持时退回到轮询。
+     * <p>
+     * Subscribes to a channel; the listener receives the message body as serialized by {@link #publish}.
+     * The default implementation does not support subscribing. The framework only uses subscriptions to shorten waits
+     * (e.g. to wake callers waiting on a batch load) and falls back to polling without them.
+     *
+     * @param channel  频道名称 / the name of the channel
+     * @param listener 消息监听器 / the message listener
+     * @return 关闭即取消订阅 / closing it unsubscribes
+     * @throws UnsupportedOperationException 客户端不支持订阅时 / if the client does not support subscribing
+     */
+    default AutoCloseable subscribe(String channel, Consumer<String> listener) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support subscribing; override RedisClient#subscribe to enable release notifications.");
+    }
+
     // ===================================================================
     // =================== 批量操作会话 / Batch operation session ==========
     // ===================================================================
@@ -303,4 +549,19 @@ public interface RedisClient {
      * @return 一个 {@link BatchOperation} 实例。 / A {@link BatchOperation} instance.
      */
     BatchOperation createBatchOperation();
+
+    /**
+     * 按给定的执行选项创建一个新的批量操作会话。
+     * <p>
+     * 默认实现忽略选项，等同于 {@link #createBatchOperation()}。
+     * <p>
+     * Creates a new batch operation session with the given execution settings.
+     * The default implementation ignores the settings and is equivalent to {@link #createBatchOperation()}.
+     *
+     * @param settings 执行选项 / the execution settings
+     * @return 一个 {@link BatchOperation} 实例。 / A {@link BatchOperation} instance.
+     */
+    default BatchOperation createBatchOperation(BatchSettings settings) {
+        return createBatchOperation();
+    }
 }
@@ -1,7 +1,10 @@
 package io.github.vevoly.jmulticache.api.redis.batch;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,11 +23,83 @@ public interface BatchOperation {
     CompletableFuture<Void> setAsync(String key, Object value, Duration ttl);
     <T> CompletableFuture<T> getAsync(String key);
 
+    /**
+     * 以原始字节写入 STRING 类型的值。默认实现退回到 {@link #setAsync}，由客户端自身的序列化写入 byte[]。
+     * <p>
+     * Writes the value of a STRING key as raw bytes. The default implementation falls back to {@link #setAsync}, leaving byte[] to the client's own serialization.
+     */
+    default CompletableFuture<Void> setBytesAsync(String key, byte[] value, Duration ttl) {
+        return setAsync(key, value, ttl);
+    }
+
+    /**
+     * 以原始字节读取 STRING 类型的值。默认实现退回到 {@link #getAsync}。
+     * <p>
+     * Reads the value of a STRING key as raw bytes. The default implementation falls back to {@link #getAsync}.
+     */
+    default CompletableFuture<byte[]> getBytesAsync(String key) {
+        return getAsync(key);
+    }
+
+    /**
+     * 批量读取多个 key 的原始字节 (MGET)，不存在的 key 不出现在结果中。
+     * <p>
+     * 默认实现为每个 key 排入一条 GET；能以单条 MGET 读取的实现应覆盖此方法。
+     * <p>
+     * Reads the raw bytes of several keys at once (MGET); missing keys are absent from the result.
+     * The default implementation queues one GET per key; implementations able to read them with a single MGET should override it.
+     *
+     * @param keys 要读取的 key / the keys to read
+     * @return 执行后完成的 key 到字节的映射 / a map from key to bytes, completed on execution
+     */
+    default CompletableFuture<Map<String, byte[]>> getAllBytesAsync(Collection<String> keys) {
+        Map<String, CompletableFuture<byte[]>> futures = new LinkedHashMap<>();
+        for (String key : keys) {
+            futures.put(key, getBytesAsync(key));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(v -> {
+            Map<String, byte[]> result = new HashMap<>();
+            futures.forEach((key, future) -> {
+                byte[] value = future.join();
+                if (value != null) {
+                    result.put(key, value);
+                }
+            });
+            return result;
+        });
+    }
+
     // --- List Operations ---
     CompletableFuture<Void> listDeleteAsync(String key);
     CompletableFuture<Void> listAddAllAsync(String key, Collection<?> values);
     <T> CompletableFuture<List<Object>> listGetAllAsync(String key);
 
+    /**
+     * 以原始字节追加列表元素。默认实现退回到 {@link #listAddAllAsync}。
+     * <p>
+     * Appends list elements as raw bytes. The default implementation falls back to {@link #listAddAllAsync}.
+     */
+    default CompletableFuture<Void> listAddAllBytesAsync(String key, Collection<byte[]> values) {
+        return listAddAllAsync(key, values);
+    }
+
+    /**
+     * 以原始字节读取列表的所有元素。默认实现退回到 {@link #listGetAllAsync}。
+     * <p>
+     * Reads all list elements as raw bytes. The default implementation falls back to {@link #listGetAllAsync}.
+     */
+    default CompletableFuture<List<byte[]>> listGetAllBytesAsync(String key) {
+        return this.<Object>listGetAllAsync(key).thenApply(values -> {
+            List<byte[]> result = new ArrayList<>(values != null ? values.size() : 0);
+            if (values != null) {
+                for (Object value : values) {
+                    result.add((byte[]) value);
+                }
+            }
+            return result;
+        });
+    }
+
     // --- Set Operations ---
     CompletableFuture<Void> setDeleteAsync(String key);
     CompletableFuture<Void> setAddAllAsync(String key, Collection<?> values);
@@ -35,6 +110,15 @@ public interface BatchOperation {
     // --- Hash Operations ---
     CompletableFuture<Void> hashPutAllAsync(String key, Map<String, ?> map);
 
+    /**
+     * 以原始字节写入哈希表的多个字段。默认实现退回到 {@link #hashPutAllAsync}。
+     * <p>
+     * Writes several hash fields as raw bytes. The default implementation falls back to {@link #hashPutAllAsync}.
+     */
+    default CompletableFuture<Void> hashPutAllBytesAsync(String key, Map<String, byte[]> map) {
+        return hashPutAllAsync(key, map);
+    }
+
     // --- Common Operations ---
     CompletableFuture<Void> expireAsync(String key, Duration ttl);
     CompletableFuture<Void> deleteAsync(String... keys);
@@ -53,4 +137,19 @@ public interface BatchOperation {
      * Executes all cached batch commands.
      */
     void execute();
+
+    /**
+     * 异步执行所有已缓存的批量命令，不阻塞调用线程。
+     * <p>
+     * 默认实现同步调用 {@link #execute()}，原生支持异步提交的实现应覆盖此方法。
+     * <p>
+     * Executes all cached batch commands asynchronously without blocking the calling thread.
+     * The default implementation calls {@link #execute()} synchronously; implementations with native asynchronous submission should override it.
+     *
+     * @return 所有命令执行完成时完成的 Future / a future completed once all commands have been executed
+     */
+    default CompletableFuture<Void> executeAsync() {
+        execute();
+        return CompletableFuture.completedFuture(null);
+    }
 }
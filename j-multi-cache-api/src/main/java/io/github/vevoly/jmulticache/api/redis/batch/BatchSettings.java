@@ -0,0 +1,47 @@
+package io.github.vevoly.jmulticache.api.redis.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 一次批量操作会话的执行选项，与具体的 Redis 客户端无关。
+ * <p>
+ * 未设置的选项沿用客户端自身的默认值；不支持某个选项的实现可以忽略它。
+ * <p>
+ * Execution options of one batch operation session, independent of the Redis client.
+ * Options left unset keep the client's own defaults; implementations that do not support an option may ignore it.
+ *
+ * @author vevoly
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class BatchSettings {
+
+    /**
+     * 全部使用客户端默认值的选项。/ Settings that keep every client default.
+     */
+    public static final BatchSettings DEFAULTS = BatchSettings.builder().build();
+
+    /** 等待整批响应的超时时间，null 表示使用客户端默认值。/ The timeout for the whole batch response; null keeps the client default. */
+    private final Duration responseTimeout;
+
+    /** 发送失败时的重试次数，null 表示使用客户端默认值。/ Retry attempts when sending fails; null keeps the client default. */
+    private final Integer retryAttempts;
+
+    /** 两次重试之间的间隔，null 表示使用客户端默认值。/ The interval between retries; null keeps the client default. */
+    private final Duration retryInterval;
+
+    /**
+     * 是否让服务端不回复命令结果。仅适用于只写的批次：开启后返回的 Future 不再携带结果，写入失败也无法感知。
+     * <p>
+     * Whether the server should skip replying with command results. Only for write-only batches:
+     * the returned futures no longer carry results and write failures go unnoticed.
+     */
+    private final boolean skipResult;
+}
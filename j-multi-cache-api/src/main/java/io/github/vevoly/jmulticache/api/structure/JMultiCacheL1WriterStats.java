@@ -0,0 +1,33 @@
+package io.github.vevoly.jmulticache.api.structure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * L1 回填队列的统计快照。
+ * <p>
+ * A statistics snapshot of the L1 population queue.
+ *
+ * @author vevoly
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JMultiCacheL1WriterStats {
+
+    /** 当前等待写入 L1 的条目数 (队列深度)。/ Entries currently waiting to be written to L1 (queue depth). */
+    private final long pendingWrites;
+
+    /** 因队列已满而丢弃的写入次数。/ Writes dropped because the queue was full. */
+    private final long droppedWrites;
+
+    /** 被同一 key 的后续写入覆盖而合并掉的写入次数。/ Writes superseded by a later write of the same key. */
+    private final long coalescedWrites;
+
+    /** 在调用线程上同步完成的写入次数。/ Writes completed synchronously on the calling thread. */
+    private final long syncWrites;
+
+    /** 由排空任务批量完成的写入次数。/ Writes completed in batches by a drain. */
+    private final long batchedWrites;
+}
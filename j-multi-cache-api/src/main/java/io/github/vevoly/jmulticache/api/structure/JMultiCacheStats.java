@@ -0,0 +1,104 @@
+package io.github.vevoly.jmulticache.api.structure;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 单个缓存配置的运行时统计快照，包含生效的配置、L1 容量与命中情况，以及 L2 命中与读取延迟。
+ * <p>
+ * 计数与延迟分位值自应用启动 (或该命名空间首次被访问) 起累计，仅反映当前节点。
+ * <p>
+ * A runtime statistics snapshot of one cache configuration: the effective settings, L1 capacity and hits, and L2 hits and read latency.
+ * Counts and latency percentiles accumulate since startup (or the namespace's first access) and only reflect the current node.
+ *
+ * @author vevoly
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class JMultiCacheStats {
+
+    // ===================================================================
+    // ======================= 生效配置 / Effective Settings ===============
+    // ===================================================================
+
+    /** 配置名称。/ The configuration name. */
+    private final String name;
+
+    /** 命名空间。/ The namespace. */
+    private final String namespace;
+
+    /** 存储类型。/ The storage type. */
+    private final String storageType;
+
+    /** 存储与回源策略。/ The storage policy. */
+    private final String storagePolicy;
+
+    /** 是否启用 L1。/ Whether L1 is enabled. */
+    private final boolean useL1;
+
+    /** 是否启用 L2。/ Whether L2 is enabled. */
+    private final boolean useL2;
+
+    /** L2 过期时间 (秒)。/ L2 TTL in seconds. */
+    private final long redisTtlSeconds;
+
+    /** L1 过期时间 (秒)。/ L1 TTL in seconds. */
+    private final long localTtlSeconds;
+
+    // ===================================================================
+    // ======================= L1 统计 / L1 Statistics =====================
+    // ===================================================================
+
+    /** L1 当前的最大容量 (运行时调整后即为新值)，未启用 L1 时为 null。/ The current L1 maximum size (reflects runtime resizing); null without L1. */
+    private final Long l1MaximumSize;
+
+    /** L1 估算条目数。/ Estimated number of L1 entries. */
+    private final long l1Size;
+
+    /** L1 按权重累计的大小，未使用权重上限时为 null。/ The accumulated L1 weight; null when no weight bound is used. */
+    private final Long l1WeightedSize;
+
+    /** L1 命中次数。/ L1 hits. */
+    private final long l1HitCount;
+
+    /** L1 未命中次数。/ L1 misses. */
+    private final long l1MissCount;
+
+    /** L1 命中率 (0.0 ~ 1.0)。/ L1 hit rate (0.0 - 1.0). */
+    private final double l1HitRate;
+
+    /** L1 因容量或过期被驱逐的条目数。/ L1 entries evicted by size or expiry. */
+    private final long l1EvictionCount;
+
+    // ===================================================================
+    // ======================= L2 统计 / L2 Statistics =====================
+    // ===================================================================
+
+    /** L2 命中次数 (不含空值标记)。/ L2 hits, excluding empty markers. */
+    private final long l2HitCount;
+
+    /** L2 命中空值标记的次数。/ L2 hits on empty markers. */
+    private final long l2EmptyCount;
+
+    /** L2 未命中次数。/ L2 misses. */
+    private final long l2MissCount;
+
+    /** L2 命中率 (含空值标记，0.0 ~ 1.0)。/ L2 hit rate including empty markers (0.0 - 1.0). */
+    private final double l2HitRate;
+
+    /** L2 读取 (单次或一批) 的次数。/ Number of L2 reads, single or batched. */
+    private final long l2ReadCount;
+
+    /** L2 读取延迟的 P50 (毫秒，近似值)。/ Approximate P50 of L2 read latency in milliseconds. */
+    private final double l2ReadLatencyP50Millis;
+
+    /** L2 读取延迟的 P95 (毫秒，近似值)。/ Approximate P95 of L2 read latency in milliseconds. */
+    private final double l2ReadLatencyP95Millis;
+
+    /** L2 读取延迟的 P99 (毫秒，近似值)。/ Approximate P99 of L2 read latency in milliseconds. */
+    private final double l2ReadLatencyP99Millis;
+}
@@ -3,10 +3,12 @@ package io.github.vevoly.jmulticache.api.utils;
 import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
 import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * j-multi-cache 框架的公共辅助工具类。
@@ -46,6 +48,34 @@ public final class JMultiCacheHelper {
         return namespace + ":" + String.join(":", keyParts);
     }
 
+    /**
+     * 获取写入 L2 时真实数据应使用的过期时间。
+     * <p>
+     * 如果配置了 {@code ttl-jitter}，会在 redisTtl 的基础上增加 [0, ttlJitter] 内的随机时长，
+     * 使同一批写入的 key 过期时间自然错开。自定义策略在写入真实数据时也应使用此方法。
+     * 永不过期 (负数) 或未配置的 TTL 原样返回。
+     * <p>
+     * Gets the expiration to use when writing real data to L2.
+     * If {@code ttl-jitter} is configured, a random duration within [0, ttlJitter] is added to redisTtl so that keys written in the same batch
+     * expire at different moments. Custom strategies should use this method when writing real data as well.
+     * Non-expiring (negative) or missing TTLs are returned unchanged.
+     *
+     * @param config 当前操作的已解析配置。/ The resolved configuration for the current operation.
+     * @return 本次写入使用的 TTL。/ The TTL to use for this write.
+     */
+    public static Duration getRedisTtlWithJitter(ResolvedJMultiCacheConfig config) {
+        Duration redisTtl = config.getRedisTtl();
+        Duration jitter = config.getTtlJitter();
+        if (redisTtl == null || redisTtl.isNegative() || redisTtl.isZero() || jitter == null) {
+            return redisTtl;
+        }
+        long jitterMillis = jitter.toMillis();
+        if (jitterMillis <= 0) {
+            return redisTtl;
+        }
+        return redisTtl.plusMillis(ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+
     /**
      * 判断一个缓存结果是否是框架定义的“空值标记”。
      * <p>
@@ -0,0 +1,95 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.benchmark.support.BenchPage;
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.benchmark.support.JMultiCacheBenchmarkFixture;
+import io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient;
+import io.github.vevoly.jmulticache.core.strategy.impl.PageStorageStrategy;
+import io.github.vevoly.jmulticache.core.utils.JavaTypeReference;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大分页对象在各压缩算法下的写入与读取开销。
+ * <p>
+ * 分页包含 {@code records} 条记录 (JSON 约 80 字节一条)，阈值保持默认的 4KB，所以每种规模都会触发压缩。
+ * 每次写入后通过 {@code storedBytes} 辅助计数报告 L2 中实际保存的字节数，便于同时比较体积与 CPU。
+ * <p>
+ * The write and read cost of a large page under each compression algorithm.
+ * The page holds {@code records} records (about 80 bytes of JSON each) and the threshold stays at the default 4KB, so every size is compressed.
+ * After each write the {@code storedBytes} auxiliary counter reports the bytes actually kept in L2, so size and CPU can be compared side by side.
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+    @Param({"none", "deflate", "lz4", "zstd"})
+    private String compression;
+
+    @Param({"100", "1000", "5000"})
+    private int records;
+
+    private JMultiCacheBenchmarkFixture fixture;
+    private InMemoryRedisClient redisClient;
+    private PageStorageStrategy pageStrategy;
+    private ResolvedJMultiCacheConfig pageConfig;
+    private TypeReference<Object> pageType;
+    private BenchPage page;
+    private String readKey;
+    private String writeKey;
+
+    /**
+     * 每次写入后 L2 中保存的字节数。/ The bytes kept in L2 after each write.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredBytes {
+        public long storedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new JMultiCacheBenchmarkFixture("json", compression);
+        redisClient = fixture.getRedisClient();
+        pageStrategy = new PageStorageStrategy();
+        pageConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_PAGE);
+        pageType = JavaTypeReference.of(fixture.getObjectMapper().constructType(BenchPage.class));
+
+        List<BenchUser> users = new ArrayList<>(records);
+        for (long i = 0; i < records; i++) {
+            users.add(BenchUser.of(i));
+        }
+        page = new BenchPage(users, records * 10L, 1, records);
+        readKey = pageConfig.getNamespace() + ":read";
+        writeKey = pageConfig.getNamespace() + ":write";
+        pageStrategy.write(redisClient, readKey, page, pageConfig);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void pageWrite(StoredBytes stored) {
+        pageStrategy.write(redisClient, writeKey, page, pageConfig);
+        stored.storedBytes = redisClient.getBytes(writeKey).length;
+    }
+
+    @Benchmark
+    public void pageRead(Blackhole blackhole) {
+        blackhole.consume(pageStrategy.read(redisClient, readKey, pageType, pageConfig));
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.benchmark.support.JMultiCacheBenchmarkFixture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code fetchData} 单 key 读取在三种路径上的开销：L1 命中、L2 命中、完全未命中 (加锁、回源、写 L2、回填 L1)。
+ * <p>
+ * The cost of a single-key {@code fetchData} on its three paths: an L1 hit, an L2 hit, and a full miss (lock, load, write L2, populate L1).
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FetchDataBenchmark {
+
+    private static final int HOT_KEYS = 1024;
+
+    private JMultiCacheBenchmarkFixture fixture;
+    private JMultiCache jMultiCache;
+    private String[] hotIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new JMultiCacheBenchmarkFixture();
+        jMultiCache = fixture.getJMultiCache();
+        hotIds = new String[HOT_KEYS];
+        for (int i = 0; i < HOT_KEYS; i++) {
+            hotIds[i] = String.valueOf(i);
+            long id = i;
+            jMultiCache.fetchData(JMultiCacheBenchmarkFixture.USER, () -> BenchUser.of(id), hotIds[i]);
+            jMultiCache.fetchData(JMultiCacheBenchmarkFixture.USER_L2, () -> BenchUser.of(id), hotIds[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Object l1Hit() {
+        String id = hotIds[ThreadLocalRandom.current().nextInt(HOT_KEYS)];
+        return jMultiCache.fetchData(JMultiCacheBenchmarkFixture.USER, () -> BenchUser.of(Long.parseLong(id)), id);
+    }
+
+    @Benchmark
+    public Object l2Hit() {
+        String id = hotIds[ThreadLocalRandom.current().nextInt(HOT_KEYS)];
+        return jMultiCache.fetchData(JMultiCacheBenchmarkFixture.USER_L2, () -> BenchUser.of(Long.parseLong(id)), id);
+    }
+
+    @Benchmark
+    public Object miss(MissState state) {
+        long id = state.sequence.incrementAndGet();
+        return state.jMultiCache.fetchData(JMultiCacheBenchmarkFixture.USER, () -> BenchUser.of(id), String.valueOf(id));
+    }
+
+    /**
+     * 未命中路径使用独立的缓存实例，每轮迭代前清空，避免 key 无限增长。
+     * <p>
+     * The miss path uses its own cache instance, cleared before each iteration so keys do not grow without bound.
+     */
+    @State(Scope.Benchmark)
+    public static class MissState {
+
+        private final AtomicLong sequence = new AtomicLong();
+        private JMultiCacheBenchmarkFixture fixture;
+        private JMultiCache jMultiCache;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixture = new JMultiCacheBenchmarkFixture();
+            jMultiCache = fixture.getJMultiCache();
+        }
+
+        @Setup(Level.Iteration)
+        public void resetIteration() {
+            fixture.reset();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            fixture.close();
+        }
+    }
+}
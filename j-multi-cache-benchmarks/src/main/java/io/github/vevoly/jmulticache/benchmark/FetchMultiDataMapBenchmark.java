@@ -0,0 +1,63 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.benchmark.support.JMultiCacheBenchmarkFixture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@code fetchMultiDataMap} 在预热后的批量读取开销，按 id 数量和缓存层级 (L1_L2_DB 主要走 L1，L2_DB 全部走 L2 批量读取) 组合。
+ * <p>
+ * The cost of a warmed-up {@code fetchMultiDataMap}, by number of ids and tier (L1_L2_DB is mostly served by L1, L2_DB entirely by batched L2 reads).
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FetchMultiDataMapBenchmark {
+
+    private static final Function<Collection<Long>, List<BenchUser>> QUERY =
+            ids -> ids.stream().map(BenchUser::of).collect(Collectors.toList());
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    @Param({JMultiCacheBenchmarkFixture.USER, JMultiCacheBenchmarkFixture.USER_L2})
+    private String cacheName;
+
+    private JMultiCacheBenchmarkFixture fixture;
+    private JMultiCache jMultiCache;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new JMultiCacheBenchmarkFixture();
+        jMultiCache = fixture.getJMultiCache();
+        ids = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            ids.add(i);
+        }
+        jMultiCache.fetchMultiDataMap(cacheName, ids, "id", QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Object fetchMultiDataMap() {
+        return jMultiCache.fetchMultiDataMap(cacheName, ids, "id", QUERY);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.benchmark.support.JMultiCacheBenchmarkFixture;
+import io.github.vevoly.jmulticache.core.wrap.JMultiCacheResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JMultiCacheResult} 构造 (分组视图与打平视图) 的开销，分别对应 STRING 和 LIST 两种值形态。
+ * <p>
+ * The cost of constructing a {@link JMultiCacheResult} (grouped and flattened views), for the STRING and LIST value shapes.
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JMultiCacheResultBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    @Param({JMultiCacheBenchmarkFixture.USER, JMultiCacheBenchmarkFixture.USER_LIST})
+    private String cacheName;
+
+    private JMultiCacheBenchmarkFixture fixture;
+    private ResolvedJMultiCacheConfig config;
+    private Map<Long, Object> resultMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new JMultiCacheBenchmarkFixture();
+        config = fixture.config(cacheName);
+        boolean list = JMultiCacheBenchmarkFixture.USER_LIST.equals(cacheName);
+        resultMap = new HashMap<>();
+        for (long i = 0; i < size; i++) {
+            resultMap.put(i, list ? List.of(BenchUser.of(i), BenchUser.of(i + size)) : BenchUser.of(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public JMultiCacheResult<Long, BenchUser> construct() {
+        return new JMultiCacheResult<>(resultMap, config);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.core.utils.JMultiCacheInternalHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * key 构建的开销：按配置的 key-field 拼接参数 ({@code getKeyValue})，以及从实体上提取 key ({@code getKeyValueSafe})。
+ * <p>
+ * The cost of building keys: joining parameters by the configured key-field ({@code getKeyValue}) and extracting a key from an entity ({@code getKeyValueSafe}).
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyBuildingBenchmark {
+
+    @Benchmark
+    public String getKeyValue(KeyFieldState state) {
+        return JMultiCacheInternalHelper.getKeyValue(state.keyField, state.keyValues);
+    }
+
+    @Benchmark
+    public String getKeyValueSafe(KeyExprState state) {
+        return JMultiCacheInternalHelper.getKeyValueSafe(state.user, state.keyExpr);
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeyFieldState {
+
+        @Param({"id", "#id", "#tenantId + ':' + #id"})
+        private String keyField;
+
+        private String[] keyValues;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            keyValues = keyField.contains("#tenantId") ? new String[]{"t1", "42"} : new String[]{"42"};
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeyExprState {
+
+        @Param({"id", "#id", "tenantId + ':' + id", "#tenantId + ':' + #id"})
+        private String keyExpr;
+
+        private final BenchUser user = BenchUser.of(42);
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.vevoly.jmulticache.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.benchmark.support.BenchPage;
+import io.github.vevoly.jmulticache.benchmark.support.BenchUser;
+import io.github.vevoly.jmulticache.benchmark.support.JMultiCacheBenchmarkFixture;
+import io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient;
+import io.github.vevoly.jmulticache.core.strategy.impl.*;
+import io.github.vevoly.jmulticache.core.utils.JavaTypeReference;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每个 {@code RedisStorageStrategy} 的单 key 写入与读取开销。
+ * <p>
+ * 读取基准在初始化时预先写入数据；写入基准反复覆盖同一个 key。集合类数据统一使用 {@value #ELEMENTS} 个元素。
+ * 参数 {@code codec} 用于比较各编解码器；SET / ZSET 的成员是文本，不受其影响。
+ * <p>
+ * The single-key write and read cost of every {@code RedisStorageStrategy}.
+ * Read benchmarks work on data written during setup; write benchmarks overwrite the same key repeatedly. Collections hold {@value #ELEMENTS} elements.
+ * The {@code codec} parameter compares the codecs; SET / ZSET members are text and are not affected by it.
+ *
+ * @author vevoly
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageStrategyBenchmark {
+
+    private static final int ELEMENTS = 20;
+
+    @Param({"json", "smile", "cbor", "kryo"})
+    private String codec;
+
+    private JMultiCacheBenchmarkFixture fixture;
+    private InMemoryRedisClient redisClient;
+
+    private StringStorageStrategy<BenchUser> stringStrategy;
+    private ListStorageStrategy listStrategy;
+    private SetStorageStrategy setStrategy;
+    private ZSetStorageStrategy zsetStrategy;
+    private HashStorageStrategy hashStrategy;
+    private PageStorageStrategy pageStrategy;
+
+    private ResolvedJMultiCacheConfig stringConfig;
+    private ResolvedJMultiCacheConfig listConfig;
+    private ResolvedJMultiCacheConfig setConfig;
+    private ResolvedJMultiCacheConfig zsetConfig;
+    private ResolvedJMultiCacheConfig hashConfig;
+    private ResolvedJMultiCacheConfig pageConfig;
+
+    private TypeReference<Object> pageType;
+
+    private BenchUser user;
+    private List<BenchUser> users;
+    private Set<String> memberIds;
+    private Map<String, BenchUser> userHash;
+    private BenchPage page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new JMultiCacheBenchmarkFixture(codec);
+        redisClient = fixture.getRedisClient();
+        ObjectMapper objectMapper = fixture.getObjectMapper();
+
+        stringStrategy = new StringStorageStrategy<>();
+        listStrategy = new ListStorageStrategy(objectMapper);
+        setStrategy = new SetStorageStrategy(objectMapper);
+        zsetStrategy = new ZSetStorageStrategy();
+        hashStrategy = new HashStorageStrategy(objectMapper);
+        pageStrategy = new PageStorageStrategy();
+
+        stringConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_L2);
+        listConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_LIST);
+        setConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_SET);
+        zsetConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_ZSET);
+        hashConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_HASH);
+        pageConfig = fixture.config(JMultiCacheBenchmarkFixture.USER_PAGE);
+        pageType = JavaTypeReference.of(objectMapper.constructType(BenchPage.class));
+
+        user = BenchUser.of(1);
+        users = new ArrayList<>(ELEMENTS);
+        memberIds = new HashSet<>();
+        userHash = new HashMap<>();
+        for (long i = 0; i < ELEMENTS; i++) {
+            BenchUser element = BenchUser.of(i);
+            users.add(element);
+            memberIds.add(String.valueOf(i));
+            userHash.put(String.valueOf(i), element);
+        }
+        page = new BenchPage(users, 1_000, 1, ELEMENTS);
+
+        stringStrategy.write(redisClient, readKey(stringConfig), user, stringConfig);
+        listStrategy.write(redisClient, readKey(listConfig), users, listConfig);
+        setStrategy.write(redisClient, readKey(setConfig), memberIds, setConfig);
+        zsetStrategy.write(redisClient, readKey(zsetConfig), users, zsetConfig);
+        hashStrategy.write(redisClient, readKey(hashConfig), userHash, hashConfig);
+        pageStrategy.write(redisClient, readKey(pageConfig), page, pageConfig);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    // ===================================================================
+    // ============================ STRING ===============================
+    // ===================================================================
+
+    @Benchmark
+    public void stringWrite() {
+        stringStrategy.write(redisClient, writeKey(stringConfig), user, stringConfig);
+    }
+
+    @Benchmark
+    public Object stringRead() {
+        return stringStrategy.read(redisClient, readKey(stringConfig), typeOf(stringConfig), stringConfig);
+    }
+
+    // ===================================================================
+    // ============================= LIST ================================
+    // ===================================================================
+
+    @Benchmark
+    public void listWrite() {
+        listStrategy.write(redisClient, writeKey(listConfig), users, listConfig);
+    }
+
+    @Benchmark
+    public Object listRead() {
+        return listStrategy.read(redisClient, readKey(listConfig), typeOf(listConfig), listConfig);
+    }
+
+    // ===================================================================
+    // ============================== SET ================================
+    // ===================================================================
+
+    @Benchmark
+    public void setWrite() {
+        setStrategy.write(redisClient, writeKey(setConfig), memberIds, setConfig);
+    }
+
+    @Benchmark
+    public Object setRead() {
+        return setStrategy.read(redisClient, readKey(setConfig), typeOf(setConfig), setConfig);
+    }
+
+    // ===================================================================
+    // ============================= ZSET ================================
+    // ===================================================================
+
+    @Benchmark
+    public void zsetWrite() {
+        zsetStrategy.write(redisClient, writeKey(zsetConfig), users, zsetConfig);
+    }
+
+    @Benchmark
+    public Object zsetRead() {
+        return zsetStrategy.read(redisClient, readKey(zsetConfig), typeOf(zsetConfig), zsetConfig);
+    }
+
+    // ===================================================================
+    // ============================= HASH ================================
+    // ===================================================================
+
+    @Benchmark
+    public void hashWrite() {
+        hashStrategy.write(redisClient, writeKey(hashConfig), userHash, hashConfig);
+    }
+
+    @Benchmark
+    public Object hashRead() {
+        return hashStrategy.read(redisClient, readKey(hashConfig), typeOf(hashConfig), hashConfig);
+    }
+
+    // ===================================================================
+    // ============================= PAGE ================================
+    // ===================================================================
+
+    @Benchmark
+    public void pageWrite() {
+        pageStrategy.write(redisClient, writeKey(pageConfig), page, pageConfig);
+    }
+
+    @Benchmark
+    public Object pageRead() {
+        return pageStrategy.read(redisClient, readKey(pageConfig), pageType, pageConfig);
+    }
+
+    private static String readKey(ResolvedJMultiCacheConfig config) {
+        return config.getNamespace() + ":read";
+    }
+
+    private static String writeKey(ResolvedJMultiCacheConfig config) {
+        return config.getNamespace() + ":write";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TypeReference<T> typeOf(ResolvedJMultiCacheConfig config) {
+        return (TypeReference<T>) config.getTypeReference();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.vevoly.jmulticache.benchmark.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * PAGE 策略基准测试使用的具体分页结构。
+ * <p>
+ * PAGE 配置解析出的目标类型是 {@code org.springframework.data.domain.Page} 接口，Jackson 无法直接反序列化，
+ * 因此基准测试直接向策略传入这个具体类型，测量的仍是策略本身的序列化路径。
+ * <p>
+ * A concrete page structure for the PAGE strategy benchmark.
+ * A PAGE configuration resolves to the {@code org.springframework.data.domain.Page} interface, which Jackson cannot deserialize directly,
+ * so the benchmark passes this concrete type to the strategy; what is measured is still the strategy's own serialization path.
+ *
+ * @author vevoly
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchPage {
+
+    private List<BenchUser> records;
+    private long total;
+    private int page;
+    private int size;
+}
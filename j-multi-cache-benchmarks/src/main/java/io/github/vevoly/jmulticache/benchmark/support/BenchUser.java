@@ -0,0 +1,57 @@
+package io.github.vevoly.jmulticache.benchmark.support;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheScorable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 基准测试使用的实体，同时满足 ZSet 存储的 {@link JMultiCacheScorable} 契约。
+ * <p>
+ * The entity used by the benchmarks; it also fulfils the {@link JMultiCacheScorable} contract of ZSet storage.
+ *
+ * @author vevoly
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchUser implements JMultiCacheScorable {
+
+    private Long id;
+    private String tenantId;
+    private String name;
+    private String email;
+    private Double score;
+
+    /**
+     * 生成一个字段都有值的实体，大小接近常见的业务 DTO。/ Creates an entity with every field set, about the size of a typical business DTO.
+     */
+    public static BenchUser of(long id) {
+        return new BenchUser(id, "t" + (id % 8), "user-" + id, "user-" + id + "@example.com", (double) id);
+    }
+
+    @Override
+    @JsonIgnore
+    public String getCacheId() {
+        return String.valueOf(id);
+    }
+
+    @Override
+    @JsonIgnore
+    public Double getCacheScore() {
+        return score;
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCacheId(String id) {
+        this.id = Long.valueOf(id);
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCacheScore(Double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.vevoly.jmulticache.benchmark.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.api.constants.DefaultStoragePolicies;
+import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
+import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
+import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
+import io.github.vevoly.jmulticache.core.codec.JacksonCborCodec;
+import io.github.vevoly.jmulticache.core.codec.JacksonSmileCodec;
+import io.github.vevoly.jmulticache.core.codec.KryoCodec;
+import io.github.vevoly.jmulticache.core.compress.Lz4Compressor;
+import io.github.vevoly.jmulticache.core.compress.ZstdCompressor;
+import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
+import io.github.vevoly.jmulticache.core.internal.JMultiCacheManagerConfiguration;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheProperties;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
+import io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient;
+import io.github.vevoly.jmulticache.core.strategy.impl.*;
+import io.github.vevoly.jmulticache.starter.autoconfigure.JMultiCacheCaffeineConfiguration;
+import lombok.Getter;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 在没有 Spring 容器的情况下，按 starter 的装配方式手动组装一个完整的 JMultiCache。
+ * <p>
+ * L2 使用 {@link InMemoryRedisClient}，因此结果只反映框架自身的开销 (key 构建、序列化、策略、锁、L1 回填)，不含网络往返。
+ * 预置的缓存配置如下，命名空间均以 {@code bench:} 开头：
+ * <ul>
+ *     <li>{@link #USER}：STRING，L1_L2_DB。</li>
+ *     <li>{@link #USER_L2}：STRING，L2_DB，用于测量 L2 命中。</li>
+ *     <li>{@link #USER_LIST} / {@link #USER_SET} / {@link #USER_ZSET} / {@link #USER_HASH} / {@link #USER_PAGE}：各存储策略，L2_DB。</li>
+ * </ul>
+ * 所有配置使用同一个编解码器和压缩算法，由构造参数指定。
+ * <p>
+ * Assembles a complete JMultiCache by hand, the same way the starter wires it, without a Spring container.
+ * L2 is an {@link InMemoryRedisClient}, so results reflect only the framework's own overhead (key building, serialization, strategies, locks, L1 population)
+ * and no network round trips. The preset cache configurations, all with namespaces starting with {@code bench:}, are:
+ * <ul>
+ *     <li>{@link #USER}: STRING, L1_L2_DB.</li>
+ *     <li>{@link #USER_L2}: STRING, L2_DB, for measuring L2 hits.</li>
+ *     <li>{@link #USER_LIST} / {@link #USER_SET} / {@link #USER_ZSET} / {@link #USER_HASH} / {@link #USER_PAGE}: one per storage strategy, L2_DB.</li>
+ * </ul>
+ * Every configuration uses the same codec and compression, chosen through the constructor.
+ *
+ * @author vevoly
+ */
+@Getter
+public class JMultiCacheBenchmarkFixture implements AutoCloseable {
+
+    public static final String USER = "benchUser";
+    public static final String USER_L2 = "benchUserL2";
+    public static final String USER_LIST = "benchUserList";
+    public static final String USER_SET = "benchUserSet";
+    public static final String USER_ZSET = "benchUserZSet";
+    public static final String USER_HASH = "benchUserHash";
+    public static final String USER_PAGE = "benchUserPage";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 基准数据不会过期，关闭后台清理以免干扰测量 / Benchmark data never expires; the background sweep is off so it does not disturb measurements
+    private final InMemoryRedisClient redisClient = new InMemoryRedisClient(objectMapper, null);
+    private final JMultiCacheRootProperties rootProperties = new JMultiCacheRootProperties();
+    private final JMultiCacheConfigResolver configResolver;
+    private final CacheManager cacheManager;
+    private final List<RedisStorageStrategy<?>> strategies;
+    private final ExecutorService executor;
+    private final JMultiCache jMultiCache;
+
+    public JMultiCacheBenchmarkFixture() {
+        this(JMultiCacheConstants.DEFAULT_CODEC);
+    }
+
+    /**
+     * @param codec 所有配置使用的编解码器名称: json / smile / cbor / kryo / the codec name of every configuration: json / smile / cbor / kryo
+     */
+    public JMultiCacheBenchmarkFixture(String codec) {
+        this(codec, JMultiCacheConstants.COMPRESSION_NONE);
+    }
+
+    /**
+     * @param codec       所有配置使用的编解码器名称 / the codec name of every configuration
+     * @param compression 所有配置使用的压缩算法: none / deflate / lz4 / zstd / the compression of every configuration: none / deflate / lz4 / zstd
+     */
+    public JMultiCacheBenchmarkFixture(String codec, String compression) {
+        rootProperties.getDefaults().setCodec(codec);
+        rootProperties.getDefaults().setCompression(compression);
+        String entity = BenchUser.class.getName();
+        addConfig(USER, "bench:user", entity, DefaultStorageTypes.STRING, DefaultStoragePolicies.L1_L2_DB);
+        addConfig(USER_L2, "bench:user-l2", entity, DefaultStorageTypes.STRING, DefaultStoragePolicies.L2_DB);
+        addConfig(USER_LIST, "bench:user-list", entity, DefaultStorageTypes.LIST, DefaultStoragePolicies.L2_DB);
+        addConfig(USER_SET, "bench:user-set", String.class.getName(), DefaultStorageTypes.SET, DefaultStoragePolicies.L2_DB);
+        addConfig(USER_ZSET, "bench:user-zset", entity, DefaultStorageTypes.ZSET, DefaultStoragePolicies.L2_DB);
+        addConfig(USER_HASH, "bench:user-hash", entity, DefaultStorageTypes.HASH, DefaultStoragePolicies.L2_DB);
+        addConfig(USER_PAGE, "bench:user-page", entity, DefaultStorageTypes.PAGE, DefaultStoragePolicies.L2_DB);
+
+        this.configResolver = new JMultiCacheConfigResolver(rootProperties, objectMapper,
+                List.of(new JacksonSmileCodec(objectMapper), new JacksonCborCodec(objectMapper), new KryoCodec()),
+                List.of(new Lz4Compressor(), new ZstdCompressor()));
+        this.configResolver.afterPropertiesSet();
+        this.cacheManager = new JMultiCacheCaffeineConfiguration(rootProperties, configResolver).caffeineCacheManager();
+        this.strategies = List.of(
+                new StringStorageStrategy<>(),
+                new ListStorageStrategy(objectMapper),
+                new SetStorageStrategy(objectMapper),
+                new ZSetStorageStrategy(),
+                new HashStorageStrategy(objectMapper),
+                new PageStorageStrategy()
+        );
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread thread = new Thread(r, "JMultiCache-Bench-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.jMultiCache = new JMultiCacheManagerConfiguration().jMultiCache(
+                redisClient, cacheManager, configResolver, executor, strategies, rootProperties,
+                new DefaultListableBeanFactory().getBeanProvider(JMultiCacheMetricsRecorder.class)
+        );
+    }
+
+    /**
+     * 取已解析的配置。/ Returns a resolved configuration.
+     */
+    public ResolvedJMultiCacheConfig config(String name) {
+        return configResolver.resolve(name);
+    }
+
+    /**
+     * 清空 L2 和所有 L1，用于迭代之间重置状态。/ Clears L2 and every L1, for resetting state between iterations.
+     */
+    public void reset() {
+        redisClient.flushAll();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        redisClient.close();
+    }
+
+    private void addConfig(String name, String namespace, String entityClass, String storageType, String storagePolicy) {
+        JMultiCacheProperties props = new JMultiCacheProperties();
+        props.setNamespace(namespace);
+        props.setEntityClass(entityClass);
+        props.setStorageType(storageType);
+        props.setStoragePolicy(storagePolicy);
+        props.setRedisTtl(Duration.ofHours(1));
+        props.setLocalTtl(DefaultStoragePolicies.L1_L2_DB.equals(storagePolicy) ? Duration.ofMinutes(10) : null);
+        props.setLocalMaxSize(100_000L);
+        rootProperties.getConfigs().put(name, props);
+    }
+}
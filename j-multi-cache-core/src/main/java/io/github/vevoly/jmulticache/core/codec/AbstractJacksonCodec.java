@@ -0,0 +1,73 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * 基于 Jackson {@link ObjectMapper} 的编解码器基类。
+ * <p>
+ * JSON、Smile、CBOR 只是底层 {@code JsonFactory} 不同，共用同一套数据绑定规则，因此同一实体在三种格式之间的表现一致。
+ * <p>
+ * Base class of codecs backed by a Jackson {@link ObjectMapper}.
+ * JSON, Smile and CBOR differ only in the underlying {@code JsonFactory} and share the same data-binding rules,
+ * so an entity behaves the same in all three formats.
+ *
+ * @author vevoly
+ */
+public abstract class AbstractJacksonCodec implements JMultiCacheCodec {
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+
+    protected AbstractJacksonCodec(String name, ObjectMapper objectMapper) {
+        this.name = name;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("[" + name + "] Value cannot be encoded: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Type type) {
+        try {
+            return objectMapper.readValue(data, objectMapper.constructType(type));
+        } catch (IOException e) {
+            throw new IllegalStateException("[" + name + "] Data cannot be decoded as " + type.getTypeName(), e);
+        }
+    }
+
+    /**
+     * 预先解析类型并取得根反序列化器，之后每次解码不再查找。
+     * <p>
+     * Resolves the type and fetches its root deserializer once, so later decodes skip the lookup.
+     */
+    @Override
+    public <T> Function<byte[], T> decoderFor(Type type) {
+        JavaType javaType = objectMapper.constructType(type);
+        ObjectReader reader = objectMapper.readerFor(javaType);
+        return data -> {
+            try {
+                return reader.readValue(data);
+            } catch (IOException e) {
+                throw new IllegalStateException("[" + name + "] Data cannot be decoded as " + javaType, e);
+            }
+        };
+    }
+}
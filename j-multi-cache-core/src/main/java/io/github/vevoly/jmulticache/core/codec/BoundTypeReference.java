@@ -0,0 +1,93 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * 绑定了编解码器的 {@link TypeReference}，由配置解析器为每个缓存配置构建一次。
+ * <p>
+ * 除了类型本身，它还持有该类型 (以及 List、Set、Map 的元素类型) 在所属编解码器上的解码函数，存储策略经 {@link JMultiCacheCodecs} 解码时直接使用，
+ * 不必每次重新解析类型。编解码器与配置不一致时 (例如手工构建的配置) 会被忽略，按普通的 {@link TypeReference} 处理。
+ * <p>
+ * A {@link TypeReference} bound to a codec, built once per cache configuration by the configuration resolver.
+ * Besides the type itself it holds the codec's decoding functions for that type (and for the element type of a List, Set or Map);
+ * storage strategies decoding through {@link JMultiCacheCodecs} use them directly instead of resolving the type on every call.
+ * When the codec does not match the configuration (e.g. a configuration built by hand) the binding is ignored and it behaves as a plain {@link TypeReference}.
+ *
+ * @param <T> 引用的类型 / the referenced type
+ * @author vevoly
+ */
+public final class BoundTypeReference<T> extends TypeReference<T> {
+
+    private final JavaType type;
+    private final JavaType contentType;
+    private final JMultiCacheCodec codec;
+    private final Function<byte[], T> decoder;
+    private final Function<byte[], Object> contentDecoder;
+
+    private BoundTypeReference(JavaType type, JMultiCacheCodec codec) {
+        this.type = type;
+        this.contentType = type.getContentType();
+        this.codec = codec;
+        this.decoder = codec.decoderFor(type);
+        this.contentDecoder = contentType != null ? codec.decoderFor(contentType) : null;
+    }
+
+    /**
+     * 把类型绑定到编解码器。
+     * <p>
+     * Binds a type to a codec.
+     *
+     * @param type  完整的值类型 / the full value type
+     * @param codec 配置使用的编解码器 / the codec of the configuration
+     * @param <T>   引用的类型 / the referenced type
+     * @return 绑定后的类型引用 / the bound type reference
+     */
+    public static <T> BoundTypeReference<T> of(JavaType type, JMultiCacheCodec codec) {
+        return new BoundTypeReference<>(type, codec);
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 完整的值类型。/ The full value type.
+     */
+    public JavaType getJavaType() {
+        return type;
+    }
+
+    /**
+     * 元素类型 (List、Set 的元素，Map 的值)；不是容器类型时为 {@code null}。
+     * <p>
+     * The element type (the element of a List or Set, the value of a Map); {@code null} for non-container types.
+     */
+    public JavaType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 是否绑定到了给定的编解码器。/ Whether it is bound to the given codec.
+     */
+    boolean isBoundTo(JMultiCacheCodec codec) {
+        return this.codec == codec;
+    }
+
+    T decode(byte[] data) {
+        return decoder.apply(data);
+    }
+
+    Object decodeContent(byte[] data) {
+        return contentDecoder.apply(data);
+    }
+
+    boolean hasContentDecoder() {
+        return contentDecoder != null;
+    }
+}
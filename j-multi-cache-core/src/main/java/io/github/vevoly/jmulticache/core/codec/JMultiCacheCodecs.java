@@ -0,0 +1,206 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
+import io.github.vevoly.jmulticache.core.compress.DeflateCompressor;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 存储策略使用的编解码工具方法。
+ * <p>
+ * 统一处理三件事：按配置选择编解码器；空值标记的特殊处理；以及超过阈值时的压缩。
+ * 空值标记始终以 UTF-8 文本写入，读取时先与标记逐字节比较，命中则直接返回标记字符串，不交给编解码器。
+ * 压缩后的数据以 {@code 00 'J' 'M' 'Z'} 开头，随后是 1 字节算法标识和 4 字节原始长度；JSON 文本、Smile、CBOR、Kryo 的编码结果都不会以 0x00 加后续字节开头，
+ * 因此读取时无需配置即可识别。
+ * <p>
+ * Codec helpers used by the storage strategies.
+ * They handle three things in one place: picking the codec of a configuration, the special treatment of the empty-value marker, and compression above the threshold.
+ * The marker is always written as UTF-8 text; on read the bytes are compared with it first, and on a match the marker string is returned without involving the codec.
+ * Compressed data starts with {@code 00 'J' 'M' 'Z'}, followed by a 1-byte algorithm id and the 4-byte original length. No JSON text, Smile, CBOR or Kryo
+ * encoding starts with 0x00 followed by more bytes, so readers recognize it without any configuration.
+ *
+ * @author vevoly
+ */
+public final class JMultiCacheCodecs {
+
+    /**
+     * 配置未携带编解码器时使用 (例如手工构建的配置)。/ Used when a configuration carries no codec, e.g. one built by hand.
+     */
+    private static final JMultiCacheCodec FALLBACK = new JacksonJsonCodec(new ObjectMapper());
+
+    private static final byte[] COMPRESSED_MAGIC = {0x00, 'J', 'M', 'Z'};
+    private static final int COMPRESSED_HEADER_LENGTH = COMPRESSED_MAGIC.length + 1 + Integer.BYTES;
+
+    /**
+     * 关闭压缩后仍能读取之前用 Deflate 写入的数据。/ Keeps Deflate data readable after compression is turned off.
+     */
+    private static final JMultiCacheCompressor DEFLATE = new DeflateCompressor();
+
+    private JMultiCacheCodecs() {
+    }
+
+    /**
+     * 返回配置的编解码器。/ Returns the codec of a configuration.
+     *
+     * @param config 缓存配置 / the cache configuration
+     * @return 配置的编解码器，未设置时为 JSON / the configured codec, JSON when unset
+     */
+    public static JMultiCacheCodec codecOf(ResolvedJMultiCacheConfig config) {
+        JMultiCacheCodec codec = config == null ? null : config.getCodec();
+        return codec != null ? codec : FALLBACK;
+    }
+
+    /**
+     * 编码一个值；空值标记按原始文本写入，超过阈值的结果按配置压缩。
+     * <p>
+     * Encodes a value; the empty-value marker is written as plain text, and results above the threshold are compressed as configured.
+     *
+     * @param config 缓存配置 / the cache configuration
+     * @param value  非空的值 / the non-null value
+     * @return 编码后的字节 / the encoded bytes
+     */
+    public static byte[] encode(ResolvedJMultiCacheConfig config, Object value) {
+        if (value instanceof String && JMultiCacheHelper.isSpecialEmptyData(value, config)) {
+            return emptyMarkBytes(config);
+        }
+        return compress(config, codecOf(config).encode(value));
+    }
+
+    /**
+     * 解码一个值；命中空值标记时返回标记字符串，压缩过的数据先解压。
+     * <p>
+     * Decodes a value; returns the marker string when the bytes are the empty-value marker, and decompresses compressed data first.
+     *
+     * @param config 缓存配置 / the cache configuration
+     * @param data   编码后的字节 / the encoded bytes
+     * @param type   目标类型 / the target type
+     * @param <T>    目标类型 / the target type
+     * @return 解码后的值或空值标记 / the decoded value or the empty-value marker
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(ResolvedJMultiCacheConfig config, byte[] data, Type type) {
+        if (isEmptyMark(config, data)) {
+            return (T) JMultiCacheHelper.getEmptyValueMark(config);
+        }
+        return codecOf(config).decode(decompress(config, data), type);
+    }
+
+    /**
+     * 按类型引用解码；引用是绑定到本配置编解码器的 {@link BoundTypeReference} 时使用其预先绑定的解码函数。
+     * <p>
+     * Decodes by a type reference; when it is a {@link BoundTypeReference} bound to this configuration's codec, its pre-bound decoding function is used.
+     *
+     * @param config  缓存配置 / the cache configuration
+     * @param data    编码后的字节 / the encoded bytes
+     * @param typeRef 目标类型引用 / the target type reference
+     * @param <T>     目标类型 / the target type
+     * @return 解码后的值或空值标记 / the decoded value or the empty-value marker
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(ResolvedJMultiCacheConfig config, byte[] data, TypeReference<?> typeRef) {
+        BoundTypeReference<?> bound = boundTo(config, typeRef);
+        if (bound == null) {
+            return decode(config, data, typeRef.getType());
+        }
+        if (isEmptyMark(config, data)) {
+            return (T) JMultiCacheHelper.getEmptyValueMark(config);
+        }
+        return (T) bound.decode(decompress(config, data));
+    }
+
+    /**
+     * 解码容器类型中的单个元素 (List、Set 的元素，Map 的值)；可用时使用类型引用上预先绑定的元素解码函数。
+     * <p>
+     * Decodes a single element of a container type (a List or Set element, a Map value), using the element decoder pre-bound on the type reference when available.
+     *
+     * @param config      缓存配置 / the cache configuration
+     * @param data        编码后的字节 / the encoded bytes
+     * @param typeRef     容器的类型引用 / the type reference of the container
+     * @param elementType 元素类型，未绑定时使用 / the element type, used when nothing is bound
+     * @param <T>         元素类型 / the element type
+     * @return 解码后的元素或空值标记 / the decoded element or the empty-value marker
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decodeElement(ResolvedJMultiCacheConfig config, byte[] data, TypeReference<?> typeRef, Type elementType) {
+        BoundTypeReference<?> bound = boundTo(config, typeRef);
+        if (bound == null || !bound.hasContentDecoder()) {
+            return decode(config, data, elementType);
+        }
+        if (isEmptyMark(config, data)) {
+            return (T) JMultiCacheHelper.getEmptyValueMark(config);
+        }
+        return (T) bound.decodeContent(decompress(config, data));
+    }
+
+    /**
+     * 判断字节是否是空值标记。/ Checks whether the bytes are the empty-value marker.
+     */
+    public static boolean isEmptyMark(ResolvedJMultiCacheConfig config, byte[] data) {
+        return data != null && Arrays.equals(data, emptyMarkBytes(config));
+    }
+
+    /**
+     * 空值标记的 UTF-8 字节。/ The UTF-8 bytes of the empty-value marker.
+     */
+    public static byte[] emptyMarkBytes(ResolvedJMultiCacheConfig config) {
+        return JMultiCacheHelper.getEmptyValueMark(config).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static BoundTypeReference<?> boundTo(ResolvedJMultiCacheConfig config, TypeReference<?> typeRef) {
+        return typeRef instanceof BoundTypeReference<?> bound && bound.isBoundTo(codecOf(config)) ? bound : null;
+    }
+
+    /**
+     * 超过阈值且确实变小时才压缩。/ Compresses only above the threshold, and only when the result is actually smaller.
+     */
+    private static byte[] compress(ResolvedJMultiCacheConfig config, byte[] data) {
+        JMultiCacheCompressor compressor = config == null ? null : config.getCompressor();
+        if (compressor == null || data.length <= config.getCompressionThreshold()) {
+            return data;
+        }
+        byte[] compressed = compressor.compress(data);
+        if (compressed.length + COMPRESSED_HEADER_LENGTH >= data.length) {
+            return data;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(COMPRESSED_HEADER_LENGTH + compressed.length);
+        buffer.put(COMPRESSED_MAGIC).put(compressor.getId()).putInt(data.length).put(compressed);
+        return buffer.array();
+    }
+
+    private static byte[] decompress(ResolvedJMultiCacheConfig config, byte[] data) {
+        if (!isCompressed(data)) {
+            return data;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, COMPRESSED_MAGIC.length, data.length - COMPRESSED_MAGIC.length);
+        byte id = buffer.get();
+        int originalLength = buffer.getInt();
+        JMultiCacheCompressor compressor = config == null ? null : config.getCompressor();
+        if (compressor == null || compressor.getId() != id) {
+            if (id != DeflateCompressor.ID) {
+                throw new IllegalStateException("Value was compressed with algorithm id " + id + ", which is not the configured compression");
+            }
+            compressor = DEFLATE;
+        }
+        return compressor.decompress(Arrays.copyOfRange(data, COMPRESSED_HEADER_LENGTH, data.length), originalLength);
+    }
+
+    private static boolean isCompressed(byte[] data) {
+        if (data.length <= COMPRESSED_HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < COMPRESSED_MAGIC.length; i++) {
+            if (data[i] != COMPRESSED_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * CBOR (RFC 8949) 编解码器。
+ * <p>
+ * 与 Smile 一样是 JSON 数据模型的二进制表示，但属于标准格式，非 Java 服务也能直接读取缓存。
+ * 需要引入 {@code jackson-dataformat-cbor}。
+ * <p>
+ * The CBOR (RFC 8949) codec.
+ * Like Smile it is a binary form of the JSON data model, but it is a standard format, so non-Java services can read the cache as well.
+ * Requires {@code jackson-dataformat-cbor}.
+ *
+ * @author vevoly
+ */
+public class JacksonCborCodec extends AbstractJacksonCodec {
+
+    public static final String NAME = "cbor";
+
+    /**
+     * @param objectMapper 复制其模块与特性配置，仅替换底层格式 / its modules and features are copied, only the underlying format is replaced
+     */
+    public JacksonCborCodec(ObjectMapper objectMapper) {
+        super(NAME, objectMapper.copyWith(new CBORFactory()));
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
+
+/**
+ * JSON 编解码器，框架默认使用。
+ * <p>
+ * 写入的是 UTF-8 JSON 文本，与之前各存储策略直接写入的 JSON 字符串完全兼容，升级后旧数据仍然可读。
+ * <p>
+ * The JSON codec, used by default.
+ * It writes UTF-8 JSON text, fully compatible with the JSON strings the storage strategies wrote before, so existing data stays readable after upgrading.
+ *
+ * @author vevoly
+ */
+public class JacksonJsonCodec extends AbstractJacksonCodec {
+
+    public static final String NAME = JMultiCacheConstants.DEFAULT_CODEC;
+
+    public JacksonJsonCodec(ObjectMapper objectMapper) {
+        super(NAME, objectMapper);
+    }
+}
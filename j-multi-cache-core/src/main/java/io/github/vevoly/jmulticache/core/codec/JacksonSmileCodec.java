@@ -0,0 +1,28 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Smile (二进制 JSON) 编解码器。
+ * <p>
+ * 数据模型与 JSON 相同，但字段名和重复字符串会被反向引用，数字以二进制存储，对字段多、列表长的实体通常能明显减小体积并加快解析。
+ * 需要引入 {@code jackson-dataformat-smile}。
+ * <p>
+ * The Smile (binary JSON) codec.
+ * Same data model as JSON, but field names and repeated strings are back-referenced and numbers are stored in binary,
+ * which usually shrinks and speeds up entities with many fields or long lists. Requires {@code jackson-dataformat-smile}.
+ *
+ * @author vevoly
+ */
+public class JacksonSmileCodec extends AbstractJacksonCodec {
+
+    public static final String NAME = "smile";
+
+    /**
+     * @param objectMapper 复制其模块与特性配置，仅替换底层格式 / its modules and features are copied, only the underlying format is replaced
+     */
+    public JacksonSmileCodec(ObjectMapper objectMapper) {
+        super(NAME, objectMapper.copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.vevoly.jmulticache.core.codec;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.lang.reflect.Type;
+
+/**
+ * Kryo 编解码器。
+ * <p>
+ * 按字段二进制序列化，体积和 CPU 开销通常是几种编解码器中最小的。类名随数据一起写入，解码时忽略目标类型。
+ * 使用前请注意：
+ * <ul>
+ *     <li>未开启类注册，Redis 中的数据可以让应用实例化任意 classpath 上的类，只能用于可信的 Redis。</li>
+ *     <li>数据与类结构绑定，实体增删字段后旧缓存无法读取，发布时需要更换 namespace 或清空缓存。</li>
+ *     <li>JDK 内部类 (如 {@code List.of(...)} 的结果) 在 Java 17 上需要 {@code --add-opens} 才能序列化，实体中请使用 ArrayList 等普通集合。</li>
+ * </ul>
+ * 需要引入 {@code com.esotericsoftware:kryo} 5.x。
+ * <p>
+ * The Kryo codec.
+ * It serializes fields in binary and is usually the smallest and cheapest of the codecs. Class names travel with the data, so the target type is ignored on decode.
+ * Before using it, note that:
+ * <ul>
+ *     <li>Class registration is off, so data in Redis can make the application instantiate any class on the classpath. Only use it with a trusted Redis.</li>
+ *     <li>Data is bound to the class layout. Once an entity gains or loses fields, old entries cannot be read, so change the namespace or flush the cache on release.</li>
+ *     <li>JDK internal classes (such as the result of {@code List.of(...)}) need {@code --add-opens} on Java 17; use plain collections like ArrayList in entities.</li>
+ * </ul>
+ * Requires {@code com.esotericsoftware:kryo} 5.x.
+ *
+ * @author vevoly
+ */
+public class KryoCodec implements JMultiCacheCodec {
+
+    public static final String NAME = "kryo";
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    // Kryo 实例不是线程安全的，按需创建并复用 / Kryo instances are not thread-safe; they are created on demand and reused
+    private final Pool<Kryo> kryoPool = new Pool<>(true, false, Runtime.getRuntime().availableProcessors() * 2) {
+        @Override
+        protected Kryo create() {
+            Kryo kryo = new Kryo();
+            kryo.setRegistrationRequired(false);
+            kryo.setReferences(true);
+            kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+            return kryo;
+        }
+    };
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        Kryo kryo = kryoPool.obtain();
+        try (Output output = new Output(INITIAL_BUFFER_SIZE, -1)) {
+            kryo.writeClassAndObject(output, value);
+            kryoPool.free(kryo);
+            return output.toBytes();
+        } catch (KryoException e) {
+            // 出错的实例内部状态不可信，直接丢弃 / A failed instance has unreliable internal state and is dropped
+            throw new IllegalArgumentException("[kryo] Value cannot be encoded: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(byte[] data, Type type) {
+        Kryo kryo = kryoPool.obtain();
+        try (Input input = new Input(data)) {
+            T value = (T) kryo.readClassAndObject(input);
+            kryoPool.free(kryo);
+            return value;
+        } catch (KryoException e) {
+            throw new IllegalStateException("[kryo] Data cannot be decoded as " + type.getTypeName(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.vevoly.jmulticache.core.compress;
+
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 基于 JDK {@link Deflater} 的压缩算法，无需额外依赖。
+ * <p>
+ * 默认使用 {@link Deflater#BEST_SPEED}：对 JSON 这类重复度高的文本，最快的级别已经能拿到大部分压缩收益，而写入路径上的 CPU 更宝贵。
+ * <p>
+ * Compression based on the JDK {@link Deflater}, with no extra dependency.
+ * It uses {@link Deflater#BEST_SPEED} by default: on repetitive text such as JSON the fastest level already captures most of the gain,
+ * and CPU on the write path is the scarcer resource.
+ *
+ * @author vevoly
+ */
+public class DeflateCompressor implements JMultiCacheCompressor {
+
+    public static final String NAME = "deflate";
+    public static final byte ID = 1;
+
+    private final int level;
+
+    public DeflateCompressor() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * @param level 压缩级别 0-9 / the compression level, 0-9
+     */
+    public DeflateCompressor(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            // 不可压缩的数据最多膨胀约 0.1%，预留余量后一次写完 / Incompressible data grows by about 0.1% at most, so one pass fits with this margin
+            byte[] buffer = new byte[data.length + (data.length >> 8) + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int originalLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            byte[] result = new byte[originalLength];
+            int length = 0;
+            while (length < originalLength && !inflater.finished()) {
+                int read = inflater.inflate(result, length, originalLength - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != originalLength) {
+                throw new IllegalStateException("[deflate] Expected " + originalLength + " bytes but inflated " + length);
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("[deflate] Corrupted data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.vevoly.jmulticache.core.compress;
+
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * LZ4 压缩算法。
+ * <p>
+ * 压缩率低于 Deflate，但压缩和解压都快一个数量级，适合读多、对延迟敏感的缓存。需要引入 {@code org.lz4:lz4-java}。
+ * <p>
+ * LZ4 compression.
+ * It compresses less than Deflate but is an order of magnitude faster both ways, which suits read-heavy, latency-sensitive caches.
+ * Requires {@code org.lz4:lz4-java}.
+ *
+ * @author vevoly
+ */
+public class Lz4Compressor implements JMultiCacheCompressor {
+
+    public static final String NAME = "lz4";
+    public static final byte ID = 2;
+
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public Lz4Compressor() {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        return compressor.compress(data);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int originalLength) {
+        try {
+            return decompressor.decompress(data, originalLength);
+        } catch (LZ4Exception e) {
+            throw new IllegalStateException("[lz4] Corrupted data", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.vevoly.jmulticache.core.compress;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
+
+/**
+ * Zstandard 压缩算法。
+ * <p>
+ * 压缩率接近甚至优于 Deflate，速度接近 LZ4，适合大而冷的数据。需要引入 {@code com.github.luben:zstd-jni}。
+ * <p>
+ * Zstandard compression.
+ * It compresses about as well as or better than Deflate at close to LZ4 speed, which suits large, cold values.
+ * Requires {@code com.github.luben:zstd-jni}.
+ *
+ * @author vevoly
+ */
+public class ZstdCompressor implements JMultiCacheCompressor {
+
+    public static final String NAME = "zstd";
+    public static final byte ID = 3;
+
+    private static final int DEFAULT_LEVEL = 3;
+
+    private final int level;
+
+    public ZstdCompressor() {
+        this(DEFAULT_LEVEL);
+    }
+
+    /**
+     * @param level 压缩级别，通常为 1-19 / the compression level, usually 1-19
+     */
+    public ZstdCompressor(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        return Zstd.compress(data, level);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int originalLength) {
+        try {
+            return Zstd.decompress(data, originalLength);
+        } catch (ZstdException e) {
+            throw new IllegalStateException("[zstd] Corrupted data", e);
+        }
+    }
+}
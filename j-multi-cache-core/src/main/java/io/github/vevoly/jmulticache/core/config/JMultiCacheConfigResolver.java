@@ -4,12 +4,18 @@ package io.github.vevoly.jmulticache.core.config;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.vevoly.jmulticache.api.JMultiCacheConfigName;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
 import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
 import io.github.vevoly.jmulticache.api.constants.DefaultStoragePolicies;
 import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
+import io.github.vevoly.jmulticache.core.codec.BoundTypeReference;
+import io.github.vevoly.jmulticache.core.codec.JacksonJsonCodec;
+import io.github.vevoly.jmulticache.core.compress.DeflateCompressor;
 import io.github.vevoly.jmulticache.core.properties.JMultiCacheProperties;
 import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
 import io.github.vevoly.jmulticache.core.utils.I18nLogger;
+import io.github.vevoly.jmulticache.core.utils.JMultiCacheInternalHelper;
 import io.github.vevoly.jmulticache.core.utils.JavaTypeReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -17,7 +23,6 @@ import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 多级缓存配置解析器。
@@ -40,16 +45,50 @@ public class JMultiCacheConfigResolver implements InitializingBean {
 
     private final ObjectMapper objectMapper;
     private final JMultiCacheRootProperties rootProperties;
+    private final Map<String, JMultiCacheCodec> codecs;
+    private final Map<String, JMultiCacheCompressor> compressors;
     private Map<String, ResolvedJMultiCacheConfig> resolvedConfigMap;
-    // 按 namespace 长度降序排序的列表，用于高效查找
-    private List<ResolvedJMultiCacheConfig> configsSortedByNamespaceDesc;
+    // namespace -> 配置的索引，用于按 ":" 分段做最长前缀匹配 / namespace -> configuration index, for longest-prefix matching on ":" boundaries
+    private Map<String, ResolvedJMultiCacheConfig> configsByNamespace;
 
     private final I18nLogger i18nLog = new I18nLogger(log);
     public static final String LOG_PREFIX = "[JMultiCacheResolver] ";
 
     public JMultiCacheConfigResolver(JMultiCacheRootProperties rootProperties, ObjectMapper objectMapper) {
+        this(rootProperties, objectMapper, Collections.emptyList());
+    }
+
+    /**
+     * @param rootProperties 缓存配置 / the cache configuration
+     * @param objectMapper   用于解析类型，并作为内置 JSON 编解码器的 ObjectMapper / resolves types and backs the built-in JSON codec
+     * @param codecs         可供配置按名称选择的编解码器，JSON 总是可用 / the codecs configurations may select by name; JSON is always available
+     */
+    public JMultiCacheConfigResolver(JMultiCacheRootProperties rootProperties, ObjectMapper objectMapper, Collection<? extends JMultiCacheCodec> codecs) {
+        this(rootProperties, objectMapper, codecs, Collections.emptyList());
+    }
+
+    /**
+     * @param rootProperties 缓存配置 / the cache configuration
+     * @param objectMapper   用于解析类型，并作为内置 JSON 编解码器的 ObjectMapper / resolves types and backs the built-in JSON codec
+     * @param codecs         可供配置按名称选择的编解码器，JSON 总是可用 / the codecs configurations may select by name; JSON is always available
+     * @param compressors    可供配置按名称选择的压缩算法，Deflate 总是可用 / the compressors configurations may select by name; Deflate is always available
+     */
+    public JMultiCacheConfigResolver(JMultiCacheRootProperties rootProperties, ObjectMapper objectMapper,
+                                     Collection<? extends JMultiCacheCodec> codecs, Collection<? extends JMultiCacheCompressor> compressors) {
         this.rootProperties = rootProperties;
         this.objectMapper = objectMapper;
+        Map<String, JMultiCacheCodec> byName = new HashMap<>();
+        for (JMultiCacheCodec codec : codecs) {
+            byName.put(codec.getName(), codec);
+        }
+        byName.putIfAbsent(JacksonJsonCodec.NAME, new JacksonJsonCodec(objectMapper));
+        this.codecs = Collections.unmodifiableMap(byName);
+        Map<String, JMultiCacheCompressor> compressorsByName = new HashMap<>();
+        for (JMultiCacheCompressor compressor : compressors) {
+            compressorsByName.put(compressor.getName(), compressor);
+        }
+        compressorsByName.putIfAbsent(DeflateCompressor.NAME, new DeflateCompressor());
+        this.compressors = Collections.unmodifiableMap(compressorsByName);
     }
 
     /**
@@ -69,7 +108,7 @@ public class JMultiCacheConfigResolver implements InitializingBean {
         if (configs == null || configs.isEmpty()) {
             log.warn(LOG_PREFIX + "No 'j-multi-cache.configs' block found in YML, no caches will be loaded!");
             this.resolvedConfigMap = Collections.unmodifiableMap(tempMap);
-            this.configsSortedByNamespaceDesc = Collections.emptyList();
+            this.configsByNamespace = Collections.emptyMap();
             return;
         }
 
@@ -147,6 +186,61 @@ public class JMultiCacheConfigResolver implements InitializingBean {
                         .or(() -> Optional.ofNullable(defaults.getBusinessKey()))
                         .orElse("");
 
+                // Lock Wait / Lease Time: Config -> Default -> Constant
+                Duration finalLockWaitTime = Optional.ofNullable(props.getLockWaitTime())
+                        .or(() -> Optional.ofNullable(defaults.getLockWaitTime()))
+                        .orElse(Duration.ofMillis(JMultiCacheConstants.DEFAULT_LOCK_WAIT_TIME));
+                Duration finalLockLeaseTime = Optional.ofNullable(props.getLockLeaseTime())
+                        .or(() -> Optional.ofNullable(defaults.getLockLeaseTime()))
+                        .orElse(Duration.ofMillis(JMultiCacheConstants.DEFAULT_LOCK_LEASE_TIME));
+
+                // Refresh Ahead: Config -> Default -> null (关闭)，必须为正数且小于 redis-ttl
+                Duration finalRefreshAhead = Optional.ofNullable(props.getRefreshAhead())
+                        .or(() -> Optional.ofNullable(defaults.getRefreshAhead()))
+                        .filter(d -> !d.isNegative() && !d.isZero())
+                        .orElse(null);
+                if (finalRefreshAhead != null && (finalRedisTtl == null || finalRedisTtl.isNegative() || finalRefreshAhead.compareTo(finalRedisTtl) >= 0)) {
+                    log.warn(LOG_PREFIX + "'refresh-ahead' ({}) of cache '{}' must be shorter than a positive 'redis-ttl' ({}), refresh-ahead is disabled.", finalRefreshAhead, configName, finalRedisTtl);
+                    finalRefreshAhead = null;
+                }
+
+                // Early Expiration Beta / TTL Jitter: Config -> Default -> null (关闭)
+                Double finalEarlyExpirationBeta = Optional.ofNullable(props.getEarlyExpirationBeta())
+                        .or(() -> Optional.ofNullable(defaults.getEarlyExpirationBeta()))
+                        .filter(beta -> beta > 0)
+                        .orElse(null);
+                Duration finalTtlJitter = Optional.ofNullable(props.getTtlJitter())
+                        .or(() -> Optional.ofNullable(defaults.getTtlJitter()))
+                        .filter(d -> !d.isNegative() && !d.isZero())
+                        .orElse(null);
+
+                // Codec: Config -> Default -> Constant ("json")，名称必须对应一个已注册的编解码器
+                String codecName = Optional.ofNullable(props.getCodec())
+                        .or(() -> Optional.ofNullable(defaults.getCodec()))
+                        .orElse(JMultiCacheConstants.DEFAULT_CODEC);
+                JMultiCacheCodec finalCodec = codecs.get(codecName);
+                if (finalCodec == null) {
+                    throw new IllegalStateException("Unknown codec '" + codecName + "', available: " + new TreeSet<>(codecs.keySet())
+                            + ". smile / cbor / kryo need their library on the classpath.");
+                }
+
+                // Compression: Config -> Default -> Constant ("none")，阈值 Config -> Default -> 4KB
+                String compressionName = Optional.ofNullable(props.getCompression())
+                        .or(() -> Optional.ofNullable(defaults.getCompression()))
+                        .orElse(JMultiCacheConstants.COMPRESSION_NONE);
+                JMultiCacheCompressor finalCompressor = null;
+                if (!JMultiCacheConstants.COMPRESSION_NONE.equals(compressionName)) {
+                    finalCompressor = compressors.get(compressionName);
+                    if (finalCompressor == null) {
+                        throw new IllegalStateException("Unknown compression '" + compressionName + "', available: " + new TreeSet<>(compressors.keySet())
+                                + ". lz4 / zstd need their library on the classpath.");
+                    }
+                }
+                int finalCompressionThreshold = Optional.ofNullable(props.getCompressionThreshold())
+                        .or(() -> Optional.ofNullable(defaults.getCompressionThreshold()))
+                        .map(size -> (int) Math.min(Integer.MAX_VALUE, Math.max(0, size.toBytes())))
+                        .orElse(JMultiCacheConstants.DEFAULT_COMPRESSION_THRESHOLD);
+
                 // =========================================================
                 // 3. 处理依赖字段 (Storage Policy)
                 // =========================================================
@@ -159,7 +253,11 @@ public class JMultiCacheConfigResolver implements InitializingBean {
                 // =========================================================
                 // 4. 构建对象
                 // =========================================================
-                TypeReference<?> typeReference = JavaTypeReference.from(entityClass, finalStorageType, objectMapper.getTypeFactory());
+                // 类型与编解码器在这里绑定一次，读取时不再逐次解析 / The type is bound to the codec once here instead of being resolved on every read
+                TypeReference<?> typeReference = BoundTypeReference.of(
+                        JavaTypeReference.javaTypeOf(entityClass, finalStorageType, objectMapper.getTypeFactory()), finalCodec);
+                // key 模板在这里预编译，之后按 keyField 从缓存中取用 / The key template is precompiled here and taken from the cache by keyField afterwards
+                JMultiCacheInternalHelper.keyTemplateOf(finalKeyField);
                 ResolvedJMultiCacheConfig resolved = ResolvedJMultiCacheConfig.builder()
                         .name(configName)
                         .entityClass(entityClass)
@@ -174,6 +272,14 @@ public class JMultiCacheConfigResolver implements InitializingBean {
                         .businessKey(finalBusinessKey)
                         .emptyCacheTtl(finalEmptyCacheTtl)
                         .emptyValueMark(finalEmptyValueMark)
+                        .lockWaitTime(finalLockWaitTime)
+                        .lockLeaseTime(finalLockLeaseTime)
+                        .refreshAhead(finalRefreshAhead)
+                        .earlyExpirationBeta(finalEarlyExpirationBeta)
+                        .ttlJitter(finalTtlJitter)
+                        .codec(finalCodec)
+                        .compressor(finalCompressor)
+                        .compressionThreshold(finalCompressionThreshold)
                         .build();
                 tempMap.put(configName, resolved);
             } catch (ClassNotFoundException e) {
@@ -184,9 +290,7 @@ public class JMultiCacheConfigResolver implements InitializingBean {
         }
 
         this.resolvedConfigMap = Collections.unmodifiableMap(tempMap);
-        this.configsSortedByNamespaceDesc = this.resolvedConfigMap.values().stream()
-                .sorted(Comparator.comparingInt((ResolvedJMultiCacheConfig config) -> config.getNamespace().length()).reversed())
-                .collect(Collectors.toList());
+        this.configsByNamespace = indexByNamespace(this.resolvedConfigMap);
         log.info(LOG_PREFIX + "Successfully loaded {} cache configurations.", this.resolvedConfigMap.size());
     }
 
@@ -231,10 +335,12 @@ public class JMultiCacheConfigResolver implements InitializingBean {
     /**
      * 根据完整的缓存 key (例如 "namespace:keyPart") 反向解析出对应的配置。
      * <p>
-     * 它会返回与 key 前缀最长匹配的那个配置。
+     * 它会返回与 key 前缀最长匹配的那个配置。前缀只在 {@code :} 处截断，因此 namespace {@code user} 不会匹配 {@code user_ext:1}。
+     * 查找时从最长的前缀开始逐段查 namespace 索引，开销与 key 中 {@code :} 的个数成正比，与配置数量无关。
      * <p>
      * Resolves the corresponding configuration from a full cache key (e.g., "namespace:keyPart").
-     * It returns the configuration with the longest matching namespace prefix.
+     * It returns the configuration with the longest matching namespace prefix. Prefixes are only cut at {@code :}, so the namespace {@code user} never matches {@code user_ext:1}.
+     * The namespace index is probed from the longest prefix down, so the cost grows with the number of {@code :} in the key, not with the number of configurations.
      *
      * @param fullKey 完整的缓存 key。/ The full cache key.
      * @return 匹配到的 {@link ResolvedJMultiCacheConfig}；如果找不到则返回 {@code null}。/ The matched {@link ResolvedJMultiCacheConfig}, or {@code null} if no match is found.
@@ -243,8 +349,13 @@ public class JMultiCacheConfigResolver implements InitializingBean {
         if (!StringUtils.hasText(fullKey)) {
             return null;
         }
-        for (ResolvedJMultiCacheConfig config : configsSortedByNamespaceDesc) {
-            if (fullKey.startsWith(config.getNamespace())) {
+        ResolvedJMultiCacheConfig config = configsByNamespace.get(fullKey);
+        if (config != null) {
+            return config;
+        }
+        for (int end = fullKey.lastIndexOf(':'); end > 0; end = fullKey.lastIndexOf(':', end - 1)) {
+            config = configsByNamespace.get(fullKey.substring(0, end));
+            if (config != null) {
                 return config;
             }
         }
@@ -252,6 +363,24 @@ public class JMultiCacheConfigResolver implements InitializingBean {
         return null;
     }
 
+    /**
+     * 构建 namespace 索引；多个配置共用一个 namespace 时保留名称排序靠前的一个并告警。
+     * <p>
+     * Builds the namespace index; when several configurations share a namespace, the one whose name sorts first is kept and a warning is logged.
+     */
+    private static Map<String, ResolvedJMultiCacheConfig> indexByNamespace(Map<String, ResolvedJMultiCacheConfig> configs) {
+        Map<String, ResolvedJMultiCacheConfig> index = new HashMap<>(configs.size() * 2);
+        for (String name : new TreeSet<>(configs.keySet())) {
+            ResolvedJMultiCacheConfig config = configs.get(name);
+            ResolvedJMultiCacheConfig existing = index.putIfAbsent(config.getNamespace(), config);
+            if (existing != null) {
+                log.warn(LOG_PREFIX + "Configurations '{}' and '{}' share namespace '{}'; keys under it resolve to '{}'.",
+                        existing.getName(), name, config.getNamespace(), existing.getName());
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
     /**
      * 返回所有已解析的缓存配置的集合。
      * <p>
@@ -0,0 +1,145 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import io.github.vevoly.jmulticache.api.redis.RedisClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 批量回源认领的释放通知。
+ * <p>
+ * 认领者回填 L2 并释放认领后，向命名空间的频道发布一条消息；等待其他认领者的调用方阻塞在本进程的信号上，收到任意实例的释放消息即被唤醒，
+ * 随后重新读取 L2。每个命名空间在第一次批量回源时订阅一次。信号是代际的：等待方在重新读取 L2 之前取得当前信号，
+ * 读取与等待之间发生的释放也不会被错过。消息丢失或客户端不支持订阅时，等待方按调用方给出的超时退回到轮询。
+ * <p>
+ * Release notifications for batch-load claims.
+ * After a claimer has populated L2 and released its claims, it publishes a message on the namespace channel; callers waiting for other claimers block on
+ * an in-process signal and wake on a release message from any instance, then re-read L2. Each namespace is subscribed once, on its first batch load.
+ * Signals are generational: a waiter takes the current signal before re-reading L2, so a release between the read and the wait is not missed.
+ * When a message is lost, or the client does not support subscribing, waiters fall back to polling with the timeout given by the caller.
+ *
+ * @author vevoly
+ */
+@Slf4j
+final class JMultiCacheClaimSignals {
+
+    private static final String CLAIM_RELEASE_TOPIC_PREFIX = "j_multi_cache:topic:claim:";
+
+    private final RedisClient redisClient;
+    private final Map<String, Signal> signals = new ConcurrentHashMap<>();
+
+    JMultiCacheClaimSignals(RedisClient redisClient) {
+        this.redisClient = redisClient;
+    }
+
+    /**
+     * 取得命名空间当前的释放信号，必须在重新读取 L2 之前调用。
+     * <p>
+     * Returns the current release signal of a namespace; it must be taken before re-reading L2.
+     *
+     * @param namespace 缓存命名空间。/ The cache namespace.
+     * @return 下一次释放时完成的 Future。/ A future completed on the next release.
+     */
+    CompletableFuture<Void> next(String namespace) {
+        return signalOf(namespace).next;
+    }
+
+    /**
+     * 命名空间的释放消息是否能送达本进程；为 {@code false} 时只能依靠轮询。
+     * <p>
+     * Whether release messages of the namespace reach this process; when {@code false}, waiters can only poll.
+     */
+    boolean isSubscribed(String namespace) {
+        return signalOf(namespace).subscribed;
+    }
+
+    /**
+     * 等待释放信号，最长 {@code millis} 毫秒；超时视为一次轮询。被中断时恢复中断标记并返回 false。
+     * <p>
+     * Waits for a release signal for at most {@code millis} milliseconds; a timeout counts as one poll.
+     * Restores the interrupt flag and returns false when interrupted.
+     */
+    static boolean await(CompletableFuture<Void> signal, long millis) {
+        try {
+            signal.get(millis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // 信号从不异常完成 / Signals never complete exceptionally
+            return true;
+        }
+    }
+
+    /**
+     * 通知命名空间有认领被释放：先唤醒本进程的等待方，再通知其他实例。发布失败只影响其他实例的唤醒延迟。
+     * <p>
+     * Announces that claims of a namespace were released: local waiters are woken first, then other instances are notified.
+     * A failed publish only delays the wake-up on other instances.
+     *
+     * @param namespace 缓存命名空间。/ The cache namespace.
+     */
+    void released(String namespace) {
+        Signal signal = signals.get(namespace);
+        if (signal != null) {
+            signal.fire();
+        }
+        try {
+            redisClient.publish(CLAIM_RELEASE_TOPIC_PREFIX + namespace, namespace);
+        } catch (Exception e) {
+            log.warn(JMultiCacheImpl.LOG_PREFIX + "[CLAIM] 发布认领释放消息失败, Namespace: {}, err: {}", namespace, e.getMessage());
+        }
+    }
+
+    private Signal signalOf(String namespace) {
+        Signal signal = signals.get(namespace);
+        if (signal != null) {
+            return signal;
+        }
+        Signal created = new Signal();
+        Signal existing = signals.putIfAbsent(namespace, created);
+        if (existing != null) {
+            return existing;
+        }
+        // 订阅会访问 Redis，放在 Map 的原子操作之外 / Subscribing talks to Redis, so it runs outside the map's atomic operation
+        subscribe(namespace, created);
+        return created;
+    }
+
+    private void subscribe(String namespace, Signal signal) {
+        try {
+            redisClient.subscribe(CLAIM_RELEASE_TOPIC_PREFIX + namespace, body -> signal.fire());
+            signal.subscribed = true;
+        } catch (UnsupportedOperationException e) {
+            log.info(JMultiCacheImpl.LOG_PREFIX + "[CLAIM] RedisClient 不支持订阅，批量回源的等待方以轮询等待认领释放, Namespace: {}", namespace);
+        } catch (Exception e) {
+            log.warn(JMultiCacheImpl.LOG_PREFIX + "[CLAIM] 订阅认领释放消息失败，批量回源的等待方以轮询等待, Namespace: {}, err: {}", namespace, e.getMessage());
+        }
+    }
+
+    /**
+     * 一个命名空间的代际信号。/ The generational signal of one namespace.
+     */
+    private static final class Signal {
+
+        private volatile CompletableFuture<Void> next = new CompletableFuture<>();
+        private volatile boolean subscribed;
+
+        void fire() {
+            CompletableFuture<Void> current;
+            synchronized (this) {
+                current = next;
+                next = new CompletableFuture<>();
+            }
+            current.complete(null);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheDiagnosticsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 逐次操作的诊断事件通道。
+ * <p>
+ * 命中/未命中、回源、回填这类每次查询都会发生的事件不再走框架的 INFO 日志，而是经过此通道：
+ * 先按命名空间采样，再经过全局每秒限流，最后以 {@code event=... ns=... key=value} 的结构化格式输出到独立的 logger。
+ * 未开启时 {@link #event} 只有一次字段读取的开销，不做任何字符串拼接。
+ * <p>
+ * The channel for per-operation diagnostic events.
+ * Events that happen on every lookup (hits/misses, source loads, population) no longer go through the framework's INFO log but through this channel:
+ * sampled per namespace, then rate-limited globally per second, and finally written to a dedicated logger as structured {@code event=... ns=... key=value} lines.
+ * When disabled, {@link #event} costs a single field read and builds no strings.
+ *
+ * @author vevoly
+ */
+final class JMultiCacheDiagnostics {
+
+    /**
+     * 诊断事件使用的 logger 名称，可单独调整级别或输出到独立的 appender。/ Logger name of the diagnostic events; its level and appender can be tuned on their own.
+     */
+    static final String LOGGER_NAME = "io.github.vevoly.jmulticache.diagnostics";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final int maxEventsPerSecond;
+
+    private final AtomicLong windowSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    JMultiCacheDiagnostics(JMultiCacheDiagnosticsProperties properties) {
+        this.defaultSampleRate = properties.getDefaultSampleRate();
+        this.sampleRates = Map.copyOf(properties.getSampleRates());
+        this.maxEventsPerSecond = properties.getMaxEventsPerSecond();
+        this.enabled = properties.isEnabled()
+                && (defaultSampleRate > 0 || sampleRates.values().stream().anyMatch(rate -> rate != null && rate > 0));
+    }
+
+    /**
+     * 记录一个带一个属性的诊断事件。
+     * <p>
+     * Records a diagnostic event with one attribute.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param event     事件名，如 {@code l1.hit}。/ The event name, e.g. {@code l1.hit}.
+     */
+    void event(String namespace, String event, String name, Object value) {
+        if (enabled && shouldEmit(namespace)) {
+            log.info("event={} ns={} {}={}", event, namespace, name, value);
+        }
+    }
+
+    /**
+     * 记录一个带两个属性的诊断事件。
+     * <p>
+     * Records a diagnostic event with two attributes.
+     *
+     * @param namespace 命名空间。/ The namespace.
+     * @param event     事件名，如 {@code l2.multi}。/ The event name, e.g. {@code l2.multi}.
+     */
+    void event(String namespace, String event, String name1, Object value1, String name2, Object value2) {
+        if (enabled && shouldEmit(namespace)) {
+            log.info("event={} ns={} {}={} {}={}", event, namespace, name1, value1, name2, value2);
+        }
+    }
+
+    private boolean shouldEmit(String namespace) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        Double rate = namespace != null ? sampleRates.get(namespace) : null;
+        double sampleRate = rate != null ? rate : defaultSampleRate;
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return false;
+        }
+        return acquire();
+    }
+
+    /**
+     * 固定一秒窗口的限流。进入新窗口时，把上一窗口被丢弃的事件数作为一条汇总事件输出。
+     * <p>
+     * Fixed one-second window rate limiting. On entering a new window, the number of events dropped in the previous one is emitted as a summary event.
+     */
+    private boolean acquire() {
+        if (maxEventsPerSecond <= 0) {
+            return true;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        long current = windowSecond.get();
+        if (second != current && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+            long dropped = suppressed.sumThenReset();
+            if (dropped > 0) {
+                log.info("event=diagnostics.suppressed count={}", dropped);
+            }
+        }
+        if (windowCount.incrementAndGet() <= maxEventsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 概率性提前过期 (XFetch) 的决策器。
+ * <p>
+ * 按缓存配置记录回源耗时的指数移动平均值 (delta)，并按照 XFetch 算法判断一次 L2 命中是否应当提前刷新：
+ * {@code delta * beta * -ln(rand) >= remainingTtl}。越接近过期、回源越慢，提前刷新的概率越大。
+ * <p>
+ * Decision maker for probabilistic early expiration (XFetch).
+ * It keeps an exponential moving average of the source load time (delta) per cache configuration and decides, following the XFetch algorithm,
+ * whether an L2 hit should trigger an early refresh: {@code delta * beta * -ln(rand) >= remainingTtl}.
+ * The closer the expiry and the slower the load, the more likely an early refresh becomes.
+ *
+ * @author vevoly
+ */
+final class JMultiCacheEarlyExpiration {
+
+    /**
+     * 指数移动平均的平滑系数。/ Smoothing factor of the exponential moving average.
+     */
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final ConcurrentHashMap<String, LoadCost> loadCosts = new ConcurrentHashMap<>();
+
+    /**
+     * 记录一次回源耗时。
+     * <p>
+     * Records the duration of one source load.
+     *
+     * @param configName   缓存配置名。/ The cache configuration name.
+     * @param elapsedNanos 回源耗时 (纳秒)。/ The load duration in nanoseconds.
+     */
+    void recordLoad(String configName, long elapsedNanos) {
+        loadCosts.computeIfAbsent(configName, name -> new LoadCost()).record(elapsedNanos / 1_000_000.0);
+    }
+
+    /**
+     * 判断是否应当提前刷新。尚未测量到回源耗时的配置不会提前刷新。
+     * <p>
+     * Decides whether to refresh early. Configurations without a measured load cost never refresh early.
+     *
+     * @param config          已解析的缓存配置。/ The resolved cache configuration.
+     * @param remainingMillis L2 中数据的剩余存活时间 (毫秒)。/ The remaining L2 time-to-live in milliseconds.
+     * @return {@code true} 如果应当提前刷新。/ {@code true} if an early refresh should happen.
+     */
+    boolean shouldRefreshEarly(ResolvedJMultiCacheConfig config, long remainingMillis) {
+        LoadCost cost = loadCosts.get(config.getName());
+        if (cost == null || remainingMillis < 0) {
+            return false;
+        }
+        // 取 (0, 1]，避免 ln(0)
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return cost.millis * config.getEarlyExpirationBeta() * -Math.log(random) >= remainingMillis;
+    }
+
+    private static final class LoadCost {
+        // 并发更新时允许丢失个别样本，只需要一个近似值
+        private volatile double millis = -1;
+
+        private void record(double sampleMillis) {
+            double current = millis;
+            millis = current < 0 ? sampleMillis : current + EWMA_ALPHA * (sampleMillis - current);
+        }
+    }
+}
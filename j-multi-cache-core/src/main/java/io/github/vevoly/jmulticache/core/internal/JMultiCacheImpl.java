@@ -3,18 +3,29 @@ package io.github.vevoly.jmulticache.core.internal;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.benmanes.caffeine.cache.Cache;
 import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.api.JMultiCacheAsync;
 import io.github.vevoly.jmulticache.api.JMultiCacheOps;
 import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
-import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
 import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
 import io.github.vevoly.jmulticache.api.message.JMultiCacheEvictMessage;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder.Outcome;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder.Stage;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder.Tier;
 import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchSettings;
 import io.github.vevoly.jmulticache.api.strategy.FieldBasedStorageStrategy;
 import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
 import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheL1WriterStats;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheStats;
 import io.github.vevoly.jmulticache.api.structure.UnionReadResult;
 import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheL2BatchProperties;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheL2CoalescerProperties;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheMicroBatchProperties;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
 import io.github.vevoly.jmulticache.core.utils.I18nLogger;
 import io.github.vevoly.jmulticache.core.utils.JMultiCacheContextHandler;
 import io.github.vevoly.jmulticache.core.utils.JMultiCacheInternalHelper;
@@ -29,54 +40,117 @@ import org.springframework.util.StringUtils;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
- * {@link JMultiCache} 和 {@link JMultiCacheOps} 接口的核心实现类。
+ * {@link JMultiCache}、{@link JMultiCacheOps} 和 {@link JMultiCacheAsync} 接口的核心实现类。
  * <p>
  * 此类编排了整个多级缓存的查询链路，包括 L1 (本地) 缓存、L2 (Redis) 缓存和最终的数据源加载。
  * 它通过动态注入所有 {@link RedisStorageStrategy} 实现，来支持不同数据结构的缓存。
  * <p>
- * The core implementation class for the {@link JMultiCache} and {@link JMultiCacheOps} interfaces.
+ * The core implementation class for the {@link JMultiCache}, {@link JMultiCacheOps} and {@link JMultiCacheAsync} interfaces.
  * This class orchestrates the entire multi-level cache lookup chain, including L1 (local) cache, L2 (Redis) cache, and final data source loading.
  * It supports caching of different data structures by dynamically injecting all {@link RedisStorageStrategy} implementations.
  *
  * @author vevoly
  */
 @Slf4j
-class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
+class JMultiCacheImpl implements JMultiCache, JMultiCacheOps, JMultiCacheAsync {
 
     private final Executor asyncExecutor;
     private final RedisClient redisClient;
     private final CacheManager caffeineCacheManager;
     private final JMultiCacheConfigResolver configResolver;
     private final Map<String, RedisStorageStrategy<?>> strategyMap = new ConcurrentHashMap<>();
+    // 每个配置实例的执行路由：已解析的配置在启动时绑定，其余配置首次使用时绑定 (配置按实例比较)
+    // Execution routes per configuration instance: resolved configurations are bound at startup, others on first use (configurations compare by instance)
+    private final Map<ResolvedJMultiCacheConfig, JMultiCacheRoute> routes = new ConcurrentHashMap<>();
+    private final JMultiCacheSingleFlight singleFlight = new JMultiCacheSingleFlight();
+    // 正在后台刷新的 key，保证同一 JVM 内同一个 key 只有一个刷新任务
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final JMultiCacheEarlyExpiration earlyExpiration = new JMultiCacheEarlyExpiration();
+    private final JMultiCacheL1Writer l1Writer;
+    private final JMultiCacheMetricsRecorder metrics;
+    private final JMultiCacheStatsRecorder statsRecorder;
+    private final JMultiCacheDiagnostics diagnostics;
+    // L2 批次：读取拆分的大小与读写两类批次的执行选项 / L2 batches: the read chunk size and the execution settings of read and write batches
+    private final int l2ChunkSize;
+    private final BatchSettings l2ReadSettings;
+    private final BatchSettings l2WriteSettings;
+    // 单 key L2 读取的跨请求合并器，未启用时为 null / Cross-request merger of single-key L2 reads, null when disabled
+    private final JMultiCacheL2ReadCoalescer l2ReadCoalescer;
+    // 认领者标识：实例前缀 + 递增序号，每次批量回源唯一 / Claim owners: an instance prefix plus a sequence, unique per batch load
+    private final String claimOwnerPrefix = UUID.randomUUID() + ":";
+    private final AtomicLong claimSequence = new AtomicLong();
+    // 认领释放通知：唤醒等待其他认领者回填的调用方 / Claim release notifications that wake callers waiting for other claimers
+    private final JMultiCacheClaimSignals claimSignals;
+    // fetchDataBatched：按配置名注册的批量加载器与合并器 / fetchDataBatched: batch loaders and mergers registered per configuration name
+    private final Map<String, BatchRegistration<?, ?>> batchRegistrations = new ConcurrentHashMap<>();
+    private final JMultiCacheMicroBatchProperties microBatchProperties;
 
     private final I18nLogger i18nLog = new I18nLogger(log);
     public static final String LOG_PREFIX = "[JMultiCache] ";
+    // evictAll 每次 DEL 的 key 数量
+    private static final int EVICT_ALL_BATCH_SIZE = 500;
+    // 批量回源的逐 ID 认领：key 前缀 (命名空间作为 hash tag，使一次认领落在同一槽位) 与轮询退避区间 (释放通知丢失或不可用时的兜底)
+    private static final String CLAIM_KEY_PREFIX = "lock:multicache:claim:";
+    private static final long CLAIM_POLL_MIN_MILLIS = 10;
+    private static final long CLAIM_POLL_MAX_MILLIS = 100;
 
     JMultiCacheImpl(
             RedisClient redisClient,
             @Qualifier("jMultiCacheCaffeineManager") CacheManager caffeineCacheManager,
             JMultiCacheConfigResolver configResolver,
             @Qualifier("jMultiCacheAsyncExecutor") Executor asyncExecutor,
-            List<RedisStorageStrategy<?>> strategies
+            List<RedisStorageStrategy<?>> strategies,
+            JMultiCacheRootProperties rootProperties,
+            JMultiCacheMetricsRecorder metrics
     ) {
         this.redisClient = redisClient;
         this.caffeineCacheManager = caffeineCacheManager;
         this.configResolver = configResolver;
         this.asyncExecutor = asyncExecutor;
+        this.l1Writer = new JMultiCacheL1Writer(asyncExecutor, rootProperties.getL1Writer());
+        // 内部统计 (供 getStats 使用) 包在外部记录器之外，所有埋点都经过它
+        this.statsRecorder = new JMultiCacheStatsRecorder(metrics != null ? metrics : JMultiCacheMetricsRecorder.NOOP);
+        this.metrics = statsRecorder;
+        this.diagnostics = new JMultiCacheDiagnostics(rootProperties.getDiagnostics());
+        this.microBatchProperties = rootProperties.getMicroBatch();
+        JMultiCacheL2BatchProperties l2Batch = rootProperties.getL2Batch();
+        this.l2ChunkSize = l2Batch.getChunkSize();
+        this.l2ReadSettings = BatchSettings.builder()
+                .responseTimeout(l2Batch.getResponseTimeout())
+                .retryAttempts(l2Batch.getRetryAttempts())
+                .retryInterval(l2Batch.getRetryInterval())
+                .build();
+        this.l2WriteSettings = BatchSettings.builder()
+                .responseTimeout(l2Batch.getResponseTimeout())
+                .retryAttempts(l2Batch.getRetryAttempts())
+                .retryInterval(l2Batch.getRetryInterval())
+                .skipResult(l2Batch.isSkipWriteResult())
+                .build();
+        JMultiCacheL2CoalescerProperties coalescer = rootProperties.getL2Coalescer();
+        this.claimSignals = new JMultiCacheClaimSignals(redisClient);
+        this.l2ReadCoalescer = coalescer.isEnabled()
+                ? new JMultiCacheL2ReadCoalescer(redisClient, l2ReadSettings, coalescer.getWindow(), coalescer.getMaxBatchSize())
+                : null;
 
         if (strategies != null) {
             for (RedisStorageStrategy<?> strategy : strategies) {
                 this.strategyMap.put(strategy.getStorageType().toUpperCase(), strategy);
             }
         }
+        for (ResolvedJMultiCacheConfig config : configResolver.getAllResolvedConfigs()) {
+            routes.put(config, JMultiCacheRoute.of(config, strategyMap, caffeineCacheManager));
+        }
     }
 
     // ===================================================================
@@ -117,6 +191,42 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         return fetchUnionDataUnified(setKeysInRedis, dbQueryFunction);
     }
 
+    @Override
+    public <K, V> void registerBatchLoader(String multiCacheName, Function<Collection<K>, Map<K, V>> batchLoader) {
+        ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+        String namespace = config.getNamespace();
+        // 与 fetchData(multiCacheName, dbLoader, String.valueOf(id)) 相同的 key，两者共享缓存数据
+        Function<K, String> keyBuilder = id -> JMultiCacheHelper.buildKey(namespace, JMultiCacheInternalHelper.getKeyValue(config, String.valueOf(id)));
+        JMultiCacheMicroBatchProperties props = microBatchProperties;
+        // 加载器的结果直接以 ID 为键，不经过 businessKey 提取 / The loader's result is keyed by ID directly, without businessKey extraction
+        JMultiCacheMicroBatcher<K, V> batcher = new JMultiCacheMicroBatcher<>(
+                ids -> fetchMultiDataKeyedById(config, ids, keyBuilder, batchLoader).getGroupedMap(),
+                props.getWindow(), props.getMaxBatchSize());
+        if (batchRegistrations.putIfAbsent(multiCacheName, new BatchRegistration<>(config, keyBuilder, batcher)) != null) {
+            throw new IllegalStateException(LOG_PREFIX + "A batch loader is already registered for '" + multiCacheName + "'");
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> V fetchDataBatched(String multiCacheName, K id) {
+        BatchRegistration<K, V> registration = (BatchRegistration<K, V>) batchRegistrations.get(multiCacheName);
+        if (registration == null) {
+            throw new IllegalStateException(LOG_PREFIX + "No batch loader registered for '" + multiCacheName + "', call registerBatchLoader first");
+        }
+        ResolvedJMultiCacheConfig config = registration.config();
+        // L1 命中直接返回，不进入合并窗口；未命中由批次在 L1 阶段统一计数
+        Cache<String, Object> localCache = routeOf(config).getLocalCache();
+        if (localCache != null) {
+            Object cached = localCache.getIfPresent(registration.keyBuilder().apply(id));
+            if (cached != null) {
+                metrics.recordLookup(config.getNamespace(), Tier.L1, Outcome.HIT, 1);
+                return JMultiCacheInternalHelper.handleCacheHit((V) cached, config);
+            }
+        }
+        return registration.batcher().fetch(id);
+    }
+
     @Override
     public <T> T fetchHashData(String hashKey, String field, Class<T> resultType, Supplier<T> queryFunction) {
         return fetchDataFromHashUnified(hashKey, field, resultType, queryFunction);
@@ -129,7 +239,7 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
                 .map(String::valueOf)
                 .toArray(String[]::new);
         // 解析 SpEL
-        String keyBody = JMultiCacheInternalHelper.getKeyValue(config.getKeyField(), stringParams);
+        String keyBody = JMultiCacheInternalHelper.getKeyValue(config, stringParams);
         // 拼接 Namespace
         return JMultiCacheHelper.buildKey(config.getNamespace(), keyBody);
     }
@@ -150,6 +260,67 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
     }
 
     @Override
+    public long evictAll(String multiCacheName) {
+        ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+        long deleted = 0;
+        if (config.isUseL2()) {
+            deleted = deleteNamespaceFromRedis(config);
+            i18nLog.info("evict.l2_namespace_success", config.getNamespace(), deleted);
+        }
+        if (config.isUseL1()) {
+            clearLocalCache(routeOf(config));
+            try {
+                // fullKey 为空表示清空整个命名空间 / A null fullKey means the whole namespace
+                redisClient.publish(JMultiCacheConstants.J_MULTI_CACHE_EVICT_TOPIC, new JMultiCacheEvictMessage(config.getName(), null));
+                i18nLog.info("evict.broadcast_sent", config.getNamespace() + ":*");
+            } catch (Exception e) {
+                i18nLog.error("evict.broadcast_error", e, config.getName(), config.getNamespace() + ":*", e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void evictAllL1(String multiCacheName) {
+        ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+        if (config.isUseL1()) {
+            clearLocalCache(routeOf(config));
+        }
+    }
+
+    @Override
+    public boolean resizeL1(String multiCacheName, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException(LOG_PREFIX + "L1 maximum size cannot be negative: " + maximumSize);
+        }
+        ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+        Cache<String, Object> nativeCache = routeOf(config).getLocalCache();
+        if (nativeCache == null) {
+            return false;
+        }
+        return nativeCache.policy().eviction().map(eviction -> {
+            long previous = eviction.getMaximum();
+            eviction.setMaximum(maximumSize);
+            log.info(LOG_PREFIX + "[L1 RESIZE] Namespace: {}, maximumSize: {} -> {}", config.getNamespace(), previous, maximumSize);
+            return true;
+        }).orElse(false);
+    }
+
+    @Override
+    public JMultiCacheStats getStats(String multiCacheName) {
+        return buildStats(configResolver.resolve(multiCacheName));
+    }
+
+    @Override
+    public List<JMultiCacheStats> getAllStats() {
+        return configResolver.getAllResolvedConfigs().stream()
+                .sorted(Comparator.comparing(ResolvedJMultiCacheConfig::getName))
+                .map(this::buildStats)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Deprecated
     public String getL1Stats(String multiCacheName) {
         try {
             // 1. 解析缓存配置 / Parse cache configuration
@@ -205,6 +376,61 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         }
     }
 
+    @Override
+    public JMultiCacheL1WriterStats getL1WriterStats() {
+        return l1Writer.stats();
+    }
+
+    // ===================================================================
+    // ======== JMultiCacheAsync 接口实现 / JMultiCacheAsync Implementation
+    // ===================================================================
+
+    @Override
+    public <T> CompletableFuture<T> fetchDataAsync(String fullKey, Supplier<? extends CompletionStage<T>> dbLoader) {
+        return fetchDataUnifiedAsync(fullKey, null, dbLoader);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> fetchDataAsync(String multiCacheName, Supplier<? extends CompletionStage<T>> dbLoader, String... keyParams) {
+        try {
+            ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+            return fetchDataUnifiedAsync(null, config, dbLoader, keyParams);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <K, V> CompletableFuture<List<V>> fetchMultiDataListAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction) {
+        try {
+            ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+            return this.<K, V>fetchMultiDataUnifiedAsync(config, ids, businessKey, queryFunction)
+                    .thenApply(JMultiCacheResult::getFlatList);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <K, V> CompletableFuture<Map<K, ?>> fetchMultiDataMapAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction) {
+        try {
+            ResolvedJMultiCacheConfig config = configResolver.resolve(multiCacheName);
+            return fetchMultiDataUnifiedAsync(config, ids, businessKey, queryFunction)
+                    .thenApply(JMultiCacheResult::getGroupedMap);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<Set<T>> fetchUnionDataAsync(List<String> setKeysInRedis, Function<List<String>, ? extends CompletionStage<Map<String, Set<T>>>> dbQueryFunction) {
+        try {
+            return fetchUnionDataUnifiedAsync(setKeysInRedis, dbQueryFunction);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * [AOP专用] 根据已解析的配置对象获取单个数据。
      * 主要供 @JMultiCacheable 切面使用，避免重复解析配置。
@@ -246,26 +472,37 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         return fetchMultiDataUnified(config, ids, businessKey, keyBuilder, queryFunction).getFlatList();
     }
 
+    /**
+     * [AOP专用] 批量获取数据并返回完整的结果包装，由切面按方法返回类型选择分组 Map 或打平的列表。
+     * <p>
+     * [For AOP] Fetches batch data and returns the full result wrapper; the aspect picks the grouped map or the flattened list by the method's return type.
+     *
+     * @param config        已解析的缓存配置对象。/ The resolved cache configuration object.
+     * @param ids           查询 ID 集合。/ The collection of IDs to query.
+     * @param businessKey   业务主键字段名。/ The business primary key field name.
+     * @param keyBuilder    Key 构建函数。/ The key building function.
+     * @param queryFunction 批量回源查询函数。/ The batch source query function.
+     * @param <K>           ID 的类型。/ The type of the ID.
+     * @param <V>           值的类型。/ The type of the values.
+     * @return 结果包装。/ The result wrapper.
+     */
+    public <K, V> JMultiCacheResult<K, V> fetchMultiResultForAop(ResolvedJMultiCacheConfig config, Collection<K> ids, String businessKey, Function<K, String> keyBuilder, Function<Collection<K>, V> queryFunction) {
+        return fetchMultiDataUnified(config, ids, businessKey, keyBuilder, queryFunction);
+    }
+
     // =================================================================
     // ===================== 私有辅助方法和内部类 ======================
     // =================================================================
 
     /**
-     * 根绝数据类型返回对应的读写策略
-     * @param storageType
-     * @return
-     * @param <T>
+     * 取配置的执行路由。不是由解析器产出的配置 (例如手工构建) 没有预先绑定的路由，首次使用时构建并缓存。
+     * <p>
+     * Returns the execution route of a configuration. A configuration not produced by the resolver (e.g. one built by hand) has no pre-bound route;
+     * one is built on first use and cached.
      */
-    private <T> RedisStorageStrategy<T> getStrategy(String storageType) {
-        return (RedisStorageStrategy<T>) strategyMap.get(storageType.toUpperCase());
-    }
-
-    private <T> FieldBasedStorageStrategy<T> getFieldBasedStrategy(String storageType) {
-        RedisStorageStrategy<?> strategy = strategyMap.get(storageType.toUpperCase());
-        if (!(strategy instanceof FieldBasedStorageStrategy)) {
-            throw new UnsupportedOperationException(LOG_PREFIX + "存储类型 " + storageType + " 不支持按字段操作！");
-        }
-        return (FieldBasedStorageStrategy<T>) strategy;
+    private JMultiCacheRoute routeOf(ResolvedJMultiCacheConfig config) {
+        JMultiCacheRoute route = routes.get(config);
+        return route != null ? route : routes.computeIfAbsent(config, c -> JMultiCacheRoute.of(c, strategyMap, caffeineCacheManager));
     }
 
     /**
@@ -301,26 +538,151 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             fullKey = JMultiCacheInternalHelper.getCacheKeyFromConfig(actualConfig, keyParams);
         }
         // 3. L1 本地缓存尝试
-        if (actualConfig.isUseL1()) {
-            T l1Result = getFromLocalCache(actualConfig.getNamespace(), fullKey);
+        final JMultiCacheRoute route = routeOf(actualConfig);
+        if (route.isUseL1()) {
+            T l1Result = getFromLocalCache(route, fullKey);
             if (l1Result != null) {
                 return JMultiCacheInternalHelper.handleCacheHit(l1Result, config);
             }
         }
-        // 4. L2 Redis 尝试
-        if (actualConfig.isUseL2()) {
-            TypeReference<T> typeRef = (TypeReference<T>) actualConfig.getTypeReference();
-            Optional<T> l2Result = getFromRedis(fullKey, actualConfig, typeRef);
+        // 4. L1 未命中后，同一 JVM 内对同一 key 只允许一个线程继续访问 L2 和 DB，其余线程等待其结果
+        final String key = fullKey;
+        return singleFlight.execute(key, () -> fetchFromL2OrDb(key, route, dbLoader));
+    }
+
+    /**
+     * L1 未命中后的加载链路：L2 Redis -> DB。由 single-flight 的 leader 线程执行。
+     * <p>
+     * The loading chain after an L1 miss: L2 Redis -> DB. Executed by the single-flight leader thread.
+     */
+    private <T> T fetchFromL2OrDb(String fullKey, JMultiCacheRoute route, Supplier<T> dbLoader) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        // 1. L2 Redis 尝试
+        if (route.isUseL2()) {
+            Optional<T> l2Result = getFromRedis(fullKey, route, route.getTypeReference());
             if (l2Result.isPresent()) {
                 T value = l2Result.get();
-                if (actualConfig.isPopulateL1FromL2()) {
-                    putInLocalCacheAsync(actualConfig, fullKey, value);
+                if (route.isPopulateL1FromL2()) {
+                    putInLocalCache(route, fullKey, value);
+                }
+                // 软过期 / 概率性提前过期：仍然返回当前值，同时在后台刷新
+                if ((config.isRefreshAheadEnabled() || config.isEarlyExpirationEnabled())
+                        && !JMultiCacheHelper.isSpecialEmptyData(value, config)) {
+                    refreshEarlyIfNeeded(fullKey, config, dbLoader);
                 }
-                return JMultiCacheInternalHelper.handleCacheHit(value, actualConfig);
+                return JMultiCacheInternalHelper.handleCacheHit(value, config);
+            }
+        }
+        // 2. DB 查询并回填
+        return getFromDb(fullKey, config, dbLoader);
+    }
+
+    /**
+     * 检查 L2 中的数据是否需要提前刷新，如果是，则提交一次后台刷新。
+     * <p>
+     * 满足以下任一条件即刷新：剩余存活时间已进入 refresh-ahead 窗口 (软过期)；或 XFetch 按回源耗时随机决定提前刷新。
+     * <p>
+     * Checks whether the L2 value should be refreshed early and, if so, submits a background reload.
+     * A refresh happens when the remaining time-to-live has entered the refresh-ahead window (soft expiry),
+     * or when XFetch randomly decides to refresh early based on the measured load cost.
+     */
+    private <T> void refreshEarlyIfNeeded(String fullKey, ResolvedJMultiCacheConfig config, Supplier<T> dbLoader) {
+        if (isDueForEarlyRefresh(fullKey, config)) {
+            scheduleRefresh(fullKey, config, dbLoader);
+        }
+    }
+
+    /**
+     * 按剩余存活时间判断是否应提前刷新 (一次阻塞的 TTL 读取)。
+     * <p>
+     * Decides from the remaining time-to-live whether to refresh early (one blocking TTL read).
+     */
+    private boolean isDueForEarlyRefresh(String fullKey, ResolvedJMultiCacheConfig config) {
+        try {
+            long remainingMillis = redisClient.remainTimeToLive(fullKey);
+            // -1: 永不过期, -2: 已不存在 (下一次读取会走正常的回源链路)
+            if (remainingMillis < 0) {
+                return false;
             }
+            boolean softExpired = config.isRefreshAheadEnabled() && remainingMillis <= config.getRefreshAhead().toMillis();
+            return softExpired || (config.isEarlyExpirationEnabled() && earlyExpiration.shouldRefreshEarly(config, remainingMillis));
+        } catch (Exception e) {
+            log.warn(LOG_PREFIX + "[REFRESH-AHEAD] 读取剩余存活时间失败, Key: {}", fullKey, e);
+            return false;
+        }
+    }
+
+    /**
+     * 在 {@code jMultiCacheAsyncExecutor} 上执行一次后台刷新。
+     * <p>
+     * 同一 JVM 内同一个 key 同时只会有一个刷新任务；跨实例则通过不等待的分布式锁保证只有一个实例回源，
+     * 同时也避免了与正常的未命中回源并发执行。
+     * <p>
+     * Runs one background reload on {@code jMultiCacheAsyncExecutor}.
+     * Only one reload per key runs in a JVM at a time; across instances a non-waiting distributed lock ensures a single instance hits the source,
+     * which also keeps the reload from racing a regular miss load.
+     */
+    private <T> void scheduleRefresh(String fullKey, ResolvedJMultiCacheConfig config, Supplier<T> dbLoader) {
+        if (!refreshingKeys.add(fullKey)) {
+            return;
         }
-        // 5. DB 查询并回填
-        return getFromDb(fullKey, actualConfig, dbLoader);
+        try {
+            asyncExecutor.execute(() -> {
+                String lockKey = "jmc:lock:" + fullKey;
+                try {
+                    if (redisClient.tryLock(lockKey, 0, config.getLockLeaseTime().toMillis(), TimeUnit.MILLISECONDS)) {
+                        try {
+                            log.debug(LOG_PREFIX + "[REFRESH-AHEAD] 后台刷新 Key: {}", fullKey);
+                            loadFromDbAndPopulate(fullKey, config, dbLoader);
+                        } finally {
+                            redisClient.unlock(lockKey);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn(LOG_PREFIX + "[REFRESH-AHEAD] 后台刷新失败, 继续使用旧值直到硬过期. Key: {}", fullKey, e);
+                } finally {
+                    refreshingKeys.remove(fullKey);
+                }
+            });
+        } catch (Exception e) {
+            refreshingKeys.remove(fullKey);
+            log.warn(LOG_PREFIX + "[REFRESH-AHEAD] 提交后台刷新任务失败, Key: {}", fullKey, e);
+        }
+    }
+
+    /**
+     * {@link #scheduleRefresh} 的异步版本：以不等待的异步锁保证单实例回源，刷新串联在加载器的 {@code CompletionStage} 上，
+     * 加载期间不占用线程池线程。
+     * <p>
+     * Asynchronous counterpart of {@link #scheduleRefresh}: a non-waiting asynchronous lock keeps the reload to a single instance,
+     * and the reload is chained on the loader's {@code CompletionStage}, so no pool thread is held while it loads.
+     */
+    private <T> void scheduleRefreshAsync(String fullKey, ResolvedJMultiCacheConfig config, Supplier<? extends CompletionStage<T>> dbLoader) {
+        if (!refreshingKeys.add(fullKey)) {
+            return;
+        }
+        String lockKey = "jmc:lock:" + fullKey;
+        long ownerId = ThreadLocalRandom.current().nextLong();
+        CompletableFuture<?> refresh;
+        try {
+            refresh = redisClient.tryLockAsync(lockKey, ownerId, 0, config.getLockLeaseTime().toMillis(), TimeUnit.MILLISECONDS)
+                    .thenCompose(locked -> {
+                        if (!Boolean.TRUE.equals(locked)) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        log.debug(LOG_PREFIX + "[REFRESH-AHEAD] 后台刷新 Key: {}", fullKey);
+                        return loadFromDbAndPopulateAsync(fullKey, config, dbLoader)
+                                .whenComplete((value, error) -> redisClient.unlockAsync(lockKey, ownerId));
+                    });
+        } catch (Exception e) {
+            refresh = CompletableFuture.failedFuture(e);
+        }
+        refresh.whenComplete((value, error) -> {
+            refreshingKeys.remove(fullKey);
+            if (error != null) {
+                log.warn(LOG_PREFIX + "[REFRESH-AHEAD] 后台刷新失败, 继续使用旧值直到硬过期. Key: {}", fullKey, error);
+            }
+        });
     }
 
     /**
@@ -342,6 +704,38 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             throw new IllegalStateException(LOG_PREFIX + "无法自动推断 businessKey，手动调用请传入 businessKey 参数");
         }
 
+        return fetchMultiDataResolved(config, ids, businessKey, externalKeyBuilder, queryFunction);
+    }
+
+    /**
+     * 批量查询，回源结果是以 ID 本身为键的 Map (见 {@link #registerBatchLoader})，按 ID 的 equals 直接对应，不提取 businessKey。
+     * <p>
+     * A batch lookup whose source result is a map keyed by the IDs themselves (see {@link #registerBatchLoader});
+     * entries are matched to IDs by equals, without extracting a businessKey.
+     */
+    private <K, V> JMultiCacheResult<K, Map<K, V>> fetchMultiDataKeyedById(
+            ResolvedJMultiCacheConfig config,
+            Collection<K> ids,
+            Function<K, String> keyBuilder,
+            Function<Collection<K>, Map<K, V>> queryFunction
+    ) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return new JMultiCacheResult<>(Collections.emptyMap(), config);
+        }
+        return fetchMultiDataResolved(config, ids, null, keyBuilder, queryFunction);
+    }
+
+    /**
+     * @param businessKey 为 {@code null} 时回源结果是以 ID 为键的 Map / when {@code null}, the source result is a map keyed by ID
+     */
+    private <K, V> JMultiCacheResult<K, V> fetchMultiDataResolved(
+            ResolvedJMultiCacheConfig config,
+            Collection<K> ids,
+            String businessKey,
+            Function<K, String> externalKeyBuilder,
+            Function<Collection<K>, V> queryFunction
+    ) {
+        metrics.recordBatchSize(config.getNamespace(), ids.size());
         // 1. 初始化上下文： 所有复杂逻辑都被封装到这里
         JMultiCacheContextHandler<K> context = new JMultiCacheContextHandler<>(ids, businessKey, config, externalKeyBuilder, configResolver);
         // 2. 执行核心缓存逻辑
@@ -364,37 +758,101 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             JMultiCacheContextHandler<K> context,
             Function<Collection<K>, V> queryFunction
     ) {
-        ResolvedJMultiCacheConfig config = context.getConfig();
+        JMultiCacheRoute route = routeOf(context.getConfig());
         Collection<K> ids = context.getIds();
-        Function<K, String> keyBuilder = context.getKeyBuilder();
-        String businessKey = context.getBusinessKey();
 
-        final Map<K, Object> finalResultMap = new ConcurrentHashMap<>();
-        Collection<K> missingIds = ids;
+        // 同步链路全程在调用线程上执行，无需并发 Map
+        final Map<K, Object> finalResultMap = new HashMap<>(mapCapacity(ids.size()));
+        // 每个 ID 的 key 只构建一次，L1、L2 两级共用
+        Map<String, K> missingKeys = keysOf(ids, context.getKeyBuilder());
 
         // 1. L1 缓存
-        if (config.isUseL1()) {
-            missingIds = getFromLocalCacheMulti(missingIds, finalResultMap, keyBuilder, config);
-            if (missingIds.isEmpty()) {
+        if (route.isUseL1()) {
+            missingKeys = getFromLocalCacheMulti(missingKeys, finalResultMap, route);
+            if (missingKeys.isEmpty()) {
                 return finalResultMap;
             }
         }
         // 2. L2 缓存
-        if (config.isUseL2()) {
-            missingIds = getFromRedisMulti(missingIds, finalResultMap, keyBuilder, config);
-            if (missingIds.isEmpty()) {
+        if (route.isUseL2()) {
+            missingKeys = getFromRedisMulti(missingKeys, finalResultMap, route);
+            if (missingKeys.isEmpty()) {
                 return finalResultMap;
             }
         }
-        // 3. DB 查询
-        // 这里调用 queryFunction，得到原始对象 (List or Map) 然后在 getFromDbMulti 内部利用 businessKey 转成 Map<String, V>
-        Map<String, ?> dbResultAsStringKey = getFromDbMulti(new ArrayList<>(missingIds), config, businessKey, queryFunction);
-        // 4. 将DB返回的 Map<String, ?> 转换回 Map<K, ?>，并合并到最终结果
-        Map<String, K> businessKeyToIdMap = missingIds.stream()
-                .collect(Collectors.toMap(
-                        id -> JMultiCacheInternalHelper.getKeyValueSafe(id, businessKey),
-                        Function.identity(), (v1, v2) -> v1
-                ));
+        // 3. DB 查询并回填 (在分布式锁内完成，等待锁的调用方被唤醒后可直接读取回填结果)
+        getFromDbMulti(missingKeys, finalResultMap, context, queryFunction);
+        return finalResultMap;
+    }
+
+    /**
+     * 批量回源并回填缓存。
+     * <p>
+     * Loads the given IDs from the database and populates the caches.
+     *
+     * @param missingIds     需要回源的 ID。/ The IDs to load from the database.
+     * @param finalResultMap 最终结果 Map，加载到的数据会合并进来。/ The final result map into which loaded data is merged.
+     * @param context        批量查询上下文。/ The batch query context.
+     * @param queryFunction  批量回源查询函数。/ The batch source query function.
+     */
+    private <K, V> void loadMultiFromDbAndPopulate(
+            List<K> missingIds,
+            Map<K, Object> finalResultMap,
+            JMultiCacheContextHandler<K> context,
+            Function<Collection<K>, V> queryFunction
+    ) {
+        // 这里调用 queryFunction，得到原始对象 (List or Map)，再合并结果并回填
+        long startNanos = System.nanoTime();
+        Object dbRaw = queryFunction.apply(missingIds);
+        metrics.recordLatency(context.getConfig().getNamespace(), Stage.DB_LOAD, System.nanoTime() - startNanos);
+        mergeDbResultAndPopulate(missingIds, dbRaw, finalResultMap, context, false);
+    }
+
+    /**
+     * 将批量回源的原始结果合并到最终结果，并回填 L2 和 L1。
+     * <p>
+     * Merges the raw batch source result into the final result and populates L2 and L1.
+     *
+     * @param async 是否以异步方式提交 L2 回填。/ Whether to submit the L2 population asynchronously.
+     * @return L2 回填完成时完成的 Future。/ A future completed once L2 population is done.
+     */
+    private <K> CompletableFuture<Void> mergeDbResultAndPopulate(
+            List<K> missingIds,
+            Object dbRaw,
+            Map<K, Object> finalResultMap,
+            JMultiCacheContextHandler<K> context,
+            boolean async
+    ) {
+        ResolvedJMultiCacheConfig config = context.getConfig();
+        String businessKey = context.getBusinessKey();
+        Map<String, ?> dbResultAsStringKey;
+        Map<String, K> businessKeyToIdMap;
+        if (businessKey == null) {
+            // 以 ID 为键的结果：用缓存 key 作为中间键，按 ID 的 equals 取值 / ID-keyed result: the cache key is the intermediate key, values are looked up by ID equality
+            Map<?, ?> dbResultById = dbRaw instanceof Map<?, ?> map ? map : Collections.emptyMap();
+            Function<K, String> keyBuilder = context.getKeyBuilder();
+            Map<String, Object> byCacheKey = new HashMap<>(mapCapacity(missingIds.size()));
+            businessKeyToIdMap = new HashMap<>(mapCapacity(missingIds.size()));
+            for (K id : missingIds) {
+                String cacheKey = keyBuilder.apply(id);
+                businessKeyToIdMap.put(cacheKey, id);
+                Object value = dbResultById.get(id);
+                if (value != null) {
+                    byCacheKey.put(cacheKey, value);
+                }
+            }
+            dbResultAsStringKey = byCacheKey;
+        } else {
+            // 1. 利用 businessKey 进行归一化，统一转为 Map<String, V>
+            dbResultAsStringKey = JMultiCacheInternalHelper.normalizeDbResultToMap(dbRaw, businessKey);
+            // 2. 将DB返回的 Map<String, ?> 转换回 Map<K, ?>
+            businessKeyToIdMap = missingIds.stream()
+                    .collect(Collectors.toMap(
+                            id -> JMultiCacheInternalHelper.getKeyValueSafe(id, businessKey),
+                            Function.identity(), (v1, v2) -> v1
+                    ));
+        }
+        // 合并到最终结果
         if (MapUtils.isNotEmpty(dbResultAsStringKey)) {
             dbResultAsStringKey.forEach((businessKeyVal, value) -> {
                 K originalId = businessKeyToIdMap.get(businessKeyVal);
@@ -405,28 +863,30 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
                 }
             });
         }
-        // 5. 计算真正缺失的 ID (trulyMissingIds)
-        Set<K> foundIds = finalResultMap.keySet(); // finalResultMap 包含了所有来源的数据
-        List<K> trulyMissingIds = ids.stream()
-                .filter(id -> !foundIds.contains(id))
+        // 3. 计算真正缺失的 ID (trulyMissingIds)
+        List<K> trulyMissingIds = missingIds.stream()
+                .filter(id -> !finalResultMap.containsKey(id))
                 .collect(Collectors.toList());
-        // 6. 回填 L2 和 L1 缓存
-        populateCacheAfterDb(config, keyBuilder, dbResultAsStringKey, businessKeyToIdMap, trulyMissingIds);
-
-        return finalResultMap;
+        metrics.recordLookup(config.getNamespace(), Tier.DB, Outcome.HIT, missingIds.size() - trulyMissingIds.size());
+        metrics.recordLookup(config.getNamespace(), Tier.DB, Outcome.MISS, trulyMissingIds.size());
+        // 4. 回填 L2 和 L1 缓存
+        return populateCacheAfterDb(config, context.getKeyBuilder(), dbResultAsStringKey, businessKeyToIdMap, trulyMissingIds, async);
     }
 
     /**
      * 回填逻辑
+     *
+     * @param async 为 true 时以非阻塞方式提交 L2 批量写入 / when true, the L2 batch write is submitted without blocking
      */
-    private <K> void populateCacheAfterDb(
+    private <K> CompletableFuture<Void> populateCacheAfterDb(
             ResolvedJMultiCacheConfig config,
             Function<K, String> keyBuilder,
             Map<String, ?> dbResultMap,
             Map<String, K> businessKeyToIdMap,
-            List<K> trulyMissingIds
+            List<K> trulyMissingIds,
+            boolean async
     ) {
-        if (!config.isUseL2() && !config.isUseL1()) return;
+        if (!config.isUseL2() && !config.isUseL1()) return CompletableFuture.completedFuture(null);
 
         Map<String, Object> dataToCache = new HashMap<>();
         // 1. 准备真实数据 (Map<FullCacheKey, Value>)
@@ -440,10 +900,14 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             });
         }
 
-        // 2. L2 回填
+        // 2. L1 回填 (只回填真实数据)
+        if (config.isUseL1() && !dataToCache.isEmpty()) {
+            putInLocalCacheMulti(config, dataToCache);
+        }
+        // 3. L2 回填
         if (config.isUseL2()) {
-            BatchOperation batch = redisClient.createBatchOperation();
-            RedisStorageStrategy<Object> strategy = getStrategy(config.getStorageType());
+            BatchOperation batch = redisClient.createBatchOperation(l2WriteSettings);
+            RedisStorageStrategy<Object> strategy = routeOf(config).getStrategy();
             if (!dataToCache.isEmpty()) {
                 strategy.writeMulti(batch, dataToCache, config);
             }
@@ -452,12 +916,15 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
                 List<String> emptyKeys = trulyMissingIds.stream().map(keyBuilder).collect(Collectors.toList());
                 strategy.writeMultiEmpty(batch, emptyKeys, config);
             }
+            long startNanos = System.nanoTime();
+            if (async) {
+                return batch.executeAsync()
+                        .thenRun(() -> metrics.recordLatency(config.getNamespace(), Stage.L2_BACKFILL, System.nanoTime() - startNanos));
+            }
             batch.execute();
+            metrics.recordLatency(config.getNamespace(), Stage.L2_BACKFILL, System.nanoTime() - startNanos);
         }
-        // 3. L1 回填 (只回填真实数据)
-        if (config.isUseL1() && !dataToCache.isEmpty()) {
-            putInLocalCacheMultiAsync(config, dataToCache);
-        }
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -491,32 +958,13 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             throw new IllegalStateException("Could not resolve config: " + primaryKey);
         }
         // 获取 Set 策略
-        RedisStorageStrategy<Set<T>> strategy = getStrategy(DefaultStorageTypes.SET);
+        RedisStorageStrategy<Set<T>> strategy = routeOf(config).getUnionStrategy();
         TypeReference<Set<T>> typeRef = (TypeReference<Set<T>>) config.getTypeReference();
 
         Set<T> finalResult = new HashSet<>();
-        List<String> missingKeysAfterL1 = new ArrayList<>(); ;
 
         // 1. 查询 L1
-        if (config.isUseL1()) {
-            for (String key : setKeysInRedis) {
-                // 尝试从 L1 获取单个 Set
-                Set<T> l1Set = getFromLocalCache(config.getNamespace(), key);
-                if (l1Set != null) {
-                    // L1 命中：处理空值占位符，然后加入最终结果
-                    if (!JMultiCacheHelper.isSpecialEmptyData(l1Set, config)) {
-                        finalResult.addAll(l1Set);
-                    }
-                    // 如果是空值占位符，什么都不做，但也算命中了（不需要查L2）
-                } else {
-                    // L1 未命中
-                    missingKeysAfterL1.add(key);
-                }
-            }
-        } else {
-            missingKeysAfterL1 = setKeysInRedis; // 没开 L1，全给 L2
-        }
-
+        List<String> missingKeysAfterL1 = getUnionFromLocalCache(setKeysInRedis, config, finalResult);
         // 如果 L1 全部命中，直接返回计算结果！
         if (missingKeysAfterL1.isEmpty()) {
             return finalResult;
@@ -525,24 +973,13 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         // 2. 查询 L2 (Redis)
         List<String> missingKeysAfterL2 = missingKeysAfterL1;
         if (config.isUseL2()) {
-            try {
-                // 调用接口的 readUnion，它会返回并集结果和未命中的 key
-                UnionReadResult<T> l2ReadResult = strategy.readUnion(redisClient, setKeysInRedis, typeRef, config);
-                if (l2ReadResult.getUnionResult() != null && !l2ReadResult.getUnionResult().isEmpty()) {
-                    finalResult.addAll(l2ReadResult.getUnionResult());
-                }
-                missingKeysAfterL2 = l2ReadResult.getMissedKeys();
-                if (missingKeysAfterL2.isEmpty()) {
-                    return finalResult; // 不再回填L1
-                }
-                i18nLog.info("l2.union_partial_hit", l2ReadResult.getUnionResult().size(), missingKeysAfterL2.size());
-            } catch (Exception e) {
-                i18nLog.error("l2.union_error", e, setKeysInRedis, e.getMessage());
-                missingKeysAfterL2 = missingKeysAfterL1; // L2 异常，降级：认为所有 key 都未命中，去查 DB
+            missingKeysAfterL2 = getUnionFromRedis(setKeysInRedis, missingKeysAfterL1, config, strategy, typeRef, finalResult);
+            if (missingKeysAfterL2.isEmpty()) {
+                return finalResult; // 不再回填L1
             }
         }
         // 3. DB 查询 (处理 L2 未命中的部分)
-        i18nLog.info("db.union_load", missingKeysAfterL2);
+        diagnostics.event(config.getNamespace(), "db.union_load", "keys", missingKeysAfterL2);
         Map<String, Set<T>> dbResultMap;
         try {
             // 这里没有加分布式锁，因为并集操作通常涉及多个 Key，加锁粒度不好控制且容易死锁
@@ -557,71 +994,154 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             dbResultMap.values().forEach(finalResult::addAll);
         }
         // 4. 回填 L2 或 L1
-        if (config.isUseL2() || config.isUseL1()) {
-            try {
-                // 4.1 回填 L2 (Redis)
-                if (config.isUseL2()) {
-                    BatchOperation batch = redisClient.createBatchOperation();
-                    if (MapUtils.isNotEmpty(dbResultMap)) {
-                        strategy.writeMulti(batch, dbResultMap, config);
-                    }
-                    // 处理空值
-                    Set<String> foundDbKeys = (dbResultMap != null) ? dbResultMap.keySet() : Collections.emptySet();
-                    List<String> keysToMarkEmpty = missingKeysAfterL2.stream()
-                            .filter(key -> !foundDbKeys.contains(key))
-                            .collect(Collectors.toList());
-                    if (!keysToMarkEmpty.isEmpty()) {
-                        strategy.writeMultiEmpty(batch, keysToMarkEmpty, config);
-                    }
-                    batch.execute();
-                }
-
-                // 4.2 回填 L1 (本地)
-                // 把从 DB 查到的每一个单独的 Set，分别塞回 L1
-                if (config.isUseL1() && MapUtils.isNotEmpty(dbResultMap)) {
-                    Map<String, Object> l1PopulateMap = new HashMap<>(dbResultMap);
-                    putInLocalCacheMultiAsync(config, l1PopulateMap);
-                }
-            } catch (Exception e) {
-                log.error("[JMultiCache] Populate cache failed.", e);
-            }
-        }
+        populateUnionCache(config, strategy, dbResultMap, missingKeysAfterL2, false);
         return finalResult;
     }
 
     /**
-     * 从hash中获取一个field
-     * 这个方法缓存空值标记时会修改整个hash的过期时间，所以没有对空值进行回种，不建议使用
-     * @param hashKey		key
-     * @param field			item
-     * @param resultType	存储类型
-     * @param queryFunction	sql
-     * @return
-     * @param <T>
+     * 从 L1 中逐个读取参与并集的 Set，命中的元素加入 finalResult，返回 L1 未命中的 key。
+     * <p>
+     * Reads each Set of the union from L1, adding hits to finalResult, and returns the keys missed in L1.
      */
-    @SuppressWarnings("unchecked")
-    private <T> T fetchDataFromHashUnified (String hashKey, String field, Class<T> resultType, Supplier<T> queryFunction) {
-        ResolvedJMultiCacheConfig config = configResolver.resolveFromFullKey(hashKey);
-        String localCacheKey = hashKey + ":" + field;
-
-        // 1. 尝试从 L1 获取
-        T l1Result = getFromLocalCache(config.getNamespace(), localCacheKey);
-        if (l1Result != null) {
-            return JMultiCacheHelper.isEmpty(l1Result) ? null : l1Result;
+    private <T> List<String> getUnionFromLocalCache(List<String> setKeysInRedis, ResolvedJMultiCacheConfig config, Set<T> finalResult) {
+        JMultiCacheRoute route = routeOf(config);
+        if (!route.isUseL1()) {
+            return setKeysInRedis; // 没开 L1，全给 L2
         }
-
-        // 2. 尝试从 L2 获取
-        Optional<T> l2Result = getFromRedisHash(hashKey, field, config, localCacheKey, resultType);
-        if (l2Result.isPresent()) {
-            return JMultiCacheInternalHelper.handleCacheHit(l2Result.get(), config);
+        List<String> missingKeysAfterL1 = new ArrayList<>();
+        for (String key : setKeysInRedis) {
+            // 尝试从 L1 获取单个 Set
+            Set<T> l1Set = getFromLocalCache(route, key);
+            if (l1Set != null) {
+                // L1 命中：处理空值占位符，然后加入最终结果
+                if (!JMultiCacheHelper.isSpecialEmptyData(l1Set, config)) {
+                    finalResult.addAll(l1Set);
+                }
+                // 如果是空值占位符，什么都不做，但也算命中了（不需要查L2）
+            } else {
+                // L1 未命中
+                missingKeysAfterL1.add(key);
+            }
         }
-
-        // 3. 从数据库加载
-        return getFromDbHash(hashKey, field, config, resultType, queryFunction, getFieldBasedStrategy(config.getStorageType()));
+        return missingKeysAfterL1;
     }
 
     /**
-     * 缓存预热
+     * 在 L2 中计算并集，结果加入 finalResult，返回 L2 未命中的 key。L2 异常时降级为全部未命中。
+     * <p>
+     * Computes the union in L2, adding it to finalResult, and returns the keys missed in L2. On L2 errors every key is treated as missed.
+     */
+    private <T> List<String> getUnionFromRedis(
+            List<String> setKeysInRedis,
+            List<String> missingKeysAfterL1,
+            ResolvedJMultiCacheConfig config,
+            RedisStorageStrategy<Set<T>> strategy,
+            TypeReference<Set<T>> typeRef,
+            Set<T> finalResult
+    ) {
+        try {
+            // 调用接口的 readUnion，它会返回并集结果和未命中的 key
+            UnionReadResult<T> l2ReadResult = strategy.readUnion(redisClient, setKeysInRedis, typeRef, config);
+            if (l2ReadResult.getUnionResult() != null && !l2ReadResult.getUnionResult().isEmpty()) {
+                finalResult.addAll(l2ReadResult.getUnionResult());
+            }
+            List<String> missingKeysAfterL2 = l2ReadResult.getMissedKeys();
+            if (!missingKeysAfterL2.isEmpty()) {
+                diagnostics.event(config.getNamespace(), "l2.union_partial_hit", "hit", setKeysInRedis.size() - missingKeysAfterL2.size(), "miss", missingKeysAfterL2.size());
+            }
+            return missingKeysAfterL2;
+        } catch (Exception e) {
+            i18nLog.error("l2.union_error", e, setKeysInRedis, e.getMessage());
+            return missingKeysAfterL1; // L2 异常，降级：认为所有 key 都未命中，去查 DB
+        }
+    }
+
+    /**
+     * 将并集回源的结果回填到 L2 和 L1，DB 中不存在的 key 写入空值标记。回填失败只记录日志。
+     * <p>
+     * Populates L2 and L1 with the union source result, marking keys absent from the DB as empty. Population failures are only logged.
+     *
+     * @param async 为 true 时以非阻塞方式提交 L2 批量写入 / when true, the L2 batch write is submitted without blocking
+     */
+    private <T> CompletableFuture<Void> populateUnionCache(
+            ResolvedJMultiCacheConfig config,
+            RedisStorageStrategy<Set<T>> strategy,
+            Map<String, Set<T>> dbResultMap,
+            List<String> missingKeysAfterL2,
+            boolean async
+    ) {
+        if (!config.isUseL2() && !config.isUseL1()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            // 4.1 回填 L1 (本地)
+            // 把从 DB 查到的每一个单独的 Set，分别塞回 L1
+            if (config.isUseL1() && MapUtils.isNotEmpty(dbResultMap)) {
+                Map<String, Object> l1PopulateMap = new HashMap<>(dbResultMap);
+                putInLocalCacheMulti(config, l1PopulateMap);
+            }
+            // 4.2 回填 L2 (Redis)
+            if (config.isUseL2()) {
+                BatchOperation batch = redisClient.createBatchOperation(l2WriteSettings);
+                if (MapUtils.isNotEmpty(dbResultMap)) {
+                    strategy.writeMulti(batch, dbResultMap, config);
+                }
+                // 处理空值
+                Set<String> foundDbKeys = (dbResultMap != null) ? dbResultMap.keySet() : Collections.emptySet();
+                List<String> keysToMarkEmpty = missingKeysAfterL2.stream()
+                        .filter(key -> !foundDbKeys.contains(key))
+                        .collect(Collectors.toList());
+                if (!keysToMarkEmpty.isEmpty()) {
+                    strategy.writeMultiEmpty(batch, keysToMarkEmpty, config);
+                }
+                if (async) {
+                    return batch.executeAsync().exceptionally(e -> {
+                        log.error("[JMultiCache] Populate cache failed.", e);
+                        return null;
+                    });
+                }
+                batch.execute();
+            }
+        } catch (Exception e) {
+            log.error("[JMultiCache] Populate cache failed.", e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 从hash中获取一个field
+     * 这个方法缓存空值标记时会修改整个hash的过期时间，所以没有对空值进行回种，不建议使用
+     * @param hashKey		key
+     * @param field			item
+     * @param resultType	存储类型
+     * @param queryFunction	sql
+     * @return
+     * @param <T>
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T fetchDataFromHashUnified (String hashKey, String field, Class<T> resultType, Supplier<T> queryFunction) {
+        ResolvedJMultiCacheConfig config = configResolver.resolveFromFullKey(hashKey);
+        String localCacheKey = hashKey + ":" + field;
+
+        JMultiCacheRoute route = routeOf(config);
+        // 1. 尝试从 L1 获取
+        T l1Result = getFromLocalCache(route, localCacheKey);
+        if (l1Result != null) {
+            return JMultiCacheHelper.isEmpty(l1Result) ? null : l1Result;
+        }
+
+        // 2. 尝试从 L2 获取，再从数据库加载 (同一 JVM 内同一 field 只有一个线程执行)
+        return singleFlight.execute(localCacheKey, () -> {
+            Optional<T> l2Result = getFromRedisHash(hashKey, field, route, localCacheKey, resultType);
+            if (l2Result.isPresent()) {
+                return JMultiCacheInternalHelper.handleCacheHit(l2Result.get(), config);
+            }
+            return getFromDbHash(hashKey, field, config, resultType, queryFunction, route.getFieldBasedStrategy());
+        });
+    }
+
+    /**
+     * 缓存预热
      * 从数据库加载全量数据，并批量写入到L2和L1缓存中
      *
      * @param multiCacheName   缓存名
@@ -652,15 +1172,15 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
                     .collect(Collectors.toMap(redisKeyBuilder, Function.identity(), (a, b) -> b));
             // 3. 根据策略回填 L2 (Redis)
             if (config.isUseL2()) {
-                RedisStorageStrategy<V> strategy = getStrategy(config.getStorageType());
-                BatchOperation batchOperation = redisClient.createBatchOperation();
+                RedisStorageStrategy<V> strategy = routeOf(config).getStrategy();
+                BatchOperation batchOperation = redisClient.createBatchOperation(l2WriteSettings);
                 strategy.writeMulti(batchOperation, dataToCacheL2, config);
                 batchOperation.execute();
             }
             // 4. 根据策略回填 L1 (Caffeine)
             if (config.isUseL1()) {
                 // L1缓存通常不应包含空值标记，所以我们只回填真实数据
-                putInLocalCacheMultiAsync(config, new HashMap<>(dataToCacheL2));
+                putInLocalCacheMulti(config, new HashMap<>(dataToCacheL2));
             }
             log.info(LOG_PREFIX + "[WARM-UP] 缓存预热成功。Namespace: {}, 数量: {}",
                     config.getNamespace(), allEntities.size(), stopWatch.prettyPrint());
@@ -715,14 +1235,14 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         try {
             // 1. 根据策略回填 L2 Redis
             if (config.isUseL2()) {
-                RedisStorageStrategy<V> strategy = getStrategy(config.getStorageType());
-                BatchOperation batchOperation = redisClient.createBatchOperation();
+                RedisStorageStrategy<V> strategy = routeOf(config).getStrategy();
+                BatchOperation batchOperation = redisClient.createBatchOperation(l2WriteSettings);
                 strategy.writeMulti(batchOperation, finalDataMap, config);
                 batchOperation.execute();
             }
             // 2. 根据策略回填 L1 Caffeine
             if (config.isUseL1()) {
-                putInLocalCacheMultiAsync(config, new HashMap<>(finalDataMap));
+                putInLocalCacheMulti(config, new HashMap<>(finalDataMap));
             }
 
             log.info(LOG_PREFIX + "[WARM-UP-MAP] 缓存预热成功。Namespace: {}, 数量: {}",
@@ -758,7 +1278,7 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
             String[] stringParams = Arrays.stream(keyParams)
                     .map(String::valueOf)
                     .toArray(String[]::new);
-            String keyBody = JMultiCacheInternalHelper.getKeyValue(config.getKeyField(), stringParams);
+            String keyBody = JMultiCacheInternalHelper.getKeyValue(config, stringParams);
             fullKey = JMultiCacheHelper.buildKey(config.getNamespace(), keyBody);
         }
 
@@ -771,13 +1291,13 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         }
         // 4. 清除 L1 (本地) / Evict L1 (Local)
         if (config.isUseL1()) {
-            evictFromLocalCache(config.getNamespace(), fullKey);
+            evictFromLocalCache(routeOf(config), fullKey);
             // 5. 发送集群广播清除 L1 (本地)
             if (isBroadcast) {
                 try {
                     JMultiCacheEvictMessage message = new JMultiCacheEvictMessage(config.getName(), fullKey);
                     redisClient.publish(JMultiCacheConstants.J_MULTI_CACHE_EVICT_TOPIC, message);
-                    log.info("evict.broadcast_sent", fullKey);
+                    i18nLog.info("evict.broadcast_sent", fullKey);
                 } catch (Exception e) {
                     i18nLog.error("evict.broadcast_error", e, config.getName(), fullKey, e.getMessage());
                 }
@@ -791,14 +1311,17 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
      * <p>
      * Evicts a specific key from the L1 (local) cache.
      *
-     * @param namespace 缓存命名空间。/ The cache namespace.
-     * @param key       要移除的 Key。/ The key to evict.
+     * @param route 执行路由。/ The execution route.
+     * @param key   要移除的 Key。/ The key to evict.
      */
-    private void evictFromLocalCache(String namespace, String key) {
+    private void evictFromLocalCache(JMultiCacheRoute route, String key) {
+        String namespace = route.getNamespace();
         try {
-            org.springframework.cache.Cache cache = caffeineCacheManager.getCache(namespace);
-            if (cache != null) {
-                cache.evict(key);
+            // 先丢弃尚未写入的回填，避免旧值在清除后被写回
+            l1Writer.discard(namespace, key);
+            Cache<String, Object> localCache = route.getLocalCache();
+            if (localCache != null) {
+                localCache.invalidate(key);
                 i18nLog.info("evict.l1_success", key);
             }
         } catch (Exception e) {
@@ -806,26 +1329,132 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         }
     }
 
+    /**
+     * 清空一个命名空间的 L1，包括尚未写入的回填。
+     * <p>
+     * Clears the L1 of a namespace, including populations not yet written.
+     *
+     * @param route 执行路由。/ The execution route.
+     */
+    private void clearLocalCache(JMultiCacheRoute route) {
+        l1Writer.discardAll(route.getNamespace());
+        Cache<String, Object> localCache = route.getLocalCache();
+        if (localCache != null) {
+            localCache.invalidateAll();
+            i18nLog.info("evict.l1_namespace_success", route.getNamespace());
+        }
+    }
+
+    /**
+     * 以 SCAN 遍历 {@code namespace:*} 并分批删除。嵌套命名空间 (如 {@code user} 下的 {@code user:profile}) 的 key 属于其自身的配置，会被跳过。
+     * 客户端不支持 SCAN 时不清除 L2，只记录警告并返回 0。
+     * <p>
+     * Scans {@code namespace:*} and deletes the keys in chunks. Keys of a nested namespace (e.g. {@code user:profile} under {@code user})
+     * belong to their own configuration and are skipped.
+     * Clients without SCAN support leave L2 untouched: a warning is logged and 0 is returned.
+     *
+     * @param config 缓存配置。/ The cache configuration.
+     * @return 删除的 key 数量。/ The number of deleted keys.
+     */
+    private long deleteNamespaceFromRedis(ResolvedJMultiCacheConfig config) {
+        Iterable<String> keys;
+        try {
+            keys = redisClient.scan(config.getNamespace() + ":*");
+        } catch (UnsupportedOperationException e) {
+            log.warn(LOG_PREFIX + "当前 RedisClient 不支持 SCAN，无法按命名空间清除 L2, Namespace: {}. {}", config.getNamespace(), e.getMessage());
+            return 0;
+        }
+        long deleted = 0;
+        List<String> chunk = new ArrayList<>(EVICT_ALL_BATCH_SIZE);
+        for (String key : keys) {
+            ResolvedJMultiCacheConfig owner = configResolver.resolveFromFullKey(key);
+            if (owner != null && !owner.getName().equals(config.getName())) {
+                continue;
+            }
+            chunk.add(key);
+            if (chunk.size() >= EVICT_ALL_BATCH_SIZE) {
+                redisClient.delete(chunk);
+                deleted += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisClient.delete(chunk);
+            deleted += chunk.size();
+        }
+        return deleted;
+    }
+
+    /**
+     * 组装一个配置的统计快照：生效配置来自解析结果，L1 来自 Caffeine，L2 来自 {@link JMultiCacheStatsRecorder}。
+     * <p>
+     * Assembles the statistics snapshot of a configuration: settings from the resolved config, L1 from Caffeine and L2 from {@link JMultiCacheStatsRecorder}.
+     */
+    private JMultiCacheStats buildStats(ResolvedJMultiCacheConfig config) {
+        JMultiCacheStats.JMultiCacheStatsBuilder builder = JMultiCacheStats.builder()
+                .name(config.getName())
+                .namespace(config.getNamespace())
+                .storageType(config.getStorageType())
+                .storagePolicy(config.getStoragePolicy())
+                .useL1(config.isUseL1())
+                .useL2(config.isUseL2())
+                .redisTtlSeconds(config.getRedisTtl() != null ? config.getRedisTtl().getSeconds() : 0)
+                .localTtlSeconds(config.getLocalTtl() != null ? config.getLocalTtl().getSeconds() : 0);
+
+        Cache<String, Object> nativeCache = routeOf(config).getLocalCache();
+        if (nativeCache != null) {
+            com.github.benmanes.caffeine.cache.stats.CacheStats l1 = nativeCache.stats();
+            nativeCache.policy().eviction().ifPresent(eviction -> {
+                builder.l1MaximumSize(eviction.getMaximum());
+                eviction.weightedSize().ifPresent(builder::l1WeightedSize);
+            });
+            builder.l1Size(nativeCache.estimatedSize())
+                    .l1HitCount(l1.hitCount())
+                    .l1MissCount(l1.missCount())
+                    .l1HitRate(l1.hitRate())
+                    .l1EvictionCount(l1.evictionCount());
+        }
+
+        JMultiCacheStatsRecorder.NamespaceStats l2 = statsRecorder.get(config.getNamespace());
+        long hits = l2.l2Hits();
+        long empty = l2.l2Empty();
+        long misses = l2.l2Misses();
+        long lookups = hits + empty + misses;
+        long[] latency = l2.l2ReadLatencySnapshot();
+        return builder.l2HitCount(hits)
+                .l2EmptyCount(empty)
+                .l2MissCount(misses)
+                .l2HitRate(lookups == 0 ? 1.0 : (double) (hits + empty) / lookups)
+                .l2ReadCount(JMultiCacheStatsRecorder.NamespaceStats.count(latency))
+                .l2ReadLatencyP50Millis(JMultiCacheStatsRecorder.NamespaceStats.percentileMillis(latency, 0.50))
+                .l2ReadLatencyP95Millis(JMultiCacheStatsRecorder.NamespaceStats.percentileMillis(latency, 0.95))
+                .l2ReadLatencyP99Millis(JMultiCacheStatsRecorder.NamespaceStats.percentileMillis(latency, 0.99))
+                .build();
+    }
+
     /**
      * 从本地缓存 L1 获取数据
-     * @param namespace	命名空间
+     * @param route	执行路由
      * @param key		键
      * @return
      * @param <T>
      */
-    private <T> T getFromLocalCache(String namespace, String key) {
+    @SuppressWarnings("unchecked")
+    private <T> T getFromLocalCache(JMultiCacheRoute route, String key) {
+        String namespace = route.getNamespace();
         try {
-            com.github.benmanes.caffeine.cache.Cache<String, Object> caffeineCache = (com.github.benmanes.caffeine.cache.Cache<String, Object>) caffeineCacheManager.getCache(namespace).getNativeCache();
+            Cache<String, Object> caffeineCache = route.getLocalCache();
             if (caffeineCache == null) {
-                log.warn(LOG_PREFIX + "[L1 WARN] Caffeine cache '{}' not found.", namespace);
                 return null;
             }
             Object result = caffeineCache.getIfPresent(key);
             if (result != null) {
-                log.info(LOG_PREFIX + "[L1 HIT] Key: {}", key);
+                metrics.recordLookup(namespace, Tier.L1, Outcome.HIT, 1);
+                diagnostics.event(namespace, "l1.hit", "key", key);
                 return (T) result;
             } else {
-                log.info(LOG_PREFIX + "[L1 MISS] Key: {}", key);
+                metrics.recordLookup(namespace, Tier.L1, Outcome.MISS, 1);
+                diagnostics.event(namespace, "l1.miss", "key", key);
                 return null;
             }
         } catch (Exception e) {
@@ -835,136 +1464,318 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
     }
 
     /**
-     * 从本地缓存 L1 批量获取数据。
+     * 为一批 ID 构建缓存 key，保持 ID 的顺序；重复的 ID 只保留一次。
+     * <p>
+     * Builds the cache keys of a batch of IDs, keeping the ID order; duplicate IDs are kept once.
      *
-     * @param ids           需要查询的ID列表
-     * @param resultMap     用于存放命中结果的Map
-     * @param keyBuilder    Key构造函数
-     * @param config     	解析过的配置
-     * @return 未在L1中命中的ID列表
+     * @param ids        ID 集合 / the IDs
+     * @param keyBuilder key 构造函数 / the key builder
+     * @return key 到 ID 的映射 / a map from key to ID
      */
-    private <K, V> Collection<K> getFromLocalCacheMulti(
-            Collection<K> ids, Map<K, V> resultMap,
-            Function<K, String> keyBuilder,
-            ResolvedJMultiCacheConfig config
-    ) {
-        List<K> missingFromL1 = new ArrayList<>();
-        Cache<String, Object> caffeineCache = (Cache<String, Object>) caffeineCacheManager.getCache(config.getNamespace()).getNativeCache();
-
+    private static <K> Map<String, K> keysOf(Collection<K> ids, Function<K, String> keyBuilder) {
+        Map<String, K> keyToId = new LinkedHashMap<>(mapCapacity(ids.size()));
         for (K id : ids) {
-            String key = keyBuilder.apply(id);
-            Object cachedValue = (caffeineCache != null) ? caffeineCache.getIfPresent(key) : null;
+            keyToId.putIfAbsent(keyBuilder.apply(id), id);
+        }
+        return keyToId;
+    }
+
+    private static int mapCapacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * 从本地缓存 L1 批量获取数据：一次 {@code getAllPresent} 查出全部命中，再一遍遍历拆分命中与未命中。
+     *
+     * @param keyToId   待查询的 key 到 ID 的映射
+     * @param resultMap 用于存放命中结果的Map
+     * @param route     执行路由
+     * @return 未在L1中命中的 key 到 ID 的映射，可直接交给 L2
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Map<String, K> getFromLocalCacheMulti(
+            Map<String, K> keyToId, Map<K, V> resultMap,
+            JMultiCacheRoute route
+    ) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        Cache<String, Object> caffeineCache = route.getLocalCache();
+        if (caffeineCache == null) {
+            return keyToId;
+        }
+        Map<String, Object> hits = caffeineCache.getAllPresent(keyToId.keySet());
+        if (hits.isEmpty()) {
+            recordL1Multi(config, 0, keyToId.size());
+            return keyToId;
+        }
+        Map<String, K> missingFromL1 = new LinkedHashMap<>(mapCapacity(keyToId.size() - hits.size()));
+        for (Map.Entry<String, K> entry : keyToId.entrySet()) {
+            Object cachedValue = hits.get(entry.getKey());
             if (cachedValue != null) {
                 V entity = JMultiCacheInternalHelper.handleCacheHit((V) cachedValue, config);
                 if (entity != null) {
-                    resultMap.put(id, entity);
+                    resultMap.put(entry.getValue(), entity);
                 }
             } else {
-                missingFromL1.add(id);
+                missingFromL1.put(entry.getKey(), entry.getValue());
             }
         }
-        log.info(LOG_PREFIX + "[L1 MULTI] namespace: {} Hit: {}, Miss: {}", config.getNamespace(), resultMap.size(), missingFromL1.size());
+        recordL1Multi(config, keyToId.size() - missingFromL1.size(), missingFromL1.size());
         return missingFromL1;
     }
 
+    private void recordL1Multi(ResolvedJMultiCacheConfig config, int hits, int misses) {
+        metrics.recordLookup(config.getNamespace(), Tier.L1, Outcome.HIT, hits);
+        metrics.recordLookup(config.getNamespace(), Tier.L1, Outcome.MISS, misses);
+        diagnostics.event(config.getNamespace(), "l1.multi", "hit", hits, "miss", misses);
+    }
+
     /**
      * 从 redis 中 获取数据
      * @param key		redis key
-     * @param config	缓存配置
+     * @param route	执行路由
      * @param typeRef	类型
      * @return
      * @param <T>
      */
     private <T> Optional<T> getFromRedis(
             String key,
-            ResolvedJMultiCacheConfig config,
+            JMultiCacheRoute route,
             TypeReference<T> typeRef
     ) {
-        RedisStorageStrategy<T> strategy = getStrategy(config.getStorageType());
-        T result = strategy.read(redisClient, key, typeRef, config);
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        RedisStorageStrategy<T> strategy = route.getStrategy();
+        long startNanos = System.nanoTime();
+        T result = l2ReadCoalescer != null ? readCoalesced(key, route, typeRef) : strategy.read(redisClient, key, typeRef, config);
+        metrics.recordLatency(config.getNamespace(), Stage.L2_READ, System.nanoTime() - startNanos);
         if (result != null) {
-            log.info(LOG_PREFIX + "[L2 HIT] Key: {}", key);
+            metrics.recordLookup(config.getNamespace(), Tier.L2, JMultiCacheHelper.isSpecialEmptyData(result, config) ? Outcome.EMPTY : Outcome.HIT, 1);
+            diagnostics.event(config.getNamespace(), "l2.hit", "key", key);
             return Optional.ofNullable(result); // 不在这里回填L1
         }
-        log.info(LOG_PREFIX + "[L2 MISS] Key: {}", key);
+        metrics.recordLookup(config.getNamespace(), Tier.L2, Outcome.MISS, 1);
+        diagnostics.event(config.getNamespace(), "l2.miss", "key", key);
         return Optional.empty();
     }
 
+    /**
+     * 经合并器读取单个 key 并等待结果，返回值与策略的 read 一致 (命中空值标记时返回标记本身)；策略不支持批量读取时直接读取。
+     * <p>
+     * Reads one key through the coalescer and waits for it. The result matches the strategy's read (an empty marker hit returns the marker itself);
+     * strategies without batch reads are read directly.
+     */
+    private <T> T readCoalesced(String key, JMultiCacheRoute route, TypeReference<T> typeRef) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        CompletableFuture<Optional<T>> future = l2ReadCoalescer.read(route, key, typeRef);
+        if (future == null) {
+            return route.<T>getStrategy().read(redisClient, key, typeRef, config);
+        }
+        Optional<T> result = JMultiCacheSingleFlight.await(future);
+        if (result == null) {
+            return null;
+        }
+        return result.isPresent() ? result.get() : JMultiCacheInternalHelper.createEmptyData(typeRef, config);
+    }
+
     private <T> Optional<T> getFromRedisHash(
             String hashKey,
             String field,
-            ResolvedJMultiCacheConfig config,
+            JMultiCacheRoute route,
             String localCacheKey,
             Class<T> resultType
     ) {
-        FieldBasedStorageStrategy<T> strategy = getFieldBasedStrategy(config.getStorageType());
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        FieldBasedStorageStrategy<T> strategy = route.getFieldBasedStrategy();
         T result = strategy.readField(redisClient, hashKey, field, resultType, config);
         if (result != null) {
-            log.info(LOG_PREFIX + "[L2-HASH HIT] Key: {}, Field: {}", hashKey, field);
-            putInLocalCacheAsync(config, localCacheKey, result);
+            diagnostics.event(config.getNamespace(), "l2.hash_hit", "key", hashKey, "field", field);
+            putInLocalCache(route, localCacheKey, result);
             return Optional.ofNullable(result);
         }
-        log.info(LOG_PREFIX + "[L2-HASH MISS] Key: {}, Field: {}", hashKey, field);
+        diagnostics.event(config.getNamespace(), "l2.hash_miss", "key", hashKey, "field", field);
         return Optional.empty();
     }
 
     /**
      * 从 Redis L2 批量获取数据。
      *
-     * @param missingFromL1 L1未命中的ID列表
-     * @param resultMap     用于存放命中结果的Map
-     * @param keyBuilder    Key构造函数
-     * @param config        缓存配置
-     * @return 未在L2中命中的ID列表
+     * @param keyToIdMap L1未命中的 key 到 ID 的映射
+     * @param resultMap  用于存放命中结果的Map
+     * @param route      执行路由
+     * @return 未在L2中命中的 key 到 ID 的映射
      */
-    private <K, V> Collection<K> getFromRedisMulti(
-            Collection<K> missingFromL1,
+    private <K, V> Map<String, K> getFromRedisMulti(
+            Map<String, K> keyToIdMap,
             Map<K, V> resultMap,
-            Function<K, String> keyBuilder,
-            ResolvedJMultiCacheConfig config
+            JMultiCacheRoute route
     ) {
-        if (missingFromL1.isEmpty()) {
-            return Collections.emptyList();
+        if (keyToIdMap.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        RedisStorageStrategy<?> strategy = getStrategy(config.getStorageType());
-        Map<String, K> keyToIdMap = missingFromL1.stream()
-                .collect(Collectors.toMap(keyBuilder, Function.identity(), (a, b) -> a));
+        ResolvedJMultiCacheConfig config = route.getConfig();
         List<String> keysToRead = new ArrayList<>(keyToIdMap.keySet());
-        BatchOperation batchOperation = redisClient.createBatchOperation();
-        TypeReference<V> typeRef = (TypeReference<V>) config.getTypeReference();
         // 从策略获取包含了“转换后”数据的Future Map
-        Map<String, CompletableFuture<Optional<V>>> futureMap = strategy.readMulti(batchOperation, keysToRead, typeRef, config);
-        batchOperation.execute();
+        Map<String, CompletableFuture<Optional<V>>> futureMap = new HashMap<>(mapCapacity(keysToRead.size()));
+        long startNanos = System.nanoTime();
+        readMultiChunked(keysToRead, route, futureMap, false);
+        metrics.recordLatency(config.getNamespace(), Stage.L2_READ, System.nanoTime() - startNanos);
+        return collectRedisMultiResults(keysToRead, keyToIdMap, futureMap, resultMap, route, true);
+    }
+
+    /**
+     * 不计入指标和诊断事件的 L2 批量重读，用于回源阶段的双重检查和等待其他认领者回填时的轮询。
+     * 这些 key 已在第一次读取时计为 L2 未命中，重复计数会虚增未命中数并拉低命中率。
+     * <p>
+     * An L2 batch re-read that is left out of metrics and diagnostic events, used for the double check before loading and for polling while other claimers populate.
+     * These keys were already counted as L2 misses on the first read; counting them again would inflate misses and drag down the hit rate.
+     */
+    private <K, V> Map<String, K> rereadFromRedisMulti(
+            Map<String, K> keyToIdMap,
+            Map<K, V> resultMap,
+            JMultiCacheRoute route
+    ) {
+        if (keyToIdMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> keysToRead = new ArrayList<>(keyToIdMap.keySet());
+        Map<String, CompletableFuture<Optional<V>>> futureMap = new HashMap<>(mapCapacity(keysToRead.size()));
+        readMultiChunked(keysToRead, route, futureMap, false);
+        return collectRedisMultiResults(keysToRead, keyToIdMap, futureMap, resultMap, route, false);
+    }
+
+    /**
+     * 异步版本的 L2 批量读取：以非阻塞方式提交批量命令，完成后返回 L2 未命中的 ID。
+     * <p>
+     * Asynchronous variant of the L2 batch read: submits the batch without blocking and completes with the IDs missed in L2.
+     */
+    private <K, V> CompletableFuture<Map<String, K>> getFromRedisMultiAsync(
+            Map<String, K> keyToIdMap,
+            Map<K, V> resultMap,
+            JMultiCacheRoute route
+    ) {
+        if (keyToIdMap.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        List<String> keysToRead = new ArrayList<>(keyToIdMap.keySet());
+        Map<String, CompletableFuture<Optional<V>>> futureMap = new HashMap<>(mapCapacity(keysToRead.size()));
+        long startNanos = System.nanoTime();
+        return readMultiChunked(keysToRead, route, futureMap, true)
+                .thenApply(v -> {
+                    metrics.recordLatency(config.getNamespace(), Stage.L2_READ, System.nanoTime() - startNanos);
+                    return collectRedisMultiResults(keysToRead, keyToIdMap, futureMap, resultMap, route, true);
+                });
+    }
+
+    /**
+     * 把批量读取按 {@code l2-batch.chunk-size} 拆成多个批次，每个批次使用独立的执行选项并行提交，读取结果的 Future 汇总进 futureMap。
+     * <p>
+     * 只有一个批次时与拆分前完全相同：同步链路在调用线程上执行。多个批次时某个批次失败只影响它自己的 key，
+     * 这些 key 的 Future 以异常结束，由 {@link #collectRedisMultiResults} 按 L2 未命中处理。
+     * <p>
+     * Splits a batch read into batches of at most {@code l2-batch.chunk-size} keys, each submitted in parallel with its own execution settings,
+     * and gathers the read futures into futureMap. With a single batch it behaves exactly as before: the synchronous path executes on the calling thread.
+     * With several batches a failed batch only affects its own keys, whose futures complete exceptionally and are treated as L2 misses by {@link #collectRedisMultiResults}.
+     *
+     * @param keysToRead 需要读取的 key / the keys to read
+     * @param route      执行路由 / the execution route
+     * @param futureMap  收集每个 key 读取结果的 Map / the map collecting each key's read future
+     * @param async      是否以非阻塞方式执行 / whether to execute without blocking
+     * @return 所有批次执行完成时完成的 Future / a future completed once every batch has executed
+     */
+    private <V> CompletableFuture<Void> readMultiChunked(
+            List<String> keysToRead,
+            JMultiCacheRoute route,
+            Map<String, CompletableFuture<Optional<V>>> futureMap,
+            boolean async
+    ) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        RedisStorageStrategy<?> strategy = route.getStrategy();
+        TypeReference<V> typeRef = route.getTypeReference();
+        int size = keysToRead.size();
+        int chunkSize = l2ChunkSize > 0 ? l2ChunkSize : size;
+        if (size <= chunkSize) {
+            BatchOperation batchOperation = redisClient.createBatchOperation(l2ReadSettings);
+            futureMap.putAll(strategy.readMulti(batchOperation, keysToRead, typeRef, config));
+            if (async) {
+                return batchOperation.executeAsync();
+            }
+            batchOperation.execute();
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] executions = new CompletableFuture[(size + chunkSize - 1) / chunkSize];
+        for (int i = 0, from = 0; from < size; i++, from += chunkSize) {
+            List<String> chunk = keysToRead.subList(from, Math.min(from + chunkSize, size));
+            BatchOperation batchOperation = redisClient.createBatchOperation(l2ReadSettings);
+            futureMap.putAll(strategy.readMulti(batchOperation, chunk, typeRef, config));
+            executions[i] = batchOperation.executeAsync().exceptionally(e -> {
+                log.warn(LOG_PREFIX + "[L2 MULTI] Batch of {} keys failed, namespace: {}. Error: {}", chunk.size(), config.getNamespace(), e.getMessage());
+                return null;
+            });
+        }
+        diagnostics.event(config.getNamespace(), "l2.multi_chunks", "keys", size, "chunks", executions.length);
+        CompletableFuture<Void> all = CompletableFuture.allOf(executions);
+        if (!async) {
+            all.join();
+        }
+        return all;
+    }
 
-        List<K> missingFromL2 = new ArrayList<>();
+    /**
+     * 收集批量读取的结果：命中的数据放入 resultMap，并按策略回填 L1，返回 L2 未命中的 key 到 ID 的映射。
+     * <p>
+     * Collects batch read results: hits go into resultMap (and L1 if configured), and the keys and IDs missed in L2 are returned.
+     */
+    private <K, V> Map<String, K> collectRedisMultiResults(
+            List<String> keysToRead,
+            Map<String, K> keyToIdMap,
+            Map<String, CompletableFuture<Optional<V>>> futureMap,
+            Map<K, V> resultMap,
+            JMultiCacheRoute route,
+            boolean recordStats
+    ) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        Map<String, K> missingFromL2 = new LinkedHashMap<>();
+        long emptyHits = 0;
         // 遍历最终的Future，获取结果
         for (String key : keysToRead) {
             K id = keyToIdMap.get(key);
             CompletableFuture<Optional<V>> future = futureMap.get(key);
+            if (future == null) {
+                missingFromL2.put(key, id);
+                continue;
+            }
             try {
                 // .join() 获取的就是已经由策略转换好的、最终类型为V的实体
                 Optional<V> optionalEntity = future.join();
                 if (optionalEntity == null) {
-                    missingFromL2.add(id); // L2 缓存未命中
+                    missingFromL2.put(key, id); // L2 缓存未命中
                 } else {
                     // L2 缓存命中, 只要 optionalEntity 不为 null，就说明 Redis 中有记录
                     if (optionalEntity.isPresent()) {
                         V entity = optionalEntity.get(); // 命中，且有真实数据
                         resultMap.put(id, entity);
                         // 根据策略决定是否回填L1
-                        if (config.isPopulateL1FromL2()) {
-                            putInLocalCacheAsync(config, key, entity);
+                        if (route.isPopulateL1FromL2()) {
+                            putInLocalCache(route, key, entity);
                         }
+                    } else {
+                        // 命中，但是空标记。不将其放入 resultMap，也不写入 L1 本地缓存。
+                        emptyHits++;
                     }
-                    // 命中，但是空标记。不将其放入 resultMap，也不写入 L1 本地缓存。
                 }
             } catch (Exception e) {
                 log.error(LOG_PREFIX + "[L2 MULTI] FUTURE GET FAILED Key: {}. Error: {}", key, e.getMessage());
-                missingFromL2.add(id);
+                missingFromL2.put(key, id);
             }
         }
-        log.info(LOG_PREFIX + "[L2 MULTI] Hit: {}, Miss: {}", missingFromL1.size() - missingFromL2.size(), missingFromL2.size());
+        if (!recordStats) {
+            return missingFromL2;
+        }
+        metrics.recordLookup(config.getNamespace(), Tier.L2, Outcome.HIT, keysToRead.size() - missingFromL2.size() - emptyHits);
+        metrics.recordLookup(config.getNamespace(), Tier.L2, Outcome.EMPTY, emptyHits);
+        metrics.recordLookup(config.getNamespace(), Tier.L2, Outcome.MISS, missingFromL2.size());
+        diagnostics.event(config.getNamespace(), "l2.multi", "hit", keysToRead.size() - missingFromL2.size(), "miss", missingFromL2.size());
         return missingFromL2;
     }
 
@@ -972,11 +1783,15 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
      * 从最终数据源 (DB) 加载数据，并执行缓存回填。
      * <p>
      * 此方法包含了分布式锁逻辑，以防止高并发场景下的“缓存击穿”问题。
-     * 同时实现了“双重检查锁定”模式，避免多个线程获取锁后重复查询数据库。
+     * 未抢到锁的线程会在 {@code lockWaitTime} 内阻塞等待，leader 回填 L2 并释放锁后通过 Redis 发布/订阅被立即唤醒，
+     * 随后的“双重检查”会直接命中 leader 回填的数据，而不会重复查询数据库。
+     * 如果等待超时 (leader 查询过慢)，则最后读取一次 L2，仍未命中时直接回源，而不是返回 null。
      * <p>
      * Loads data from the source of truth (DB) and performs cache population.
      * This method includes distributed locking logic to prevent "cache breakdown" in high-concurrency scenarios.
-     * It also implements the "Double-Checked Locking" pattern to avoid repeated database queries by multiple threads acquiring the lock sequentially.
+     * Threads that lose the lock block for at most {@code lockWaitTime}; they are woken via Redis pub/sub as soon as the leader has
+     * populated L2 and released the lock, and the subsequent double-check is served by the leader's value instead of querying the DB again.
+     * If the wait times out (a slow leader), L2 is read once more and, if still missing, the data is loaded from the source instead of returning null.
      *
      * @param key      完整的缓存键。/ The full cache key.
      * @param config   当前操作的已解析配置。/ The resolved configuration for the current operation.
@@ -991,77 +1806,109 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
     ) {
         // 1. 构建分布式锁的 Key
         String lockKey = "jmc:lock:" + key;
-        // 2. 尝试获取分布式锁 (等待 5s, 持有 10s)
-        if (redisClient.tryLock(lockKey, 5, 10, TimeUnit.SECONDS)) {
+        // 2. 尝试获取分布式锁，等待期间由锁释放通知唤醒
+        if (tryLoadLock(lockKey, config)) {
             try {
-                log.info(LOG_PREFIX + "[LEADER] 获取锁成功, 查询数据库 key: {}", key);
+                diagnostics.event(config.getNamespace(), "db.load_leader", "key", key);
                 // 3. 双重检查锁定 (Double-Check)
                 // 在获取锁之后，再次检查 L2 缓存。因为在当前线程等待锁的过程中，可能有前一个持有锁的线程已经完成了 DB 查询并回填了缓存。
-                if (config.isUseL2()) {
-                    // 从 config 中获取预解析的 TypeReference
-                    TypeReference<T> typeRef = (TypeReference<T>) config.getTypeReference();
-                    Optional<T> recheckResult = getFromRedis(key, config, typeRef);
-                    if (recheckResult.isPresent()) {
-                        i18nLog.info("db.hit_l2_after_lock", key);
-                        T value = recheckResult.get();
-                        // 如果配置了回填 L1，这里也需要补上，因为其他线程只回填了 L2
-                        if (config.isPopulateL1FromL2()) {
-                            putInLocalCacheAsync(config, key, value);
-                        }
-                        // 处理可能存在的空值标记
-                        return (T) JMultiCacheInternalHelper.handleCacheHit(value, config);
-                    }
-                }
-
-                // 4. 执行数据库查询
-                T dbResult = dbLoader.get();
-                Object valueToCache;
-
-                // 5. 处理空值 (防止缓存穿透)
-                if (JMultiCacheHelper.isResultEmptyFromDb(dbResult)) {
-                    TypeReference<Object> typeRef = (TypeReference<Object>) config.getTypeReference();
-                    valueToCache = JMultiCacheInternalHelper.createEmptyData(typeRef, config); // 如果 DB 返回空，生成一个特殊的空值标记对象
-                } else {
-                    valueToCache = dbResult;
+                Optional<T> recheckResult = recheckRedis(key, config);
+                if (recheckResult.isPresent()) {
+                    diagnostics.event(config.getNamespace(), "db.hit_l2_after_lock", "key", key);
+                    // 处理可能存在的空值标记
+                    return JMultiCacheInternalHelper.handleCacheHit(recheckResult.get(), config);
                 }
-                // 6. 回填 L2 (Redis) 缓存
-                if (config.isUseL2()) {
-                    // 动态获取策略
-                    RedisStorageStrategy<Object> strategy = getStrategy(config.getStorageType());
-                    // 写入 (config 中包含了 TTL 和 emptyValueMark 信息，策略内部会处理)
-                    strategy.write(redisClient, key, valueToCache, config);
-                    log.info("l2.populate_success", key);
-                }
-                // 7. 回填 L1 (本地) 缓存
-                if (config.isUseL1()) {
-                    putInLocalCacheAsync(config, key, valueToCache);
-                }
-                return dbResult;
+                // 4. 执行数据库查询并回填
+                return loadFromDbAndPopulate(key, config, dbLoader);
             } finally {
-                // 8. 释放锁
+                // 5. 释放锁
                 redisClient.unlock(lockKey);
             }
         } else {
-            log.warn(LOG_PREFIX + "[FOLLOWER] 获取锁失败, 等待后重新尝试... Key: {}", key);
-            // 获取锁失败，说明有 Leader 线程正在查库。短暂休眠后，重试读取缓存 (而不是去查库，防止击穿)
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            log.warn(LOG_PREFIX + "[FOLLOWER] 等待 leader 超时 ({} ms), 重新读取缓存后回源. Key: {}", config.getLockWaitTime().toMillis(), key);
+            // 等待超时：leader 仍在查询。最后读取一次 L2，仍未命中则直接回源，避免返回错误的 null
+            Optional<T> recheckResult = recheckRedis(key, config);
+            if (recheckResult.isPresent()) {
+                return JMultiCacheInternalHelper.handleCacheHit(recheckResult.get(), config);
             }
-            // 重试逻辑：根据策略尝试读取 L2 或 L1
-            if (config.isUseL2()) {
-                TypeReference<T> typeRef = (TypeReference<T>) config.getTypeReference();
-                return getFromRedis(key, config, typeRef)
-                        .map(value -> (T) JMultiCacheInternalHelper.handleCacheHit(value, config))
-                        .orElse(null);
-            } else if (config.isUseL1()) {
-                // 如果只开启了 L1，尝试读 L1
-                T l1Result = getFromLocalCache(config.getNamespace(), key);
-                return (T) JMultiCacheInternalHelper.handleCacheHit(l1Result, config);
-            }
-            return null;
+            return loadFromDbAndPopulate(key, config, dbLoader);
+        }
+    }
+
+    /**
+     * 获取回源锁，并记录是否成功以及等待耗时。
+     * <p>
+     * Acquires the loading lock, recording whether it succeeded and how long it waited.
+     */
+    private boolean tryLoadLock(String lockKey, ResolvedJMultiCacheConfig config) {
+        long startNanos = System.nanoTime();
+        boolean locked = redisClient.tryLock(lockKey, config.getLockWaitTime().toMillis(), config.getLockLeaseTime().toMillis(), TimeUnit.MILLISECONDS);
+        metrics.recordLock(config.getNamespace(), locked, System.nanoTime() - startNanos);
+        return locked;
+    }
+
+    /**
+     * 在加锁之后 (或等待超时之后) 重新检查 L2，命中时按需回填 L1。
+     * 返回的值可能是空值标记，由调用方通过 {@link JMultiCacheInternalHelper#handleCacheHit} 处理。
+     * <p>
+     * Re-checks L2 after acquiring the lock (or after the wait timed out), populating L1 if configured.
+     * The returned value may be an empty marker, which the caller resolves via {@link JMultiCacheInternalHelper#handleCacheHit}.
+     */
+    private <T> Optional<T> recheckRedis(String key, ResolvedJMultiCacheConfig config) {
+        JMultiCacheRoute route = routeOf(config);
+        if (!route.isUseL2()) {
+            return Optional.empty();
+        }
+        // 路由中预先绑定的 TypeReference
+        Optional<T> recheckResult = getFromRedis(key, route, route.getTypeReference());
+        // 如果配置了回填 L1，这里也需要补上，因为其他线程只回填了 L2
+        if (recheckResult.isPresent() && route.isPopulateL1FromL2()) {
+            putInLocalCache(route, key, recheckResult.get());
+        }
+        return recheckResult;
+    }
+
+    /**
+     * 执行数据库查询，并将结果 (或空值标记) 回填到 L2 和 L1。
+     * <p>
+     * Queries the database and populates L2 and L1 with the result (or an empty marker).
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadFromDbAndPopulate(String key, ResolvedJMultiCacheConfig config, Supplier<T> dbLoader) {
+        // 1. 执行数据库查询 (开启 XFetch 时记录回源耗时)
+        long startNanos = System.nanoTime();
+        T dbResult = dbLoader.get();
+        long loadNanos = System.nanoTime() - startNanos;
+        metrics.recordLatency(config.getNamespace(), Stage.DB_LOAD, loadNanos);
+        if (config.isEarlyExpirationEnabled()) {
+            earlyExpiration.recordLoad(config.getName(), loadNanos);
+        }
+        Object valueToCache;
+
+        // 2. 处理空值 (防止缓存穿透)
+        boolean emptyResult = JMultiCacheHelper.isResultEmptyFromDb(dbResult);
+        metrics.recordLookup(config.getNamespace(), Tier.DB, emptyResult ? Outcome.MISS : Outcome.HIT, 1);
+        if (emptyResult) {
+            TypeReference<Object> typeRef = (TypeReference<Object>) config.getTypeReference();
+            valueToCache = JMultiCacheInternalHelper.createEmptyData(typeRef, config); // 如果 DB 返回空，生成一个特殊的空值标记对象
+        } else {
+            valueToCache = dbResult;
         }
+        // 3. 回填 L2 (Redis) 缓存
+        if (config.isUseL2()) {
+            // 动态获取策略
+            RedisStorageStrategy<Object> strategy = routeOf(config).getStrategy();
+            // 写入 (config 中包含了 TTL 和 emptyValueMark 信息，策略内部会处理)
+            long writeStartNanos = System.nanoTime();
+            strategy.write(redisClient, key, valueToCache, config);
+            metrics.recordLatency(config.getNamespace(), Stage.L2_BACKFILL, System.nanoTime() - writeStartNanos);
+            diagnostics.event(config.getNamespace(), "l2.populate", "key", key);
+        }
+        // 4. 回填 L1 (本地) 缓存
+        if (config.isUseL1()) {
+            putInLocalCache(config, key, valueToCache);
+        }
+        return dbResult;
     }
 
     /**
@@ -1092,16 +1939,17 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
         String lockKey = "jmc:lock:" + hashKey + ":" + field;
         String localCacheKey = hashKey + ":" + field;
 
-        if (redisClient.tryLock(lockKey, 5, 10, TimeUnit.SECONDS)) {
+        // 等待期间由锁释放通知唤醒，被唤醒后的双重检查会直接读到 leader 回填的数据
+        if (tryLoadLock(lockKey, config)) {
             try {
-                i18nLog.info("db.hash_load_leader", hashKey, field);
+                diagnostics.event(config.getNamespace(), "db.hash_load_leader", "key", hashKey, "field", field);
 
                 // 1. 双重检查 (Double-Check)
                 // 尝试从 Redis 读取，看是否已有其他线程回填
                 T cachedValue = strategy.readField(redisClient, hashKey, field, resultType, config);
                 if (cachedValue != null) {
                     // 回填 L1
-                    putInLocalCacheAsync(config, localCacheKey, cachedValue);
+                    putInLocalCache(config, localCacheKey, cachedValue);
                     return cachedValue;
                 }
                 // 2. 查询 DB
@@ -1114,140 +1962,528 @@ class JMultiCacheImpl implements JMultiCache, JMultiCacheOps {
                 // 4. 回填 L2 (Redis)
                 // 写入真实数据，并使用配置的 redisTtl 刷新整个 Hash 的过期时间
                 strategy.writeField(redisClient, hashKey, field, result, config);
-                i18nLog.info("l2.hash_populate_success", hashKey, field);
+                diagnostics.event(config.getNamespace(), "l2.hash_populate", "key", hashKey, "field", field);
                 // 5. 回填 L1 (本地)
-                putInLocalCacheAsync(config, localCacheKey, result);
+                putInLocalCache(config, localCacheKey, result);
                 return result;
             } finally {
                 redisClient.unlock(lockKey);
             }
         } else {
-            // Follower 逻辑：等待后重试读取 L2
+            // Follower 逻辑：等待 leader 超时，再次尝试从 L2 读取，仍未命中则直接回源 (不回填，交由 leader 完成)
             i18nLog.warn("db.hash_load_follower", hashKey, field);
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            T cachedValue = strategy.readField(redisClient, hashKey, field, resultType, config);
+            if (cachedValue != null) {
+                return cachedValue;
             }
-            // 再次尝试从 L2 读取
-            return strategy.readField(redisClient, hashKey, field, resultType, config);
+            T result = queryFunction.get();
+            return JMultiCacheHelper.isResultEmptyFromDb(result) ? null : result;
         }
     }
 
     /**
-     * 从数据库获取批量数据
-     * @param missingIds
-     * @param config
-     * @param businessKey
-     * @param queryFunction
-     * @return
-     * @param <K>
-     * @param <V>
+     * 从数据库获取批量数据：逐个 ID 认领回源权，只为自己认领到的 ID 回源，其余 ID 等待认领者回填 L2 后读取。
+     * <p>
+     * 认领在一次原子调用内完成 (见 {@link RedisClient#tryClaim})，因此 [1,2,3] 与 [2,3,4] 这样重叠的批次会分摊 2、3 的回源，而不是各查一遍。
+     * 认领者在释放认领之前完成 L2 回填 (含空值标记)，释放后发布通知 (见 {@link JMultiCacheClaimSignals})；等待方被通知唤醒后重新读取 L2，
+     * 通知丢失或不可用时按退避间隔轮询。认领消失而数据仍未出现时 (认领者回源失败) 由自己重新认领。
+     * 超过 {@code lockWaitTime} 仍未等到的 ID 直接回源，而不是返回不完整的结果。未启用 L2 时无处共享结果，直接回源。
+     * <p>
+     * Loads batch data from the database by claiming the right to load each ID: the caller only loads the IDs it claimed
+     * and reads the others from L2 once their claimers have populated it.
+     * Claims are taken in one atomic call (see {@link RedisClient#tryClaim}), so overlapping batches such as [1,2,3] and [2,3,4] split the loading of 2 and 3
+     * instead of both loading them. A claimer populates L2 (empty markers included) before releasing its claims and announces the release afterwards
+     * (see {@link JMultiCacheClaimSignals}); waiting callers re-read L2 when woken by it, polling with backoff only when a notification is lost or unavailable.
+     * They claim an ID themselves when its claim is gone but the data is still missing (the claimer's load failed).
+     * IDs still missing after {@code lockWaitTime} are loaded directly rather than returning an incomplete result. Without L2 there is nowhere to share results, so everything is loaded directly.
+     *
+     * @param missingKeys    需要回源的 key 到 ID 的映射。/ The keys and IDs to load.
+     * @param finalResultMap 最终结果 Map。/ The final result map.
+     * @param context        批量查询上下文。/ The batch query context.
+     * @param queryFunction  批量回源查询函数。/ The batch source query function.
      */
-    @SuppressWarnings("unchecked")
-    private <K, V> Map<String, ?> getFromDbMulti(
-            List<K> missingIds,
-            ResolvedJMultiCacheConfig config,
-            String businessKey,
+    private <K, V> void getFromDbMulti(
+            Map<String, K> missingKeys,
+            Map<K, Object> finalResultMap,
+            JMultiCacheContextHandler<K> context,
             Function<Collection<K>, V>  queryFunction) {
-        if (missingIds.isEmpty()) {
-            return Collections.emptyMap();
+        if (missingKeys.isEmpty()) {
+            return;
+        }
+        ResolvedJMultiCacheConfig config = context.getConfig();
+        JMultiCacheRoute route = routeOf(config);
+        if (!route.isUseL2()) {
+            loadMultiFromDbAndPopulate(new ArrayList<>(missingKeys.values()), finalResultMap, context, queryFunction);
+            return;
         }
         String namespace = config.getNamespace();
-        String lockKey = "lock:multicache:multi:" + namespace + ":" + JMultiCacheInternalHelper.getMd5Key(missingIds);
-
-        if (redisClient.tryLock(lockKey, 10, 20, TimeUnit.SECONDS)) {
-            log.info(LOG_PREFIX + "[LEADER-Multi] 获取锁成功, 查询数据库 namespace: {}", namespace);
-            try {
-                // 1. 查询 DB (返回 List 或 Map)
-                Object dbRaw = queryFunction.apply(missingIds);
-                // 2. 利用 businessKey 进行归一化，统一转为 Map<String, V>
-                return JMultiCacheInternalHelper.normalizeDbResultToMap(dbRaw, businessKey);
-            } finally {
-                redisClient.unlock(lockKey);
+        String claimPrefix = CLAIM_KEY_PREFIX + "{" + namespace + "}:";
+        String ownerId = claimOwnerPrefix + claimSequence.incrementAndGet();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + config.getLockWaitTime().toNanos();
+        long backoffMillis = CLAIM_POLL_MIN_MILLIS;
+
+        Map<String, K> pending = missingKeys;
+        while (true) {
+            // 在认领和重新读取之前取得释放信号，二者之后才发生的释放也能唤醒等待
+            CompletableFuture<Void> released = claimSignals.next(namespace);
+            // 1. 认领仍缺失的 ID，只为认领到的 ID 回源
+            List<String> claimed = redisClient.tryClaim(claimKeysOf(claimPrefix, pending.keySet()), ownerId, config.getLockLeaseTime());
+            if (!claimed.isEmpty()) {
+                Map<String, K> ownKeys = new LinkedHashMap<>(mapCapacity(claimed.size()));
+                for (String claimKey : claimed) {
+                    String key = claimKey.substring(claimPrefix.length());
+                    ownKeys.put(key, pending.get(key));
+                }
+                pending = new LinkedHashMap<>(pending);
+                pending.keySet().removeAll(ownKeys.keySet());
+                try {
+                    // 双重检查：上一位认领者可能刚刚回填完这些 ID
+                    Map<String, K> toLoad = rereadFromRedisMulti(ownKeys, finalResultMap, route);
+                    if (!toLoad.isEmpty()) {
+                        diagnostics.event(namespace, "db.multi_load_claimed", "ids", toLoad.size(), "claimedByOthers", pending.size());
+                        loadMultiFromDbAndPopulate(new ArrayList<>(toLoad.values()), finalResultMap, context, queryFunction);
+                    }
+                } finally {
+                    redisClient.releaseClaims(claimed, ownerId);
+                    claimSignals.released(namespace);
+                }
             }
-
-        } else {
-            log.warn(LOG_PREFIX + "[FOLLOWER-Multi] 获取锁失败, 等待重试... namespace: {}", namespace);
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            if (pending.isEmpty()) {
+                metrics.recordClaimWait(namespace, true, System.nanoTime() - startNanos);
+                return;
             }
-            return Collections.emptyMap();
+            // 2. 其余 ID 由其他调用方认领，等待释放通知；收不到通知时退避间隔即轮询间隔
+            long remainingNanos = deadline - System.nanoTime();
+            long pollMillis = claimSignals.isSubscribed(namespace) ? CLAIM_POLL_MAX_MILLIS : backoffMillis;
+            if (remainingNanos <= 0
+                    || !JMultiCacheClaimSignals.await(released, Math.min(pollMillis, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1))) {
+                metrics.recordClaimWait(namespace, false, System.nanoTime() - startNanos);
+                log.warn(LOG_PREFIX + "[FOLLOWER-Multi] 等待其他调用方回填超时 ({} ms), 重新读取缓存后回源. namespace: {}, ids: {}", config.getLockWaitTime().toMillis(), namespace, pending.size());
+                Map<String, K> toLoad = rereadFromRedisMulti(pending, finalResultMap, route);
+                if (!toLoad.isEmpty()) {
+                    loadMultiFromDbAndPopulate(new ArrayList<>(toLoad.values()), finalResultMap, context, queryFunction);
+                }
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, CLAIM_POLL_MAX_MILLIS);
+            pending = rereadFromRedisMulti(pending, finalResultMap, route);
+            if (pending.isEmpty()) {
+                metrics.recordClaimWait(namespace, true, System.nanoTime() - startNanos);
+                return;
+            }
+        }
+    }
+
+    private static List<String> claimKeysOf(String claimPrefix, Collection<String> keys) {
+        List<String> claimKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            claimKeys.add(claimPrefix + key);
         }
+        return claimKeys;
     }
 
+    // ===================================================================
+    // ================ 异步链路 / Asynchronous Chain =====================
+    // ===================================================================
+
     /**
-     * 写入本地缓存
-     * @param config
-     * @param key
-     * @param value
+     * 单体数据读取的异步实现。L1 查询在调用线程上同步完成 (纯内存)，之后的 L2 和回源以异步阶段串联，并通过 single-flight 合并。
+     * <p>
+     * Asynchronous single-item lookup. The L1 lookup completes synchronously on the caller (memory only);
+     * L2 and source loading are chained as asynchronous stages and coalesced through single-flight.
      */
-    private void putInLocalCacheAsync(ResolvedJMultiCacheConfig config, String key, Object value) {
-        // 如果是空数据标记不回种L1
-        if (JMultiCacheHelper.isSpecialEmptyData(value, config)) {
-            log.info(LOG_PREFIX + "[L1 EMPTY VALUE] 无需回种 Key: {}", key);
-            return;
-        }
+    private <T> CompletableFuture<T> fetchDataUnifiedAsync(
+            String fullKey,
+            ResolvedJMultiCacheConfig config,
+            Supplier<? extends CompletionStage<T>> dbLoader,
+            String... keyParams
+    ) {
         try {
-            String finalKey = key;
-            CompletableFuture.runAsync(() -> {
-                com.github.benmanes.caffeine.cache.Cache<String, Object> caffeineCache =
-                        (com.github.benmanes.caffeine.cache.Cache<String, Object>) caffeineCacheManager.getCache(config.getNamespace()).getNativeCache();
-                if (caffeineCache != null) {
-                    caffeineCache.put(finalKey, value);
-                    log.info(LOG_PREFIX + "[L1 POPULATE] Key: {}", finalKey);
+            if (!StringUtils.hasLength(fullKey) && config == null) {
+                log.warn(LOG_PREFIX + "MultiCacheConfig 和 fullKey 至少有一个不能为空");
+                return CompletableFuture.completedFuture(null);
+            }
+            ResolvedJMultiCacheConfig actualConfig = config != null ? config : configResolver.resolveFromFullKey(fullKey);
+            if (actualConfig == null) {
+                throw new IllegalArgumentException(LOG_PREFIX + "MultiCacheConfig 不能为空（无法从 key 推断）：key=" + fullKey);
+            }
+            if (!StringUtils.hasLength(fullKey)) {
+                fullKey = JMultiCacheInternalHelper.getCacheKeyFromConfig(actualConfig, keyParams);
+            }
+            JMultiCacheRoute route = routeOf(actualConfig);
+            if (route.isUseL1()) {
+                T l1Result = getFromLocalCache(route, fullKey);
+                if (l1Result != null) {
+                    return CompletableFuture.completedFuture(JMultiCacheInternalHelper.handleCacheHit(l1Result, actualConfig));
                 }
-            }, asyncExecutor);
+            }
+            final String key = fullKey;
+            return singleFlight.executeAsync(key, () -> fetchFromL2OrDbAsync(key, route, dbLoader));
         } catch (Exception e) {
-            log.warn(LOG_PREFIX + "[L1_GET ERROR] Namespace: {}, Key: {}", config.getNamespace(), key, e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
     /**
-     * 写入本地缓存
-     * @param config
-     * @param dataToCache
+     * {@link #fetchFromL2OrDb} 的异步版本。
+     * <p>
+     * Asynchronous counterpart of {@link #fetchFromL2OrDb}.
      */
-    private void putInLocalCacheMultiAsync(ResolvedJMultiCacheConfig config, Map<String, Object> dataToCache) {
-        if (dataToCache == null || dataToCache.isEmpty()) return;
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                com.github.benmanes.caffeine.cache.Cache<String, Object> caffeineCache =
-                        (Cache<String, Object>) caffeineCacheManager.getCache(config.getNamespace()).getNativeCache();
-                if (caffeineCache == null) {
-                    log.warn(LOG_PREFIX + "[L1-MULTI POPULATE] 本地缓存 '{}' 未找到, 跳过回种L1.", config.getNamespace());
-                    return;
+    private <T> CompletableFuture<T> fetchFromL2OrDbAsync(String fullKey, JMultiCacheRoute route, Supplier<? extends CompletionStage<T>> dbLoader) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        if (!route.isUseL2()) {
+            return getFromDbAsync(fullKey, config, dbLoader);
+        }
+        return this.<T>getFromRedisAsync(fullKey, route).thenCompose(l2Result -> {
+            if (l2Result.isEmpty()) {
+                return getFromDbAsync(fullKey, config, dbLoader);
+            }
+            T value = l2Result.get();
+            if (route.isPopulateL1FromL2()) {
+                putInLocalCache(route, fullKey, value);
+            }
+            if ((config.isRefreshAheadEnabled() || config.isEarlyExpirationEnabled())
+                    && !JMultiCacheHelper.isSpecialEmptyData(value, config)) {
+                // 读取剩余 TTL 是一次阻塞调用，放到异步线程池上执行；刷新本身串联在异步加载器上，不占用线程
+                try {
+                    asyncExecutor.execute(() -> {
+                        if (isDueForEarlyRefresh(fullKey, config)) {
+                            scheduleRefreshAsync(fullKey, config, dbLoader);
+                        }
+                    });
+                } catch (Exception e) {
+                    log.warn(LOG_PREFIX + "[REFRESH-AHEAD] 提交后台刷新任务失败, Key: {}", fullKey, e);
                 }
+            }
+            return CompletableFuture.completedFuture(JMultiCacheInternalHelper.handleCacheHit(value, config));
+        });
+    }
 
-                // 检查key，如果时老的缓存key要去掉后缀
-                Map<String, Object> checkedDataToCache = new HashMap<>(dataToCache.size());
+    /**
+     * 异步读取 L2。返回值的语义与 {@link #getFromRedis} 一致：未命中为 {@code Optional.empty()}，命中空值标记时返回标记本身。
+     * 优先通过策略的 readMulti 和异步批量执行；不支持批量读取的策略 (如 ZSET、PAGE) 在异步线程池上执行同步读取。
+     * <p>
+     * Reads L2 asynchronously. The result follows {@link #getFromRedis}: a miss is {@code Optional.empty()}, and an empty marker hit returns the marker itself.
+     * It prefers the strategy's readMulti with an asynchronously executed batch;
+     * strategies without batch reads (e.g. ZSET, PAGE) run the synchronous read on the async executor.
+     */
+    private <T> CompletableFuture<Optional<T>> getFromRedisAsync(String key, JMultiCacheRoute route) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        RedisStorageStrategy<T> strategy = route.getStrategy();
+        TypeReference<T> typeRef = route.getTypeReference();
+        long startNanos = System.nanoTime();
+        CompletableFuture<Optional<T>> readFuture = l2ReadCoalescer != null
+                ? l2ReadCoalescer.read(route, key, typeRef)
+                : readSingleInBatch(key, strategy, typeRef, config);
+        if (readFuture == null) {
+            return CompletableFuture.supplyAsync(() -> getFromRedis(key, route, typeRef), asyncExecutor);
+        }
+        return readFuture
+                .thenApply(result -> {
+                    metrics.recordLatency(config.getNamespace(), Stage.L2_READ, System.nanoTime() - startNanos);
+                    if (result == null) {
+                        metrics.recordLookup(config.getNamespace(), Tier.L2, Outcome.MISS, 1);
+                        diagnostics.event(config.getNamespace(), "l2.miss", "key", key);
+                        return Optional.<T>empty();
+                    }
+                    metrics.recordLookup(config.getNamespace(), Tier.L2, result.isPresent() ? Outcome.HIT : Outcome.EMPTY, 1);
+                    diagnostics.event(config.getNamespace(), "l2.hit", "key", key);
+                    // readMulti 用 Optional.empty() 表示空值标记，这里还原为标记对象，交给 handleCacheHit 处理
+                    return result.isPresent() ? result : Optional.of(JMultiCacheInternalHelper.createEmptyData(typeRef, config));
+                });
+    }
 
-                for (Map.Entry<String, Object> entry : dataToCache.entrySet()) {
-                    String originalKey = entry.getKey();
-                    Object value = entry.getValue();
+    /**
+     * 以一个只含此 key 的批次读取，批次执行后完成；策略不支持批量读取时返回 {@code null}。
+     * <p>
+     * Reads the key in a batch of its own, completing once the batch has run; {@code null} when the strategy has no batch read.
+     */
+    private <T> CompletableFuture<Optional<T>> readSingleInBatch(String key, RedisStorageStrategy<T> strategy, TypeReference<T> typeRef,
+                                                                 ResolvedJMultiCacheConfig config) {
+        BatchOperation batch = redisClient.createBatchOperation(l2ReadSettings);
+        CompletableFuture<Optional<T>> future;
+        try {
+            future = strategy.readMulti(batch, List.of(key), typeRef, config).get(key);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        return future != null ? batch.executeAsync().thenCompose(v -> future) : null;
+    }
 
-                    // 如果是空值标记，则不回填L1
-                    if (JMultiCacheHelper.isSpecialEmptyData(value, config)) {
-                        log.info(LOG_PREFIX + "[L1-MULTI EMPTY VALUE] 无需回种 Key: {}", originalKey);
-                        continue;
+    /**
+     * {@link #getFromDb} 的异步版本：异步获取分布式锁，双重检查 L2 后回源，回填完成后异步释放锁。
+     * 锁的持有者标识使用随机 ID，因为异步阶段不绑定线程。
+     * <p>
+     * Asynchronous counterpart of {@link #getFromDb}: acquires the distributed lock asynchronously, double-checks L2, loads from the source,
+     * and releases the lock asynchronously once population is done. The lock owner is a random ID, since asynchronous stages are not bound to a thread.
+     */
+    private <T> CompletableFuture<T> getFromDbAsync(String key, ResolvedJMultiCacheConfig config, Supplier<? extends CompletionStage<T>> dbLoader) {
+        String lockKey = "jmc:lock:" + key;
+        long ownerId = ThreadLocalRandom.current().nextLong();
+        long lockStartNanos = System.nanoTime();
+        return redisClient.tryLockAsync(lockKey, ownerId, config.getLockWaitTime().toMillis(), config.getLockLeaseTime().toMillis(), TimeUnit.MILLISECONDS)
+                .thenCompose(locked -> {
+                    metrics.recordLock(config.getNamespace(), Boolean.TRUE.equals(locked), System.nanoTime() - lockStartNanos);
+                    if (!Boolean.TRUE.equals(locked)) {
+                        log.warn(LOG_PREFIX + "[FOLLOWER] 等待 leader 超时 ({} ms), 重新读取缓存后回源. Key: {}", config.getLockWaitTime().toMillis(), key);
+                    }
+                    CompletableFuture<T> loaded = this.<T>recheckRedisAsync(key, config).thenCompose(recheckResult -> {
+                        if (recheckResult.isPresent()) {
+                            return CompletableFuture.completedFuture(JMultiCacheInternalHelper.handleCacheHit(recheckResult.get(), config));
+                        }
+                        return loadFromDbAndPopulateAsync(key, config, dbLoader);
+                    });
+                    if (!Boolean.TRUE.equals(locked)) {
+                        return loaded;
                     }
+                    return loaded.whenComplete((value, error) -> redisClient.unlockAsync(lockKey, ownerId));
+                });
+    }
+
+    /**
+     * {@link #recheckRedis} 的异步版本。
+     * <p>
+     * Asynchronous counterpart of {@link #recheckRedis}.
+     */
+    private <T> CompletableFuture<Optional<T>> recheckRedisAsync(String key, ResolvedJMultiCacheConfig config) {
+        JMultiCacheRoute route = routeOf(config);
+        if (!route.isUseL2()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return this.<T>getFromRedisAsync(key, route).thenApply(recheckResult -> {
+            if (recheckResult.isPresent() && route.isPopulateL1FromL2()) {
+                putInLocalCache(route, key, recheckResult.get());
+            }
+            return recheckResult;
+        });
+    }
 
-                    // 对每个Key执行检查和转换
-                    checkedDataToCache.put(originalKey, value);
+    /**
+     * {@link #loadFromDbAndPopulate} 的异步版本：等待异步加载器完成，再以非阻塞方式写入 L2，写入完成后回填 L1。
+     * <p>
+     * Asynchronous counterpart of {@link #loadFromDbAndPopulate}: awaits the asynchronous loader, writes L2 without blocking, then populates L1.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> loadFromDbAndPopulateAsync(String key, ResolvedJMultiCacheConfig config, Supplier<? extends CompletionStage<T>> dbLoader) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> dbFuture;
+        try {
+            dbFuture = Objects.requireNonNull(dbLoader.get(), "dbLoader returned null").toCompletableFuture();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return dbFuture.thenCompose(dbResult -> {
+            long loadNanos = System.nanoTime() - startNanos;
+            metrics.recordLatency(config.getNamespace(), Stage.DB_LOAD, loadNanos);
+            if (config.isEarlyExpirationEnabled()) {
+                earlyExpiration.recordLoad(config.getName(), loadNanos);
+            }
+            boolean emptyResult = JMultiCacheHelper.isResultEmptyFromDb(dbResult);
+            metrics.recordLookup(config.getNamespace(), Tier.DB, emptyResult ? Outcome.MISS : Outcome.HIT, 1);
+            Object valueToCache = emptyResult
+                    ? JMultiCacheInternalHelper.createEmptyData((TypeReference<Object>) config.getTypeReference(), config)
+                    : dbResult;
+            CompletableFuture<Void> l2Write = config.isUseL2()
+                    ? writeToRedisAsync(key, valueToCache, config)
+                    : CompletableFuture.completedFuture(null);
+            return l2Write.thenApply(v -> {
+                if (config.isUseL2()) {
+                    diagnostics.event(config.getNamespace(), "l2.populate", "key", key);
                 }
-                // 使用转换后的Map进行批量写入
-                if (!checkedDataToCache.isEmpty()) {
-                    caffeineCache.putAll(checkedDataToCache);
-                    log.info(LOG_PREFIX + "[L1-MULTI POPULATE] 回种数据 {} 个items 到 namespace '{}'.",
-                            checkedDataToCache.size(), config.getNamespace());
+                if (config.isUseL1()) {
+                    putInLocalCache(config, key, valueToCache);
                 }
+                return dbResult;
+            });
+        });
+    }
+
+    /**
+     * 以非阻塞方式写入单个 L2 值 (包括空值标记)。不支持批量写入的策略在异步线程池上执行同步写入。
+     * <p>
+     * Writes a single L2 value (including empty markers) without blocking.
+     * Strategies without batch writes run the synchronous write on the async executor.
+     */
+    private CompletableFuture<Void> writeToRedisAsync(String key, Object value, ResolvedJMultiCacheConfig config) {
+        RedisStorageStrategy<Object> strategy = routeOf(config).getStrategy();
+        BatchOperation batch = redisClient.createBatchOperation(l2WriteSettings);
+        try {
+            if (JMultiCacheHelper.isSpecialEmptyData(value, config)) {
+                strategy.writeMultiEmpty(batch, List.of(key), config);
+            } else {
+                strategy.writeMulti(batch, Map.of(key, value), config);
+            }
+        } catch (UnsupportedOperationException e) {
+            return CompletableFuture.runAsync(() -> strategy.write(redisClient, key, value, config), asyncExecutor);
+        }
+        long startNanos = System.nanoTime();
+        return batch.executeAsync()
+                .thenRun(() -> metrics.recordLatency(config.getNamespace(), Stage.L2_BACKFILL, System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 批量查询的异步实现。
+     * <p>
+     * 与同步版本不同，异步链路不获取批量分布式锁：等待锁会占用线程，违背非阻塞的初衷，
+     * L2 回填已经能吸收大部分重复回源。
+     * <p>
+     * Asynchronous batch lookup.
+     * Unlike the synchronous path, it takes no batch-level distributed lock: waiting on the lock would park a thread and defeat the purpose;
+     * L2 population already absorbs most duplicate source loads.
+     */
+    private <K, V> CompletableFuture<JMultiCacheResult<K, V>> fetchMultiDataUnifiedAsync(
+            ResolvedJMultiCacheConfig config,
+            Collection<K> ids,
+            String businessKey,
+            Function<Collection<K>, ? extends CompletionStage<V>> queryFunction
+    ) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return CompletableFuture.completedFuture(new JMultiCacheResult<>(Collections.emptyMap(), config));
+        }
+        if (businessKey == null) {
+            throw new IllegalStateException(LOG_PREFIX + "无法自动推断 businessKey，手动调用请传入 businessKey 参数");
+        }
+        metrics.recordBatchSize(config.getNamespace(), ids.size());
+        JMultiCacheContextHandler<K> context = new JMultiCacheContextHandler<>(ids, businessKey, config, null, configResolver);
+        final Map<K, Object> finalResultMap = new ConcurrentHashMap<>();
+
+        // 1. L1 缓存 (同步，纯内存)
+        JMultiCacheRoute route = routeOf(config);
+        Map<String, K> missingFromL1 = keysOf(context.getIds(), context.getKeyBuilder());
+        if (route.isUseL1()) {
+            missingFromL1 = getFromLocalCacheMulti(missingFromL1, finalResultMap, route);
+        }
+        // 2. L2 缓存 (异步批量)
+        CompletableFuture<Map<String, K>> l2Stage = route.isUseL2() && !missingFromL1.isEmpty()
+                ? getFromRedisMultiAsync(missingFromL1, finalResultMap, route)
+                : CompletableFuture.completedFuture(missingFromL1);
+        // 3. 异步回源并回填
+        return l2Stage.thenCompose(missingKeys -> {
+            if (missingKeys.isEmpty()) {
+                return CompletableFuture.completedFuture(finalResultMap);
+            }
+            List<K> missingList = new ArrayList<>(missingKeys.values());
+            long startNanos = System.nanoTime();
+            return queryFunction.apply(missingList).toCompletableFuture()
+                    .whenComplete((dbRaw, error) -> metrics.recordLatency(config.getNamespace(), Stage.DB_LOAD, System.nanoTime() - startNanos))
+                    .thenCompose(dbRaw -> mergeDbResultAndPopulate(missingList, dbRaw, finalResultMap, context, true))
+                    .thenApply(v -> finalResultMap);
+        }).thenApply(resultMap -> new JMultiCacheResult<>(resultMap, config));
+    }
+
+    /**
+     * 并集查询的异步实现。L1 同步完成；readUnion 由多条命令组成，在异步线程池上执行；回源和 L2 回填以异步阶段串联。
+     * <p>
+     * Asynchronous union lookup. L1 completes synchronously; readUnion consists of several commands and runs on the async executor;
+     * source loading and L2 population are chained as asynchronous stages.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<Set<T>> fetchUnionDataUnifiedAsync(
+            List<String> setKeysInRedis,
+            Function<List<String>, ? extends CompletionStage<Map<String, Set<T>>>> dbQueryFunction
+    ) {
+        if (CollectionUtils.isEmpty(setKeysInRedis)) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        String primaryKey = setKeysInRedis.get(0);
+        ResolvedJMultiCacheConfig config = configResolver.resolveFromFullKey(primaryKey);
+        if (config == null) {
+            throw new IllegalStateException("Could not resolve config: " + primaryKey);
+        }
+        RedisStorageStrategy<Set<T>> strategy = routeOf(config).getUnionStrategy();
+        TypeReference<Set<T>> typeRef = (TypeReference<Set<T>>) config.getTypeReference();
+        // 各阶段顺序执行，由 CompletableFuture 保证可见性
+        Set<T> finalResult = new HashSet<>();
 
+        List<String> missingKeysAfterL1 = getUnionFromLocalCache(setKeysInRedis, config, finalResult);
+        if (missingKeysAfterL1.isEmpty()) {
+            return CompletableFuture.completedFuture(finalResult);
+        }
+        CompletableFuture<List<String>> l2Stage = config.isUseL2()
+                ? CompletableFuture.supplyAsync(() -> getUnionFromRedis(setKeysInRedis, missingKeysAfterL1, config, strategy, typeRef, finalResult), asyncExecutor)
+                : CompletableFuture.completedFuture(missingKeysAfterL1);
+        return l2Stage.thenCompose(missingKeysAfterL2 -> {
+            if (missingKeysAfterL2.isEmpty()) {
+                return CompletableFuture.completedFuture(finalResult);
+            }
+            diagnostics.event(config.getNamespace(), "db.union_load", "keys", missingKeysAfterL2);
+            CompletableFuture<Map<String, Set<T>>> dbStage;
+            try {
+                dbStage = dbQueryFunction.apply(missingKeysAfterL2).toCompletableFuture();
             } catch (Exception e) {
-                log.error(LOG_PREFIX + "[L1-MULTI POPULATE ERROR] Namespace: {}", config.getNamespace(), e);
+                dbStage = CompletableFuture.failedFuture(e);
+            }
+            return dbStage.exceptionally(e -> {
+                i18nLog.error("db.union_load_error", e, e.getMessage());
+                return Collections.emptyMap();
+            }).thenCompose(dbResultMap -> {
+                if (MapUtils.isNotEmpty(dbResultMap)) {
+                    dbResultMap.values().forEach(finalResult::addAll);
+                }
+                return populateUnionCache(config, strategy, dbResultMap, missingKeysAfterL2, true).thenApply(v -> finalResult);
+            });
+        });
+    }
+
+    /**
+     * 写入本地缓存 (空值标记不回种)。单条写入直接完成，由 {@link JMultiCacheL1Writer} 负责。
+     * <p>
+     * Writes to the local cache (empty markers are skipped). A single write completes immediately through {@link JMultiCacheL1Writer}.
+     */
+    private void putInLocalCache(ResolvedJMultiCacheConfig config, String key, Object value) {
+        putInLocalCache(routeOf(config), key, value);
+    }
+
+    private void putInLocalCache(JMultiCacheRoute route, String key, Object value) {
+        ResolvedJMultiCacheConfig config = route.getConfig();
+        // 如果是空数据标记不回种L1
+        if (JMultiCacheHelper.isSpecialEmptyData(value, config)) {
+            diagnostics.event(config.getNamespace(), "l1.skip_empty", "key", key);
+            return;
+        }
+        Cache<String, Object> localCache = route.getLocalCache();
+        if (localCache == null) {
+            return;
+        }
+        try {
+            l1Writer.write(config.getNamespace(), localCache, key, value);
+        } catch (Exception e) {
+            log.warn(LOG_PREFIX + "[L1 POPULATE ERROR] Namespace: {}, Key: {}", config.getNamespace(), key, e);
+        }
+    }
+
+    /**
+     * 批量写入本地缓存 (空值标记不回种)。少量条目同步写入，大批量按命名空间合并后由 {@link JMultiCacheL1Writer} 的排空任务写入。
+     * <p>
+     * Writes a batch to the local cache (empty markers are skipped). Small batches are written synchronously;
+     * large ones are coalesced per namespace and written by a {@link JMultiCacheL1Writer} drain.
+     */
+    private void putInLocalCacheMulti(ResolvedJMultiCacheConfig config, Map<String, Object> dataToCache) {
+        if (dataToCache == null || dataToCache.isEmpty()) return;
+        Cache<String, Object> localCache = routeOf(config).getLocalCache();
+        if (localCache == null) {
+            return;
+        }
+        try {
+            Map<String, Object> checkedDataToCache = new HashMap<>(dataToCache.size());
+            for (Map.Entry<String, Object> entry : dataToCache.entrySet()) {
+                // 如果是空值标记，则不回填L1
+                if (JMultiCacheHelper.isSpecialEmptyData(entry.getValue(), config)) {
+                    continue;
+                }
+                checkedDataToCache.put(entry.getKey(), entry.getValue());
             }
-        }, asyncExecutor);
-	}
+            l1Writer.write(config.getNamespace(), localCache, checkedDataToCache);
+        } catch (Exception e) {
+            log.error(LOG_PREFIX + "[L1-MULTI POPULATE ERROR] Namespace: {}", config.getNamespace(), e);
+        }
+    }
+
+    /**
+     * 一个配置注册的批量加载：配置、key 构建器和合并器。/ The batch loading registered for a configuration: the configuration, key builder and merger.
+     */
+    private record BatchRegistration<K, V>(ResolvedJMultiCacheConfig config, Function<K, String> keyBuilder,
+                                           JMultiCacheMicroBatcher<K, V> batcher) {
+    }
 }
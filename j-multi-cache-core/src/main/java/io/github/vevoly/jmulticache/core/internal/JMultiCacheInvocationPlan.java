@@ -0,0 +1,168 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
+import io.github.vevoly.jmulticache.core.utils.JMultiCacheInternalHelper;
+import io.github.vevoly.jmulticache.core.utils.JMultiCacheKeyTemplate;
+import io.github.vevoly.jmulticache.core.wrap.JMultiCacheResult;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@code @JMultiCacheable} 方法的调用计划，每个 (方法, 目标类) 只构建一次。
+ * <p>
+ * 切面每次拦截时需要的、只取决于方法签名和配置的信息都在这里预先算好：生效的配置、参数名、是否可能是批量查询、
+ * 批量查询的 businessKey、预编译的 key 模板，以及按方法返回类型塑形批量结果的适配器。命中 L1 时切面只剩下参数求值和一次缓存读取。
+ * <p>
+ * The invocation plan of a {@code @JMultiCacheable} method, built once per (method, target class).
+ * Everything the aspect needs on each interception that depends only on the method signature and the configuration is computed here up front:
+ * the effective configuration, parameter names, whether the call can be a batch query, the batch businessKey, the precompiled key template,
+ * and the adapter that shapes batch results to the method's return type. On an L1 hit the aspect is left with argument evaluation and one cache read.
+ *
+ * @author vevoly
+ */
+final class JMultiCacheInvocationPlan {
+
+    /**
+     * 直接执行目标方法的计划 (未标注注解或无法推断配置)。/ A plan that just proceeds with the target method (no annotation, or the configuration could not be inferred).
+     */
+    static final JMultiCacheInvocationPlan PROCEED = new JMultiCacheInvocationPlan(null, null, false, null, false, null, null, null);
+
+    private final Method method;
+    private final ResolvedJMultiCacheConfig config;
+    private final boolean forceRefresh;
+    private final String[] paramNames;
+    private final boolean batchCapable;
+    private final String businessKey;
+    private final JMultiCacheKeyTemplate keyTemplate;
+    private final Function<JMultiCacheResult<Object, Object>, Object> resultAdapter;
+
+    private JMultiCacheInvocationPlan(Method method, ResolvedJMultiCacheConfig config, boolean forceRefresh, String[] paramNames,
+                                      boolean batchCapable, String businessKey, JMultiCacheKeyTemplate keyTemplate,
+                                      Function<JMultiCacheResult<Object, Object>, Object> resultAdapter) {
+        this.method = method;
+        this.config = config;
+        this.forceRefresh = forceRefresh;
+        this.paramNames = paramNames;
+        this.batchCapable = batchCapable;
+        this.businessKey = businessKey;
+        this.keyTemplate = keyTemplate;
+        this.resultAdapter = resultAdapter;
+    }
+
+    /**
+     * 构建一个方法的调用计划。
+     * <p>
+     * Builds the invocation plan of a method.
+     *
+     * @param method       被拦截的方法。/ The intercepted method.
+     * @param config       生效的配置。/ The effective configuration.
+     * @param forceRefresh 是否强制回源。/ Whether to always go to the source.
+     * @param paramNames   方法的参数名，可能为 {@code null}。/ The parameter names of the method, may be {@code null}.
+     * @return 调用计划。/ The invocation plan.
+     */
+    static JMultiCacheInvocationPlan of(Method method, ResolvedJMultiCacheConfig config, boolean forceRefresh, String[] paramNames) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        // 第一个参数声明为 Collection (或其父类型，如 Object) 时才可能是批量查询，是否真的是仍以运行时的实参为准
+        // Only a first parameter declared as a Collection (or a supertype such as Object) can make a batch query; the runtime argument still decides
+        boolean batchCapable = parameterTypes.length > 0
+                && (Collection.class.isAssignableFrom(parameterTypes[0]) || parameterTypes[0].isAssignableFrom(Collection.class));
+        // 推断 businessKey (根据约定：将参数名转为单数形式，例如 userIds -> userId)
+        String businessKey = paramNames != null && paramNames.length > 0 ? JMultiCacheInternalHelper.toSingleForm(paramNames[0]) : null;
+        return new JMultiCacheInvocationPlan(method, config, forceRefresh, paramNames, batchCapable, businessKey,
+                JMultiCacheInternalHelper.keyTemplateOf(config), resultAdapterOf(method.getReturnType()));
+    }
+
+    boolean isProceed() {
+        return config == null;
+    }
+
+    ResolvedJMultiCacheConfig getConfig() {
+        return config;
+    }
+
+    boolean isForceRefresh() {
+        return forceRefresh;
+    }
+
+    String getBusinessKey() {
+        return businessKey;
+    }
+
+    /**
+     * 本次调用是否是批量查询：第一个实参是 Collection。/ Whether this call is a batch query: the first argument is a Collection.
+     */
+    boolean isBatch(Object[] args) {
+        return batchCapable && args.length > 0 && args[0] instanceof Collection;
+    }
+
+    /**
+     * 批量查询需要参数名来推断 businessKey。/ Batch queries need parameter names to infer the businessKey.
+     */
+    boolean canBatch() {
+        return paramNames != null;
+    }
+
+    /**
+     * 单点查询：从方法参数中解析 key 的各部分。/ Single query: resolves the key parts from the method arguments.
+     */
+    String[] keyParts(Object[] args) {
+        return JMultiCacheInternalHelper.getKeyValuesFromMethodArgs(args, paramNames, keyTemplate);
+    }
+
+    /**
+     * 批量查询：为一个 ID 构建完整的缓存 key。/ Batch query: builds the full cache key of one ID.
+     */
+    String batchKey(Object id, Object[] args) {
+        Object keyPart = keyTemplate.evaluate(null, name -> batchVariable(name, id, args));
+        return JMultiCacheHelper.buildKey(config.getNamespace(), String.valueOf(keyPart));
+    }
+
+    /**
+     * 按方法返回类型塑形批量结果。/ Shapes a batch result to the method's return type.
+     */
+    Object adapt(JMultiCacheResult<Object, Object> result) {
+        return resultAdapter.apply(result);
+    }
+
+    /**
+     * 空 ID 集合时返回的结果。/ The result returned for an empty ID collection.
+     */
+    Object emptyResult() {
+        Class<?> returnType = method.getReturnType();
+        if (Map.class.isAssignableFrom(returnType)) {
+            return Collections.emptyMap();
+        }
+        return Set.class.isAssignableFrom(returnType) ? Collections.emptySet() : Collections.emptyList();
+    }
+
+    private Object batchVariable(String name, Object id, Object[] args) {
+        //【约定】： SpEL 中代表“批量ID”的变量名，与方法中 ID 列表参数的单数形式一致。例如：方法参数 List<Long> userIds -> SpEL 变量 #userId
+        if (name.equals(businessKey)) {
+            return id;
+        }
+        // 其余变量按原名取非 ID 列表的参数 (p1, p2...)
+        for (int i = 1; i < paramNames.length; i++) {
+            if (paramNames[i].equals(name)) {
+                return args[i];
+            }
+        }
+        return null;
+    }
+
+    private static Function<JMultiCacheResult<Object, Object>, Object> resultAdapterOf(Class<?> returnType) {
+        if (Map.class.isAssignableFrom(returnType)) {
+            return JMultiCacheResult::getGroupedMap;
+        }
+        if (Set.class.isAssignableFrom(returnType)) {
+            return result -> new LinkedHashSet<>(result.getFlatList());
+        }
+        return JMultiCacheResult::getFlatList;
+    }
+}
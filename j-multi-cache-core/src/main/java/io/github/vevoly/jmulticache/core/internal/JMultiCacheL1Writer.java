@@ -0,0 +1,222 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheL1WriterStats;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheL1WriterProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * L1 (Caffeine) 回填管道。
+ * <p>
+ * 少量条目直接在调用线程上写入；大批量的回填按命名空间进入一个以 key 去重的待写队列，
+ * 每个命名空间同一时刻最多只有一个排空任务。这样一次 1000 个 key 的 L2 批量命中只会产生一次任务提交，而不是 1000 次。
+ * <p>
+ * 排空任务取走的条目在写入前一直登记为"在途"。清除 ({@link #discard}) 和更新的同步写入会先注销在途条目，
+ * 排空任务在 key 的 {@code compute} 内确认条目仍然在途才写入，因此被清除或被取代的旧值不会在之后写回。
+ * <p>
+ * The L1 (Caffeine) population pipeline.
+ * A few entries are written on the calling thread; large populations go into a per-namespace pending queue de-duplicated by key,
+ * drained by at most one task per namespace at a time. A batch of 1,000 L2 hits thus causes a single task submission instead of 1,000.
+ * <p>
+ * Entries taken by a drain stay registered as in flight until written. An eviction ({@link #discard}) or a newer synchronous write first
+ * unregisters the in-flight entry, and the drain writes inside the key's {@code compute} only if its entry is still in flight,
+ * so an evicted or superseded value is never written back afterwards.
+ *
+ * @author vevoly
+ */
+@Slf4j
+final class JMultiCacheL1Writer {
+
+    /**
+     * 每轮排空的最大条目数，避免一次排空长时间占用线程。/ Maximum entries per drain round, so one drain does not hold a thread for long.
+     */
+    private static final int DRAIN_BATCH_SIZE = 512;
+
+    private final Executor executor;
+    private final int syncThreshold;
+    private final int maxPendingPerNamespace;
+    private final ConcurrentHashMap<String, PendingQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedWrites = new LongAdder();
+    private final LongAdder coalescedWrites = new LongAdder();
+    private final LongAdder syncWrites = new LongAdder();
+    private final LongAdder batchedWrites = new LongAdder();
+
+    JMultiCacheL1Writer(Executor executor, JMultiCacheL1WriterProperties properties) {
+        this.executor = executor;
+        this.syncThreshold = properties.getSyncThreshold();
+        this.maxPendingPerNamespace = properties.getMaxPendingPerNamespace();
+    }
+
+    /**
+     * 写入单个条目。单条写入总是同步完成，并取代队列中同一 key 尚未写入的旧值。
+     * <p>
+     * Writes a single entry. Single writes always complete synchronously and supersede a queued older value of the same key.
+     *
+     * @param cache 命名空间的原生缓存，由执行路由提供 / the native cache of the namespace, supplied by the execution route
+     */
+    void write(String namespace, Cache<String, Object> cache, String key, Object value) {
+        PendingQueue queue = queues.get(namespace);
+        if (queue != null) {
+            if (queue.pending.remove(key) != null) {
+                coalescedWrites.increment();
+            }
+            // 取代正在排空的旧值 / Supersede an older value being drained
+            queue.inFlight.remove(key);
+        }
+        cache.put(key, value);
+        syncWrites.increment();
+    }
+
+    /**
+     * 批量写入。条目数不超过同步阈值时直接写入，否则进入命名空间的待写队列。
+     * <p>
+     * Writes a batch. Batches up to the sync threshold are written directly; larger ones are queued for the namespace.
+     */
+    void write(String namespace, Cache<String, Object> cache, Map<String, Object> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (entries.size() <= syncThreshold) {
+            entries.forEach((key, value) -> write(namespace, cache, key, value));
+            return;
+        }
+        PendingQueue queue = queues.computeIfAbsent(namespace, ns -> new PendingQueue(cache));
+        entries.forEach((key, value) -> {
+            if (queue.pending.mappingCount() >= maxPendingPerNamespace && !queue.pending.containsKey(key)) {
+                droppedWrites.increment();
+                return;
+            }
+            if (queue.pending.put(key, new Pending(value)) != null) {
+                coalescedWrites.increment();
+            }
+        });
+        scheduleDrain(namespace, queue);
+    }
+
+    /**
+     * 丢弃某个 key 尚未写入的回填 (包括排空任务已取走但尚未写入的)，必须在清除 L1 之前调用，避免旧值在清除之后被写回。
+     * <p>
+     * Discards the pending population of a key, including one taken by a drain but not yet written.
+     * Must be called before the L1 eviction so an old value is not written back after it.
+     */
+    void discard(String namespace, String key) {
+        PendingQueue queue = queues.get(namespace);
+        if (queue != null) {
+            queue.pending.remove(key);
+            queue.inFlight.remove(key);
+        }
+    }
+
+    /**
+     * 丢弃一个命名空间全部尚未写入的回填，在清空该命名空间的 L1 时调用。
+     * <p>
+     * Discards every pending population of a namespace. Called when the namespace's L1 is cleared.
+     */
+    void discardAll(String namespace) {
+        PendingQueue queue = queues.get(namespace);
+        if (queue != null) {
+            queue.pending.clear();
+            queue.inFlight.clear();
+        }
+    }
+
+    /**
+     * 当前统计快照。
+     * <p>
+     * The current statistics snapshot.
+     */
+    JMultiCacheL1WriterStats stats() {
+        long pending = 0;
+        for (PendingQueue queue : queues.values()) {
+            pending += queue.pending.mappingCount();
+        }
+        return new JMultiCacheL1WriterStats(pending, droppedWrites.sum(), coalescedWrites.sum(), syncWrites.sum(), batchedWrites.sum());
+    }
+
+    private void scheduleDrain(String namespace, PendingQueue queue) {
+        if (!queue.draining.compareAndSet(false, true)) {
+            return; // 已有排空任务，它会带走新加入的条目 / A drain is already running and will pick up the new entries
+        }
+        try {
+            executor.execute(() -> drain(namespace, queue));
+        } catch (RejectedExecutionException e) {
+            drain(namespace, queue);
+        }
+    }
+
+    private void drain(String namespace, PendingQueue queue) {
+        try {
+            ConcurrentMap<String, Object> cache = queue.cache.asMap();
+            while (true) {
+                Map<String, Pending> batch = new HashMap<>();
+                Iterator<Map.Entry<String, Pending>> it = queue.pending.entrySet().iterator();
+                while (it.hasNext() && batch.size() < DRAIN_BATCH_SIZE) {
+                    Map.Entry<String, Pending> entry = it.next();
+                    // 只有值未被并发替换时才取走，被替换的新值留给下一轮 / Take it only if not replaced concurrently; a newer value is left for the next round
+                    if (queue.pending.remove(entry.getKey(), entry.getValue())) {
+                        queue.inFlight.put(entry.getKey(), entry.getValue());
+                        batch.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                int written = 0;
+                for (Map.Entry<String, Pending> entry : batch.entrySet()) {
+                    Pending taken = entry.getValue();
+                    if (queue.inFlight.get(entry.getKey()) != taken) {
+                        continue; // 已被清除或取代 / Already evicted or superseded
+                    }
+                    // 在 key 的锁内注销在途条目，与清除、同步写入串行 / Unregister within the key's lock, serialized with evictions and synchronous writes
+                    cache.compute(entry.getKey(), (key, current) -> queue.inFlight.remove(key, taken) ? taken.value : current);
+                    written++;
+                }
+                batchedWrites.add(written);
+                log.debug(JMultiCacheImpl.LOG_PREFIX + "[L1-MULTI POPULATE] 回种数据 {} 个items 到 namespace '{}'.", written, namespace);
+            }
+        } catch (Exception e) {
+            log.error(JMultiCacheImpl.LOG_PREFIX + "[L1-MULTI POPULATE ERROR] Namespace: {}", namespace, e);
+        } finally {
+            queue.draining.set(false);
+            // 排空结束与新条目入队之间可能存在竞争，重新检查一次 / Re-check to close the race between finishing and a concurrent enqueue
+            if (!queue.pending.isEmpty()) {
+                scheduleDrain(namespace, queue);
+            }
+        }
+    }
+
+    private static final class PendingQueue {
+        private final Cache<String, Object> cache;
+        private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Pending> inFlight = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private PendingQueue(Cache<String, Object> cache) {
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * 一次待写入的值，按实例身份比较，用来区分同一 key 的先后两次回填。
+     * <p>
+     * One value awaiting population, compared by identity so two populations of the same key can be told apart.
+     */
+    private static final class Pending {
+        private final Object value;
+
+        private Pending(Object value) {
+            this.value = value;
+        }
+    }
+}
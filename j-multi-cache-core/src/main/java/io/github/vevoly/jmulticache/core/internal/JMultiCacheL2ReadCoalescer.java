@@ -0,0 +1,176 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.vevoly.jmulticache.api.redis.RedisClient;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchSettings;
+import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 跨请求合并单 key 的 L2 读取。
+ * <p>
+ * 第一个读取到达时打开一个窗口，窗口内所有线程的读取经各自存储策略的 {@code readMulti} 写入同一个批次，
+ * 窗口结束或达到 {@code maxBatchSize} 时整体异步执行：STRING 的读取合并为一条 MGET，其他结构的读取共用一个管道。
+ * 同一窗口内同一路由下相同的 key 共享一次读取。不支持批量读取的策略 (如 ZSET、PAGE) 不参与合并，由调用方直接读取。
+ * <p>
+ * Merges single-key L2 reads across requests.
+ * The first read to arrive opens a window; reads from every thread within it are added to one batch through their storage strategy's {@code readMulti},
+ * and the batch is executed asynchronously when the window ends or {@code maxBatchSize} is reached:
+ * STRING reads are merged into one MGET and reads of other structures share one pipeline.
+ * The same key under the same route within a window shares one read. Strategies without batch reads (e.g. ZSET, PAGE) are not merged and are read by the caller directly.
+ *
+ * @author vevoly
+ */
+@Slf4j
+final class JMultiCacheL2ReadCoalescer {
+
+    private static final ScheduledExecutorService WINDOW_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "JMultiCache-L2Coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RedisClient redisClient;
+    private final BatchSettings settings;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    // 窗口是否由计时器关闭；否则每次读取后立即发出 / Whether windows are closed by the timer; otherwise each read is sent right away
+    private final boolean timed;
+    private Window current;
+
+    /**
+     * @param redisClient  L2 客户端 / the L2 client
+     * @param settings     合并批次的选项 / options of the merged batches
+     * @param window       合并窗口 / the merge window
+     * @param maxBatchSize 每个批次最多包含的 key 数 / the maximum number of keys per batch
+     */
+    JMultiCacheL2ReadCoalescer(RedisClient redisClient, BatchSettings settings, Duration window, int maxBatchSize) {
+        this.redisClient = redisClient;
+        this.settings = settings;
+        this.windowNanos = window != null && !window.isNegative() ? window.toNanos() : 0;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.timed = windowNanos > 0 && this.maxBatchSize > 1;
+    }
+
+    /**
+     * 把一个 key 的读取加入当前窗口。结果的语义与 {@code readMulti} 一致：未命中为 {@code null}，命中空值标记为 {@code Optional.empty()}。
+     * <p>
+     * Adds the read of one key to the current window. The result follows {@code readMulti}: {@code null} on a miss, {@code Optional.empty()} on an empty marker.
+     *
+     * @param route   缓存配置的执行路由 / the execution route of the cache configuration
+     * @param key     完整的 Redis key / the full Redis key
+     * @param typeRef 解码类型 / the type to decode into
+     * @return 批次执行后完成的 Future；策略不支持批量读取时返回 {@code null} / a future completed once the batch has run; {@code null} when the strategy has no batch read
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<Optional<T>> read(JMultiCacheRoute route, String key, TypeReference<T> typeRef) {
+        RedisStorageStrategy<T> strategy = route.getStrategy();
+        if (strategy == null) {
+            return null;
+        }
+        Window full = null;
+        CompletableFuture<Optional<T>> result;
+        synchronized (this) {
+            if (current == null) {
+                current = new Window(redisClient.createBatchOperation(settings));
+                if (timed) {
+                    Window opened = current;
+                    WINDOW_TIMER.schedule(() -> dispatchIfCurrent(opened), windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            Window window = current;
+            // 同一个 key 只有在同一路由 (同样的策略和解码类型) 下才共享读取 / A key shares a read only under the same route (same strategy and decode type)
+            ReadKey readKey = new ReadKey(key, route);
+            CompletableFuture<Optional<?>> pending = window.reads.get(readKey);
+            if (pending != null) {
+                return (CompletableFuture<Optional<T>>) (CompletableFuture<?>) pending;
+            }
+            CompletableFuture<Optional<T>> read = enqueue(strategy, window.batch, key, typeRef, route);
+            if (read == null) {
+                if (!timed && window.reads.isEmpty()) {
+                    // 没有计时器会关闭这个空窗口 / No timer will close this empty window
+                    current = null;
+                }
+                return null;
+            }
+            result = window.executed.thenCompose(v -> read);
+            window.reads.put(readKey, (CompletableFuture<Optional<?>>) (CompletableFuture<?>) result);
+            if (!timed || window.reads.size() >= maxBatchSize) {
+                full = window;
+                current = null;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    private static <T> CompletableFuture<Optional<T>> enqueue(RedisStorageStrategy<T> strategy, BatchOperation batch, String key,
+                                                             TypeReference<T> typeRef, JMultiCacheRoute route) {
+        try {
+            return strategy.readMulti(batch, List.of(key), typeRef, route.getConfig()).get(key);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private void dispatchIfCurrent(Window window) {
+        synchronized (this) {
+            if (current != window) {
+                // 已因达到上限而发出 / Already sent for reaching the size limit
+                return;
+            }
+            current = null;
+        }
+        dispatch(window);
+    }
+
+    private void dispatch(Window window) {
+        if (window.reads.isEmpty()) {
+            // 窗口内只有不支持批量读取的策略 / Only strategies without batch reads arrived in the window
+            window.executed.complete(null);
+            return;
+        }
+        try {
+            window.batch.executeAsync().whenComplete((v, error) -> {
+                if (error != null) {
+                    log.warn(JMultiCacheImpl.LOG_PREFIX + "[L2-COALESCE] Merged read of {} keys failed: {}", window.reads.size(), error.getMessage());
+                    window.executed.completeExceptionally(error);
+                } else {
+                    window.executed.complete(null);
+                }
+            });
+        } catch (Exception e) {
+            log.warn(JMultiCacheImpl.LOG_PREFIX + "[L2-COALESCE] Merged read of {} keys failed: {}", window.reads.size(), e.getMessage());
+            window.executed.completeExceptionally(e);
+        }
+    }
+
+    private static final class Window {
+        private final BatchOperation batch;
+        private final Map<ReadKey, CompletableFuture<Optional<?>>> reads = new HashMap<>();
+        private final CompletableFuture<Void> executed = new CompletableFuture<>();
+
+        private Window(BatchOperation batch) {
+            this.batch = batch;
+        }
+    }
+
+    /**
+     * 窗口内一次读取的标识；路由按实例身份比较。/ Identifies one read within a window; routes compare by identity.
+     */
+    private record ReadKey(String key, JMultiCacheRoute route) {
+    }
+}
@@ -1,9 +1,11 @@
 package io.github.vevoly.jmulticache.core.internal;
 
-import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
 import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
 import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -19,16 +21,24 @@ import java.util.concurrent.Executor;
 @Configuration
 public class JMultiCacheManagerConfiguration {
 
+    /**
+     * 声明为实现类类型，使同一个 Bean 也可以按 {@link io.github.vevoly.jmulticache.api.JMultiCacheAsync} 注入。
+     * <p>
+     * Declared with the implementation type so the same bean can also be injected as {@link io.github.vevoly.jmulticache.api.JMultiCacheAsync}.
+     */
     @Bean
-    public JMultiCache jMultiCache(
+    public JMultiCacheImpl jMultiCache(
             RedisClient redisClient,
             @Qualifier("jMultiCacheCaffeineManager") CacheManager caffeineCacheManager,
             JMultiCacheConfigResolver configResolver,
             @Qualifier("jMultiCacheAsyncExecutor") Executor asyncExecutor,
-            List<RedisStorageStrategy<?>> strategies
+            List<RedisStorageStrategy<?>> strategies,
+            JMultiCacheRootProperties rootProperties,
+            ObjectProvider<JMultiCacheMetricsRecorder> metricsRecorder
     ) {
         return new JMultiCacheImpl(
-                redisClient, caffeineCacheManager, configResolver, asyncExecutor, strategies
+                redisClient, caffeineCacheManager, configResolver, asyncExecutor, strategies, rootProperties,
+                metricsRecorder.getIfAvailable(() -> JMultiCacheMetricsRecorder.NOOP)
         );
     }
 }
@@ -0,0 +1,111 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 一个缓存配置的单点查询合并器 (DataLoader 风格)。
+ * <p>
+ * 第一个到达的调用方开启一个批次并成为它的 leader：leader 等待 {@code window} (批次达到 {@code maxBatchSize} 时被提前唤醒)，
+ * 随后关闭批次并在自己的线程上整体加载，结果 (或异常) 分发给批次内的每个等待者。同一批次内重复的 ID 共享同一个 Future。
+ * 加载不经过任何共享线程或执行器，因此一个命名空间的慢加载 (DB 查询、认领等待) 不会拖住其他批次。
+ * <p>
+ * The single-fetch merger of one cache configuration (DataLoader style).
+ * The first caller to arrive opens a batch and becomes its leader: the leader waits for {@code window} (woken early when the batch reaches {@code maxBatchSize}),
+ * then closes the batch and loads it as a whole on its own thread, handing the result (or failure) to every waiter of the batch.
+ * Duplicate IDs within a batch share one future. Loading never goes through a shared thread or executor,
+ * so a slow load in one namespace (the DB query, claim waits) cannot hold up other batches.
+ *
+ * @param <K> ID 的类型 / the type of the ID
+ * @param <V> 数据的类型 / the type of the data
+ * @author vevoly
+ */
+final class JMultiCacheMicroBatcher<K, V> {
+
+    private final Function<Collection<K>, Map<K, ?>> batchFetcher;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private Batch<K, V> current;
+
+    /**
+     * @param batchFetcher 加载一个批次的函数 (走完整的 L1/L2/DB 批量链路) / loads one batch (through the full L1/L2/DB batch path)
+     * @param window       合并窗口 / the merge window
+     * @param maxBatchSize 每个批次最多包含的 ID 数 / the maximum number of IDs per batch
+     */
+    JMultiCacheMicroBatcher(Function<Collection<K>, Map<K, ?>> batchFetcher, Duration window, int maxBatchSize) {
+        this.batchFetcher = batchFetcher;
+        this.windowNanos = window != null && !window.isNegative() ? window.toNanos() : 0;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * 把一个 ID 加入当前批次并阻塞到批次加载完成。
+     * <p>
+     * Adds an ID to the current batch and blocks until the batch is loaded.
+     *
+     * @param id 查询 ID / the ID to fetch
+     * @return 该 ID 的数据，不存在时为 {@code null} / the data of the ID, {@code null} when absent
+     */
+    V fetch(K id) {
+        Batch<K, V> batch;
+        boolean leader = false;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            if (current == null) {
+                current = new Batch<>();
+                leader = true;
+            }
+            batch = current;
+            future = batch.waiters.computeIfAbsent(id, k -> new CompletableFuture<>());
+            if (batch.waiters.size() >= maxBatchSize) {
+                current = null;
+                batch.full.countDown();
+            }
+        }
+        if (leader) {
+            awaitWindow(batch);
+            synchronized (this) {
+                if (current == batch) {
+                    current = null;
+                }
+            }
+            load(batch);
+        }
+        return JMultiCacheSingleFlight.await(future);
+    }
+
+    private void awaitWindow(Batch<K, V> batch) {
+        if (windowNanos == 0) {
+            return;
+        }
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // 仍然加载批次，避免其他等待者悬挂 / Still load the batch so the other waiters are not left hanging
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(Batch<K, V> batch) {
+        // 批次已从 current 摘下，之后不会再有新的等待者加入 / The batch is detached from current, so no more waiters join it
+        try {
+            Map<K, ?> result = batchFetcher.apply(new ArrayList<>(batch.waiters.keySet()));
+            batch.waiters.forEach((id, waiter) -> waiter.complete(result != null ? (V) result.get(id) : null));
+        } catch (Throwable t) {
+            batch.waiters.values().forEach(waiter -> waiter.completeExceptionally(t));
+        }
+    }
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> waiters = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
+import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
+import io.github.vevoly.jmulticache.api.strategy.FieldBasedStorageStrategy;
+import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+
+/**
+ * 一个缓存配置的执行路由，启动时为每个配置构建一次，之后不可变。
+ * <p>
+ * 读写链路每次都要用到、但只取决于配置的对象都在这里预先绑定：存储策略 (含按字段读写与并集读取所用的策略)、原生 Caffeine 缓存、由 storagePolicy 推出的 L1/L2 开关，
+ * 以及解码用的类型引用 (由配置解析器绑定到编解码器，见 {@code BoundTypeReference})。热路径上只剩字段读取，
+ * 不再有存储类型的大小写转换、{@code CacheManager} 查找和策略字符串匹配。
+ * <p>
+ * The execution route of one cache configuration, built once per configuration at startup and immutable afterwards.
+ * Everything the read and write paths need on each call that depends only on the configuration is bound here up front: the storage strategy (including the ones used by field-based
+ * and union reads), the native Caffeine cache,
+ * the L1/L2 switches derived from storagePolicy, and the type reference used for decoding (bound to the codec by the configuration resolver, see {@code BoundTypeReference}).
+ * The hot path is left with field reads instead of upper-casing the storage type, looking up the {@code CacheManager} and matching the policy string.
+ *
+ * @author vevoly
+ */
+@Slf4j
+final class JMultiCacheRoute {
+
+    private final ResolvedJMultiCacheConfig config;
+    private final RedisStorageStrategy<Object> strategy;
+    // 存储策略支持按字段读写时与 strategy 相同，否则为 null / Same as strategy when it supports field-based access, otherwise null
+    private final FieldBasedStorageStrategy<Object> fieldBasedStrategy;
+    // 并集读取总是按 SET 读写，与配置的存储类型无关 / Union reads always read and write sets, whatever the configured storage type
+    private final RedisStorageStrategy<Object> unionStrategy;
+    private final Cache<String, Object> localCache;
+    private final boolean useL1;
+    private final boolean useL2;
+    private final boolean populateL1FromL2;
+    private final TypeReference<Object> typeReference;
+
+    @SuppressWarnings("unchecked")
+    private JMultiCacheRoute(ResolvedJMultiCacheConfig config, RedisStorageStrategy<Object> strategy, RedisStorageStrategy<Object> unionStrategy,
+                             Cache<String, Object> localCache) {
+        this.config = config;
+        this.strategy = strategy;
+        this.fieldBasedStrategy = strategy instanceof FieldBasedStorageStrategy<?> fieldBased ? (FieldBasedStorageStrategy<Object>) fieldBased : null;
+        this.unionStrategy = unionStrategy;
+        this.localCache = localCache;
+        this.useL1 = config.isUseL1();
+        this.useL2 = config.isUseL2();
+        this.populateL1FromL2 = config.isPopulateL1FromL2();
+        this.typeReference = typeReferenceOf(config);
+    }
+
+    /**
+     * 为一个配置构建路由。
+     * <p>
+     * Builds the route of a configuration.
+     *
+     * @param config               缓存配置 / the cache configuration
+     * @param strategiesByType     以大写存储类型为键的存储策略 / storage strategies keyed by the upper-cased storage type
+     * @param caffeineCacheManager L1 缓存管理器 / the L1 cache manager
+     * @return 执行路由 / the execution route
+     */
+    @SuppressWarnings("unchecked")
+    static JMultiCacheRoute of(ResolvedJMultiCacheConfig config, Map<String, RedisStorageStrategy<?>> strategiesByType,
+                               CacheManager caffeineCacheManager) {
+        RedisStorageStrategy<Object> strategy = (RedisStorageStrategy<Object>) strategiesByType.get(config.getStorageType().toUpperCase());
+        RedisStorageStrategy<Object> unionStrategy = (RedisStorageStrategy<Object>) strategiesByType.get(DefaultStorageTypes.SET);
+        Cache<String, Object> localCache = null;
+        if (config.isUseL1()) {
+            org.springframework.cache.Cache springCache = caffeineCacheManager.getCache(config.getNamespace());
+            if (springCache != null && springCache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+                localCache = (Cache<String, Object>) nativeCache;
+            } else {
+                log.warn(JMultiCacheImpl.LOG_PREFIX + "[L1 WARN] Caffeine cache '{}' not found, L1 is skipped for '{}'.", config.getNamespace(), config.getName());
+            }
+        }
+        return new JMultiCacheRoute(config, strategy, unionStrategy, localCache);
+    }
+
+    ResolvedJMultiCacheConfig getConfig() {
+        return config;
+    }
+
+    String getNamespace() {
+        return config.getNamespace();
+    }
+
+    /**
+     * 配置的存储策略；存储类型没有对应的策略时为 {@code null}。/ The storage strategy of the configuration; {@code null} when no strategy serves the storage type.
+     */
+    @SuppressWarnings("unchecked")
+    <T> RedisStorageStrategy<T> getStrategy() {
+        return (RedisStorageStrategy<T>) strategy;
+    }
+
+    /**
+     * 按字段读写 (Hash) 所用的策略。
+     * <p>
+     * The strategy used for field-based (hash) access.
+     *
+     * @throws UnsupportedOperationException 存储类型不支持按字段操作时 / if the storage type does not support field-based access
+     */
+    @SuppressWarnings("unchecked")
+    <T> FieldBasedStorageStrategy<T> getFieldBasedStrategy() {
+        if (fieldBasedStrategy == null) {
+            throw new UnsupportedOperationException(JMultiCacheImpl.LOG_PREFIX + "存储类型 " + config.getStorageType() + " 不支持按字段操作！");
+        }
+        return (FieldBasedStorageStrategy<T>) fieldBasedStrategy;
+    }
+
+    /**
+     * 并集读取所用的 SET 策略。/ The SET strategy used by union reads.
+     */
+    @SuppressWarnings("unchecked")
+    <T> RedisStorageStrategy<T> getUnionStrategy() {
+        return (RedisStorageStrategy<T>) unionStrategy;
+    }
+
+    /**
+     * 原生 Caffeine 缓存；不使用 L1 或缓存未注册时为 {@code null}。/ The native Caffeine cache; {@code null} when L1 is not used or the cache is not registered.
+     */
+    Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    boolean isUseL1() {
+        return useL1;
+    }
+
+    boolean isUseL2() {
+        return useL2;
+    }
+
+    boolean isPopulateL1FromL2() {
+        return populateL1FromL2;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> TypeReference<T> getTypeReference() {
+        return (TypeReference<T>) (TypeReference<?>) typeReference;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeReference<Object> typeReferenceOf(ResolvedJMultiCacheConfig config) {
+        return (TypeReference<Object>) config.getTypeReference();
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 进程内的 single-flight 请求合并器。
+ * <p>
+ * 同一个 JVM 中，对同一个 key 的并发加载只会有一个线程 (leader) 真正执行加载逻辑，其余线程等待并共享 leader 的结果或异常。
+ * 这样分布式锁只需要在不同实例之间仲裁，而不再被同一实例内的大量线程争抢。
+ * <p>
+ * In-process single-flight request coalescer.
+ * Within one JVM, concurrent loads of the same key are executed by a single thread (the leader);
+ * other threads wait for and share the leader's result or exception.
+ * The distributed lock then only arbitrates between instances instead of between threads of the same instance.
+ *
+ * @author vevoly
+ */
+final class JMultiCacheSingleFlight {
+
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 执行或加入一个 key 的加载。
+     * <p>
+     * Executes, or joins, the load of a key.
+     *
+     * @param key    合并维度的 key，通常是完整的缓存 key。/ The coalescing key, usually the full cache key.
+     * @param loader 加载逻辑，只会被 leader 执行。/ The loading logic, executed by the leader only.
+     * @param <T>    结果类型。/ The result type.
+     * @return leader 的加载结果。/ The leader's result.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Supplier<T> loader) {
+        Flight mine = new Flight(Thread.currentThread());
+        Flight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // 同一线程重入 (例如 dbLoader 内部再次读取同一个 key)，直接执行，避免自己等待自己
+            // Re-entrant call from the leader thread itself: run directly instead of waiting on itself
+            if (existing.leader == Thread.currentThread()) {
+                return loader.get();
+            }
+            return (T) await(existing.future);
+        }
+        try {
+            T result = loader.get();
+            mine.future.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 异步版本：执行或加入一个 key 的加载，返回共享的 Future，不阻塞调用线程。
+     * 同步和异步调用方共享同一个登记表，因此可以互相加入对方发起的加载。
+     * <p>
+     * Asynchronous variant: executes, or joins, the load of a key and returns the shared future without blocking the caller.
+     * Synchronous and asynchronous callers share one registry and can therefore join loads started by each other.
+     *
+     * @param key    合并维度的 key。/ The coalescing key.
+     * @param loader 返回 Future 的加载逻辑，只会被 leader 执行。/ The future-returning loading logic, executed by the leader only.
+     * @param <T>    结果类型。/ The result type.
+     * @return 共享的结果 Future。/ The shared result future.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> loader) {
+        // 异步 leader 不绑定线程，重入检测不适用 / An async leader is not bound to a thread, so no re-entrancy check applies
+        Flight mine = new Flight(null);
+        Flight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return (CompletableFuture<T>) existing.future.thenApply(v -> v);
+        }
+        CompletableFuture<T> started;
+        try {
+            started = loader.get();
+        } catch (Throwable t) {
+            started = CompletableFuture.failedFuture(t);
+        }
+        started.whenComplete((value, error) -> {
+            inFlight.remove(key, mine);
+            if (error != null) {
+                mine.future.completeExceptionally(error);
+            } else {
+                mine.future.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) mine.future.thenApply(v -> v);
+    }
+
+    /**
+     * 当前正在进行中的加载数量。
+     * <p>
+     * Number of loads currently in flight.
+     */
+    int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * 阻塞等待 Future，按原样抛出运行时异常和 Error。/ Blocks on a future, rethrowing runtime exceptions and errors as they are.
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static final class Flight {
+        private final Thread leader;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private Flight(Thread leader) {
+            this.leader = leader;
+        }
+    }
+}
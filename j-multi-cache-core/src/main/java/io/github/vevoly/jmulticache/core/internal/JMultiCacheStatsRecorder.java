@@ -0,0 +1,149 @@
+package io.github.vevoly.jmulticache.core.internal;
+
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 为 {@link io.github.vevoly.jmulticache.api.JMultiCacheOps#getStats} 保留的按命名空间 L2 统计，同时把所有事件转发给外部的指标记录器。
+ * <p>
+ * L1 的统计直接取自 Caffeine；L2 的命中计数和读取延迟则在这里累计。延迟使用以 2 为底的对数分桶 (1µs ~ 约 1h)，
+ * 分位值取所在桶的上界，误差不超过一倍，足以判断“是 Redis 慢还是别处慢”，且记录只有一次 {@link LongAdder} 自增。
+ * <p>
+ * Per-namespace L2 statistics kept for {@link io.github.vevoly.jmulticache.api.JMultiCacheOps#getStats}, forwarding every event to the external metrics recorder.
+ * L1 statistics come straight from Caffeine; L2 hit counts and read latency accumulate here. Latency uses base-2 logarithmic buckets (1µs to about 1h)
+ * and a percentile is the upper bound of its bucket: within a factor of two, enough to tell whether Redis is the slow part, at the cost of a single {@link LongAdder} increment.
+ *
+ * @author vevoly
+ */
+final class JMultiCacheStatsRecorder implements JMultiCacheMetricsRecorder {
+
+    private static final int BUCKETS = 32;
+
+    private final JMultiCacheMetricsRecorder delegate;
+    private final ConcurrentHashMap<String, NamespaceStats> stats = new ConcurrentHashMap<>();
+
+    JMultiCacheStatsRecorder(JMultiCacheMetricsRecorder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void recordLookup(String namespace, Tier tier, Outcome outcome, long count) {
+        if (tier == Tier.L2 && count > 0) {
+            NamespaceStats ns = stats(namespace);
+            switch (outcome) {
+                case HIT -> ns.l2Hits.add(count);
+                case EMPTY -> ns.l2Empty.add(count);
+                case MISS -> ns.l2Misses.add(count);
+            }
+        }
+        delegate.recordLookup(namespace, tier, outcome, count);
+    }
+
+    @Override
+    public void recordLatency(String namespace, Stage stage, long nanos) {
+        if (stage == Stage.L2_READ) {
+            long micros = Math.max(1, nanos / 1_000);
+            int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            stats(namespace).l2ReadLatency[bucket].increment();
+        }
+        delegate.recordLatency(namespace, stage, nanos);
+    }
+
+    @Override
+    public void recordLock(String namespace, boolean acquired, long waitNanos) {
+        delegate.recordLock(namespace, acquired, waitNanos);
+    }
+
+    @Override
+    public void recordClaimWait(String namespace, boolean filled, long waitNanos) {
+        delegate.recordClaimWait(namespace, filled, waitNanos);
+    }
+
+    @Override
+    public void recordBatchSize(String namespace, int size) {
+        delegate.recordBatchSize(namespace, size);
+    }
+
+    /**
+     * 取命名空间的统计，从未被访问过的命名空间返回全零的统计。
+     * <p>
+     * Returns the statistics of a namespace; a namespace never accessed yields all zeros.
+     */
+    NamespaceStats get(String namespace) {
+        NamespaceStats ns = stats.get(namespace);
+        return ns != null ? ns : new NamespaceStats();
+    }
+
+    private NamespaceStats stats(String namespace) {
+        return stats.computeIfAbsent(namespace, k -> new NamespaceStats());
+    }
+
+    static final class NamespaceStats {
+        private final LongAdder l2Hits = new LongAdder();
+        private final LongAdder l2Empty = new LongAdder();
+        private final LongAdder l2Misses = new LongAdder();
+        private final LongAdder[] l2ReadLatency = new LongAdder[BUCKETS];
+
+        private NamespaceStats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                l2ReadLatency[i] = new LongAdder();
+            }
+        }
+
+        long l2Hits() {
+            return l2Hits.sum();
+        }
+
+        long l2Empty() {
+            return l2Empty.sum();
+        }
+
+        long l2Misses() {
+            return l2Misses.sum();
+        }
+
+        /**
+         * 读取延迟分桶的快照。/ A snapshot of the read latency buckets.
+         */
+        long[] l2ReadLatencySnapshot() {
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = l2ReadLatency[i].sum();
+            }
+            return snapshot;
+        }
+
+        /**
+         * 从快照中取分位值 (毫秒)，没有样本时为 0。/ Reads a percentile in milliseconds from a snapshot; 0 without samples.
+         */
+        static double percentileMillis(long[] snapshot, double quantile) {
+            long total = 0;
+            for (long count : snapshot) {
+                total += count;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    // 桶 i 覆盖 [2^i, 2^(i+1)) 微秒 / Bucket i covers [2^i, 2^(i+1)) microseconds
+                    return (1L << (i + 1)) / 1000.0;
+                }
+            }
+            return (1L << snapshot.length) / 1000.0;
+        }
+
+        static long count(long[] snapshot) {
+            long total = 0;
+            for (long count : snapshot) {
+                total += count;
+            }
+            return total;
+        }
+    }
+}
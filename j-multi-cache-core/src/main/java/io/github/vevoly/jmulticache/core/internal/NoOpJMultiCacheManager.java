@@ -1,7 +1,10 @@
 package io.github.vevoly.jmulticache.core.internal;
 
 import io.github.vevoly.jmulticache.api.JMultiCache;
+import io.github.vevoly.jmulticache.api.JMultiCacheAsync;
 import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheL1WriterStats;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheStats;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
@@ -9,6 +12,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -18,10 +24,12 @@ import java.util.function.Supplier;
  * @author vevoly
  */
 @Slf4j
-public class NoOpJMultiCacheManager implements JMultiCache, JMultiCacheOps {
+public class NoOpJMultiCacheManager implements JMultiCache, JMultiCacheOps, JMultiCacheAsync {
 
     private static final String LOG_PREFIX = "[JMultiCache-NoOp] ";
 
+    private final Map<String, Function<?, ?>> batchLoaders = new ConcurrentHashMap<>();
+
     public NoOpJMultiCacheManager() {
         log.warn(LOG_PREFIX + "框架未启用 (@EnableJMultiCache 缺失)，缓存功能已降级为直连数据库模式。");
     }
@@ -56,6 +64,24 @@ public class NoOpJMultiCacheManager implements JMultiCache, JMultiCacheOps {
         return null;
     }
 
+    @Override
+    public <K, V> void registerBatchLoader(String multiCacheName, Function<Collection<K>, Map<K, V>> batchLoader) {
+        if (batchLoaders.putIfAbsent(multiCacheName, batchLoader) != null) {
+            throw new IllegalStateException(LOG_PREFIX + "A batch loader is already registered for: " + multiCacheName);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> V fetchDataBatched(String multiCacheName, K id) {
+        Function<Collection<K>, Map<K, V>> batchLoader = (Function<Collection<K>, Map<K, V>>) batchLoaders.get(multiCacheName);
+        if (batchLoader == null) {
+            throw new IllegalStateException(LOG_PREFIX + "No batch loader registered for: " + multiCacheName);
+        }
+        Map<K, V> result = batchLoader.apply(List.of(id));
+        return result != null ? result.get(id) : null;
+    }
+
     @Override
     public <T> Set<T> fetchUnionData(List<String> setKeysInRedis, Function<List<String>, Map<String, Set<T>>> dbQueryFunction) {
         return null;
@@ -87,8 +113,72 @@ public class NoOpJMultiCacheManager implements JMultiCache, JMultiCacheOps {
     }
 
     @Override
+    public long evictAll(String multiCacheName) {
+        return 0;
+    }
+
+    @Override
+    public void evictAllL1(String multiCacheName) {
+
+    }
+
+    @Override
+    public boolean resizeL1(String multiCacheName, long maximumSize) {
+        return false;
+    }
+
+    @Override
+    @Deprecated
     public String getL1Stats(String multiCacheName) {
         return null;
     }
 
+    @Override
+    public JMultiCacheStats getStats(String multiCacheName) {
+        return null;
+    }
+
+    @Override
+    public List<JMultiCacheStats> getAllStats() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public JMultiCacheL1WriterStats getL1WriterStats() {
+        return new JMultiCacheL1WriterStats(0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> fetchDataAsync(String fullKey, Supplier<? extends CompletionStage<T>> dbLoader) {
+        return dbLoader != null ? dbLoader.get().toCompletableFuture() : CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> fetchDataAsync(String multiCacheName, Supplier<? extends CompletionStage<T>> dbLoader, String... keyParams) {
+        return dbLoader != null ? dbLoader.get().toCompletableFuture() : CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public <K, V> CompletableFuture<List<V>> fetchMultiDataListAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction) {
+        if (queryFunction == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return queryFunction.apply(ids).toCompletableFuture()
+                .thenApply(result -> result instanceof List ? (List<V>) result : Collections.emptyList());
+    }
+
+    @Override
+    public <K, V> CompletableFuture<Map<K, ?>> fetchMultiDataMapAsync(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, ? extends CompletionStage<V>> queryFunction) {
+        if (queryFunction == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return queryFunction.apply(ids).toCompletableFuture()
+                .thenApply(result -> result instanceof Map ? (Map<K, ?>) result : Collections.emptyMap());
+    }
+
+    @Override
+    public <T> CompletableFuture<Set<T>> fetchUnionDataAsync(List<String> setKeysInRedis, Function<List<String>, ? extends CompletionStage<Map<String, Set<T>>>> dbQueryFunction) {
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
@@ -0,0 +1,52 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 映射 {@code j-multi-cache.diagnostics} 配置块，控制逐次操作诊断事件 (L1/L2 命中、回源、回填等) 的采样输出。
+ * <p>
+ * 诊断事件输出到独立的 logger {@code io.github.vevoly.jmulticache.diagnostics}，默认关闭；
+ * 开启后按命名空间的采样率抽样，并受每秒事件上限保护，不会在高 QPS 下刷屏。
+ * <p>
+ * Maps the {@code j-multi-cache.diagnostics} block, which controls the sampled output of per-operation diagnostic events
+ * (L1/L2 hits, source loads, population, etc.).
+ * Events go to the dedicated logger {@code io.github.vevoly.jmulticache.diagnostics} and are off by default;
+ * when enabled they are sampled at a per-namespace rate and capped per second, so they cannot flood the log at high QPS.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheDiagnosticsProperties {
+
+    /**
+     * 是否输出诊断事件。
+     * <p>
+     * Whether diagnostic events are emitted.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 默认采样率，取值 0.0 ~ 1.0。未在 {@code sample-rates} 中单独配置的命名空间使用此值。
+     * <p>
+     * The default sample rate, from 0.0 to 1.0. Used by namespaces not listed in {@code sample-rates}.
+     */
+    private double defaultSampleRate = 0.0;
+
+    /**
+     * 按命名空间覆盖的采样率。Key 为命名空间，Value 为 0.0 ~ 1.0 的采样率。
+     * <p>
+     * Per-namespace sample rates. The key is the namespace and the value a rate from 0.0 to 1.0.
+     */
+    private Map<String, Double> sampleRates = new HashMap<>();
+
+    /**
+     * 全局每秒最多输出的诊断事件数，超出的事件被丢弃并计数。小于等于 0 表示不限制。
+     * <p>
+     * Maximum diagnostic events emitted per second across all namespaces; the excess is dropped and counted. Zero or less means unlimited.
+     */
+    private int maxEventsPerSecond = 100;
+
+}
@@ -0,0 +1,69 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+/**
+ * 映射 {@code j-multi-cache.executor} 配置块，控制框架异步执行器 ({@code jMultiCacheAsyncExecutor}) 的线程模型。
+ * <p>
+ * 该执行器负责 L1 异步回填、缓存预热任务、后台刷新 (refresh-ahead) 中的回源调用，以及异步 API 中无法以非阻塞方式执行的 Redis 操作。
+ * <p>
+ * Maps the {@code j-multi-cache.executor} block, which controls the threading model of the framework's async executor ({@code jMultiCacheAsyncExecutor}).
+ * The executor runs asynchronous L1 population, preload tasks, source loads of background refreshes (refresh-ahead),
+ * and the Redis operations of the async API that cannot run without blocking.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheExecutorProperties {
+
+    /**
+     * 线程模型。{@code virtual} 仅在 Java 21+ 上生效，低版本自动回退为平台线程池。
+     * <p>
+     * The threading model. {@code virtual} only takes effect on Java 21+; older runtimes fall back to the platform thread pool.
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * 平台线程池的核心线程数，默认为 CPU 核数。
+     * <p>
+     * Core size of the platform thread pool, defaults to the number of CPUs.
+     */
+    private Integer corePoolSize;
+
+    /**
+     * 平台线程池的最大线程数，默认为 CPU 核数的 4 倍。
+     * <p>
+     * Maximum size of the platform thread pool, defaults to four times the number of CPUs.
+     */
+    private Integer maxPoolSize;
+
+    /**
+     * 平台线程池的队列容量。队列满且线程数达到上限时，由提交任务的线程执行 (CallerRunsPolicy)。
+     * <p>
+     * Queue capacity of the platform thread pool. When the queue is full and the pool is at its maximum, the submitting thread runs the task (CallerRunsPolicy).
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * 虚拟线程模式下同时执行的任务上限，用于保护下游数据库。小于等于 0 表示不限制。
+     * <p>
+     * Maximum number of tasks running at once in virtual mode, protecting the downstream database. Zero or less means unlimited.
+     */
+    private int virtualConcurrencyLimit = -1;
+
+    /**
+     * 执行器线程模型。
+     * <p>
+     * Executor threading model.
+     */
+    public enum Mode {
+        /**
+         * 固定大小的平台线程池。/ A bounded pool of platform threads.
+         */
+        PLATFORM,
+        /**
+         * 每个任务一个虚拟线程 (Java 21+)。/ One virtual thread per task (Java 21+).
+         */
+        VIRTUAL
+    }
+}
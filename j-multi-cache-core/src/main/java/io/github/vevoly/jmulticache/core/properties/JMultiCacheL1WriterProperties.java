@@ -0,0 +1,29 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+/**
+ * 映射 {@code j-multi-cache.l1-writer} 配置块，控制 L1 回填队列。
+ * <p>
+ * Maps the {@code j-multi-cache.l1-writer} block, which controls the L1 population queue.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheL1WriterProperties {
+
+    /**
+     * 单次回填的条目数不超过该值时，直接在调用线程上写入 L1 (Caffeine 的写入只是一次内存操作)；超过时进入命名空间的队列，由后台逐条以原子 compute 写入 (期间已被淘汰或改写的 key 会被跳过)。
+     * <p>
+     * Populations of at most this many entries are written to L1 on the calling thread (a Caffeine put is a plain memory operation);
+     * larger ones are queued per namespace and drained in the background, one atomic compute per entry (keys evicted or rewritten in the meantime are skipped).
+     */
+    private int syncThreshold = 16;
+
+    /**
+     * 每个命名空间最多等待写入的条目数，超过后新的 key 会被丢弃 (下次读取时会重新回填)。
+     * <p>
+     * Maximum number of pending entries per namespace; new keys beyond it are dropped (they are populated again on the next read).
+     */
+    private int maxPendingPerNamespace = 10_000;
+}
@@ -0,0 +1,54 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 映射 {@code j-multi-cache.l2-batch} 配置块，控制批量查询时 L2 的管道批次。
+ * <p>
+ * Maps the {@code j-multi-cache.l2-batch} block, which controls the L2 pipeline batches of batch lookups.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheL2BatchProperties {
+
+    /**
+     * 每个读取批次最多包含的 key 数。更多的 key 拆成多个批次并行提交，各自占用连接池中的连接，
+     * 避免一个超大管道独占一条连接、所有 key 共用一个响应超时。小于等于 0 表示不拆分。
+     * <p>
+     * Maximum number of keys per read batch. More keys are split into several batches submitted in parallel, each on its own pooled connection,
+     * so one huge pipeline does not hold a single connection with a single response timeout for every key. Zero or less disables splitting.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 每个批次等待响应的超时时间，未设置时使用客户端默认值。
+     * <p>
+     * Response timeout of each batch; the client default when unset.
+     */
+    private Duration responseTimeout;
+
+    /**
+     * 每个批次发送失败时的重试次数，未设置时使用客户端默认值。
+     * <p>
+     * Retry attempts of each batch when sending fails; the client default when unset.
+     */
+    private Integer retryAttempts;
+
+    /**
+     * 两次重试之间的间隔，未设置时使用客户端默认值。
+     * <p>
+     * Interval between retries; the client default when unset.
+     */
+    private Duration retryInterval;
+
+    /**
+     * 回填 L2 的写批次是否跳过命令结果 (服务端不回复)，可减少往返数据量，但写入失败不再被记录。
+     * <p>
+     * Whether the write batches populating L2 skip command results (the server sends no replies).
+     * This reduces round-trip traffic, but write failures are no longer logged.
+     */
+    private boolean skipWriteResult = false;
+}
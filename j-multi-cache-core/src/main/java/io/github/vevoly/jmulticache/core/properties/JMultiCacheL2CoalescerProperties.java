@@ -0,0 +1,38 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 映射 {@code j-multi-cache.l2-coalescer} 配置块，控制跨请求合并单 key 的 L2 读取。
+ * <p>
+ * Maps the {@code j-multi-cache.l2-coalescer} block, which controls merging single-key L2 reads across requests.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheL2CoalescerProperties {
+
+    /**
+     * 是否启用。启用后，不同线程在同一窗口内的单 key L2 读取合并为一条 MGET 或一个管道发出，以少量延迟换取更少的 Redis 命令。
+     * <p>
+     * Whether merging is enabled. When enabled, single-key L2 reads from different threads within one window are sent as one MGET or one pipeline,
+     * trading a little latency for fewer Redis commands.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 第一个读取到达后等待更多读取的时间，也是每次 L2 读取至多增加的延迟。
+     * <p>
+     * How long to wait for more reads after the first one arrives; also the most latency each L2 read gains.
+     */
+    private Duration window = Duration.ofNanos(200_000);
+
+    /**
+     * 每个合并批次最多包含的 key 数，达到后不再等待窗口结束，立即发出。
+     * <p>
+     * Maximum number of keys per merged batch; once reached, the batch is sent right away instead of waiting for the window to end.
+     */
+    private int maxBatchSize = 128;
+}
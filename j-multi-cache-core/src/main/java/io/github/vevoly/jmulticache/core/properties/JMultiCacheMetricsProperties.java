@@ -0,0 +1,28 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+/**
+ * 映射 {@code j-multi-cache.metrics} 配置块，控制 Micrometer 指标。
+ * <p>
+ * Maps the {@code j-multi-cache.metrics} block, which controls the Micrometer metrics.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheMetricsProperties {
+
+    /**
+     * 是否在 classpath 中存在 Micrometer 时注册缓存指标。
+     * <p>
+     * Whether to register cache metrics when Micrometer is on the classpath.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否为耗时和批量大小发布直方图桶 (用于在 Prometheus 等后端计算分位数)。
+     * <p>
+     * Whether to publish histogram buckets for latencies and batch sizes (for percentile queries in backends such as Prometheus).
+     */
+    private boolean percentileHistogram = true;
+}
@@ -0,0 +1,30 @@
+package io.github.vevoly.jmulticache.core.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 映射 {@code j-multi-cache.micro-batch} 配置块，控制 {@code fetchDataBatched} 合并并发未命中的方式。
+ * <p>
+ * Maps the {@code j-multi-cache.micro-batch} block, which controls how {@code fetchDataBatched} merges concurrent misses.
+ *
+ * @author vevoly
+ */
+@Data
+public class JMultiCacheMicroBatchProperties {
+
+    /**
+     * 第一个未命中到达后等待更多未命中的时间窗口。窗口越长合并越多，但每个未命中的延迟也至多增加这么多。
+     * <p>
+     * How long to wait for more misses after the first one arrives. A longer window merges more, but adds up to this much latency to every miss.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * 每个合并批次最多包含的 ID 数，达到后不再等待窗口结束，立即提交。
+     * <p>
+     * Maximum number of IDs per merged batch; once reached, the batch is dispatched right away instead of waiting for the window to end.
+     */
+    private int maxBatchSize = 256;
+}
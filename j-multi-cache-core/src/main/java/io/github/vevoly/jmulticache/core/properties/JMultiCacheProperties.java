@@ -1,6 +1,8 @@
 package io.github.vevoly.jmulticache.core.properties;
 
 import lombok.Data;
+import org.springframework.util.unit.DataSize;
+
 import java.time.Duration;
 
 /**
@@ -89,4 +91,70 @@ public class JMultiCacheProperties {
      * A custom expiration time for the null value marker in Redis.
      */
     private Duration emptyCacheTtl;
+
+    /**
+     * 回源加载锁的最长等待时间。未抢到锁的线程会阻塞等待 leader 释放锁 (Redis 发布/订阅通知)，
+     * 被唤醒后直接读取 leader 回填的 L2 数据；超过此时间仍未等到，则直接回源。
+     * <p>
+     * The maximum time to wait for the loading lock. Threads that lose the lock block until the leader releases it
+     * (notified via Redis pub/sub) and then read the L2 value filled by the leader; if the wait exceeds this bound, they load from the source directly.
+     */
+    private Duration lockWaitTime;
+
+    /**
+     * 回源加载锁的租约时间，leader 异常退出时锁会在此时间后自动释放。
+     * <p>
+     * The lease time of the loading lock. If the leader dies, the lock is released automatically after this time.
+     */
+    private Duration lockLeaseTime;
+
+    /**
+     * 提前刷新窗口 (refresh-ahead)。当 L2 中的数据剩余存活时间小于该值时，视为“软过期”：
+     * 调用方仍然立即拿到缓存值，同时在后台异步执行一次回源刷新。必须小于 redis-ttl，为空则不开启。
+     * <p>
+     * The refresh-ahead window. Once the remaining time-to-live of an L2 value drops below this value it is considered "soft expired":
+     * callers still get the cached value immediately while one background reload from the source is triggered. Must be shorter than redis-ttl; disabled when empty.
+     */
+    private Duration refreshAhead;
+
+    /**
+     * 概率性提前过期 (XFetch) 的 beta 系数，大于 0 时开启。命中 L2 的读取会随机决定是否提前刷新，
+     * 越接近过期、回源越慢，提前刷新的概率越大；值越大越倾向于提前刷新，通常取 1.0。
+     * <p>
+     * The beta factor of probabilistic early expiration (XFetch); enabled when greater than 0. Reads that hit L2 randomly decide to refresh early,
+     * with a probability that grows as expiry approaches and as the measured load cost grows; larger values refresh earlier, 1.0 is the usual choice.
+     */
+    private Double earlyExpirationBeta;
+
+    /**
+     * 写入 L2 时在 redis-ttl 基础上增加的随机抖动上限，使批量写入的 key 不会在同一时刻集中过期。
+     * <p>
+     * The upper bound of the random jitter added to redis-ttl on every L2 write, so keys written in one batch do not all expire at the same moment.
+     */
+    private Duration ttlJitter;
+
+    /**
+     * L2 值的编解码器名称：json (默认)、smile、cbor、kryo，或自定义 {@code JMultiCacheCodec} Bean 的名称。
+     * smile / cbor / kryo 需要应用自行引入对应依赖。
+     * <p>
+     * The codec name of L2 values: json (default), smile, cbor, kryo, or the name of a custom {@code JMultiCacheCodec} bean.
+     * smile / cbor / kryo require the application to add the matching dependency.
+     */
+    private String codec;
+
+    /**
+     * L2 值的压缩算法：none (默认)、deflate、lz4、zstd。只压缩编码后超过 compression-threshold 的值，读取时自动识别。
+     * lz4 / zstd 需要应用自行引入对应依赖。
+     * <p>
+     * The compression algorithm of L2 values: none (default), deflate, lz4 or zstd. Only encoded values above compression-threshold are compressed,
+     * and readers detect compressed values automatically. lz4 / zstd require the application to add the matching dependency.
+     */
+    private String compression;
+
+    /**
+     * 压缩阈值，编码后的值超过该大小才压缩，默认 4KB。
+     * <p>
+     * The compression threshold: only encoded values larger than this are compressed. Defaults to 4KB.
+     */
+    private DataSize compressionThreshold;
 }
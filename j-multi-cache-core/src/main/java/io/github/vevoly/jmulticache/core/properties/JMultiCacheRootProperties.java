@@ -24,6 +24,13 @@ public class JMultiCacheRootProperties {
      */
     private JMultiCacheProperties defaults = new JMultiCacheProperties();
 
+    /**
+     * L2 使用的客户端实现，默认为 Redisson。选择 {@code in-memory} 时 L2 位于进程内，不需要 Redis 服务。
+     * <p>
+     * The client implementation behind L2, Redisson by default. With {@code in-memory}, L2 lives in-process and no Redis server is needed.
+     */
+    private RedisClientType redisClient = RedisClientType.REDISSON;
+
     /**
      * 所有独立缓存配置的集合。Map 的 Key 是缓存的唯一名称，Value 是该缓存的具体配置。
      * <p>
@@ -31,4 +38,68 @@ public class JMultiCacheRootProperties {
      */
     private Map<String, JMultiCacheProperties> configs = new HashMap<>();
 
+    /**
+     * 框架异步执行器的配置。
+     * <p>
+     * Configuration of the framework's async executor.
+     */
+    private JMultiCacheExecutorProperties executor = new JMultiCacheExecutorProperties();
+
+    /**
+     * L1 回填队列的配置。
+     * <p>
+     * Configuration of the L1 population queue.
+     */
+    private JMultiCacheL1WriterProperties l1Writer = new JMultiCacheL1WriterProperties();
+
+    /**
+     * 批量查询时 L2 管道批次的配置。
+     * <p>
+     * Configuration of the L2 pipeline batches of batch lookups.
+     */
+    private JMultiCacheL2BatchProperties l2Batch = new JMultiCacheL2BatchProperties();
+
+    /**
+     * 跨请求合并单 key L2 读取的配置，默认关闭。
+     * <p>
+     * Configuration of merging single-key L2 reads across requests; disabled by default.
+     */
+    private JMultiCacheL2CoalescerProperties l2Coalescer = new JMultiCacheL2CoalescerProperties();
+
+    /**
+     * 合并并发单点查询 ({@code fetchDataBatched}) 的配置。
+     * <p>
+     * Configuration of merging concurrent single fetches ({@code fetchDataBatched}).
+     */
+    private JMultiCacheMicroBatchProperties microBatch = new JMultiCacheMicroBatchProperties();
+
+    /**
+     * Micrometer 指标的配置。
+     * <p>
+     * Configuration of the Micrometer metrics.
+     */
+    private JMultiCacheMetricsProperties metrics = new JMultiCacheMetricsProperties();
+
+    /**
+     * 逐次操作诊断事件的配置。
+     * <p>
+     * Configuration of the per-operation diagnostic events.
+     */
+    private JMultiCacheDiagnosticsProperties diagnostics = new JMultiCacheDiagnosticsProperties();
+
+    /**
+     * L2 客户端实现。
+     * <p>
+     * L2 client implementations.
+     */
+    public enum RedisClientType {
+        /**
+         * 基于 Redisson 连接 Redis。/ Redis through Redisson.
+         */
+        REDISSON,
+        /**
+         * 进程内实现，见 {@link io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient}。/ The in-process implementation, see {@link io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient}.
+         */
+        IN_MEMORY
+    }
 }
@@ -0,0 +1,854 @@
+package io.github.vevoly.jmulticache.core.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
+import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
+import io.github.vevoly.jmulticache.api.redis.RedisClient;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheScoredEntry;
+import io.github.vevoly.jmulticache.core.redis.batch.InMemoryBatchOperation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RedisClient} 接口基于进程内并发 Map 的实现，无需 Redis 服务。
+ * <p>
+ * 适用于单节点部署 (边缘服务以 {@code L1_L2_DB} 语义运行而不经过网络)，以及基准测试和压测中零网络开销的 L2 基线。
+ * 语义上对齐 {@link RedissonRedisClient}：
+ * <ul>
+ *     <li>非字符串值写入时编码为 JSON，读出时解码为 Jackson 的通用结构 (Map/List)，与策略在真实 Redis 上看到的形态一致，调用方也无法改动已缓存的对象；字符串和二进制值 (字节数组) 按原样保存。</li>
+ *     <li>不存在的集合类 key 读出空集合，{@code get} 读出 null。</li>
+ *     <li>过期 key 在访问时惰性删除，另有后台线程定期清理，与 Redis 的主动过期类似。</li>
+ *     <li>锁按持有者可重入，支持租期，释放时唤醒等待者。</li>
+ *     <li>发布订阅在同一 JVM 内的所有实例之间广播 (包括发布者自身)，订阅者在发布线程上同步收到 JSON 消息体。</li>
+ * </ul>
+ * 数据只属于当前实例，不跨进程共享，也不持久化。
+ * <p>
+ * An implementation of the {@link RedisClient} interface on in-process concurrent maps, with no Redis server.
+ * Meant for single-node deployments (edge services running {@code L1_L2_DB} semantics without a network hop) and as a zero-network L2 baseline
+ * for benchmarks and load tests. It follows the semantics of {@link RedissonRedisClient}:
+ * <ul>
+ *     <li>Non-string values are encoded to JSON on write and decoded into Jackson's generic structures (Map/List) on read, the same shape the strategies
+ *     see on a real Redis, and callers cannot mutate cached objects; strings and binary values (byte arrays) are stored as they are.</li>
+ *     <li>Missing collection keys read as empty collections; {@code get} reads null.</li>
+ *     <li>Expired keys are removed lazily on access and periodically by a background sweep, like Redis' active expiry.</li>
+ *     <li>Locks are reentrant per owner, honour the lease time, and wake up waiters on release.</li>
+ *     <li>Pub/sub fans out to every instance in the same JVM (the publisher included); subscribers receive the JSON body synchronously on the publishing thread.</li>
+ * </ul>
+ * Data belongs to this instance only: it is neither shared across processes nor persisted.
+ *
+ * @author vevoly
+ */
+@Slf4j
+public class InMemoryRedisClient implements RedisClient, AutoCloseable {
+
+    /**
+     * 默认的过期清理间隔。/ The default expiry sweep interval.
+     */
+    public static final Duration DEFAULT_EXPIRY_SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * JVM 内共享的频道订阅表，使发布订阅可以跨实例广播。/ The JVM-wide channel subscriptions, so pub/sub fans out across instances.
+     */
+    private static final ConcurrentHashMap<String, CopyOnWriteArrayList<Consumer<String>>> CHANNELS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService EXPIRY_SWEEPER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "JMultiCache-InMemoryRedis-Expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, Entry> store = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LockState> locks = new ConcurrentHashMap<>();
+    private final Object lockMonitor = new Object();
+    private final ExecutorService lockWaiters = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "JMultiCache-InMemoryRedis-Lock");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledFuture<?> expirySweep;
+
+    public InMemoryRedisClient(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_EXPIRY_SWEEP_INTERVAL);
+    }
+
+    /**
+     * @param objectMapper        用于编码值和发布消息的 ObjectMapper。/ The ObjectMapper for encoding values and published messages.
+     * @param expirySweepInterval 后台过期清理的间隔，为 null 或非正数时只做惰性删除。/ The background expiry sweep interval; null or non-positive means lazy removal only.
+     */
+    public InMemoryRedisClient(ObjectMapper objectMapper, Duration expirySweepInterval) {
+        this.objectMapper = objectMapper;
+        if (expirySweepInterval != null && !expirySweepInterval.isNegative() && !expirySweepInterval.isZero()) {
+            long millis = expirySweepInterval.toMillis();
+            this.expirySweep = EXPIRY_SWEEPER.scheduleWithFixedDelay(this::purgeExpired, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            this.expirySweep = null;
+        }
+    }
+
+    /**
+     * 清空全部数据和锁。/ Clears all data and locks.
+     */
+    public void flushAll() {
+        store.clear();
+        locks.clear();
+    }
+
+    /**
+     * 当前 key 数量 (含尚未被清理的过期 key)。/ The current number of keys, including expired ones not yet removed.
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * 删除所有已过期的 key 和锁，由后台清理线程定期调用。
+     * <p>
+     * Removes every expired key and lock; called periodically by the background sweep.
+     *
+     * @return 删除的 key 数量 / the number of keys removed
+     */
+    public int purgeExpired() {
+        int removed = 0;
+        for (Map.Entry<String, Entry> entry : store.entrySet()) {
+            if (entry.getValue().expired() && store.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        locks.entrySet().removeIf(lock -> lock.getValue().expired());
+        return removed;
+    }
+
+    /**
+     * 停止后台过期清理和锁等待线程。数据仍可读写，但不再主动过期。
+     * <p>
+     * Stops the background expiry sweep and the lock waiters. Data stays readable and writable but no longer expires actively.
+     */
+    @Override
+    public void close() {
+        if (expirySweep != null) {
+            expirySweep.cancel(false);
+        }
+        lockWaiters.shutdownNow();
+    }
+
+    // ===================================================================
+    // ======================= 通用操作 / Common Operations ================
+    // ===================================================================
+
+    @Override
+    public boolean exists(String key) {
+        return live(key) != null;
+    }
+
+    @Override
+    public void delete(String... keys) {
+        if (keys != null) {
+            for (String key : keys) {
+                store.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        if (keys != null) {
+            keys.forEach(store::remove);
+        }
+    }
+
+    @Override
+    public void expire(String key, Duration timeout) {
+        if (timeout != null && !timeout.isNegative()) {
+            store.computeIfPresent(key, (k, entry) -> entry.expired() ? null : new Entry(entry.value, expireAt(timeout)));
+        }
+    }
+
+    @Override
+    public long remainTimeToLive(String key) {
+        Entry entry = live(key);
+        if (entry == null) {
+            return -2;
+        }
+        return entry.expireAtMillis == 0 ? -1 : Math.max(0, entry.expireAtMillis - System.currentTimeMillis());
+    }
+
+    @Override
+    public Iterable<String> scan(String pattern) {
+        Pattern regex = globToRegex(pattern);
+        List<String> keys = new ArrayList<>();
+        store.forEach((key, entry) -> {
+            if (!entry.expired() && regex.matcher(key).matches()) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    @Override
+    public String type(String key) {
+        Entry entry = live(key);
+        if (entry == null) {
+            return JMultiCacheConstants.NONE;
+        }
+        Object value = entry.value;
+        if (value instanceof ZSetValue) {
+            return DefaultStorageTypes.ZSET;
+        }
+        if (value instanceof List) {
+            return DefaultStorageTypes.LIST;
+        }
+        if (value instanceof Set) {
+            return DefaultStorageTypes.SET;
+        }
+        if (value instanceof Map) {
+            return DefaultStorageTypes.HASH;
+        }
+        return DefaultStorageTypes.STRING;
+    }
+
+    // ===================================================================
+    // ======== String / Object 操作 / String or Object Operations ========
+    // ===================================================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        Entry entry = live(key);
+        if (entry == null || isStructure(entry.value)) {
+            return null;
+        }
+        return (T) decode(entry.value);
+    }
+
+    @Override
+    public Map<String, Object> mget(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> result = new HashMap<>();
+        for (String key : keys) {
+            Object value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void set(String key, Object value, Duration timeout) {
+        if (value == null) {
+            delete(key);
+            return;
+        }
+        store.put(key, new Entry(encode(value), expireAt(timeout)));
+    }
+
+    @Override
+    public void mset(Map<String, Object> data, Duration timeout) {
+        if (data != null) {
+            data.forEach((key, value) -> set(key, value, timeout));
+        }
+    }
+
+    // ===================================================================
+    // ======================== List 操作 / List Operations ================
+    // ===================================================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String key) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof List)) {
+            return new ArrayList<>();
+        }
+        List<Object> encoded = (List<Object>) entry.value;
+        List<T> result = new ArrayList<>(encoded.size());
+        for (Object element : encoded) {
+            result.add((T) decode(element));
+        }
+        return result;
+    }
+
+    @Override
+    public void setList(String key, List<?> value, Duration timeout) {
+        store.remove(key);
+        if (value != null && !value.isEmpty()) {
+            store.put(key, new Entry(encodeAll(value), expireAt(timeout)));
+        }
+    }
+
+    // ===================================================================
+    // ========================= Set 操作 / Set Operations =================
+    // ===================================================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<T> getSet(String key) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof Set)) {
+            return new HashSet<>();
+        }
+        Set<T> result = new HashSet<>();
+        for (Object element : (Set<Object>) entry.value) {
+            result.add((T) decode(element));
+        }
+        return result;
+    }
+
+    @Override
+    public void sAdd(String key, Duration timeout, Object... members) {
+        if (members == null || members.length == 0) {
+            return;
+        }
+        setAddAll(key, Arrays.asList(members));
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            expire(key, timeout);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> sunionAndFindMisses(List<String> keys) {
+        Set<String> union = new HashSet<>();
+        List<String> missed = new ArrayList<>();
+        if (keys != null) {
+            for (String key : keys) {
+                Entry entry = live(key);
+                if (entry == null) {
+                    missed.add(key);
+                } else if (entry.value instanceof Set) {
+                    for (Object element : (Set<Object>) entry.value) {
+                        union.add(element instanceof Json ? ((Json) element).text : String.valueOf(element));
+                    }
+                }
+            }
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put(JMultiCacheConstants.UNION_RESULT, union);
+        result.put(JMultiCacheConstants.UNION_MISSED_KEYS, missed);
+        return result;
+    }
+
+    // ===================================================================
+    // ===================== ZSet 操作 / Sorted Set Operations =============
+    // ===================================================================
+
+    @Override
+    public Collection<JMultiCacheScoredEntry<String>> zRangeWithScores(String key, int start, int end) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof ZSetValue)) {
+            return Collections.emptyList();
+        }
+        List<Map.Entry<String, Double>> sorted = new ArrayList<>(((ZSetValue) entry.value).scores.entrySet());
+        sorted.sort(Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        int size = sorted.size();
+        int from = start < 0 ? Math.max(0, size + start) : start;
+        int to = end < 0 ? size + end : Math.min(end, size - 1);
+        List<JMultiCacheScoredEntry<String>> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            result.add(new JMultiCacheScoredEntry<>(sorted.get(i).getKey(), sorted.get(i).getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public void zAdd(String key, Map<Object, Double> scoreMembers, Duration ttl) {
+        if (scoreMembers == null || scoreMembers.isEmpty()) {
+            return;
+        }
+        store.compute(key, (k, entry) -> {
+            Map<String, Double> scores = new HashMap<>();
+            long expireAt = 0;
+            if (entry != null && !entry.expired() && entry.value instanceof ZSetValue) {
+                scores.putAll(((ZSetValue) entry.value).scores);
+                expireAt = entry.expireAtMillis;
+            }
+            scoreMembers.forEach((member, score) -> scores.put(memberText(member), score));
+            return new Entry(new ZSetValue(scores), expireAt);
+        });
+        if (ttl != null) {
+            expire(key, ttl);
+        }
+    }
+
+    // ===================================================================
+    // ======================== Hash 操作 / Hash Operations ================
+    // ===================================================================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T hget(String key, String field) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof Map)) {
+            return null;
+        }
+        Object value = ((Map<String, Object>) entry.value).get(field);
+        return value == null ? null : (T) decode(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> hgetAll(String key) {
+        Entry entry = live(key);
+        Map<K, V> result = new HashMap<>();
+        if (entry != null && entry.value instanceof Map) {
+            ((Map<String, Object>) entry.value).forEach((field, value) -> result.put((K) field, (V) decode(value)));
+        }
+        return result;
+    }
+
+    @Override
+    public void hset(String key, String field, Object value, Duration timeout) {
+        hmset(key, Collections.singletonMap(field, value), timeout);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void hmset(String key, Map<String, Object> map, Duration timeout) {
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+        store.compute(key, (k, entry) -> {
+            Map<String, Object> hash = new HashMap<>();
+            long expireAt = 0;
+            if (entry != null && !entry.expired() && entry.value instanceof Map) {
+                hash.putAll((Map<String, Object>) entry.value);
+                expireAt = entry.expireAtMillis;
+            }
+            map.forEach((field, value) -> hash.put(field, encode(value)));
+            return new Entry(hash, expireAt);
+        });
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            expire(key, timeout);
+        }
+    }
+
+    // ===================================================================
+    // ======================= 二进制值 / Binary Values =====================
+    // ===================================================================
+
+    @Override
+    public byte[] getBytes(String key) {
+        Entry entry = live(key);
+        if (entry == null || isStructure(entry.value)) {
+            return null;
+        }
+        return toBytes(entry.value);
+    }
+
+    @Override
+    public void setBytes(String key, byte[] value, Duration timeout) {
+        set(key, value, timeout);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<byte[]> getListBytes(String key) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof List)) {
+            return new ArrayList<>();
+        }
+        List<Object> stored = (List<Object>) entry.value;
+        List<byte[]> result = new ArrayList<>(stored.size());
+        for (Object element : stored) {
+            result.add(toBytes(element));
+        }
+        return result;
+    }
+
+    @Override
+    public void setListBytes(String key, List<byte[]> value, Duration timeout) {
+        setList(key, value, timeout);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] hgetBytes(String key, String field) {
+        Entry entry = live(key);
+        if (entry == null || !(entry.value instanceof Map)) {
+            return null;
+        }
+        Object value = ((Map<String, Object>) entry.value).get(field);
+        return value == null ? null : toBytes(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, byte[]> hgetAllBytes(String key) {
+        Entry entry = live(key);
+        Map<String, byte[]> result = new HashMap<>();
+        if (entry != null && entry.value instanceof Map) {
+            ((Map<String, Object>) entry.value).forEach((field, value) -> result.put(field, toBytes(value)));
+        }
+        return result;
+    }
+
+    @Override
+    public void hmsetBytes(String key, Map<String, byte[]> map, Duration timeout) {
+        hmset(key, map == null ? null : new HashMap<>(map), timeout);
+    }
+
+    // ===================================================================
+    // ========================= 分布式锁 / Distributed Lock ===============
+    // ===================================================================
+
+    @Override
+    public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) {
+        try {
+            return acquire(lockKey, Thread.currentThread().getId(), unit.toMillis(waitTime), unit.toMillis(leaseTime));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void unlock(String lockKey) {
+        release(lockKey, Thread.currentThread().getId());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit) {
+        long leaseMillis = unit.toMillis(leaseTime);
+        // 能立即获取时不切换线程 / No thread hop when the lock is free
+        if (tryAcquire(lockKey, ownerId, leaseMillis)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (waitTime <= 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return acquire(lockKey, ownerId, unit.toMillis(waitTime), leaseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, lockWaiters);
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(String lockKey, long ownerId) {
+        release(lockKey, ownerId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public List<String> tryClaim(List<String> claimKeys, String ownerId, Duration leaseTime) {
+        if (claimKeys == null || claimKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 认领与 Redis 上一样是普通的带过期时间的 key / Claims are plain expiring keys, as on Redis
+        long expireAt = expireAt(leaseTime);
+        List<String> claimed = new ArrayList<>();
+        for (String claimKey : claimKeys) {
+            Entry claim = new Entry(ownerId, expireAt);
+            if (store.compute(claimKey, (k, current) -> current == null || current.expired() ? claim : current) == claim) {
+                claimed.add(claimKey);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void releaseClaims(List<String> claimKeys, String ownerId) {
+        if (claimKeys != null) {
+            claimKeys.forEach(claimKey -> store.computeIfPresent(claimKey, (k, entry) -> ownerId.equals(entry.value) ? null : entry));
+        }
+    }
+
+    // ===================================================================
+    // ======================== 发布订阅 / Pub/Sub =========================
+    // ===================================================================
+
+    @Override
+    public void publish(String channel, Object message) {
+        String json = toJson(message);
+        List<Consumer<String>> subscribers = CHANNELS.get(channel);
+        if (subscribers == null) {
+            return;
+        }
+        for (Consumer<String> subscriber : subscribers) {
+            try {
+                subscriber.accept(json);
+            } catch (RuntimeException e) {
+                // 一个订阅者失败不影响其他订阅者 / One failing subscriber does not affect the others
+                log.warn("[JMultiCache] In-memory subscriber on channel '{}' failed: {}", channel, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 订阅频道。收到的是发布时序列化后的 JSON 消息体，与 Redis 频道上的内容一致。
+     * <p>
+     * Subscribes to a channel. The listener receives the JSON body serialized at publish time, the same content a Redis channel carries.
+     *
+     * @param channel  频道名称。/ The channel name.
+     * @param listener 消息监听器。/ The message listener.
+     * @return 关闭即取消订阅 / closing it unsubscribes
+     */
+    @Override
+    public AutoCloseable subscribe(String channel, Consumer<String> listener) {
+        CHANNELS.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> CHANNELS.computeIfPresent(channel, (k, subscribers) -> {
+            subscribers.remove(listener);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    // ===================================================================
+    // ======================== 批量操作 / Batch Operations ================
+    // ===================================================================
+
+    @Override
+    public BatchOperation createBatchOperation() {
+        return new InMemoryBatchOperation(this);
+    }
+
+    // ===================================================================
+    // ===================== 供批量操作使用 / Used by the Batch ============
+    // ===================================================================
+
+    /**
+     * 向 Set 追加成员，保留原有过期时间 (SADD)。/ Adds members to a set, keeping its expiry (SADD).
+     */
+    public void setAddAll(String key, Collection<?> members) {
+        store.compute(key, (k, entry) -> {
+            Set<Object> set = new HashSet<>();
+            long expireAt = 0;
+            if (entry != null && !entry.expired() && entry.value instanceof Set) {
+                set.addAll((Set<?>) entry.value);
+                expireAt = entry.expireAtMillis;
+            }
+            for (Object member : members) {
+                set.add(encode(member));
+            }
+            return new Entry(set, expireAt);
+        });
+    }
+
+    /**
+     * 向 List 末尾追加元素，保留原有过期时间 (RPUSH)。/ Appends elements to a list, keeping its expiry (RPUSH).
+     */
+    public void listAddAll(String key, Collection<?> values) {
+        store.compute(key, (k, entry) -> {
+            List<Object> list = new ArrayList<>();
+            long expireAt = 0;
+            if (entry != null && !entry.expired() && entry.value instanceof List) {
+                list.addAll((List<?>) entry.value);
+                expireAt = entry.expireAtMillis;
+            }
+            list.addAll(encodeAll(values));
+            return new Entry(list, expireAt);
+        });
+    }
+
+    // ===================================================================
+    // ======================== 内部实现 / Internals =======================
+    // ===================================================================
+
+    private Entry live(String key) {
+        Entry entry = store.get(key);
+        if (entry != null && entry.expired()) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private boolean acquire(String lockKey, long ownerId, long waitMillis, long leaseMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + Math.max(0, waitMillis);
+        synchronized (lockMonitor) {
+            while (!tryAcquire(lockKey, ownerId, leaseMillis)) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                lockMonitor.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    private boolean tryAcquire(String lockKey, long ownerId, long leaseMillis) {
+        long expireAt = leaseMillis > 0 ? System.currentTimeMillis() + leaseMillis : 0;
+        LockState state = locks.compute(lockKey, (k, current) -> {
+            if (current == null || current.expired()) {
+                return new LockState(ownerId, 1, expireAt);
+            }
+            if (current.ownerId == ownerId) {
+                return new LockState(ownerId, current.holdCount + 1, expireAt);
+            }
+            return current;
+        });
+        return state.ownerId == ownerId;
+    }
+
+    private void release(String lockKey, long ownerId) {
+        LockState state = locks.computeIfPresent(lockKey, (k, current) -> {
+            if (current.ownerId != ownerId) {
+                return current;
+            }
+            return current.holdCount > 1 ? new LockState(ownerId, current.holdCount - 1, current.expireAtMillis) : null;
+        });
+        if (state == null) {
+            // 锁已释放，唤醒等待者，对应 Redisson 的解锁通知 / Released: wake up the waiters, like Redisson's unlock notification
+            synchronized (lockMonitor) {
+                lockMonitor.notifyAll();
+            }
+        }
+    }
+
+    private Object encode(Object value) {
+        if (value == null || value instanceof String || value instanceof byte[]) {
+            return value;
+        }
+        return new Json(toJson(value));
+    }
+
+    private List<Object> encodeAll(Collection<?> values) {
+        List<Object> encoded = new ArrayList<>(values.size());
+        for (Object value : values) {
+            encoded.add(encode(value));
+        }
+        return encoded;
+    }
+
+    private Object decode(Object stored) {
+        if (!(stored instanceof Json)) {
+            return stored;
+        }
+        try {
+            return objectMapper.readValue(((Json) stored).text, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted in-memory value: " + ((Json) stored).text, e);
+        }
+    }
+
+    /**
+     * 以 Redis 的视角把任意已保存的值看作字节：文本按 UTF-8 编码，与 Redisson 用 ByteArrayCodec 读取 StringCodec 写入的数据一致。
+     * <p>
+     * Views any stored value as bytes the way Redis does: text is UTF-8 encoded, matching Redisson reading StringCodec data through ByteArrayCodec.
+     */
+    private static byte[] toBytes(Object stored) {
+        if (stored instanceof byte[] bytes) {
+            return bytes;
+        }
+        String text = stored instanceof Json ? ((Json) stored).text : String.valueOf(stored);
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String memberText(Object member) {
+        return member instanceof String ? (String) member : toJson(member);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Value cannot be serialized: " + value.getClass().getName(), e);
+        }
+    }
+
+    private static boolean isStructure(Object value) {
+        return value instanceof List || value instanceof Set || value instanceof Map || value instanceof ZSetValue;
+    }
+
+    private static long expireAt(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            return 0;
+        }
+        return System.currentTimeMillis() + timeout.toMillis();
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * 存储条目。expireAtMillis 为 0 表示永不过期。/ A stored entry; an expireAtMillis of 0 means no expiry.
+     */
+    private static final class Entry {
+        private final Object value;
+        private final long expireAtMillis;
+
+        private Entry(Object value, long expireAtMillis) {
+            this.value = value;
+            this.expireAtMillis = expireAtMillis;
+        }
+
+        private boolean expired() {
+            return expireAtMillis != 0 && System.currentTimeMillis() >= expireAtMillis;
+        }
+    }
+
+    /**
+     * 已编码为 JSON 的非字符串值。/ A non-string value encoded as JSON.
+     */
+    private static final class Json {
+        private final String text;
+
+        private Json(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Json && ((Json) o).text.equals(text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+    }
+
+    private static final class ZSetValue {
+        private final Map<String, Double> scores;
+
+        private ZSetValue(Map<String, Double> scores) {
+            this.scores = scores;
+        }
+    }
+
+    private static final class LockState {
+        private final long ownerId;
+        private final int holdCount;
+        private final long expireAtMillis;
+
+        private LockState(long ownerId, int holdCount, long expireAtMillis) {
+            this.ownerId = ownerId;
+            this.holdCount = holdCount;
+            this.expireAtMillis = expireAtMillis;
+        }
+
+        private boolean expired() {
+            return expireAtMillis != 0 && System.currentTimeMillis() >= expireAtMillis;
+        }
+    }
+}
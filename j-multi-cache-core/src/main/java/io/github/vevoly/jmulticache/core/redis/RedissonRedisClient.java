@@ -5,17 +5,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants;
 import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchSettings;
 import io.github.vevoly.jmulticache.api.structure.JMultiCacheScoredEntry;
 import io.github.vevoly.jmulticache.core.redis.batch.RedissonBatchOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
 import org.redisson.client.protocol.ScoredEntry;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * {@link RedisClient} 接口基于 Redisson 的实现。
@@ -28,6 +34,41 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedissonRedisClient implements RedisClient {
 
+    /**
+     * 每次 SCAN 返回的 key 数量提示。/ The COUNT hint of each SCAN call.
+     */
+    private static final int SCAN_COUNT = 1000;
+
+    /**
+     * 二进制哈希表：字段名仍是文本，字段值是原始字节。/ Binary hashes: field names stay text, field values are raw bytes.
+     */
+    private static final Codec HASH_BYTES_CODEC = new CompositeCodec(StringCodec.INSTANCE, ByteArrayCodec.INSTANCE);
+
+    /**
+     * 逐个 SET NX PX 认领，返回认领成功的 key。/ Claims each key with SET NX PX and returns the keys claimed.
+     */
+    private static final String CLAIM_SCRIPT =
+            "local claimed = {} \n" +
+                    "for i, key in ipairs(KEYS) do \n" +
+                    "  if redis.call('SET', key, ARGV[1], 'NX', 'PX', ARGV[2]) then \n" +
+                    "    table.insert(claimed, key) \n" +
+                    "  end \n" +
+                    "end \n" +
+                    "return claimed";
+
+    /**
+     * 只删除仍属于该持有者的认领。/ Deletes only the claims still held by the owner.
+     */
+    private static final String RELEASE_CLAIMS_SCRIPT =
+            "local released = 0 \n" +
+                    "for i, key in ipairs(KEYS) do \n" +
+                    "  if redis.call('GET', key) == ARGV[1] then \n" +
+                    "    redis.call('DEL', key) \n" +
+                    "    released = released + 1 \n" +
+                    "  end \n" +
+                    "end \n" +
+                    "return released";
+
     private final RedissonClient redisson;
     private final ObjectMapper objectMapper;
 
@@ -57,6 +98,16 @@ public class RedissonRedisClient implements RedisClient {
         }
     }
 
+    @Override
+    public long remainTimeToLive(String key) {
+        return redisson.getKeys().remainTimeToLive(key);
+    }
+
+    @Override
+    public Iterable<String> scan(String pattern) {
+        return redisson.getKeys().getKeysByPattern(pattern, SCAN_COUNT);
+    }
+
     @Override
     public String type(String key) {
         RType type = redisson.getKeys().getType(key);
@@ -267,6 +318,65 @@ public class RedissonRedisClient implements RedisClient {
         }
     }
 
+    @Override
+    public byte[] getBytes(String key) {
+        RBucket<byte[]> bucket = redisson.getBucket(key, ByteArrayCodec.INSTANCE);
+        return bucket.get();
+    }
+
+    @Override
+    public void setBytes(String key, byte[] value, Duration timeout) {
+        if (value == null) {
+            delete(key);
+            return;
+        }
+        RBucket<byte[]> bucket = redisson.getBucket(key, ByteArrayCodec.INSTANCE);
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            bucket.set(value, timeout);
+        } else {
+            bucket.set(value);
+        }
+    }
+
+    @Override
+    public List<byte[]> getListBytes(String key) {
+        RList<byte[]> list = redisson.getList(key, ByteArrayCodec.INSTANCE);
+        return list.readAll();
+    }
+
+    @Override
+    public void setListBytes(String key, List<byte[]> value, Duration timeout) {
+        RList<byte[]> list = redisson.getList(key, ByteArrayCodec.INSTANCE);
+        list.delete();
+        if (value != null && !value.isEmpty()) {
+            list.addAll(value);
+            if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+                list.expire(timeout);
+            }
+        }
+    }
+
+    @Override
+    public byte[] hgetBytes(String key, String field) {
+        RMap<String, byte[]> map = redisson.getMap(key, HASH_BYTES_CODEC);
+        return map.get(field);
+    }
+
+    @Override
+    public Map<String, byte[]> hgetAllBytes(String key) {
+        RMap<String, byte[]> map = redisson.getMap(key, HASH_BYTES_CODEC);
+        return map.readAllMap();
+    }
+
+    @Override
+    public void hmsetBytes(String key, Map<String, byte[]> map, Duration timeout) {
+        RMap<String, byte[]> rMap = redisson.getMap(key, HASH_BYTES_CODEC);
+        rMap.putAll(map);
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            rMap.expire(timeout);
+        }
+    }
+
     @Override
     public boolean tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit) {
         try {
@@ -295,6 +405,55 @@ public class RedissonRedisClient implements RedisClient {
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> tryLockAsync(String lockKey, long ownerId, long waitTime, long leaseTime, TimeUnit unit) {
+        return redisson.getLock(lockKey).tryLockAsync(waitTime, leaseTime, unit, ownerId).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(String lockKey, long ownerId) {
+        return redisson.getLock(lockKey).unlockAsync(ownerId).toCompletableFuture()
+                .exceptionally(e -> {
+                    // 锁可能已因租约到期被自动释放 / The lock may already have been released by lease expiry
+                    log.warn("An exception occurred while releasing distributed lock asynchronously: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    @Override
+    public List<String> tryClaim(List<String> claimKeys, String ownerId, Duration leaseTime) {
+        if (claimKeys == null || claimKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> claimed = redisson.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.copyOf(claimKeys),
+                ownerId, String.valueOf(Math.max(1, leaseTime.toMillis()))
+        );
+        return claimed != null ? claimed : Collections.emptyList();
+    }
+
+    @Override
+    public void releaseClaims(List<String> claimKeys, String ownerId) {
+        if (claimKeys == null || claimKeys.isEmpty()) {
+            return;
+        }
+        try {
+            redisson.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    RELEASE_CLAIMS_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.copyOf(claimKeys),
+                    ownerId
+            );
+        } catch (Exception e) {
+            // 认领会随租期自动失效 / Claims expire with their lease anyway
+            log.warn("An exception occurred while releasing claims: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void publish(String channel, Object message) {
         String jsonMsg = null;
@@ -307,9 +466,34 @@ public class RedissonRedisClient implements RedisClient {
                 .publish(jsonMsg);
     }
 
+    @Override
+    public AutoCloseable subscribe(String channel, Consumer<String> listener) {
+        RTopic topic = redisson.getTopic(channel, StringCodec.INSTANCE);
+        int listenerId = topic.addListener(String.class, (ch, message) -> listener.accept(message));
+        return () -> topic.removeListener(listenerId);
+    }
+
     @Override
     public BatchOperation createBatchOperation() {
         RBatch batch = this.redisson.createBatch(BatchOptions.defaults());
-        return new RedissonBatchOperation(batch);
+        return new RedissonBatchOperation(batch, redisson, BatchSettings.DEFAULTS);
+    }
+
+    @Override
+    public BatchOperation createBatchOperation(BatchSettings settings) {
+        BatchOptions options = BatchOptions.defaults();
+        if (settings.getResponseTimeout() != null) {
+            options.responseTimeout(settings.getResponseTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (settings.getRetryAttempts() != null) {
+            options.retryAttempts(settings.getRetryAttempts());
+        }
+        if (settings.getRetryInterval() != null) {
+            options.retryInterval(settings.getRetryInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (settings.isSkipResult()) {
+            options.skipResult();
+        }
+        return new RedissonBatchOperation(this.redisson.createBatch(options), redisson, settings);
     }
 }
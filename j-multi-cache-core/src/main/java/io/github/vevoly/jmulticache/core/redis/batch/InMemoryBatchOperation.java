@@ -0,0 +1,195 @@
+package io.github.vevoly.jmulticache.core.redis.batch;
+
+import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
+import io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link InMemoryRedisClient} 的批量操作。
+ * <p>
+ * 与 Redisson 的 {@code RBatch} 一样，命令先按顺序排队，返回的 Future 在 {@link #execute()} 时才完成。
+ * <p>
+ * The batch operation of {@link InMemoryRedisClient}.
+ * Like Redisson's {@code RBatch}, commands are queued in order and the returned futures only complete on {@link #execute()}.
+ *
+ * @author vevoly
+ */
+public class InMemoryBatchOperation implements BatchOperation {
+
+    private final InMemoryRedisClient client;
+    private final List<Runnable> commands = new ArrayList<>();
+
+    public InMemoryBatchOperation(InMemoryRedisClient client) {
+        this.client = client;
+    }
+
+    // ===================================================================
+    // =================== String / Object Operations ====================
+    // ===================================================================
+
+    @Override
+    public CompletableFuture<Void> setAsync(String key, Object value, Duration ttl) {
+        return enqueue(() -> client.set(key, value, ttl));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key) {
+        return enqueue(() -> client.<T>get(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> setBytesAsync(String key, byte[] value, Duration ttl) {
+        return enqueue(() -> client.setBytes(key, value, ttl));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getBytesAsync(String key) {
+        return enqueue(() -> client.getBytes(key));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, byte[]>> getAllBytesAsync(Collection<String> keys) {
+        return enqueue(() -> {
+            Map<String, byte[]> values = new HashMap<>();
+            for (String key : keys) {
+                byte[] value = client.getBytes(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+            return values;
+        });
+    }
+
+    // ===================================================================
+    // ======================== List Operations ==========================
+    // ===================================================================
+
+    @Override
+    public CompletableFuture<Void> listDeleteAsync(String key) {
+        return enqueue(() -> client.delete(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> listAddAllAsync(String key, Collection<?> values) {
+        return enqueue(() -> client.listAddAll(key, values));
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> listGetAllAsync(String key) {
+        return enqueue(() -> new ArrayList<>(client.getList(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> listAddAllBytesAsync(String key, Collection<byte[]> values) {
+        return enqueue(() -> client.listAddAll(key, values));
+    }
+
+    @Override
+    public CompletableFuture<List<byte[]>> listGetAllBytesAsync(String key) {
+        return enqueue(() -> client.getListBytes(key));
+    }
+
+    // ===================================================================
+    // ======================== Set Operations ===========================
+    // ===================================================================
+
+    @Override
+    public CompletableFuture<Void> setDeleteAsync(String key) {
+        return enqueue(() -> client.delete(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> setAddAllAsync(String key, Collection<?> values) {
+        return enqueue(() -> client.setAddAll(key, values));
+    }
+
+    @Override
+    public CompletableFuture<Void> setAddAllStringAsync(String key, Collection<?> values) {
+        List<String> members = new ArrayList<>(values.size());
+        for (Object value : values) {
+            members.add(String.valueOf(value));
+        }
+        return enqueue(() -> client.setAddAll(key, members));
+    }
+
+    @Override
+    public CompletableFuture<Void> setAddAsync(String key, Object value) {
+        return enqueue(() -> client.setAddAll(key, List.of(value)));
+    }
+
+    @Override
+    public CompletableFuture<Set<Object>> setGetAllAsync(String key) {
+        return enqueue(() -> new HashSet<>(client.getSet(key)));
+    }
+
+    // ===================================================================
+    // ======================== Hash Operations ==========================
+    // ===================================================================
+
+    @Override
+    public CompletableFuture<Void> hashPutAllAsync(String key, Map<String, ?> map) {
+        return enqueue(() -> client.hmset(key, new HashMap<>(map), null));
+    }
+
+    @Override
+    public CompletableFuture<Void> hashPutAllBytesAsync(String key, Map<String, byte[]> map) {
+        return enqueue(() -> client.hmsetBytes(key, map, null));
+    }
+
+    // ===================================================================
+    // ====================== Common Operations ==========================
+    // ===================================================================
+
+    @Override
+    public CompletableFuture<Void> expireAsync(String key, Duration ttl) {
+        return enqueue(() -> client.expire(key, ttl));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String... keys) {
+        return enqueue(() -> client.delete(keys));
+    }
+
+    @Override
+    public void zAddAsync(String key, Map<Object, Double> scoreMembers) {
+        enqueue(() -> client.zAdd(key, scoreMembers, null));
+    }
+
+    @Override
+    public void execute() {
+        for (Runnable command : commands) {
+            command.run();
+        }
+        commands.clear();
+    }
+
+    private CompletableFuture<Void> enqueue(Runnable command) {
+        return enqueue(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> enqueue(Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commands.add(() -> {
+            try {
+                future.complete(command.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
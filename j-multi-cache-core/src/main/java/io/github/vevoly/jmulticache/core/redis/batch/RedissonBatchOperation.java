@@ -1,18 +1,28 @@
 package io.github.vevoly.jmulticache.core.redis.batch;
 
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
-import lombok.RequiredArgsConstructor;
+import io.github.vevoly.jmulticache.api.redis.batch.BatchSettings;
 import org.redisson.api.RBatch;
 import org.redisson.api.RFuture;
 import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link BatchOperation} 接口基于 Redisson {@link RBatch} 的实现。
@@ -23,13 +33,39 @@ import java.util.concurrent.CompletableFuture;
  * An implementation of the {@link BatchOperation} interface based on Redisson's {@link RBatch}.
  * This class translates generic batch operation definitions into specific Redisson asynchronous commands.
  * It encapsulates a Redisson {@code RBatch} instance and submits all commands at once when the {@code execute()} method is called.
+ * <p>
+ * {@code RBatch} 不提供 MGET，{@link #getAllBytesAsync(Collection)} 先登记下来，执行时与批次并行地经 {@code RBuckets} 发出 (集群模式下由 Redisson 按槽拆分)。
+ * {@code RBuckets} 不接受 {@code BatchOptions}，批次的响应超时和重试在这里显式施加于 MGET：每次尝试以 {@code responseTimeout} 为限，
+ * 失败后间隔 {@code retryInterval} 重发，至多 {@code retryAttempts} 次 (每次尝试内部仍有客户端自身的重试)。
+ * <p>
+ * {@code RBatch} offers no MGET: {@link #getAllBytesAsync(Collection)} is recorded and sent through {@code RBuckets} alongside the batch on execution
+ * (split by slot by Redisson in cluster mode). {@code RBuckets} takes no {@code BatchOptions}, so the batch's response timeout and retries are applied to the MGET here:
+ * each attempt is bounded by {@code responseTimeout}, and a failed attempt is resent after {@code retryInterval}, at most {@code retryAttempts} times
+ * (the client's own retries still apply within each attempt).
  *
  * @author vevoly
  */
-@RequiredArgsConstructor
 public class RedissonBatchOperation implements BatchOperation {
 
+    private static final Codec HASH_BYTES_CODEC = new CompositeCodec(StringCodec.INSTANCE, ByteArrayCodec.INSTANCE);
+
     private final RBatch redissonBatch;
+    private final RedissonClient redisson;
+    private final BatchSettings settings;
+    private final List<PendingMget> pendingMgets = new ArrayList<>();
+    // 是否有命令进入 RBatch；只有 MGET 时不提交空批次 / Whether any command entered the RBatch; an empty batch is not submitted when only MGETs were queued
+    private boolean batchUsed;
+
+    /**
+     * @param redissonBatch 承载命令的批次 / the batch carrying the commands
+     * @param redisson      发送 MGET 的客户端 / the client sending MGETs
+     * @param settings      批次的执行选项，也施加于 MGET / the batch's execution settings, applied to MGETs as well
+     */
+    public RedissonBatchOperation(RBatch redissonBatch, RedissonClient redisson, BatchSettings settings) {
+        this.redissonBatch = redissonBatch;
+        this.redisson = redisson;
+        this.settings = settings != null ? settings : BatchSettings.DEFAULTS;
+    }
 
     // ===================================================================
     // =================== String / Object Operations ====================
@@ -39,9 +75,9 @@ public class RedissonBatchOperation implements BatchOperation {
     public CompletableFuture<Void> setAsync(String key, Object value, Duration ttl) {
         RFuture<Void> future;
         if (ttl != null && !ttl.isNegative() && !ttl.isZero()) {
-            future = redissonBatch.getBucket(key).setAsync(value, ttl);
+            future = batch().getBucket(key).setAsync(value, ttl);
         } else {
-            future = redissonBatch.getBucket(key).setAsync(value);
+            future = batch().getBucket(key).setAsync(value);
         }
         return toCompletableFuture(future);
     }
@@ -49,30 +85,66 @@ public class RedissonBatchOperation implements BatchOperation {
     @Override
     @SuppressWarnings("unchecked")
     public <T> CompletableFuture<T> getAsync(String key) {
-        RFuture<T> future = (RFuture<T>) redissonBatch.getBucket(key).getAsync();
+        RFuture<T> future = (RFuture<T>) batch().getBucket(key).getAsync();
+        return future.toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> setBytesAsync(String key, byte[] value, Duration ttl) {
+        RFuture<Void> future;
+        if (ttl != null && !ttl.isNegative() && !ttl.isZero()) {
+            future = batch().<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).setAsync(value, ttl);
+        } else {
+            future = batch().<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).setAsync(value);
+        }
+        return toCompletableFuture(future);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getBytesAsync(String key) {
+        RFuture<byte[]> future = batch().<byte[]>getBucket(key, ByteArrayCodec.INSTANCE).getAsync();
         return future.toCompletableFuture();
     }
 
+    @Override
+    public CompletableFuture<Map<String, byte[]>> getAllBytesAsync(Collection<String> keys) {
+        PendingMget mget = new PendingMget(keys.toArray(new String[0]), new CompletableFuture<>());
+        pendingMgets.add(mget);
+        return mget.result;
+    }
+
     // ===================================================================
     // ======================== List Operations ==========================
     // ===================================================================
 
     @Override
     public CompletableFuture<Void> listDeleteAsync(String key) {
-        RFuture<Boolean> future = redissonBatch.getList(key).deleteAsync();
+        RFuture<Boolean> future = batch().getList(key).deleteAsync();
         return toCompletableFuture(future);
     }
 
     @Override
     public CompletableFuture<Void> listAddAllAsync(String key, Collection<?> values) {
-        RFuture<Boolean> future = redissonBatch.getList(key).addAllAsync(values);
+        RFuture<Boolean> future = batch().getList(key).addAllAsync(values);
         return toCompletableFuture(future);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public CompletableFuture<List<Object>> listGetAllAsync(String key) {
-        RFuture<List<Object>> future = redissonBatch.getList(key).readAllAsync();
+        RFuture<List<Object>> future = batch().getList(key).readAllAsync();
+        return future.toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> listAddAllBytesAsync(String key, Collection<byte[]> values) {
+        RFuture<Boolean> future = batch().<byte[]>getList(key, ByteArrayCodec.INSTANCE).addAllAsync(values);
+        return toCompletableFuture(future);
+    }
+
+    @Override
+    public CompletableFuture<List<byte[]>> listGetAllBytesAsync(String key) {
+        RFuture<List<byte[]>> future = batch().<byte[]>getList(key, ByteArrayCodec.INSTANCE).readAllAsync();
         return future.toCompletableFuture();
     }
 
@@ -82,32 +154,32 @@ public class RedissonBatchOperation implements BatchOperation {
 
     @Override
     public CompletableFuture<Void> setDeleteAsync(String key) {
-        RFuture<Boolean> future = redissonBatch.getSet(key).deleteAsync();
+        RFuture<Boolean> future = batch().getSet(key).deleteAsync();
         return toCompletableFuture(future);
     }
 
     @Override
     public CompletableFuture<Void> setAddAllAsync(String key, Collection<?> values) {
-        RFuture<Boolean> future = redissonBatch.getSet(key).addAllAsync(values);
+        RFuture<Boolean> future = batch().getSet(key).addAllAsync(values);
         return toCompletableFuture(future);
     }
 
     @Override
     public CompletableFuture<Void> setAddAllStringAsync(String key, Collection<?> values) {
-        RFuture<Boolean> future = redissonBatch.getSet(key, StringCodec.INSTANCE).addAllAsync(values);
+        RFuture<Boolean> future = batch().getSet(key, StringCodec.INSTANCE).addAllAsync(values);
         return toCompletableFuture(future);
     }
 
     @Override
     public CompletableFuture<Void> setAddAsync(String key, Object value) {
-        RFuture<Boolean> future = redissonBatch.getSet(key).addAsync(value);
+        RFuture<Boolean> future = batch().getSet(key).addAsync(value);
         return toCompletableFuture(future);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> CompletableFuture<Set<Object>> setGetAllAsync(String key) {
-        RFuture<Set<Object>> future = redissonBatch.getSet(key).readAllAsync();
+        RFuture<Set<Object>> future = batch().getSet(key).readAllAsync();
         return future.toCompletableFuture();
     }
 
@@ -118,7 +190,13 @@ public class RedissonBatchOperation implements BatchOperation {
 
     @Override
     public CompletableFuture<Void> hashPutAllAsync(String key, Map<String, ?> map) {
-        RFuture<Void> future = redissonBatch.getMap(key).putAllAsync(map);
+        RFuture<Void> future = batch().getMap(key).putAllAsync(map);
+        return future.toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> hashPutAllBytesAsync(String key, Map<String, byte[]> map) {
+        RFuture<Void> future = batch().<String, byte[]>getMap(key, HASH_BYTES_CODEC).putAllAsync(map);
         return future.toCompletableFuture();
     }
 
@@ -131,7 +209,7 @@ public class RedissonBatchOperation implements BatchOperation {
         if (ttl == null || ttl.isNegative() || ttl.isZero()) {
             return CompletableFuture.completedFuture(null);
         }
-        RFuture<Boolean> future = redissonBatch.getBucket(key).expireAsync(ttl);
+        RFuture<Boolean> future = batch().getBucket(key).expireAsync(ttl);
         return toCompletableFuture(future);
     }
 
@@ -140,20 +218,99 @@ public class RedissonBatchOperation implements BatchOperation {
         if (keys == null || keys.length == 0) {
             return CompletableFuture.completedFuture(null);
         }
-        RFuture<Long> future = redissonBatch.getKeys().deleteAsync(keys);
+        RFuture<Long> future = batch().getKeys().deleteAsync(keys);
         return toCompletableFuture(future);
     }
 
     @Override
     public void zAddAsync(String key, Map<Object, Double> scoreMembers) {
-        RScoredSortedSetAsync<Object> zset = redissonBatch.getScoredSortedSet(key);
+        RScoredSortedSetAsync<Object> zset = batch().getScoredSortedSet(key);
         zset.addAllAsync(scoreMembers);
     }
 
     @Override
     public void execute() {
-        // Redisson 的 execute 方法返回 BatchResult，但我们的接口是 void，所以直接调用即可。
-        redissonBatch.execute();
+        CompletableFuture<Void> mgets = executeMgets();
+        if (batchUsed) {
+            // Redisson 的 execute 方法返回 BatchResult，但我们的接口是 void，所以直接调用即可。
+            redissonBatch.execute();
+        }
+        mgets.join();
+    }
+
+    @Override
+    public CompletableFuture<Void> executeAsync() {
+        CompletableFuture<Void> mgets = executeMgets();
+        if (!batchUsed) {
+            return mgets;
+        }
+        return toCompletableFuture(redissonBatch.executeAsync()).thenCombine(mgets, (a, b) -> null);
+    }
+
+    /**
+     * 登记的所有 MGET 合并为一条发出 (key 去重)，再把结果按各自的 key 分发。跨请求合并的读取 (见 L2 读取合并) 因此只产生一条命令。
+     * <p>
+     * All recorded MGETs are sent as one (with keys deduplicated) and the result is handed back per request by its own keys,
+     * so reads merged across requests (see the L2 read coalescer) produce a single command.
+     */
+    private CompletableFuture<Void> executeMgets() {
+        if (pendingMgets.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (pendingMgets.size() == 1) {
+            PendingMget mget = pendingMgets.get(0);
+            return sendMget(mget.keys).thenAccept(mget.result::complete);
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (PendingMget mget : pendingMgets) {
+            Collections.addAll(keys, mget.keys);
+        }
+        return sendMget(keys.toArray(new String[0])).thenAccept(values -> {
+            for (PendingMget mget : pendingMgets) {
+                Map<String, byte[]> own = new HashMap<>(mget.keys.length * 2);
+                for (String key : mget.keys) {
+                    byte[] value = values.get(key);
+                    if (value != null) {
+                        own.put(key, value);
+                    }
+                }
+                mget.result.complete(own);
+            }
+        });
+    }
+
+    private CompletableFuture<Map<String, byte[]>> sendMget(String[] keys) {
+        int retries = settings.getRetryAttempts() != null ? Math.max(0, settings.getRetryAttempts()) : 0;
+        return attemptMget(keys, retries).whenComplete((values, error) -> {
+            if (error != null) {
+                pendingMgets.forEach(mget -> mget.result.completeExceptionally(error));
+            }
+        });
+    }
+
+    private CompletableFuture<Map<String, byte[]>> attemptMget(String[] keys, int retriesLeft) {
+        RFuture<Map<String, byte[]>> future = redisson.getBuckets(ByteArrayCodec.INSTANCE).getAsync(keys);
+        CompletableFuture<Map<String, byte[]>> attempt = future.toCompletableFuture();
+        Duration timeout = settings.getResponseTimeout();
+        if (timeout != null && !timeout.isNegative() && !timeout.isZero()) {
+            attempt = attempt.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (retriesLeft <= 0) {
+            return attempt;
+        }
+        Duration interval = settings.getRetryInterval();
+        Executor delay = interval != null && !interval.isNegative()
+                ? CompletableFuture.delayedExecutor(interval.toMillis(), TimeUnit.MILLISECONDS)
+                : Runnable::run;
+        return attempt.exceptionallyComposeAsync(error -> attemptMget(keys, retriesLeft - 1), delay);
+    }
+
+    /**
+     * 取用批次并标记其中已有命令。/ Returns the batch, marking that it holds commands.
+     */
+    private RBatch batch() {
+        batchUsed = true;
+        return redissonBatch;
     }
 
     /**
@@ -167,4 +324,7 @@ public class RedissonBatchOperation implements BatchOperation {
     private CompletableFuture<Void> toCompletableFuture(RFuture<?> rFuture) {
         return rFuture.toCompletableFuture().thenApply(v -> null);
     }
+
+    private record PendingMget(String[] keys, CompletableFuture<Map<String, byte[]>> result) {
+    }
 }
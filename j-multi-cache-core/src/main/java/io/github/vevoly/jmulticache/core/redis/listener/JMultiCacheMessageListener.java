@@ -25,14 +25,29 @@ public class JMultiCacheMessageListener implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        onMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 处理 JSON 格式的清除消息，供不经过 Spring Data Redis 的订阅方式使用 (如进程内客户端)。
+     * <p>
+     * Handles an evict message in JSON, for subscriptions that do not go through Spring Data Redis (such as the in-process client).
+     *
+     * @param body 消息体。/ The message body.
+     */
+    public void onMessage(String body) {
         try {
-            String body = new String(message.getBody(), StandardCharsets.UTF_8);
             JMultiCacheEvictMessage jMultiCacheEvictMessage = objectMapper.readValue(body, JMultiCacheEvictMessage.class);
             String cacheName = jMultiCacheEvictMessage.getCacheName();
             String fullKey = jMultiCacheEvictMessage.getFullKey();
 
             log.info("[JMultiCache] 收到广播清除消息: cacheName={}, fullKey={}", cacheName, fullKey);
-            jMultiCacheOps.evictL1(cacheName, fullKey);
+            if (fullKey == null) {
+                // 由 evictAll 发出，清空整个命名空间
+                jMultiCacheOps.evictAllL1(cacheName);
+            } else {
+                jMultiCacheOps.evictL1(cacheName, fullKey);
+            }
 
         } catch (Exception e) {
             log.error("[JMultiCache] 处理广播消息失败", e);
@@ -1,6 +1,7 @@
 package io.github.vevoly.jmulticache.core.strategy.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
 import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
@@ -9,6 +10,8 @@ import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
 import io.github.vevoly.jmulticache.api.strategy.FieldBasedStorageStrategy;
 import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
 import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
+import io.github.vevoly.jmulticache.core.codec.BoundTypeReference;
+import io.github.vevoly.jmulticache.core.codec.JMultiCacheCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,10 +28,10 @@ import java.util.concurrent.CompletableFuture;
 /**
  * 针对 Redis HASH 类型的存储策略实现。
  * <p>
- * 此策略支持整体存取 (Map) 和字段级存取 (field-based)。
+ * 此策略支持整体存取 (Map) 和字段级存取 (field-based)。字段名按文本保存，字段值单独经配置的编解码器编码。
  * <p>
  * An implementation of the storage strategy for the Redis HASH type.
- * This strategy supports both whole-map access and field-based access.
+ * This strategy supports both whole-map access and field-based access. Field names are stored as text; every field value is encoded on its own with the configured codec.
  *
  * @author vevoly
  */
@@ -49,18 +53,22 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
 
     @Override
     public Map<String, ?> read(RedisClient redisClient, String key, TypeReference<Map<String, ?>> typeRef, ResolvedJMultiCacheConfig config) {
-        Map<String, Object> map = redisClient.hgetAll(key);
-        if (MapUtils.isEmpty(map)) {
+        Map<String, byte[]> rawMap = redisClient.hgetAllBytes(key);
+        if (MapUtils.isEmpty(rawMap)) {
             return null;
         }
 
-        if (JMultiCacheHelper.isSpecialEmptyData(map, config)) {
-            return map;
+        // 空值占位只看字段名 / The empty placeholder is recognized by its field name alone
+        if (JMultiCacheHelper.isSpecialEmptyData(rawMap, config)) {
+            return Collections.singletonMap(config.getEmptyValueMark(), Boolean.TRUE);
         }
 
-        // HASH 类型的 value 通常是 String，需要根据 typeRef 进行二次转换 / the type of HASH value is usually String, so we need to convert it again based on typeRef
+        // 按 typeRef 的 value 类型逐个字段解码 / Decode every field with the value type of typeRef
         try {
-            return objectMapper.convertValue(map, typeRef);
+            JavaType valueType = valueTypeOf(typeRef);
+            Map<String, Object> map = new LinkedHashMap<>(rawMap.size() * 4 / 3 + 1);
+            rawMap.forEach((field, raw) -> map.put(field, JMultiCacheCodecs.decodeElement(config, raw, typeRef, valueType)));
+            return map;
         } catch (Exception e) {
             log.error("[JMultiCache-Strategy] Failed to convert Hash value for key: {}. Error: {}", key, e.getMessage());
             return null;
@@ -70,8 +78,8 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
     @Override
     public void write(RedisClient redisClient, String key, Map<String, ?> value, ResolvedJMultiCacheConfig config) {
         boolean isEmptyMark = JMultiCacheHelper.isSpecialEmptyData(value, config);
-        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : config.getRedisTtl();
-        redisClient.hmset(key, (Map<String, Object>) value, ttl);
+        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : JMultiCacheHelper.getRedisTtlWithJitter(config);
+        redisClient.hmsetBytes(key, encodeValues(value, config), ttl);
     }
 
     @Override
@@ -79,10 +87,10 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
         if (keysToMarkEmpty == null) return;
         final String placeholder = config.getEmptyValueMark();
         final Duration emptyTtl = config.getEmptyCacheTtl();
-        final Map<String, Object> emptyMap = Collections.singletonMap(placeholder, Boolean.TRUE);
+        final Map<String, byte[]> emptyMap = Collections.singletonMap(placeholder, JMultiCacheCodecs.encode(config, Boolean.TRUE));
 
         keysToMarkEmpty.forEach(key -> {
-            batch.hashPutAllAsync(key, emptyMap);
+            batch.hashPutAllBytesAsync(key, emptyMap);
             batch.expireAsync(key, emptyTtl);
         });
     }
@@ -93,17 +101,14 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
 
     @Override
     public Object readField(RedisClient redisClient, String key, String field, Class<Object> fieldType, ResolvedJMultiCacheConfig config) {
-        Object rawValue = redisClient.hget(key, field);
+        byte[] rawValue = redisClient.hgetBytes(key, field);
         if (rawValue == null) {
             return null;
         }
 
-        if (JMultiCacheHelper.isSpecialEmptyData(rawValue, config)) {
-            return rawValue;
-        }
-
         try {
-            return objectMapper.convertValue(rawValue, fieldType);
+            // 空值标记会原样返回 / The empty-value marker is returned as it is
+            return JMultiCacheCodecs.decode(config, rawValue, fieldType);
         } catch (Exception e) {
             log.error("[JMultiCache-Strategy] Failed to convert Hash field value for key: {}, field: {}. Error: {}", key, field, e.getMessage());
             return null;
@@ -113,8 +118,8 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
     @Override
     public void writeField(RedisClient redisClient, String key, String field, Object value, ResolvedJMultiCacheConfig config) {
         boolean isEmptyMark = JMultiCacheHelper.isSpecialEmptyData(value, config);
-        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : config.getRedisTtl();
-        redisClient.hset(key, field, value, ttl);
+        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : JMultiCacheHelper.getRedisTtlWithJitter(config);
+        redisClient.hmsetBytes(key, Collections.singletonMap(field, JMultiCacheCodecs.encode(config, value)), ttl);
     }
 
     // ==========================================================
@@ -131,4 +136,19 @@ public class HashStorageStrategy implements RedisStorageStrategy<Map<String, ?>>
     public void writeMulti(BatchOperation batch, Map<String, Map<String, ?>> dataToCache, ResolvedJMultiCacheConfig config) {
         log.warn("HashStorageStrategy.writeMulti is not fully implemented yet.");
     }
+
+    /**
+     * 从 Map 类型中取出 value 类型，无法确定时按 Object 解码。/ Extracts the value type of a Map type, falling back to Object when unknown.
+     */
+    private JavaType valueTypeOf(TypeReference<?> typeRef) {
+        JavaType contentType = typeRef instanceof BoundTypeReference<?> bound
+                ? bound.getContentType() : objectMapper.constructType(typeRef.getType()).getContentType();
+        return contentType != null ? contentType : objectMapper.constructType(Object.class);
+    }
+
+    private static Map<String, byte[]> encodeValues(Map<String, ?> value, ResolvedJMultiCacheConfig config) {
+        Map<String, byte[]> encoded = new LinkedHashMap<>(value.size() * 4 / 3 + 1);
+        value.forEach((field, fieldValue) -> encoded.put(field, JMultiCacheCodecs.encode(config, fieldValue)));
+        return encoded;
+    }
 }
@@ -9,6 +9,8 @@ import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
 import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
 import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
+import io.github.vevoly.jmulticache.core.codec.BoundTypeReference;
+import io.github.vevoly.jmulticache.core.codec.JMultiCacheCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -21,10 +23,10 @@ import java.util.concurrent.CompletableFuture;
 /**
  * 针对 Redis LIST 类型的存储策略实现。
  * <p>
- * 此策略将 Java 的 List 结构映射到 Redis 的 List 数据结构。
+ * 此策略将 Java 的 List 结构映射到 Redis 的 List 数据结构，每个元素单独经配置的编解码器编码。
  * <p>
  * An implementation of the storage strategy for the Redis LIST type.
- * This strategy maps a Java List structure to a Redis List data structure.
+ * This strategy maps a Java List structure to a Redis List data structure, encoding every element on its own with the configured codec.
  *
  * @author vevoly
  */
@@ -42,17 +44,12 @@ public class ListStorageStrategy implements RedisStorageStrategy<List<?>> {
 
     @Override
     public List<?> read(RedisClient redisClient, String key, TypeReference<List<?>> typeRef, ResolvedJMultiCacheConfig config) {
-        List<Object> rawList = redisClient.getList(key);
+        List<byte[]> rawList = redisClient.getListBytes(key);
         if (CollectionUtils.isEmpty(rawList)) {
             return null;
         }
-        // 使用 config (如果可用) 或默认值来判断空标记
-        if (JMultiCacheHelper.isSpecialEmptyData(rawList, config)) {
-            return rawList;
-        }
-
         try {
-            return objectMapper.convertValue(rawList, typeRef);
+            return decodeAll(rawList, typeRef, elementTypeOf(typeRef), config);
         } catch (Exception e) {
             log.error("[JMultiCache-Strategy] Failed to convert List value for key: {}. Error: {}", key, e.getMessage());
             return null;
@@ -60,23 +57,24 @@ public class ListStorageStrategy implements RedisStorageStrategy<List<?>> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <V> Map<String, CompletableFuture<Optional<V>>> readMulti(BatchOperation batch, List<String> keysToRead, TypeReference<V> typeRef, ResolvedJMultiCacheConfig config) {
         Map<String, CompletableFuture<Optional<V>>> finalFutures = new HashMap<>();
-        JavaType targetType = objectMapper.constructType(typeRef.getType());
+        JavaType elementType = elementTypeOf(typeRef);
 
         for (String key : keysToRead) {
-            CompletableFuture<List<Object>> rawFuture = batch.listGetAllAsync(key);
+            CompletableFuture<List<byte[]>> rawFuture = batch.listGetAllBytesAsync(key);
             CompletableFuture<Optional<V>> finalFuture = rawFuture.thenApply(rawList -> {
                 if (rawList == null || rawList.isEmpty()) {
                     return null; // Redis中没有这个Key / No this key in Redis
                 }
-                if (JMultiCacheHelper.isSpecialEmptyData(rawList, config)) {
+                if (rawList.size() == 1 && JMultiCacheCodecs.isEmptyMark(config, rawList.get(0))) {
                     return Optional.empty(); // 命中空值占位符 / Hit empty mark
                 }
                 try {
-                    // 将 Redis 返回的 List<Object> (实际是List<String>) 反序列化为调用者期望的类型 V / Deserialize the List<Object> (actually List<String>) returned by Redis into the type V expected by the caller
+                    // 逐个元素解码为调用者期望的元素类型 / Decode every element into the element type the caller expects
                     // 如果 V 是 List<MyEntity>，这里就会得到一个 ArrayList<MyEntity> / if V is List<MyEntity>, we get an ArrayList<MyEntity> here
-                    V value = objectMapper.convertValue(rawList, targetType);
+                    V value = (V) decodeAll(rawList, typeRef, elementType, config);
                     return Optional.of(value); // Hit (with data)
                 } catch (Exception e) {
                     log.error("[JMultiCache-Strategy] Failed to convert List value in multi-read for key: {}. Error: {}", key, e.getMessage());
@@ -92,19 +90,18 @@ public class ListStorageStrategy implements RedisStorageStrategy<List<?>> {
     public void write(RedisClient redisClient, String key, List<?> value, ResolvedJMultiCacheConfig config) {
         // 根据写入的是真实数据还是空标记，从 config 中选择正确的 TTL / Cording to whether the write is real data or an empty mark, select the correct TTL from config
         boolean isEmptyMark = JMultiCacheHelper.isSpecialEmptyData(value, config);
-        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : config.getRedisTtl();
-        redisClient.setList(key, value, ttl);
+        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : JMultiCacheHelper.getRedisTtlWithJitter(config);
+        redisClient.setListBytes(key, encodeAll(value, config), ttl);
     }
 
     @Override
     public void writeMulti(BatchOperation batch, Map<String, List<?>> dataToCache, ResolvedJMultiCacheConfig config) {
         if (dataToCache == null) return;
-        final Duration ttl = config.getRedisTtl();
         dataToCache.forEach((key, valueList) -> {
             if (valueList != null && !valueList.isEmpty()) {
                 batch.listDeleteAsync(key);
-                batch.listAddAllAsync(key, valueList);
-                batch.expireAsync(key, ttl);
+                batch.listAddAllBytesAsync(key, encodeAll(valueList, config));
+                batch.expireAsync(key, JMultiCacheHelper.getRedisTtlWithJitter(config));
             }
         });
     }
@@ -112,14 +109,41 @@ public class ListStorageStrategy implements RedisStorageStrategy<List<?>> {
     @Override
     public void writeMultiEmpty(BatchOperation batch, List<String> keysToMarkEmpty, ResolvedJMultiCacheConfig config) {
         if (keysToMarkEmpty == null) return;
-        final String placeholder = config.getEmptyValueMark();
         final Duration emptyTtl = config.getEmptyCacheTtl();
-        final List<String> emptyList = Collections.singletonList(placeholder);
+        final List<byte[]> emptyList = Collections.singletonList(JMultiCacheCodecs.emptyMarkBytes(config));
 
         keysToMarkEmpty.forEach(key -> {
             batch.listDeleteAsync(key);
-            batch.listAddAllAsync(key, emptyList);
+            batch.listAddAllBytesAsync(key, emptyList);
             batch.expireAsync(key, emptyTtl);
         });
     }
+
+    /**
+     * 从 List 类型中取出元素类型，无法确定时按 Object 解码。/ Extracts the element type of a List type, falling back to Object when unknown.
+     */
+    private JavaType elementTypeOf(TypeReference<?> typeRef) {
+        JavaType contentType = typeRef instanceof BoundTypeReference<?> bound
+                ? bound.getContentType() : objectMapper.constructType(typeRef.getType()).getContentType();
+        return contentType != null ? contentType : objectMapper.constructType(Object.class);
+    }
+
+    private static List<byte[]> encodeAll(List<?> values, ResolvedJMultiCacheConfig config) {
+        if (values == null) {
+            return null;
+        }
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        for (Object value : values) {
+            encoded.add(JMultiCacheCodecs.encode(config, value));
+        }
+        return encoded;
+    }
+
+    private static List<Object> decodeAll(List<byte[]> rawList, TypeReference<?> typeRef, JavaType elementType, ResolvedJMultiCacheConfig config) {
+        List<Object> decoded = new ArrayList<>(rawList.size());
+        for (byte[] raw : rawList) {
+            decoded.add(JMultiCacheCodecs.decodeElement(config, raw, typeRef, elementType));
+        }
+        return decoded;
+    }
 }
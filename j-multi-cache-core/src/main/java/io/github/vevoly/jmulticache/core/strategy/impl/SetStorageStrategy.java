@@ -89,7 +89,7 @@ public class SetStorageStrategy implements RedisStorageStrategy<Set<?>> {
     @Override
     public void write(RedisClient redisClient, String key, Set<?> value, ResolvedJMultiCacheConfig config) {
         boolean isEmptyMark = JMultiCacheHelper.isSpecialEmptyData(value, config);
-        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : config.getRedisTtl();
+        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : JMultiCacheHelper.getRedisTtlWithJitter(config);
 
         if (value == null || value.isEmpty()) {
             redisClient.delete(key);
@@ -107,8 +107,6 @@ public class SetStorageStrategy implements RedisStorageStrategy<Set<?>> {
     @Override
     public void writeMulti(BatchOperation batch, Map<String, Set<?>> dataToCache, ResolvedJMultiCacheConfig config) {
         if (dataToCache == null) return;
-        final Duration ttl = config.getRedisTtl();
-
         dataToCache.forEach((key, valueSet) -> {
             if (valueSet != null && !valueSet.isEmpty()) {
                 batch.setDeleteAsync(key);
@@ -126,7 +124,7 @@ public class SetStorageStrategy implements RedisStorageStrategy<Set<?>> {
                         .collect(Collectors.toSet());
                 if (!jsonMembers.isEmpty()) {
                     batch.setAddAllAsync(key, jsonMembers);
-                    batch.expireAsync(key, ttl);
+                    batch.expireAsync(key, JMultiCacheHelper.getRedisTtlWithJitter(config));
                 }
             }
         });
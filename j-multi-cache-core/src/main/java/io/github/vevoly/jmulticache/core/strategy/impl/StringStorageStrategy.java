@@ -1,15 +1,13 @@
 package io.github.vevoly.jmulticache.core.strategy.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.api.constants.DefaultStorageTypes;
 import io.github.vevoly.jmulticache.api.redis.batch.BatchOperation;
 import io.github.vevoly.jmulticache.api.strategy.RedisStorageStrategy;
 import io.github.vevoly.jmulticache.api.config.ResolvedJMultiCacheConfig;
 import io.github.vevoly.jmulticache.api.utils.JMultiCacheHelper;
-import lombok.RequiredArgsConstructor;
+import io.github.vevoly.jmulticache.core.codec.JMultiCacheCodecs;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -23,21 +21,18 @@ import java.util.concurrent.CompletableFuture;
 /**
  * 针对 Redis STRING 类型的存储策略实现。
  * <p>
- * 此策略将任何 Java 对象序列化为 JSON 字符串后，存储在 Redis 的 STRING 数据结构中。
+ * 此策略将任何 Java 对象经配置的编解码器 (默认 JSON) 编码后，存储在 Redis 的 STRING 数据结构中。
  * <p>
  * An implementation of the storage strategy for the Redis STRING type.
- * This strategy serializes any Java object into a JSON string and stores it in a Redis STRING data structure.
+ * This strategy encodes any Java object with the configured codec (JSON by default) and stores it in a Redis STRING data structure.
  *
  * @param <T> 存储对象的类型。/ The type of the object to be stored.
  * @author vevoly
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class StringStorageStrategy<T> implements RedisStorageStrategy<T> {
 
-    private final ObjectMapper objectMapper;
-
     @Override
     public String getStorageType() {
         return DefaultStorageTypes.STRING;
@@ -45,17 +40,14 @@ public class StringStorageStrategy<T> implements RedisStorageStrategy<T> {
 
     @Override
     public T read(RedisClient redisClient, String key, TypeReference<T> typeRef, ResolvedJMultiCacheConfig config) {
-        Object rawValue = redisClient.get(key);
+        byte[] rawValue = redisClient.getBytes(key);
         if (rawValue == null) {
             return null;
         }
 
-        if (JMultiCacheHelper.isSpecialEmptyData(rawValue, config)) {
-            return (T) rawValue; // 是空值标记，直接返回 / It's a null value marker, return directly.
-        }
-
         try {
-            return objectMapper.convertValue(rawValue, typeRef);
+            // 空值标记会原样返回 / The empty-value marker is returned as it is
+            return JMultiCacheCodecs.decode(config, rawValue, typeRef);
         } catch (Exception e) {
             log.error("[JMultiCache-Strategy] Failed to convert value for key: {}. Expected type: {}. Error: {}",
                     key, typeRef.getType().getTypeName(), e.getMessage());
@@ -63,23 +55,27 @@ public class StringStorageStrategy<T> implements RedisStorageStrategy<T> {
         }
     }
 
+    /**
+     * 整批 key 以一条 MGET 读取 (见 {@link BatchOperation#getAllBytesAsync})，而不是每个 key 一条 GET；每个 key 的 Future 由同一个结果派生。
+     * <p>
+     * The whole set of keys is read with one MGET (see {@link BatchOperation#getAllBytesAsync}) instead of one GET per key;
+     * each key's future is derived from the same result.
+     */
     @Override
     public <V> Map<String, CompletableFuture<Optional<V>>> readMulti(BatchOperation batch, List<String> keysToRead, TypeReference<V> typeRef, ResolvedJMultiCacheConfig config) {
         Map<String, CompletableFuture<Optional<V>>> finalFutures = new HashMap<>();
-        JavaType targetType = objectMapper.constructType(typeRef.getType());
-
+        CompletableFuture<Map<String, byte[]>> rawFuture = batch.getAllBytesAsync(keysToRead);
         for (String key : keysToRead) {
-            CompletableFuture<Object> rawFuture = batch.getAsync(key);
-
-            CompletableFuture<Optional<V>> finalFuture = rawFuture.thenApply(rawValue -> {
+            CompletableFuture<Optional<V>> finalFuture = rawFuture.thenApply(rawValues -> {
+                byte[] rawValue = rawValues.get(key);
                 if (rawValue == null) {
                     return null; // Miss
                 }
-                if (JMultiCacheHelper.isSpecialEmptyData(rawValue, config)) {
+                if (JMultiCacheCodecs.isEmptyMark(config, rawValue)) {
                     return Optional.empty(); // Hit (empty)
                 }
                 try {
-                    V convertedValue = objectMapper.convertValue(rawValue, targetType);
+                    V convertedValue = JMultiCacheCodecs.decode(config, rawValue, typeRef);
                     return Optional.of(convertedValue); // Hit (with data)
                 } catch (Exception e) {
                     log.error("[JMultiCache-Strategy] Failed to convert value in multi-read for key: {}. Error: {}", key, e.getMessage());
@@ -94,17 +90,17 @@ public class StringStorageStrategy<T> implements RedisStorageStrategy<T> {
     @Override
     public void write(RedisClient redisClient, String key, T value, ResolvedJMultiCacheConfig config) {
         boolean isEmptyMark = JMultiCacheHelper.isSpecialEmptyData(value, config);
-        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : config.getRedisTtl();
-        redisClient.set(key, value, ttl);
+        Duration ttl = isEmptyMark ? config.getEmptyCacheTtl() : JMultiCacheHelper.getRedisTtlWithJitter(config);
+        redisClient.setBytes(key, JMultiCacheCodecs.encode(config, value), ttl);
     }
 
     @Override
     public void writeMulti(BatchOperation batch, Map<String, T> dataToCache, ResolvedJMultiCacheConfig config) {
         if (dataToCache == null) return;
-        final Duration ttl = config.getRedisTtl();
         dataToCache.forEach((key, value) -> {
             if (value != null) {
-                batch.setAsync(key, value, ttl);
+                // 每个 key 单独计算抖动，避免同批写入同时过期 / Jitter per key so a batch does not expire at once
+                batch.setBytesAsync(key, JMultiCacheCodecs.encode(config, value), JMultiCacheHelper.getRedisTtlWithJitter(config));
             }
         });
     }
@@ -112,8 +108,8 @@ public class StringStorageStrategy<T> implements RedisStorageStrategy<T> {
     @Override
     public void writeMultiEmpty(BatchOperation batch, List<String> keysToMarkEmpty, ResolvedJMultiCacheConfig config) {
         if (keysToMarkEmpty == null) return;
-        final String placeholder = config.getEmptyValueMark();
+        final byte[] placeholder = JMultiCacheCodecs.emptyMarkBytes(config);
         final Duration emptyTtl = config.getEmptyCacheTtl();
-        keysToMarkEmpty.forEach(key -> batch.setAsync(key, placeholder, emptyTtl));
+        keysToMarkEmpty.forEach(key -> batch.setBytesAsync(key, placeholder, emptyTtl));
     }
 }
@@ -158,7 +158,7 @@ public class ZSetStorageStrategy implements RedisStorageStrategy<List<?>> {
 
         // 3. 写入 Redis / Write to Redis
         if (!zsetMap.isEmpty()) {
-            redisClient.zAdd(key, zsetMap, config.getRedisTtl());
+            redisClient.zAdd(key, zsetMap, JMultiCacheHelper.getRedisTtlWithJitter(config));
         }
     }
 
@@ -170,8 +170,6 @@ public class ZSetStorageStrategy implements RedisStorageStrategy<List<?>> {
     @Override
     public void writeMulti(BatchOperation batch, Map<String, List<?>> dataToCache, ResolvedJMultiCacheConfig config) {
         if (CollectionUtils.isEmpty(dataToCache)) return;
-        final Duration ttl = config.getRedisTtl();
-
         dataToCache.forEach((key, list) -> {
             // 1. 处理空值占位符 / Handle empty cache (Anti-penetration)
             if (JMultiCacheHelper.isSpecialEmptyData(list, config)) {
@@ -193,7 +191,7 @@ public class ZSetStorageStrategy implements RedisStorageStrategy<List<?>> {
                 if (!zsetMap.isEmpty()) {
                     batch.setDeleteAsync(key);
                     batch.zAddAsync(key, zsetMap);
-                    batch.expireAsync(key, ttl);
+                    batch.expireAsync(key, JMultiCacheHelper.getRedisTtlWithJitter(config));
                 }
             }
         });
@@ -2,7 +2,10 @@ package io.github.vevoly.jmulticache.core.utils;
 
 import org.slf4j.Logger;
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
@@ -19,13 +22,19 @@ import java.util.ResourceBundle;
  * allowing developers to use language-neutral keys in their logging code instead of hard-coded log messages.
  * It automatically loads message templates from the corresponding {@code .properties} resource file
  * based on the current system locale, formats them with arguments, and outputs the log.
+ * <p>
+ * 资源包只在构造时加载一次，其中的全部模板被预编译为 {@link MessageFormat}；
+ * 由于 {@link MessageFormat} 不是线程安全的，每次格式化使用一份克隆，省去的是每条日志的模板查找与解析。
+ * <p>
+ * The resource bundle is loaded once at construction and all of its templates are precompiled into {@link MessageFormat}s.
+ * Since {@link MessageFormat} is not thread-safe, each format call works on a clone, which saves the per-log template lookup and parsing.
  *
  * @author vevoly
  */
 public class I18nLogger {
 
     private final Logger slf4jLogger;
-    private final ResourceBundle resourceBundle;
+    private final Map<String, MessageFormat> templates;
 
     /**
      * 定义了国际化资源文件的基础名称。
@@ -53,7 +62,24 @@ public class I18nLogger {
             // If the resource file cannot be found, log a warning without affecting program execution. Subsequent logs will output the original key.
             slf4jLogger.warn("Could not find i18n resource bundle with base name '{}'. Internationalized logging will be disabled.", BUNDLE_BASE_NAME);
         }
-        this.resourceBundle = bundle;
+        this.templates = bundle != null ? compile(bundle) : null;
+    }
+
+    /**
+     * 预编译资源包中的全部模板。格式错误的模板被跳过，使用时按格式化错误处理。
+     * <p>
+     * Precompiles every template of the resource bundle. Malformed templates are skipped and reported as formatting errors when used.
+     */
+    private static Map<String, MessageFormat> compile(ResourceBundle bundle) {
+        Map<String, MessageFormat> compiled = new HashMap<>();
+        for (String key : bundle.keySet()) {
+            try {
+                compiled.put(key, new MessageFormat(bundle.getString(key), bundle.getLocale()));
+            } catch (IllegalArgumentException ignored) {
+                // 在 format 中报告 / Reported by format
+            }
+        }
+        return Collections.unmodifiableMap(compiled);
     }
 
     /**
@@ -123,18 +149,19 @@ public class I18nLogger {
      * @return 格式化后的日志字符串。/ The formatted log string.
      */
     private String format(String key, Object... args) {
-        if (resourceBundle == null) {
+        if (templates == null) {
             // 如果资源包未加载，返回一个清晰的调试信息，而不是让程序崩溃。
             // If the resource bundle is not loaded, return a clear debug message instead of crashing.
             return "[i18n disabled] " + key;
         }
-        try {
-            String pattern = resourceBundle.getString(key);
-            return MessageFormat.format(pattern, args);
-        } catch (MissingResourceException e) {
+        MessageFormat template = templates.get(key);
+        if (template == null) {
             // 如果在资源文件中找不到对应的 key，返回一个包含 key 本身的错误信息，方便调试。
             // If the key is not found in the resource file, return an error message containing the key itself for easy debugging.
             return "!!! LOG KEY NOT FOUND: " + key + " !!!";
+        }
+        try {
+            return ((MessageFormat) template.clone()).format(args);
         } catch (Exception e) {
             // 其他格式化异常
             // Other formatting exceptions
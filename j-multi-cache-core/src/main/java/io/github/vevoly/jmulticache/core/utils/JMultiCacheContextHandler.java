@@ -8,13 +8,10 @@ import io.micrometer.common.util.StringUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 封装批量查询前的复杂上下文初始化逻辑 (框架内部使用)。
@@ -37,8 +34,6 @@ import java.util.regex.Pattern;
 @Getter
 public class JMultiCacheContextHandler<K> {
 
-    private static final Pattern SPEL_FIELD_PATTERN = Pattern.compile("#(\\w+)");
-
     private Collection<K> ids;
     private String businessKey;
     private Function<K, String> keyBuilder;
@@ -110,38 +105,32 @@ public class JMultiCacheContextHandler<K> {
         // 手动调用路径：根据 YML 中的 keyField 配置，自动生成 keyBuilder / Manual Call Path: Auto-generate keyBuilder based on the keyField from YML configuration.
         final String keyFieldExpr = finalConfig.getKeyField().trim();
 
-        return (K id) -> {
+        // keyField 未配置，使用 id 本身作为 key part / If keyField is not configured, use the ID itself as the key part.
+        if (StringUtils.isBlank(keyFieldExpr)) {
+            return (K id) -> JMultiCacheHelper.buildKey(finalConfig.getNamespace(), String.valueOf(id));
+        }
 
-            // keyField 未配置，使用 id 本身作为 key part / If keyField is not configured, use the ID itself as the key part.
-            if (StringUtils.isBlank(keyFieldExpr)) {
-                return JMultiCacheHelper.buildKey(finalConfig.getNamespace(), String.valueOf(id));
+        // keyField 包含 SpEL-like 或逗号分隔的复杂表达式：字段列表只解析一次 / If keyField is a complex expression containing SpEL-like syntax or commas: the field list is parsed once.
+        if (keyFieldExpr.contains(",") || keyFieldExpr.contains("+") || keyFieldExpr.contains("#")) {
+            final String[] fields;
+            if (keyFieldExpr.contains(",")) {
+                fields = Arrays.stream(keyFieldExpr.split(",")).map(String::trim).toArray(String[]::new);
+            } else {
+                List<String> fieldList = JMultiCacheInternalHelper.keyTemplateOf(finalConfig).getVariableNames();
+                fields = fieldList.isEmpty() ? new String[]{keyFieldExpr} : fieldList.toArray(new String[0]);
             }
 
-            // keyField 包含 SpEL-like 或逗号分隔的复杂表达式 / If keyField is a complex expression containing SpEL-like syntax or commas.
-            if (keyFieldExpr.contains(",") || keyFieldExpr.contains("+") || keyFieldExpr.contains("#")) {
-                String[] fields;
-                if (keyFieldExpr.contains(",")) {
-                    fields = Arrays.stream(keyFieldExpr.split(",")).map(String::trim).toArray(String[]::new);
-                } else {
-                    Matcher matcher = SPEL_FIELD_PATTERN.matcher(keyFieldExpr);
-                    List<String> fieldList = new ArrayList<>();
-                    while (matcher.find()) {
-                        fieldList.add(matcher.group(1));
-                    }
-                    fields = fieldList.isEmpty() ? new String[]{keyFieldExpr} : fieldList.toArray(new String[0]);
-                }
-
+            return (K id) -> {
                 String[] parts = new String[fields.length];
                 for (int i = 0; i < fields.length; i++) {
                     parts[i] = JMultiCacheInternalHelper.getKeyValueSafe(id, fields[i]);
                 }
                 return JMultiCacheHelper.buildKey(finalConfig.getNamespace(), parts);
-            }
+            };
+        }
 
-            // keyField 是单个普通字段名 / If keyField is a single, plain field name.
-            String singleValue = JMultiCacheInternalHelper.getKeyValueSafe(id, keyFieldExpr);
-            return JMultiCacheHelper.buildKey(finalConfig.getNamespace(), singleValue);
-        };
+        // keyField 是单个普通字段名 / If keyField is a single, plain field name.
+        return (K id) -> JMultiCacheHelper.buildKey(finalConfig.getNamespace(), JMultiCacheInternalHelper.getKeyValueSafe(id, keyFieldExpr));
     }
 }
 
@@ -12,19 +12,15 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -46,7 +42,11 @@ public class JMultiCacheInternalHelper {
     private JMultiCacheInternalHelper() {}
 
     private static final String LOG_PREFIX = "[JMultiCache-Helper] ";
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final Pattern INVALID_SPEL_RESULT = Pattern.compile("^(null[:]?)+$");
+    private static final Pattern COMPOUND_EXPRESSION = Pattern.compile(".*[+\\-*/\\[\\].()\\s].*");
+
+    // 临时表达式 (businessKey、预热 key 等) 的模板缓存，配置上的 key-field 模板在解析配置时已构建
+    private static final Map<String, JMultiCacheKeyTemplate> KEY_TEMPLATES = new ConcurrentHashMap<>();
 
     // 用于获取 AOP 切点方法的参数名
     private static final DefaultParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
@@ -148,30 +148,40 @@ public class JMultiCacheInternalHelper {
             }
             // 3. 固定值 "null" 常量处理
             if ("null".equalsIgnoreCase(keyExpr)) return "null";
-            // 4.智能 SpEL 上下文，同时支持带 # 和不带 #
+            // 4. 单个字段引用 (#id 或 id) 直接读取，不经过 SpEL
+            JMultiCacheKeyTemplate template = keyTemplateOf(keyExpr);
+            if (template.getFieldName() != null) {
+                Object value = tryGetByGetterOrField(obj, template.getFieldName());
+                String key = value == null ? null : String.valueOf(value);
+                if (key != null && !isInvalidSpelResult(key)) {
+                    return key;
+                }
+                log.warn(LOG_PREFIX + "Could not extract key '{}' from object {} (tried getter and field)",
+                        keyExpr, obj.getClass().getSimpleName());
+                return null;
+            }
+            // 5.智能 SpEL 上下文，同时支持带 # 和不带 #
             Object value = null;
             boolean spelAttempted = false;
             try {
-                // 创建一个同时支持“根对象”和“变量”的混合上下文
-                StandardEvaluationContext context = new StandardEvaluationContext(obj);
-                registerAllFieldsAsVariables(context, obj);
-                value = PARSER.parseExpression(keyExpr).getValue(context);
+                // 同时支持“根对象”和“变量”，变量按名称从对象的 getter 或字段取值
+                value = template.evaluate(obj, name -> tryGetByGetterOrField(obj, name));
                 spelAttempted = true;
             } catch (ParseException | EvaluationException e) {
                 // 忽略这个异常，进入下面的兜底逻辑 / Ignore benign exceptions, allowing fallback
             } catch (Exception e) {
                 log.warn(LOG_PREFIX + "Unexpected error while executing SpEL expression '{}': {}", keyExpr, e.getMessage());
             }
-            // 5. 兜底逻辑：当 SpEL 未尝试(理论上不会)，或 SpEL 结果无效时
+            // 6. 兜底逻辑：当 SpEL 未尝试(理论上不会)，或 SpEL 结果无效时
             if (!spelAttempted || isInvalidSpelResult(String.valueOf(value))) {
                 // 将表达式视为一个简单的字段名
                 String fieldName = keyExpr.startsWith("#") ? keyExpr.substring(1) : keyExpr;
                 // 复合表达式如 "tenantId + countryCode" 在这里必然失败，这是符合预期的。
-                if (!fieldName.matches(".*[+\\-*/\\[\\].()\\s].*")) {
+                if (!COMPOUND_EXPRESSION.matcher(fieldName).matches()) {
                     value = tryGetByGetterOrField(obj, fieldName);
                 }
             }
-            // 6. 最终结果处理
+            // 7. 最终结果处理
             if (value != null && !isInvalidSpelResult(String.valueOf(value))) {
                 return String.valueOf(value);
             }
@@ -191,85 +201,23 @@ public class JMultiCacheInternalHelper {
      */
     private static boolean isInvalidSpelResult(String resultStr) {
         if (resultStr == null) return true;
-        return resultStr.matches("^(null[:]?)+$");
-    }
-
-    /**
-     * 通过反射将一个对象的所有字段注册到 SpEL 上下文中作为变量，以支持 '#fieldName' 风格的表达式。
-     * <p>
-     * Registers all fields of an object as variables in the SpEL context via reflection to support '#fieldName' style expressions.
-     */
-    private static void registerAllFieldsAsVariables(StandardEvaluationContext context, Object obj) {
-        if (obj == null) return;
-        // 遍历对象的所有字段（包括父类）
-        for (Class<?> clazz = obj.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
-            for (Field field : clazz.getDeclaredFields()) {
-                try {
-                    field.setAccessible(true);  // 允许访问私有字段
-                    // 将字段名作为变量名，字段值作为变量值
-                    context.setVariable(field.getName(), field.get(obj));
-                } catch (IllegalAccessException e) {
-                    // 忽略无法访问的字段 / Ignore inaccessible fields
-                }
-            }
-        }
+        // 绝大多数 key 不以 "null" 开头，无需走正则 / Most keys do not start with "null" and skip the regex
+        return resultStr.startsWith("null") && INVALID_SPEL_RESULT.matcher(resultStr).matches();
     }
 
     /**
-     * 优先通过 getter 获取字段值，失败后回退到直接反射字段。
+     * 优先通过 getter 获取字段值，失败后回退到直接读取字段；读取器按 (类, 属性) 缓存。
      * <p>
-     * Tries to get a field value via its getter method, falling back to direct field reflection on failure.
+     * Tries to get a field value via its getter method, falling back to reading the field directly; accessors are cached per (class, property).
      */
     private static Object tryGetByGetterOrField(Object obj, String fieldName) {
         if (obj == null || !StringUtils.hasText(fieldName)) return null;
-        // 1. 获取真正的、非代理的目标类
-        Class<?> targetClass = AopUtils.getTargetClass(obj);
-        // 2. 尝试调用标准的 getter: getXxx()
         try {
-            // 使用 getMethod，它可以查找到父类的 public 方法
-            Method getter = targetClass.getMethod("get" + StringUtils.capitalize(fieldName));
-            return getter.invoke(obj);
-        } catch (NoSuchMethodException ignored) {
-        } catch (Exception e) {
-            log.warn(LOG_PREFIX + "Failed to invoke getter for '{}': {}", fieldName, e.getMessage());
-        }
-        // 3. 尝试调用布尔型的 getter: isXxx()
-        try {
-            Method getter = targetClass.getMethod("is" + StringUtils.capitalize(fieldName));
-            return getter.invoke(obj);
-        } catch (NoSuchMethodException ignored) {
-        } catch (Exception e) {
-            log.warn(LOG_PREFIX + "Failed to invoke getter for '{}': {}", fieldName, e.getMessage());
-        }
-        // 4. 如果所有 getter 都失败，递归查找并访问字段
-        try {
-            Field field = findField(targetClass, fieldName); // 递归查找字段
-            if (field != null) {
-                field.setAccessible(true);
-                return field.get(obj);
-            }
-        } catch (Exception e) {
-            log.warn(LOG_PREFIX + "Failed to access field '{}' directly: {}", fieldName, e.getMessage());
-        }
-        // 5. 如果所有方式都失败，则返回 null
-        return null;
-    }
-
-    /**
-     * 在类及其父类中递归向上查找一个字段。
-     * <p>
-     * Recursively searches for a field in a class and its superclasses.
-     */
-    private static Field findField(Class<?> clazz, String fieldName) {
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            try {
-                return current.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                current = current.getSuperclass();
-            }
+            return JMultiCachePropertyAccessors.read(obj, fieldName);
+        } catch (Throwable e) {
+            log.warn(LOG_PREFIX + "Failed to read property '{}' of {}: {}", fieldName, obj.getClass().getSimpleName(), e.getMessage());
+            return null;
         }
-        return null;
     }
 
     // ===================================================================
@@ -296,12 +244,36 @@ public class JMultiCacheInternalHelper {
      * 从方法参数中解析多个 key 值（支持 SpEL 表达式中包含多个变量）
      */
     public static String[] getKeyValuesFromMethodArgs(ProceedingJoinPoint joinPoint, String keyExpr) {
-        if (keyExpr.isBlank()) {
-            return new String[]{String.valueOf(joinPoint.getArgs()[0])};
+        return getKeyValuesFromMethodArgs(joinPoint, keyTemplateOf(keyExpr));
+    }
+
+    /**
+     * 使用预编译的 key 模板从方法参数中解析多个 key 值。
+     * <p>
+     * Resolves multiple key values from the method arguments with a precompiled key template.
+     */
+    public static String[] getKeyValuesFromMethodArgs(ProceedingJoinPoint joinPoint, JMultiCacheKeyTemplate keyTemplate) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return getKeyValuesFromMethodArgs(joinPoint.getArgs(), PARAMETER_NAME_DISCOVERER.getParameterNames(method), keyTemplate);
+    }
+
+    /**
+     * 使用已知的参数名和预编译的 key 模板从方法参数中解析多个 key 值，供缓存了参数名的调用方使用。
+     * <p>
+     * Resolves multiple key values from method arguments with known parameter names and a precompiled key template, for callers that cache the parameter names.
+     *
+     * @param args        方法参数。/ The method arguments.
+     * @param paramNames  参数名，可能为 {@code null}。/ The parameter names, may be {@code null}.
+     * @param keyTemplate 预编译的 key 模板。/ The precompiled key template.
+     * @return key 的各部分。/ The key parts.
+     */
+    public static String[] getKeyValuesFromMethodArgs(Object[] args, String[] paramNames, JMultiCacheKeyTemplate keyTemplate) {
+        if (keyTemplate.isBlank()) {
+            return new String[]{String.valueOf(args[0])};
         }
 
         // 支持多变量形式，如 "#tenantId + ':' + #platformCode + ':' + #code"
-        String resolved = getKeyValueFromMethodArgs(joinPoint, keyExpr);
+        String resolved = getKeyValueFromMethodArgs(args, paramNames, keyTemplate);
         return resolved.split(":");
     }
 
@@ -315,25 +287,31 @@ public class JMultiCacheInternalHelper {
      * @return 解析后的 key 字符串。/ The resolved key string.
      */
     public static String getKeyValueFromMethodArgs(ProceedingJoinPoint joinPoint, String keyExpr) {
-        try {
-            Object[] args = joinPoint.getArgs();
-            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-            String[] paramNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        return getKeyValueFromMethodArgs(joinPoint, keyTemplateOf(keyExpr));
+    }
+
+    /**
+     * 使用预编译的 key 模板从 AOP 切点的方法参数中解析 key 的值。
+     * <p>
+     * Resolves the key's value from the method arguments of an AOP join point with a precompiled key template.
+     *
+     * @param joinPoint   AOP 切点。/ The AOP join point.
+     * @param keyTemplate 预编译的 key 模板。/ The precompiled key template.
+     * @return 解析后的 key 字符串。/ The resolved key string.
+     */
+    public static String getKeyValueFromMethodArgs(ProceedingJoinPoint joinPoint, JMultiCacheKeyTemplate keyTemplate) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return getKeyValueFromMethodArgs(joinPoint.getArgs(), PARAMETER_NAME_DISCOVERER.getParameterNames(method), keyTemplate);
+    }
 
+    private static String getKeyValueFromMethodArgs(Object[] args, String[] paramNames, JMultiCacheKeyTemplate keyTemplate) {
+        try {
             // 没配置 key，默认取第一个参数或 "global"
-            if (!StringUtils.hasText(keyExpr)) {
+            if (keyTemplate.isBlank()) {
                 return (args.length == 0) ? "global" : String.valueOf(args[0]);
             }
-
-            // 构建 SpEL 上下文
-            EvaluationContext context = new StandardEvaluationContext();
-            if (paramNames != null) {
-                for (int i = 0; i < paramNames.length; i++) {
-                    context.setVariable(paramNames[i], args[i]);
-                }
-            }
             // 调用公共逻辑处理
-            return getKeyValueInternal(keyExpr, context, args);
+            return getKeyValueInternal(keyTemplate, paramNames, args);
         } catch (Exception e) {
             log.warn(LOG_PREFIX + "Could not resolve cache key from method arguments: {}. Falling back to 'error_key'.", e.getMessage());
             return "error_key";
@@ -346,12 +324,11 @@ public class JMultiCacheInternalHelper {
      * @param keyValue 多个 key 值（例如 tenantId, platformCode, code）
      */
     public static String getCacheKeyFromConfig(ResolvedJMultiCacheConfig config, String... keyValue) {
-        String keyField = JMultiCacheConstants.DEFAULT_KEY_FIELD;
-        if (config != null &&
-                config.getKeyField() != null && config.getKeyField().trim().length() > 0) {
-            keyField = config.getKeyField();
+        JMultiCacheKeyTemplate keyTemplate = keyTemplateOf(config);
+        if (keyTemplate.isBlank()) {
+            keyTemplate = keyTemplateOf(JMultiCacheConstants.DEFAULT_KEY_FIELD);
         }
-        return JMultiCacheHelper.buildKey(config.getNamespace(), getKeyValue(keyField, keyValue));
+        return JMultiCacheHelper.buildKey(config.getNamespace(), getKeyValue(keyTemplate, keyValue));
     }
 
     public static String toSingleForm(String pluralName) {
@@ -372,78 +349,64 @@ public class JMultiCacheInternalHelper {
      *  - 统一容错与空值处理
      */
     public static String getKeyValue(String keyField, String... keyValue) {
-        try {
-
-            // 如果为空则返回第一个 key 或 "global"
-            if (keyField == null || keyField.trim().length() == 0) {
-                return (keyValue == null || keyValue.length == 0) ? "global" : String.join(":", keyValue);
-            }
-
-            // 非 SpEL 直接走普通拼接（兼容原有行为）
-            if (!keyField.contains("#")) {
-                return buildPlainKey(keyField, keyValue);
-            }
-
-            // 构造 EvaluationContext 并绑定 p0,p1...
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            if (keyValue != null) {
-
-                // **增强绑定**：把表达式里出现的变量名（#tenantId、#countryCode）按出现顺序与 keyValue 对应绑定
-                List<String> varNames = extractSpELFieldNames(keyField);
-                for (int i = 0; i < varNames.size() && i < keyValue.length; i++) {
-                    // 只有当变量名尚未绑定时，才进行绑定（避免覆盖 pN）
-                    if (context.lookupVariable(varNames.get(i)) == null) {
-                        context.setVariable(varNames.get(i), keyValue[i]);
-                    }
-                }
-            }
+        return getKeyValue(keyTemplateOf(keyField), keyValue);
+    }
 
-            // 解析表达式（如果 keyField 以 # 开头，去掉首个 #，一致处理）
-            Object value = PARSER.parseExpression(keyField).getValue(context);
-            return value == null ? "null" : String.valueOf(value);
+    /**
+     * 使用配置上预编译的 key 模板拼接 key 主体。
+     * <p>
+     * Builds the key body with the precompiled key template of a configuration.
+     *
+     * @param config   缓存配置。/ The cache configuration.
+     * @param keyValue key 值。/ The key values.
+     * @return key 主体 (不含命名空间)。/ The key body, without namespace.
+     */
+    public static String getKeyValue(ResolvedJMultiCacheConfig config, String... keyValue) {
+        return getKeyValue(keyTemplateOf(config), keyValue);
+    }
 
+    private static String getKeyValue(JMultiCacheKeyTemplate keyTemplate, String... keyValue) {
+        try {
+            return keyTemplate.render(keyValue);
         } catch (Exception e) {
-            log.warn(LOG_PREFIX + "无法从配置拼接 key，keyField={}, err={}", keyField, e.getMessage());
+            log.warn(LOG_PREFIX + "无法从配置拼接 key，keyField={}, err={}", keyTemplate, e.getMessage());
             return "error";
         }
     }
 
     /**
-     * 拼接普通 key 值（非 SpEL）
-     * 支持 keyField 占位符写法，如 "tenantId:platform:code"
+     * 返回配置的 key 模板，按 keyField 从缓存中获取 (配置解析时已预先构建)。
+     * <p>
+     * Returns the key template of a configuration, taken from the cache by keyField (it is built ahead of time when configurations are resolved).
+     *
+     * @param config 缓存配置。/ The cache configuration.
+     * @return key 模板。/ The key template.
      */
-    private static String buildPlainKey(String keyField, String... keyValue) {
-        if (keyValue == null || keyValue.length == 0) {
-            return keyField;
-        }
-
-        // 如果 keyField 仅是模板或单字段名，直接拼 keyValue
-        if (!keyField.contains(":")) {
-            return String.join(":", keyValue);
-        }
-        return keyField + ":" + String.join(":", keyValue);
+    public static JMultiCacheKeyTemplate keyTemplateOf(ResolvedJMultiCacheConfig config) {
+        return keyTemplateOf(config.getKeyField());
     }
 
     /**
-     * 简单提取 SpEL 表达式中的变量名，如 "#tenantId + ':' + #countryCode"
+     * 返回表达式对应的 key 模板，同一表达式只解析一次。
+     * <p>
+     * Returns the key template of an expression; each expression is parsed only once.
+     *
+     * @param keyExpr key 表达式。/ The key expression.
+     * @return key 模板。/ The key template.
      */
-    private static List<String> extractSpELFieldNames(String keyField) {
-        Matcher matcher = Pattern.compile("#([a-zA-Z0-9_]+)").matcher(keyField);
-        List<String> names = new ArrayList<>();
-        while (matcher.find()) {
-            names.add(matcher.group(1));
-        }
-        return names;
+    public static JMultiCacheKeyTemplate keyTemplateOf(String keyExpr) {
+        return KEY_TEMPLATES.computeIfAbsent(keyExpr == null ? "" : keyExpr, JMultiCacheKeyTemplate::of);
     }
 
     /**
      * 内部通用逻辑复用（供 getKeyValueFromMethodArgs 使用）
      */
-    private static String getKeyValueInternal(String keyExpr, EvaluationContext context, Object[] args) {
+    private static String getKeyValueInternal(JMultiCacheKeyTemplate keyTemplate, String[] paramNames, Object[] args) {
+        String keyExpr = keyTemplate.getExpression();
         try {
             // 1. SpEL 表达式
             if (keyExpr.startsWith("#")) {
-                Object value = PARSER.parseExpression(keyExpr).getValue(context);
+                Object value = keyTemplate.evaluate(null, name -> argumentOf(name, paramNames, args));
                 return value == null ? "null" : String.valueOf(value);
             }
             // 2. 字面量常量
@@ -452,45 +415,43 @@ public class JMultiCacheInternalHelper {
             }
 
             // 3. 尝试匹配参数名（非SpEL写法）
-            if (context instanceof StandardEvaluationContext) {
-                StandardEvaluationContext sec = (StandardEvaluationContext) context;
-                try {
-                    Field field = StandardEvaluationContext.class.getDeclaredField("variables");
-                    field.setAccessible(true);
-                    Map<String, Object> variables = (Map<String, Object>) field.get(sec);
-                    if (variables != null) {
-                        for (String variableName : variables.keySet()) {
-                            if (variableName.equals(keyExpr)) {
-                                Object value = sec.lookupVariable(variableName);
-                                return value == null ? "null" : value.toString();
-                            }
-                        }
+            if (paramNames != null) {
+                for (int i = 0; i < paramNames.length; i++) {
+                    if (paramNames[i].equals(keyExpr)) {
+                        return args[i] == null ? "null" : args[i].toString();
                     }
-                } catch (Exception e) {
-                    log.warn("Failed to extract variable names from StandardEvaluationContext", e);
                 }
             }
 
-            // 4. 尝试在第一个参数对象中找字段 （第一个参数是对象）
-            if (args.length > 0 && args[0] != null) {
-                Object firstArg = args[0];
-                try {
-                    Field field = firstArg.getClass().getDeclaredField(keyExpr);
-                    field.setAccessible(true);
-                    Object val = field.get(firstArg);
-                    return val == null ? "null" : String.valueOf(val);
-                } catch (NoSuchFieldException ignore) { }
+            // 4. 尝试在第一个参数对象中找字段 （第一个参数是对象），读取器按 (类, 属性) 缓存
+            if (args.length > 0 && args[0] != null && JMultiCachePropertyAccessors.isReadable(args[0], keyExpr)) {
+                Object val = JMultiCachePropertyAccessors.read(args[0], keyExpr);
+                return val == null ? "null" : String.valueOf(val);
             }
 
             // 5. 默认直接返回表达式
             return keyExpr;
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.warn(LOG_PREFIX + "内部解析 keyExpr 出错: {}", e.getMessage());
             return "error";
         }
     }
 
+    /**
+     * 按参数名取方法参数，找不到时为 null。/ Looks up a method argument by parameter name, null when absent.
+     */
+    private static Object argumentOf(String name, String[] paramNames, Object[] args) {
+        if (paramNames != null) {
+            for (int i = 0; i < paramNames.length; i++) {
+                if (paramNames[i].equals(name)) {
+                    return args[i];
+                }
+            }
+        }
+        return null;
+    }
+
     // ===================================================================
     // ====================== 数据归一化 / Data Normalization =============
     // ===================================================================
@@ -0,0 +1,360 @@
+package io.github.vevoly.jmulticache.core.utils;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 预编译的缓存 key 模板。
+ * <p>
+ * 在配置解析时由 {@code key-field} 表达式构建一次，之后每次拼接 key 都复用它，不再重复解析 SpEL。
+ * 形如 {@code #id}、{@code #tenantId + ':' + #code} 这样只由变量和字符串常量拼接的表达式 (绝大多数配置) 会被拆成片段，
+ * 求值时直接按片段拼接字符串，不创建 SpEL 上下文；其余表达式交给预先解析好的 SpEL {@link Expression}，并尽量编译为字节码。
+ * <p>
+ * A precompiled cache key template.
+ * It is built once from the {@code key-field} expression when configurations are resolved, and reused for every key afterwards, so SpEL is never parsed again.
+ * Expressions that only concatenate variables and string literals, such as {@code #id} or {@code #tenantId + ':' + #code} (most configurations),
+ * are split into segments and rendered by plain string concatenation without a SpEL context; anything else goes to a pre-parsed SpEL {@link Expression},
+ * compiled to bytecode where possible.
+ *
+ * @author vevoly
+ */
+public final class JMultiCacheKeyTemplate {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("#([a-zA-Z0-9_]+)");
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    /**
+     * 变量全是字符串，首次求值后类型固定，可以立即编译。/ Variables are always strings, so types are stable after the first evaluation and the expression compiles immediately.
+     */
+    private static final SpelExpressionParser STRING_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, JMultiCacheKeyTemplate.class.getClassLoader()));
+
+    /**
+     * 变量可以是任意对象，类型变化时需要回退到解释执行。/ Variables may be any object, so it must fall back to interpretation when their types change.
+     */
+    private static final SpelExpressionParser OBJECT_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, JMultiCacheKeyTemplate.class.getClassLoader()));
+
+    private final String expression;
+    private final boolean blank;
+    private final boolean spel;
+
+    /**
+     * 表达式中按出现顺序排列的变量名 (可重复)，位置参数按此顺序绑定。/ Variable names in order of appearance (may repeat); positional values bind in this order.
+     */
+    private final List<String> variableNames;
+    private final List<String> distinctVariableNames;
+
+    /**
+     * 表达式恰好是单个字段引用 ({@code #id} 或 {@code id}) 时的字段名，否则为 {@code null}。/ The field name when the expression is a single field reference ({@code #id} or {@code id}), otherwise {@code null}.
+     */
+    private final String fieldName;
+
+    /**
+     * 纯拼接表达式的片段；不是纯拼接时为 {@code null}。/ Segments of a pure concatenation; {@code null} when it is not a pure concatenation.
+     */
+    private final Segment[] segments;
+
+    /**
+     * 每个变量片段绑定的位置参数下标，常量片段为 -1。/ The positional index bound to each variable segment, -1 for literals.
+     */
+    private final int[] positions;
+
+    /**
+     * 对任意类型的变量，片段拼接是否与 SpEL 结果一致。前两个操作数都是变量时，SpEL 会对数字做加法而不是拼接。
+     * <p>
+     * Whether segment concatenation matches SpEL for variables of any type. When the first two operands are both variables, SpEL adds numbers instead of concatenating.
+     */
+    private final boolean concatenation;
+
+    private final Expression stringExpression;
+    private final Expression objectExpression;
+    private final RuntimeException parseError;
+
+    private JMultiCacheKeyTemplate(String expression) {
+        this.expression = expression == null ? "" : expression.trim();
+        this.blank = this.expression.isEmpty();
+        this.spel = this.expression.contains("#");
+
+        List<String> names = new ArrayList<>();
+        Matcher matcher = VARIABLE_PATTERN.matcher(this.expression);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        this.variableNames = Collections.unmodifiableList(names);
+        this.distinctVariableNames = List.copyOf(new LinkedHashSet<>(names));
+
+        Segment[] parsedSegments = blank ? null : splitConcatenation(this.expression);
+        this.segments = parsedSegments;
+        this.positions = parsedSegments == null ? null : new int[parsedSegments.length];
+        if (parsedSegments != null) {
+            for (int i = 0; i < parsedSegments.length; i++) {
+                positions[i] = parsedSegments[i].variable() ? names.indexOf(parsedSegments[i].text()) : -1;
+            }
+        }
+        this.concatenation = parsedSegments != null
+                && (parsedSegments.length == 1 || !parsedSegments[0].variable() || !parsedSegments[1].variable());
+
+        if (parsedSegments != null && parsedSegments.length == 1 && parsedSegments[0].variable()) {
+            this.fieldName = parsedSegments[0].text();
+        } else if (IDENTIFIER_PATTERN.matcher(this.expression).matches()) {
+            this.fieldName = this.expression;
+        } else {
+            this.fieldName = null;
+        }
+
+        Expression parsedString = null;
+        Expression parsedObject = null;
+        RuntimeException error = null;
+        if (!blank) {
+            try {
+                parsedString = STRING_PARSER.parseExpression(this.expression);
+                parsedObject = OBJECT_PARSER.parseExpression(this.expression);
+            } catch (RuntimeException e) {
+                // 非 SpEL 的 key-field (如 "tenantId:code") 本来就无法解析，只在真正按 SpEL 求值时才抛出
+                // A non-SpEL key-field (such as "tenantId:code") never parses; the error is only raised when it is actually evaluated as SpEL
+                error = e;
+            }
+        }
+        this.stringExpression = parsedString;
+        this.objectExpression = parsedObject;
+        this.parseError = error;
+    }
+
+    /**
+     * 构建模板。/ Builds a template.
+     *
+     * @param expression key 表达式，可以为空 / the key expression, may be blank
+     * @return 模板 / the template
+     */
+    public static JMultiCacheKeyTemplate of(String expression) {
+        return new JMultiCacheKeyTemplate(expression);
+    }
+
+    // ===================================================================
+    // ======================= 求值 / Evaluation ==========================
+    // ===================================================================
+
+    /**
+     * 用按位置传入的字符串拼出 key 的主体部分 (不含命名空间)。
+     * <p>
+     * 表达式为空时用 {@code :} 连接所有值，没有值时为 {@code global}；不含 {@code #} 时按普通字段模板拼接；
+     * 否则表达式中的变量按出现顺序依次绑定这些值。
+     * <p>
+     * Renders the key body (without namespace) from positional strings.
+     * A blank expression joins all values with {@code :}, or yields {@code global} without values; an expression without {@code #} is treated as a plain field template;
+     * otherwise the variables in the expression bind these values in order of appearance.
+     *
+     * @param values 位置参数 / the positional values
+     * @return key 主体 / the key body
+     */
+    public String render(String... values) {
+        if (blank) {
+            return (values == null || values.length == 0) ? "global" : String.join(":", values);
+        }
+        if (!spel) {
+            return renderPlain(values);
+        }
+        int length = values == null ? 0 : values.length;
+        if (segments != null) {
+            if (segments.length == 1) {
+                int position = positions[0];
+                if (position < 0) {
+                    return segments[0].text();
+                }
+                return position < length && values[position] != null ? values[position] : "null";
+            }
+            StringBuilder builder = new StringBuilder(expression.length() + 16);
+            for (int i = 0; i < segments.length; i++) {
+                int position = positions[i];
+                if (position < 0) {
+                    builder.append(segments[i].text());
+                } else {
+                    builder.append(position < length ? values[position] : null);
+                }
+            }
+            return builder.toString();
+        }
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < variableNames.size() && i < length; i++) {
+            // 同名变量只绑定第一次出现的位置 / A repeated name binds only its first position
+            if (context.lookupVariable(variableNames.get(i)) == null) {
+                context.setVariable(variableNames.get(i), values[i]);
+            }
+        }
+        Object value = compiled(stringExpression).getValue(context);
+        return value == null ? "null" : String.valueOf(value);
+    }
+
+    /**
+     * 用任意对象作为变量求值表达式。
+     * <p>
+     * 纯拼接表达式直接拼接片段 (单个变量时原样返回变量值)；其余情况以 {@code root} 为根对象，为表达式中出现的每个变量调用一次 {@code variables} 后交给 SpEL。
+     * <p>
+     * Evaluates the expression with arbitrary objects as variables.
+     * A pure concatenation is rendered from its segments (a single variable is returned as is); otherwise {@code variables} is called once for every variable
+     * in the expression and the result is evaluated by SpEL with {@code root} as the root object.
+     *
+     * @param root      SpEL 根对象，可以为 {@code null} / the SpEL root object, may be {@code null}
+     * @param variables 变量名到值的映射 / maps a variable name to its value
+     * @return 求值结果，可能为 {@code null} / the result, may be {@code null}
+     */
+    public Object evaluate(Object root, Function<String, Object> variables) {
+        if (segments != null && concatenation && spel) {
+            if (segments.length == 1) {
+                return segments[0].variable() ? variables.apply(segments[0].text()) : segments[0].text();
+            }
+            StringBuilder builder = new StringBuilder(expression.length() + 16);
+            for (Segment segment : segments) {
+                builder.append(segment.variable() ? variables.apply(segment.text()) : segment.text());
+            }
+            return builder.toString();
+        }
+        StandardEvaluationContext context = new StandardEvaluationContext(root);
+        for (String name : distinctVariableNames) {
+            context.setVariable(name, variables.apply(name));
+        }
+        return compiled(objectExpression).getValue(context);
+    }
+
+    // ===================================================================
+    // ======================= 访问器 / Accessors =========================
+    // ===================================================================
+
+    /**
+     * 原始表达式 (已去除首尾空白)。/ The source expression, trimmed.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 表达式是否为空。/ Whether the expression is blank.
+     */
+    public boolean isBlank() {
+        return blank;
+    }
+
+    /**
+     * 表达式是否包含 SpEL 变量。/ Whether the expression contains SpEL variables.
+     */
+    public boolean isSpel() {
+        return spel;
+    }
+
+    /**
+     * 表达式中出现的变量名，按出现顺序去重。/ The variable names in the expression, de-duplicated in order of appearance.
+     */
+    public List<String> getVariableNames() {
+        return distinctVariableNames;
+    }
+
+    /**
+     * 表达式是单个字段引用时返回字段名，否则返回 {@code null}。/ The field name when the expression is a single field reference, otherwise {@code null}.
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ===================================================================
+    // ======================= 内部方法 / Internal Methods ================
+    // ===================================================================
+
+    private Expression compiled(Expression parsed) {
+        if (parseError != null) {
+            throw parseError;
+        }
+        return parsed;
+    }
+
+    private String renderPlain(String... values) {
+        if (values == null || values.length == 0) {
+            return expression;
+        }
+        // 单字段名只是占位，直接拼值；带 ":" 的模板作为前缀 / A single field name is only a placeholder; a template with ":" becomes a prefix
+        if (!expression.contains(":")) {
+            return String.join(":", values);
+        }
+        return expression + ":" + String.join(":", values);
+    }
+
+    /**
+     * 把 {@code #a + ':' + #b} 形式的表达式拆成片段；含有其他语法时返回 {@code null}。
+     * <p>
+     * Splits an expression of the form {@code #a + ':' + #b} into segments; returns {@code null} when it contains any other syntax.
+     */
+    private static Segment[] splitConcatenation(String expression) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal;
+        int tokenStart = 0;
+        boolean expectOperand = true;
+        int i = 0;
+        while (i <= expression.length()) {
+            char c = i < expression.length() ? expression.charAt(i) : '+';
+            if (c == '\'' && expectOperand && expression.substring(tokenStart, i).isBlank()) {
+                // 字符串常量，'' 表示一个单引号 / A string literal; '' stands for one quote
+                literal = new StringBuilder();
+                int j = i + 1;
+                while (true) {
+                    if (j >= expression.length()) {
+                        return null;
+                    }
+                    char q = expression.charAt(j);
+                    if (q == '\'') {
+                        if (j + 1 < expression.length() && expression.charAt(j + 1) == '\'') {
+                            literal.append('\'');
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(q);
+                    j++;
+                }
+                segments.add(new Segment(literal.toString(), false));
+                expectOperand = false;
+                i = j + 1;
+                tokenStart = i;
+                continue;
+            }
+            if (c == '+') {
+                String token = expression.substring(tokenStart, Math.min(i, expression.length())).trim();
+                if (expectOperand) {
+                    if (!token.startsWith("#") || !IDENTIFIER_PATTERN.matcher(token.substring(1)).matches()
+                            || "#root".equals(token) || "#this".equals(token)) {
+                        return null;
+                    }
+                    segments.add(new Segment(token.substring(1), true));
+                } else if (!token.isEmpty()) {
+                    return null;
+                }
+                expectOperand = true;
+                tokenStart = i + 1;
+            }
+            i++;
+        }
+        return segments.isEmpty() ? null : segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * 拼接片段：字符串常量，或变量名 (不含 {@code #})。/ A concatenation segment: a string literal, or a variable name (without {@code #}).
+     */
+    private record Segment(String text, boolean variable) {
+    }
+}
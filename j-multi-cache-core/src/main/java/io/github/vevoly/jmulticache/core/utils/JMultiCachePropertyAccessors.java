@@ -0,0 +1,164 @@
+package io.github.vevoly.jmulticache.core.utils;
+
+import org.springframework.aop.TargetClassAware;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按 (类, 属性名) 缓存的属性读取器，用于从实体中提取 key 和 businessKey。
+ * <p>
+ * 查找顺序与原先的反射逻辑一致：{@code getXxx()}、{@code isXxx()}、沿继承链查找的字段。每个类的读取器挂在 {@link ClassValue} 上，
+ * 首次访问时解析为 {@link MethodHandle}，之后每行数据只是一次 Map 查找加一次句柄调用；找不到的属性也会被缓存，避免重复查找。
+ * <p>
+ * Property readers cached per (class, property name), used to extract keys and business keys from entities.
+ * The lookup order matches the former reflection logic: {@code getXxx()}, {@code isXxx()}, then a field searched up the class hierarchy. The readers of each class hang off a
+ * {@link ClassValue} and are resolved into a {@link MethodHandle} on first access, so each row afterwards costs one map lookup and one handle invocation; missing
+ * properties are cached too, so they are not searched again.
+ *
+ * @author vevoly
+ */
+final class JMultiCachePropertyAccessors {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 属性不存在时的读取器。/ The accessor of a missing property.
+     */
+    private static final Accessor MISSING = new Accessor(null);
+
+    private static final ClassValue<ClassAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            // CGLIB 代理类与用户类共享同一组读取器 / A CGLIB proxy class shares the accessors of its user class
+            Map<String, Accessor> accessors = userClass == type ? new ConcurrentHashMap<>() : get(userClass).accessors;
+            return new ClassAccessors(userClass, TargetClassAware.class.isAssignableFrom(type), accessors);
+        }
+    };
+
+    private JMultiCachePropertyAccessors() {
+    }
+
+    /**
+     * 读取属性值；代理对象按其目标类查找读取器。
+     * <p>
+     * Reads a property value; for proxies the accessor is looked up on the target class.
+     *
+     * @param obj      非空的对象 / the non-null object
+     * @param property 属性名 / the property name
+     * @return 属性值；属性不存在时为 {@code null} / the property value; {@code null} when the property does not exist
+     * @throws Throwable getter 抛出的异常 / whatever the getter throws
+     */
+    static Object read(Object obj, String property) throws Throwable {
+        Accessor accessor = accessorOf(obj, property);
+        return accessor == MISSING ? null : accessor.handle.invokeExact(obj);
+    }
+
+    /**
+     * 判断对象是否有可读的属性 (getter 或字段)，与 {@link #read} 共用同一份缓存。
+     * <p>
+     * Checks whether an object has a readable property (a getter or a field), sharing the cache of {@link #read}.
+     *
+     * @param obj      非空的对象 / the non-null object
+     * @param property 属性名 / the property name
+     * @return 属性可读时为 {@code true} / {@code true} when the property is readable
+     */
+    static boolean isReadable(Object obj, String property) {
+        return accessorOf(obj, property) != MISSING;
+    }
+
+    private static Accessor accessorOf(Object obj, String property) {
+        ClassAccessors classAccessors = ACCESSORS.get(obj.getClass());
+        if (classAccessors.targetClassAware) {
+            // 目标类可能随实例变化，只能逐个询问 / The target class may differ per instance and has to be asked each time
+            classAccessors = ACCESSORS.get(AopUtils.getTargetClass(obj));
+        }
+        Accessor accessor = classAccessors.accessors.get(property);
+        if (accessor == null) {
+            Class<?> type = classAccessors.type;
+            accessor = classAccessors.accessors.computeIfAbsent(property, name -> resolve(type, name));
+        }
+        return accessor;
+    }
+
+    private static Accessor resolve(Class<?> type, String property) {
+        if (!StringUtils.hasText(property)) {
+            return MISSING;
+        }
+        String capitalized = StringUtils.capitalize(property);
+        for (String getterName : new String[]{"get" + capitalized, "is" + capitalized}) {
+            try {
+                // 使用 getMethod，它可以查找到父类的 public 方法
+                Method getter = type.getMethod(getterName);
+                if (getter.getReturnType() != void.class && !Modifier.isStatic(getter.getModifiers())) {
+                    Accessor accessor = unreflect(getter);
+                    if (accessor != null) {
+                        return accessor;
+                    }
+                }
+            } catch (NoSuchMethodException ignored) {
+                // 继续尝试下一种方式 / Try the next way
+            }
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(property);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    Accessor accessor = unreflect(field);
+                    if (accessor != null) {
+                        return accessor;
+                    }
+                }
+                break;
+            } catch (NoSuchFieldException e) {
+                // 在父类中继续查找 / Keep searching in the superclass
+            }
+        }
+        return MISSING;
+    }
+
+    private static Accessor unreflect(Object member) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle;
+            if (member instanceof Method method) {
+                // public 类的 public 方法无需打开访问权限 / A public method of a public class needs no access override
+                if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    method.setAccessible(true);
+                }
+                handle = lookup.unreflect(method);
+            } else {
+                Field field = (Field) member;
+                field.setAccessible(true);
+                handle = lookup.unreflectGetter(field);
+            }
+            return new Accessor(handle.asType(ACCESSOR_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 模块封装等原因无法访问时视为不可读 / Treated as unreadable when access is denied, e.g. by module encapsulation
+            return null;
+        }
+    }
+
+    private record Accessor(MethodHandle handle) {
+    }
+
+    /**
+     * 一个类的全部读取器。/ All accessors of one class.
+     *
+     * @param type              查找读取器的类型 (代理类为其用户类) / the type accessors are resolved on (the user class for proxies)
+     * @param targetClassAware  实例是否自己声明目标类 / whether instances declare their own target class
+     * @param accessors         属性名到读取器 / property name to accessor
+     */
+    private record ClassAccessors(Class<?> type, boolean targetClassAware, Map<String, Accessor> accessors) {
+    }
+}
@@ -25,6 +25,15 @@ public final class JavaTypeReference {
      * 根据实体类和存储类型字符串，构建对应的 TypeReference。
      */
     public static TypeReference<?> from(Class<?> entityClass, String storageType, TypeFactory typeFactory) {
+        return of(javaTypeOf(entityClass, storageType, typeFactory));
+    }
+
+    /**
+     * 根据实体类和存储类型字符串，构建对应的 JavaType。
+     * <p>
+     * Builds the JavaType of an entity class stored with a storage type.
+     */
+    public static JavaType javaTypeOf(Class<?> entityClass, String storageType, TypeFactory typeFactory) {
         JavaType javaType;
         switch (storageType) {
             case DefaultStorageTypes.LIST:
@@ -46,7 +55,7 @@ public final class JavaTypeReference {
                 javaType = typeFactory.constructType(entityClass);
                 break;
         }
-        return of(javaType);
+        return javaType;
     }
 
     /**
@@ -0,0 +1,63 @@
+package io.github.vevoly.jmulticache.reactor;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheAsync;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link ReactiveJMultiCache} 的默认实现，基于 {@link JMultiCacheAsync} 的非阻塞链路。
+ * <p>
+ * 每个方法在订阅时才调用异步 API，并把响应式加载器转换为 {@link java.util.concurrent.CompletableFuture}；
+ * 取消订阅只会取消当前调用方的 Future，不会影响同一 key 上正在进行的共享加载。
+ * <p>
+ * Default implementation of {@link ReactiveJMultiCache}, built on the non-blocking chain of {@link JMultiCacheAsync}.
+ * Each method calls the asynchronous API on subscription and adapts the reactive loaders to {@link java.util.concurrent.CompletableFuture};
+ * cancelling a subscription only cancels that caller's future and never the shared in-flight load of the same key.
+ *
+ * @author vevoly
+ */
+@RequiredArgsConstructor
+public class DefaultReactiveJMultiCache implements ReactiveJMultiCache {
+
+    private final JMultiCacheAsync jMultiCacheAsync;
+
+    @Override
+    public <T> Mono<T> fetchData(String fullKey, Supplier<Mono<T>> dbLoader) {
+        return Mono.fromFuture(() -> jMultiCacheAsync.fetchDataAsync(fullKey, () -> dbLoader.get().toFuture()));
+    }
+
+    @Override
+    public <T> Mono<T> fetchData(String multiCacheName, Supplier<Mono<T>> dbLoader, String... keyParams) {
+        return Mono.fromFuture(() -> jMultiCacheAsync.fetchDataAsync(multiCacheName, () -> dbLoader.get().toFuture(), keyParams));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Flux<V> fetchMultiData(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, Flux<V>> queryFunction) {
+        // 回源结果收集为 List，与同步 API 中 queryFunction 返回 List 的约定一致；打平后的元素即为实体
+        return Mono.fromFuture(() -> jMultiCacheAsync.fetchMultiDataListAsync(multiCacheName, ids, businessKey,
+                        missingIds -> queryFunction.apply(missingIds).collectList().toFuture()))
+                .flatMapIterable(list -> (List<V>) (List<?>) list);
+    }
+
+    @Override
+    public <K, V> Mono<Map<K, ?>> fetchMultiDataMap(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, Flux<V>> queryFunction) {
+        return Mono.fromFuture(() -> jMultiCacheAsync.fetchMultiDataMapAsync(multiCacheName, ids, businessKey,
+                missingIds -> queryFunction.apply(missingIds).collectList().toFuture()));
+    }
+
+    @Override
+    public <T> Flux<T> fetchUnionData(List<String> setKeysInRedis, Function<List<String>, Mono<Map<String, Set<T>>>> dbQueryFunction) {
+        return Mono.fromFuture(() -> jMultiCacheAsync.fetchUnionDataAsync(setKeysInRedis,
+                        missingKeys -> dbQueryFunction.apply(missingKeys).toFuture()))
+                .flatMapIterable(Function.identity());
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.vevoly.jmulticache.reactor;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JMultiCache 的响应式 (Project Reactor) API 接口。
+ * <p>
+ * 所有方法都是惰性的：只有在订阅时才会执行 L1 → L2 → DB 链路，整个链路不阻塞订阅线程。
+ * 数据源加载器返回 {@link Mono}，可直接对接 R2DBC、WebClient 等响应式驱动。
+ * 加载器返回空的 {@link Mono} 时视为数据不存在，会按配置写入空值标记。
+ * <p>
+ * The reactive (Project Reactor) API interface for JMultiCache.
+ * Every method is lazy: the L1 → L2 → DB chain only runs on subscription and never blocks the subscribing thread.
+ * Source loaders return a {@link Mono}, so reactive drivers such as R2DBC or WebClient plug in directly.
+ * An empty {@link Mono} from a loader means the data does not exist and is cached as an empty marker where configured.
+ *
+ * @author vevoly
+ */
+public interface ReactiveJMultiCache {
+
+    // =================================================================
+    // ======================== 单点查询 / Single Item Fetch ============
+    // =================================================================
+
+    /**
+     * 根据完整的缓存 Key 获取单个数据。
+     * <p>
+     * Fetches a single data item based on the full cache key.
+     *
+     * @param fullKey  完整的缓存键 (包含命名空间)。/ The full cache key (including namespace).
+     * @param dbLoader 响应式数据库加载器，当缓存未命中时订阅。/ The reactive database loader, subscribed when the cache misses.
+     * @param <T>      返回数据的类型。/ The type of the returned data.
+     * @return 包含数据的 Mono，数据不存在时为空。/ A Mono with the data, empty if the data does not exist.
+     */
+    <T> Mono<T> fetchData(String fullKey, Supplier<Mono<T>> dbLoader);
+
+    /**
+     * 根据配置名称和动态参数获取单个数据。
+     * <p>
+     * Fetches a single data item based on the configuration name and dynamic parameters.
+     *
+     * @param multiCacheName 缓存配置名称 (YML 中的 Key)。/ The cache configuration name (Key in YML).
+     * @param dbLoader       响应式数据库加载器。/ The reactive database loader.
+     * @param keyParams      用于拼接 Key 的动态参数。/ Dynamic parameters for constructing the key.
+     * @param <T>            返回数据的类型。/ The type of the returned data.
+     * @return 包含数据的 Mono，数据不存在时为空。/ A Mono with the data, empty if the data does not exist.
+     */
+    <T> Mono<T> fetchData(String multiCacheName, Supplier<Mono<T>> dbLoader, String... keyParams);
+
+    // =================================================================
+    // ======================== 批量查询 / Batch Fetch ==================
+    // =================================================================
+
+    /**
+     * 批量获取数据，以 Flux 逐个发出打平后的结果。
+     * <p>
+     * Fetches data in a batch and emits the flattened results as a Flux.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param ids            查询 ID 集合。/ The collection of IDs to query.
+     * @param businessKey    业务主键字段名。/ The business primary key field name.
+     * @param queryFunction  响应式批量回源函数，输入为缺失的 ID。/ The reactive batch source function, called with the missing IDs.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            结果元素的类型。/ The type of the result elements.
+     * @return 结果元素的 Flux。/ A Flux of the result elements.
+     */
+    <K, V> Flux<V> fetchMultiData(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, Flux<V>> queryFunction);
+
+    /**
+     * 批量获取数据，并返回分组后的 Map。
+     * <p>
+     * Fetches data in a batch and returns a grouped Map.
+     *
+     * @param multiCacheName 缓存配置名称。/ The cache configuration name.
+     * @param ids            查询 ID 集合。/ The collection of IDs to query.
+     * @param businessKey    业务主键字段名。/ The business primary key field name.
+     * @param queryFunction  响应式批量回源函数，输入为缺失的 ID。/ The reactive batch source function, called with the missing IDs.
+     * @param <K>            ID 的类型。/ The type of the ID.
+     * @param <V>            结果元素的类型。/ The type of the result elements.
+     * @return 包含分组 Map 的 Mono。/ A Mono with the grouped Map.
+     */
+    <K, V> Mono<Map<K, ?>> fetchMultiDataMap(String multiCacheName, Collection<K> ids, String businessKey, Function<Collection<K>, Flux<V>> queryFunction);
+
+    // =================================================================
+    // ======================== 高级数据结构 / Advanced Data Structures ==
+    // =================================================================
+
+    /**
+     * 获取多个 Redis Set 的并集。
+     * <p>
+     * Fetches the union of multiple Redis Sets.
+     *
+     * @param setKeysInRedis  参与并集计算的 Redis Key 列表。/ List of Redis keys participating in the union calculation.
+     * @param dbQueryFunction 响应式数据库回源函数，输入为缺失的 Key 列表。/ Reactive database fallback function, input is a list of missing keys.
+     * @param <T>             Set 中元素的类型。/ The type of elements in the Set.
+     * @return 并集元素的 Flux。/ A Flux of the union elements.
+     */
+    <T> Flux<T> fetchUnionData(List<String> setKeysInRedis, Function<List<String>, Mono<Map<String, Set<T>>>> dbQueryFunction);
+}
@@ -0,0 +1,36 @@
+package io.github.vevoly.jmulticache.reactor.autoconfigure;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheAsync;
+import io.github.vevoly.jmulticache.reactor.DefaultReactiveJMultiCache;
+import io.github.vevoly.jmulticache.reactor.ReactiveJMultiCache;
+import io.github.vevoly.jmulticache.starter.autoconfigure.JMultiCacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Mono;
+
+/**
+ * j-multi-cache 响应式模块的自动配置类。
+ * <p>
+ * 当 classpath 中存在 Project Reactor 且容器中已有 {@link JMultiCacheAsync} 时，注册 {@link ReactiveJMultiCache}。
+ * 降级模式 (未启用 @EnableJMultiCache) 下同样生效，此时所有调用直接回源。
+ * <p>
+ * Auto-configuration for the j-multi-cache reactive module.
+ * Registers {@link ReactiveJMultiCache} when Project Reactor is on the classpath and a {@link JMultiCacheAsync} bean exists.
+ * It also applies in fallback mode (without @EnableJMultiCache), where every call goes straight to the source.
+ *
+ * @author vevoly
+ */
+@AutoConfiguration(after = JMultiCacheAutoConfiguration.class)
+@ConditionalOnClass(Mono.class)
+public class JMultiCacheReactorAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(JMultiCacheAsync.class)
+    @ConditionalOnMissingBean(ReactiveJMultiCache.class)
+    public ReactiveJMultiCache reactiveJMultiCache(JMultiCacheAsync jMultiCacheAsync) {
+        return new DefaultReactiveJMultiCache(jMultiCacheAsync);
+    }
+}
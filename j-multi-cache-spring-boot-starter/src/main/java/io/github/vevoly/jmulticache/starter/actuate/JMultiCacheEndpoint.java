@@ -0,0 +1,104 @@
+package io.github.vevoly.jmulticache.starter.actuate;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.api.structure.JMultiCacheStats;
+import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@code /actuator/jmulticache} 端点，用于在线查看和操作缓存，无需重新部署。
+ * <ul>
+ *     <li>{@code GET /actuator/jmulticache}：全部缓存配置的统计，以及 L1 回填队列状态。</li>
+ *     <li>{@code GET /actuator/jmulticache/{name}}：单个缓存配置的统计。</li>
+ *     <li>{@code DELETE /actuator/jmulticache/{name}?key=...}：清除一个 key (完整 key 或 key 参数)；不带 key 时清除整个命名空间。</li>
+ *     <li>{@code POST /actuator/jmulticache/{name}} ({@code {"maximumSize": 5000}})：调整本节点 L1 的最大容量。</li>
+ * </ul>
+ * <p>
+ * The {@code /actuator/jmulticache} endpoint for inspecting and operating the caches live, without redeploying.
+ * <ul>
+ *     <li>{@code GET /actuator/jmulticache}: statistics of every cache configuration plus the L1 population queue.</li>
+ *     <li>{@code GET /actuator/jmulticache/{name}}: statistics of one cache configuration.</li>
+ *     <li>{@code DELETE /actuator/jmulticache/{name}?key=...}: evicts one key (a full key or the key parameter); without a key, the whole namespace.</li>
+ *     <li>{@code POST /actuator/jmulticache/{name}} ({@code {"maximumSize": 5000}}): resizes the L1 of this node.</li>
+ * </ul>
+ *
+ * @author vevoly
+ */
+@Endpoint(id = "jmulticache")
+@RequiredArgsConstructor
+public class JMultiCacheEndpoint {
+
+    private final JMultiCacheOps jMultiCacheOps;
+    private final JMultiCacheConfigResolver configResolver;
+
+    @ReadOperation
+    public Map<String, Object> caches() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("caches", jMultiCacheOps.getAllStats());
+        result.put("l1Writer", jMultiCacheOps.getL1WriterStats());
+        return result;
+    }
+
+    @ReadOperation
+    public JMultiCacheStats cache(@Selector String name) {
+        return withConfig(name, () -> jMultiCacheOps.getStats(name));
+    }
+
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector String name, @Nullable String key) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        if (key == null) {
+            long deleted = withConfig(name, () -> jMultiCacheOps.evictAll(name));
+            result.put("scope", "namespace");
+            result.put("l2KeysDeleted", deleted);
+        } else {
+            withConfig(name, () -> {
+                jMultiCacheOps.evict(name, key);
+                return null;
+            });
+            result.put("scope", "key");
+            result.put("key", key);
+        }
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> resize(@Selector String name, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new InvalidEndpointRequestException("maximumSize cannot be negative", "maximumSize cannot be negative");
+        }
+        boolean resized = withConfig(name, () -> jMultiCacheOps.resizeL1(name, maximumSize));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("resized", resized);
+        result.put("maximumSize", maximumSize);
+        return result;
+    }
+
+    /**
+     * 先解析配置再执行操作：只有配置不存在才转换为 400，操作本身的异常照常作为 500 返回。
+     * <p>
+     * Resolves the configuration before running the operation: only an unknown configuration becomes a 400,
+     * exceptions from the operation itself still surface as a 500.
+     */
+    private <T> T withConfig(String name, Supplier<T> operation) {
+        try {
+            configResolver.resolve(name);
+        } catch (IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Unknown cache configuration: " + name);
+        }
+        return operation.get();
+    }
+}
@@ -5,6 +5,8 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.vevoly.jmulticache.api.JMultiCache;
 import io.github.vevoly.jmulticache.api.JMultiCacheEnumGenerator;
 import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCodec;
+import io.github.vevoly.jmulticache.api.codec.JMultiCacheCompressor;
 import io.github.vevoly.jmulticache.api.redis.RedisClient;
 import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
 import io.github.vevoly.jmulticache.core.internal.JMultiCacheEnumGeneratorImpl;
@@ -12,11 +14,14 @@ import io.github.vevoly.jmulticache.core.internal.JMultiCacheManagerConfiguratio
 import io.github.vevoly.jmulticache.core.internal.JMultiCacheableAspect;
 import io.github.vevoly.jmulticache.core.internal.NoOpJMultiCacheManager;
 import io.github.vevoly.jmulticache.core.processor.JMultiCachePreloadProcessor;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheExecutorProperties;
 import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
+import io.github.vevoly.jmulticache.core.redis.InMemoryRedisClient;
 import io.github.vevoly.jmulticache.core.redis.RedissonRedisClient;
 import io.github.vevoly.jmulticache.core.redis.listener.JMultiCacheMessageListener;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -26,11 +31,13 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
@@ -45,14 +52,14 @@ import static io.github.vevoly.jmulticache.api.constants.JMultiCacheConstants.MA
  * 负责初始化和组装框架的所有核心组件，包括：
  * 1. 激活配置属性。
  * 2. 初始化配置解析器。
- * 3. 配置 Redis 客户端 (基于 Redisson)。
+ * 3. 配置 Redis 客户端 (基于 Redisson，或进程内实现)。
  * 4. 注册存储策略、管理器、AOP 切面和预热处理器。
  * <p>
  * Auto-configuration class for j-multi-cache.
  * Responsible for initializing and assembling all core components of the framework, including:
  * 1. Activating configuration properties.
  * 2. Initializing the configuration resolver.
- * 3. Configuring the Redis client (based on Redisson).
+ * 3. Configuring the Redis client (based on Redisson, or the in-process implementation).
  * 4. Configuring Caffeine local cache (dynamically based on YML).
  * 5. Registering storage strategies, manager, AOP aspect, and preload processor.
  *
@@ -78,23 +85,41 @@ public class JMultiCacheAutoConfiguration {
             JMultiCachePreloadProcessor.class,          // 预热执行器 / Preload executor
             JMultiCacheManagerConfiguration.class,      // 真实 Manager / Real Manager
             JMultiCacheStrategyConfiguration.class,     // 策略组 / Strategy group
+            JMultiCacheCodecConfiguration.class,        // L2 编解码器与压缩 / L2 codecs and compression
             JMultiCacheCaffeineConfiguration.class,     // Caffeine 配置  / Caffeine configuration
             JMultiCacheRedissonConfiguration.class,     // Redisson 配置 (StringCodec) / Redisson configuration (StringCodec)
             JMultiCachePreloadAutoConfiguration.class,  // 预热调度器 (Runner) / Preload scheduler (Runner)
+            JMultiCacheMetricsConfiguration.class,      // Micrometer 指标 (可选) / Micrometer metrics (optional)
+            JMultiCacheEndpointConfiguration.class,     // Actuator 端点 (可选) / Actuator endpoint (optional)
     })
     static class JMultiCacheActiveConfiguration {
 
         /**
          * 1. 配置异步线程池
-         * 用于 L1 缓存的异步回填等操作。
+         * 用于 L1 缓存的异步回填、缓存预热、后台刷新回源等操作。
+         * j-multi-cache.executor.mode=virtual 时在 Java 21+ 上改用虚拟线程，阻塞的 JDBC 回源可以低成本地并发展开。
          */
         @Bean("jMultiCacheAsyncExecutor")
         @ConditionalOnMissingBean(name = "jMultiCacheAsyncExecutor")
-        public Executor jMultiCacheAsyncExecutor() {
+        public Executor jMultiCacheAsyncExecutor(JMultiCacheRootProperties rootProperties) {
+            JMultiCacheExecutorProperties props = rootProperties.getExecutor();
+            if (props.getMode() == JMultiCacheExecutorProperties.Mode.VIRTUAL) {
+                if (Runtime.version().feature() >= 21) {
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("JMultiCache-Async-");
+                    executor.setVirtualThreads(true);
+                    if (props.getVirtualConcurrencyLimit() > 0) {
+                        executor.setConcurrencyLimit(props.getVirtualConcurrencyLimit());
+                    }
+                    log.info("[JMultiCache] 异步执行器使用虚拟线程 (concurrencyLimit={})", props.getVirtualConcurrencyLimit());
+                    return executor;
+                }
+                log.warn("[JMultiCache] executor.mode=virtual 需要 Java 21+，当前为 Java {}，回退为平台线程池", Runtime.version().feature());
+            }
+            int cpus = Runtime.getRuntime().availableProcessors();
             ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-            executor.setCorePoolSize(Runtime.getRuntime().availableProcessors());
-            executor.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 4);
-            executor.setQueueCapacity(500);
+            executor.setCorePoolSize(props.getCorePoolSize() != null ? props.getCorePoolSize() : cpus);
+            executor.setMaxPoolSize(props.getMaxPoolSize() != null ? props.getMaxPoolSize() : cpus * 4);
+            executor.setQueueCapacity(props.getQueueCapacity());
             executor.setKeepAliveSeconds(60);
             executor.setThreadNamePrefix("JMultiCache-Async-");
             executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
@@ -116,54 +141,99 @@ public class JMultiCacheAutoConfiguration {
         /**
          * 3. 配置 Config Resolver (核心配置解析器)
          * 它必须先于 Caffeine Manager 初始化，因为它提供了缓存配置。
+         * 容器中所有 JMultiCacheCodec / JMultiCacheCompressor Bean 都可以在配置中通过 codec / compression 属性按名称选择。
          */
         @Bean
         public JMultiCacheConfigResolver jMultiCacheConfigResolver(
                 JMultiCacheRootProperties rootProperties,
-                @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper
+                @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper,
+                ObjectProvider<JMultiCacheCodec> codecs,
+                ObjectProvider<JMultiCacheCompressor> compressors
         ) {
-            return new JMultiCacheConfigResolver(rootProperties, objectMapper);
+            return new JMultiCacheConfigResolver(rootProperties, objectMapper,
+                    codecs.orderedStream().toList(), compressors.orderedStream().toList());
         }
 
         /**
-         * 4. 配置 RedisClient (基于 Redisson)
-         * 依赖用户项目中已有的 RedissonClient Bean。
+         * 4. 配置枚举生成器工具
+         * 允许用户在 Spring 环境中注入使用
          */
         @Bean
-        @ConditionalOnMissingBean(RedisClient.class)
-        public RedisClient redisClient(@Qualifier("jMultiCacheRedissonClient") RedissonClient redissonClient,
-                                       @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
-            return new RedissonRedisClient(redissonClient, objectMapper);
+        @ConditionalOnMissingBean(JMultiCacheEnumGenerator.class)
+        public JMultiCacheEnumGenerator jMultiCacheEnumGenerator() {
+            return new JMultiCacheEnumGeneratorImpl();
         }
 
         /**
-         * 5. 配置 删除本地缓存监听器
-         * @param connectionFactory
-         * @param jMultiCacheOps
-         * @param objectMapper
-         * @return
+         * 【Redisson 模式】默认
+         * L2 位于 Redis，通过 Redis 频道广播 L1 清除消息。
          */
-        @Bean
-        public RedisMessageListenerContainer jMultiCacheRedisContainer(
-                RedisConnectionFactory connectionFactory,
-                JMultiCacheOps jMultiCacheOps,
-                @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
-            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-            container.setConnectionFactory(connectionFactory);
-            // 注册监听器
-            JMultiCacheMessageListener listener = new JMultiCacheMessageListener(objectMapper, jMultiCacheOps);
-            container.addMessageListener(listener, new ChannelTopic(J_MULTI_CACHE_EVICT_TOPIC));
-            return container;
+        @Configuration(proxyBeanMethods = false)
+        @Conditional(JMultiCacheRedisClientCondition.Redisson.class)
+        static class RedissonClientConfiguration {
+
+            /**
+             * 5. 配置 RedisClient (基于 Redisson)
+             * 依赖用户项目中已有的 RedissonClient Bean。
+             */
+            @Bean
+            @ConditionalOnMissingBean(RedisClient.class)
+            public RedisClient redisClient(@Qualifier("jMultiCacheRedissonClient") RedissonClient redissonClient,
+                                           @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+                return new RedissonRedisClient(redissonClient, objectMapper);
+            }
+
+            /**
+             * 6. 配置 删除本地缓存监听器
+             * @param connectionFactory
+             * @param jMultiCacheOps
+             * @param objectMapper
+             * @return
+             */
+            @Bean
+            public RedisMessageListenerContainer jMultiCacheRedisContainer(
+                    RedisConnectionFactory connectionFactory,
+                    JMultiCacheOps jMultiCacheOps,
+                    @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                // 注册监听器
+                JMultiCacheMessageListener listener = new JMultiCacheMessageListener(objectMapper, jMultiCacheOps);
+                container.addMessageListener(listener, new ChannelTopic(J_MULTI_CACHE_EVICT_TOPIC));
+                return container;
+            }
         }
 
         /**
-         * 6. 配置枚举生成器工具
-         * 允许用户在 Spring 环境中注入使用
+         * 【进程内模式】j-multi-cache.redis-client=in-memory
+         * L2 位于当前进程，不连接 Redis；L1 清除消息在同一 JVM 内广播。
          */
-        @Bean
-        @ConditionalOnMissingBean(JMultiCacheEnumGenerator.class)
-        public JMultiCacheEnumGenerator jMultiCacheEnumGenerator() {
-            return new JMultiCacheEnumGeneratorImpl();
+        @Configuration(proxyBeanMethods = false)
+        @Conditional(JMultiCacheRedisClientCondition.InMemory.class)
+        static class InMemoryClientConfiguration {
+
+            /**
+             * 5. 配置 RedisClient (进程内)
+             */
+            @Bean(destroyMethod = "close")
+            @ConditionalOnMissingBean(RedisClient.class)
+            public InMemoryRedisClient redisClient(@Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+                log.info("[JMultiCache] L2 使用进程内 RedisClient，数据不跨进程共享");
+                return new InMemoryRedisClient(objectMapper);
+            }
+
+            /**
+             * 6. 订阅 L1 清除消息，关闭时取消订阅
+             */
+            @Bean(destroyMethod = "close")
+            @ConditionalOnBean(InMemoryRedisClient.class)
+            public AutoCloseable jMultiCacheInMemoryEvictSubscription(
+                    InMemoryRedisClient redisClient,
+                    JMultiCacheOps jMultiCacheOps,
+                    @Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+                JMultiCacheMessageListener listener = new JMultiCacheMessageListener(objectMapper, jMultiCacheOps);
+                return redisClient.subscribe(J_MULTI_CACHE_EVICT_TOPIC, listener::onMessage);
+            }
         }
     }
 
@@ -178,7 +248,7 @@ public class JMultiCacheAutoConfiguration {
 
         @Bean
         @ConditionalOnMissingBean(JMultiCache.class)
-        public JMultiCache jMultiCacheFallback() {
+        public NoOpJMultiCacheManager jMultiCacheFallback() {
             // 返回空实现，所有方法直接透传 DB，不走缓存
             return new NoOpJMultiCacheManager();
         }
@@ -0,0 +1,52 @@
+package io.github.vevoly.jmulticache.starter.autoconfigure;
+
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties.RedisClientType;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * {@code j-multi-cache.redis-client=in-memory} 时排除 Redisson 自身的自动配置。
+ * <p>
+ * starter 依赖 redisson-spring-boot-starter，它的自动配置会在启动时立即连接 Redis，没有 Redis 服务时应用无法启动。
+ * 选择进程内客户端意味着不使用 Redis，因此在这里把它过滤掉，用户无需手动 exclude。
+ * <p>
+ * Excludes Redisson's own auto-configuration when {@code j-multi-cache.redis-client=in-memory}.
+ * The starter depends on redisson-spring-boot-starter, whose auto-configuration connects to Redis eagerly at startup, so the application cannot start without a Redis server.
+ * Choosing the in-process client means Redis is not used, so it is filtered out here and users do not have to exclude it by hand.
+ *
+ * @author vevoly
+ */
+public class JMultiCacheAutoConfigurationImportFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    private static final Set<String> REDISSON_AUTO_CONFIGURATIONS = Set.of(
+            "org.redisson.spring.starter.RedissonAutoConfiguration",
+            "org.redisson.spring.starter.RedissonAutoConfigurationV2"
+    );
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        boolean inMemory = environment != null && Binder.get(environment)
+                .bind("j-multi-cache.redis-client", RedisClientType.class)
+                .map(RedisClientType.IN_MEMORY::equals)
+                .orElse(false);
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            // 已被其他过滤器排除的位置为 null / Entries already excluded by other filters are null
+            String candidate = autoConfigurationClasses[i];
+            matches[i] = !inMemory || candidate == null || !REDISSON_AUTO_CONFIGURATIONS.contains(candidate);
+        }
+        return matches;
+    }
+}
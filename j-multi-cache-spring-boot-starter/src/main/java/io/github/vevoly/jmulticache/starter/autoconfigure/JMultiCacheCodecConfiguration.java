@@ -0,0 +1,85 @@
+package io.github.vevoly.jmulticache.starter.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.vevoly.jmulticache.core.codec.JacksonCborCodec;
+import io.github.vevoly.jmulticache.core.codec.JacksonSmileCodec;
+import io.github.vevoly.jmulticache.core.codec.KryoCodec;
+import io.github.vevoly.jmulticache.core.compress.Lz4Compressor;
+import io.github.vevoly.jmulticache.core.compress.ZstdCompressor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * L2 编解码器与压缩算法配置。
+ * <p>
+ * JSON 编解码器和 Deflate 压缩由配置解析器内置；Smile、CBOR、Kryo、LZ4、Zstd 只在应用引入对应依赖时注册。
+ * 应用自定义的 {@code JMultiCacheCodec} / {@code JMultiCacheCompressor} Bean 同样会被解析器收集，可在配置中按名称引用。
+ * <p>
+ * L2 codec and compression configuration.
+ * The JSON codec and Deflate compression are built into the configuration resolver; Smile, CBOR, Kryo, LZ4 and Zstd are only registered
+ * when the application adds the matching dependency.
+ * Custom {@code JMultiCacheCodec} / {@code JMultiCacheCompressor} beans of the application are collected by the resolver as well and can be referenced by name in the configuration.
+ *
+ * @author vevoly
+ */
+@Configuration(proxyBeanMethods = false)
+public class JMultiCacheCodecConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+    static class SmileCodecConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "jMultiCacheSmileCodec")
+        public JacksonSmileCodec jMultiCacheSmileCodec(@Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+            return new JacksonSmileCodec(objectMapper);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    static class CborCodecConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "jMultiCacheCborCodec")
+        public JacksonCborCodec jMultiCacheCborCodec(@Qualifier("jMultiCacheObjectMapper") ObjectMapper objectMapper) {
+            return new JacksonCborCodec(objectMapper);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.esotericsoftware.kryo.Kryo")
+    static class KryoCodecConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "jMultiCacheKryoCodec")
+        public KryoCodec jMultiCacheKryoCodec() {
+            return new KryoCodec();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "net.jpountz.lz4.LZ4Factory")
+    static class Lz4CompressorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "jMultiCacheLz4Compressor")
+        public Lz4Compressor jMultiCacheLz4Compressor() {
+            return new Lz4Compressor();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.github.luben.zstd.Zstd")
+    static class ZstdCompressorConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "jMultiCacheZstdCompressor")
+        public ZstdCompressor jMultiCacheZstdCompressor() {
+            return new ZstdCompressor();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.vevoly.jmulticache.starter.autoconfigure;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.core.config.JMultiCacheConfigResolver;
+import io.github.vevoly.jmulticache.starter.actuate.JMultiCacheEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Actuator 端点配置。
+ * <p>
+ * 仅当 classpath 中存在 Spring Boot Actuator 时生效；端点仍需通过 {@code management.endpoints.web.exposure.include} 暴露。
+ * <p>
+ * Actuator endpoint configuration.
+ * Only active when Spring Boot Actuator is on the classpath; the endpoint still has to be exposed through {@code management.endpoints.web.exposure.include}.
+ *
+ * @author vevoly
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint")
+public class JMultiCacheEndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = JMultiCacheEndpoint.class)
+    public JMultiCacheEndpoint jMultiCacheEndpoint(JMultiCacheOps jMultiCacheOps, JMultiCacheConfigResolver configResolver) {
+        return new JMultiCacheEndpoint(jMultiCacheOps, configResolver);
+    }
+}
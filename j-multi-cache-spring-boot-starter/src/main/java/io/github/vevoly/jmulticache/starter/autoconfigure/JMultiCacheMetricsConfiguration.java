@@ -0,0 +1,43 @@
+package io.github.vevoly.jmulticache.starter.autoconfigure;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties;
+import io.github.vevoly.jmulticache.starter.metrics.JMultiCacheMicrometerMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Micrometer 指标配置。
+ * <p>
+ * 仅当 classpath 中存在 Micrometer 时生效。注册的 Bean 同时是 {@link io.micrometer.core.instrument.binder.MeterBinder}，
+ * 引入 Spring Boot Actuator 后会被自动绑定到应用的 MeterRegistry。
+ * <p>
+ * Micrometer metrics configuration.
+ * Only active when Micrometer is on the classpath. The registered bean is also a {@link io.micrometer.core.instrument.binder.MeterBinder},
+ * which Spring Boot Actuator binds to the application's MeterRegistry automatically.
+ *
+ * @author vevoly
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = "j-multi-cache.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JMultiCacheMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(JMultiCacheMetricsRecorder.class)
+    public JMultiCacheMicrometerMetrics jMultiCacheMicrometerMetrics(
+            @Qualifier("jMultiCacheAsyncExecutor") Executor asyncExecutor,
+            ObjectProvider<JMultiCacheOps> jMultiCacheOps,
+            JMultiCacheRootProperties rootProperties
+    ) {
+        return new JMultiCacheMicrometerMetrics(asyncExecutor, jMultiCacheOps, rootProperties.getMetrics().isPercentileHistogram());
+    }
+}
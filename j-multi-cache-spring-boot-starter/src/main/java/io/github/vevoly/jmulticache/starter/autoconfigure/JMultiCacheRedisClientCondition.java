@@ -0,0 +1,51 @@
+package io.github.vevoly.jmulticache.starter.autoconfigure;
+
+import io.github.vevoly.jmulticache.core.properties.JMultiCacheRootProperties.RedisClientType;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 按 {@code j-multi-cache.redis-client} 选择 L2 客户端的条件。
+ * <p>
+ * 通过 {@link Binder} 绑定为枚举，因此 {@code in-memory}、{@code in_memory}、{@code IN_MEMORY} 等写法都能识别，与属性绑定的结果一致。
+ * <p>
+ * Conditions selecting the L2 client by {@code j-multi-cache.redis-client}.
+ * The value is bound to the enum through a {@link Binder}, so {@code in-memory}, {@code in_memory}, {@code IN_MEMORY} and so on are all recognized,
+ * consistent with property binding.
+ *
+ * @author vevoly
+ */
+abstract class JMultiCacheRedisClientCondition extends SpringBootCondition {
+
+    private static final String PROPERTY = "j-multi-cache.redis-client";
+
+    private final RedisClientType expected;
+
+    JMultiCacheRedisClientCondition(RedisClientType expected) {
+        this.expected = expected;
+    }
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        RedisClientType actual = Binder.get(context.getEnvironment())
+                .bind(PROPERTY, RedisClientType.class)
+                .orElse(RedisClientType.REDISSON);
+        String message = PROPERTY + " is " + actual;
+        return actual == expected ? ConditionOutcome.match(message) : ConditionOutcome.noMatch(message);
+    }
+
+    static class Redisson extends JMultiCacheRedisClientCondition {
+        Redisson() {
+            super(RedisClientType.REDISSON);
+        }
+    }
+
+    static class InMemory extends JMultiCacheRedisClientCondition {
+        InMemory() {
+            super(RedisClientType.IN_MEMORY);
+        }
+    }
+}
@@ -9,13 +9,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 
 /**
  * Redisson 配置
+ * j-multi-cache.redis-client=in-memory 时不创建，避免启动时连接 Redis
  * @author vevoly
  */
 @AutoConfiguration
 @EnableConfigurationProperties(RedisProperties.class)
+@Conditional(JMultiCacheRedisClientCondition.Redisson.class)
 public class JMultiCacheRedissonConfiguration {
 
     @Bean("jMultiCacheRedissonClient")
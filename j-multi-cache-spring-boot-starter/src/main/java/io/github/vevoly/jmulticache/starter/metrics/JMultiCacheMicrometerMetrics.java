@@ -0,0 +1,188 @@
+package io.github.vevoly.jmulticache.starter.metrics;
+
+import io.github.vevoly.jmulticache.api.JMultiCacheOps;
+import io.github.vevoly.jmulticache.api.metrics.JMultiCacheMetricsRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的 {@link JMultiCacheMetricsRecorder} 实现。
+ * <p>
+ * 按命名空间记录以下指标 (均以 {@code jmulticache.} 为前缀)：
+ * <ul>
+ *     <li>{@code lookups}: 各层级 (l1 / l2 / db) 的 hit / miss / empty 次数。</li>
+ *     <li>{@code l2.read}, {@code db.load}, {@code l2.backfill}: 各阶段耗时。</li>
+ *     <li>{@code lock.wait}: 回源锁的等待耗时，按 acquired / timeout 区分。</li>
+ *     <li>{@code claim.wait}: 批量回源等待他人回填所认领 ID 的耗时，按 filled / timeout 区分。</li>
+ *     <li>{@code batch.size}: 批量查询的 ID 数量。</li>
+ * </ul>
+ * 另外提供全局的异步执行器队列深度和 L1 回填队列指标。每个命名空间的 Meter 只在第一次出现时创建一次，热路径上只有一次 Map 查找。
+ * <p>
+ * A Micrometer-based implementation of {@link JMultiCacheMetricsRecorder}.
+ * It records per namespace (all prefixed with {@code jmulticache.}):
+ * <ul>
+ *     <li>{@code lookups}: hit / miss / empty counts per tier (l1 / l2 / db).</li>
+ *     <li>{@code l2.read}, {@code db.load}, {@code l2.backfill}: stage latencies.</li>
+ *     <li>{@code lock.wait}: wait time of the loading lock, split by acquired / timeout.</li>
+ *     <li>{@code claim.wait}: time a batch load waited for IDs claimed by others to be populated, split by filled / timeout.</li>
+ *     <li>{@code batch.size}: number of IDs per batch lookup.</li>
+ * </ul>
+ * It also exposes the async executor queue depth and the L1 population queue globally.
+ * The meters of a namespace are created once on first use, leaving a single map lookup on the hot path.
+ *
+ * @author vevoly
+ */
+public class JMultiCacheMicrometerMetrics implements JMultiCacheMetricsRecorder, MeterBinder {
+
+    private static final String PREFIX = "jmulticache.";
+
+    private final Executor asyncExecutor;
+    private final ObjectProvider<JMultiCacheOps> jMultiCacheOps;
+    private final boolean percentileHistogram;
+    private final ConcurrentHashMap<String, NamespaceMeters> namespaceMeters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    public JMultiCacheMicrometerMetrics(Executor asyncExecutor, ObjectProvider<JMultiCacheOps> jMultiCacheOps, boolean percentileHistogram) {
+        this.asyncExecutor = asyncExecutor;
+        this.jMultiCacheOps = jMultiCacheOps;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        this.namespaceMeters.clear();
+        if (asyncExecutor instanceof ThreadPoolTaskExecutor pool) {
+            Gauge.builder(PREFIX + "executor.queued", pool, p -> p.getThreadPoolExecutor().getQueue().size())
+                    .description("Tasks waiting in the j-multi-cache async executor queue")
+                    .register(registry);
+            Gauge.builder(PREFIX + "executor.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("Threads of the j-multi-cache async executor running a task")
+                    .register(registry);
+        }
+        Gauge.builder(PREFIX + "l1.writer.pending", jMultiCacheOps, ops -> ops.getObject().getL1WriterStats().getPendingWrites())
+                .description("L1 writes queued for the background drain")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "l1.writer.dropped", jMultiCacheOps, ops -> ops.getObject().getL1WriterStats().getDroppedWrites())
+                .description("L1 writes dropped because the namespace queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public void recordLookup(String namespace, Tier tier, Outcome outcome, long count) {
+        NamespaceMeters meters = meters(namespace);
+        if (meters != null && count > 0) {
+            meters.lookups[tier.ordinal()][outcome.ordinal()].increment(count);
+        }
+    }
+
+    @Override
+    public void recordLatency(String namespace, Stage stage, long nanos) {
+        NamespaceMeters meters = meters(namespace);
+        if (meters != null) {
+            meters.stages[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordLock(String namespace, boolean acquired, long waitNanos) {
+        NamespaceMeters meters = meters(namespace);
+        if (meters != null) {
+            (acquired ? meters.lockAcquired : meters.lockTimeout).record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordClaimWait(String namespace, boolean filled, long waitNanos) {
+        NamespaceMeters meters = meters(namespace);
+        if (meters != null) {
+            (filled ? meters.claimFilled : meters.claimTimeout).record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordBatchSize(String namespace, int size) {
+        NamespaceMeters meters = meters(namespace);
+        if (meters != null) {
+            meters.batchSize.record(size);
+        }
+    }
+
+    private NamespaceMeters meters(String namespace) {
+        MeterRegistry current = registry;
+        if (current == null || namespace == null) {
+            return null; // 尚未绑定到注册中心 / Not bound to a registry yet
+        }
+        return namespaceMeters.computeIfAbsent(namespace, ns -> new NamespaceMeters(current, ns));
+    }
+
+    private final class NamespaceMeters {
+        private final Counter[][] lookups = new Counter[Tier.values().length][Outcome.values().length];
+        private final Timer[] stages = new Timer[Stage.values().length];
+        private final Timer lockAcquired;
+        private final Timer lockTimeout;
+        private final Timer claimFilled;
+        private final Timer claimTimeout;
+        private final DistributionSummary batchSize;
+
+        private NamespaceMeters(MeterRegistry registry, String namespace) {
+            for (Tier tier : Tier.values()) {
+                for (Outcome outcome : Outcome.values()) {
+                    lookups[tier.ordinal()][outcome.ordinal()] = Counter.builder(PREFIX + "lookups")
+                            .description("Cache lookups per tier and outcome")
+                            .tag("namespace", namespace)
+                            .tag("tier", tier.name().toLowerCase(Locale.ROOT))
+                            .tag("result", outcome.name().toLowerCase(Locale.ROOT))
+                            .register(registry);
+                }
+            }
+            for (Stage stage : Stage.values()) {
+                stages[stage.ordinal()] = Timer.builder(PREFIX + stage.name().toLowerCase(Locale.ROOT).replace('_', '.'))
+                        .description("Latency of the " + stage.name().toLowerCase(Locale.ROOT) + " stage")
+                        .tag("namespace", namespace)
+                        .publishPercentileHistogram(percentileHistogram)
+                        .register(registry);
+            }
+            lockAcquired = lockTimer(registry, namespace, "acquired");
+            lockTimeout = lockTimer(registry, namespace, "timeout");
+            claimFilled = claimTimer(registry, namespace, "filled");
+            claimTimeout = claimTimer(registry, namespace, "timeout");
+            batchSize = DistributionSummary.builder(PREFIX + "batch.size")
+                    .description("Number of IDs per batch lookup")
+                    .tag("namespace", namespace)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(registry);
+        }
+
+        private Timer lockTimer(MeterRegistry registry, String namespace, String result) {
+            return Timer.builder(PREFIX + "lock.wait")
+                    .description("Wait time for the loading lock")
+                    .tag("namespace", namespace)
+                    .tag("result", result)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(registry);
+        }
+
+        private Timer claimTimer(MeterRegistry registry, String namespace, String result) {
+            return Timer.builder(PREFIX + "claim.wait")
+                    .description("Wait time for IDs claimed by other callers to be populated")
+                    .tag("namespace", namespace)
+                    .tag("result", result)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(registry);
+        }
+    }
+}